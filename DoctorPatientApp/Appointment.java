@@ -0,0 +1,72 @@
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+public class Appointment implements Serializable {
+    // Matches the class before slot was added, so saved schedules still load
+    private static final long serialVersionUID = 0xed17ecee9d443735L;
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("H:mm");
+    private String docname, patname, date, time, request;
+    // null in appointments saved before slots were typed, filled in from date and time when they are loaded
+    private LocalDateTime slot;
+
+    public Appointment(String docname, String patname, LocalDateTime slot, String request) {
+        this.docname = docname;
+        this.patname = patname;
+        this.request = request;
+        setSlot(slot);
+    }
+
+    public String getDocname() {
+        return docname;
+    }
+
+    public String getPatname() {
+        return patname;
+    }
+
+    public String getTime() {
+        return time;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public LocalDateTime getSlot() {
+        if (slot == null) {
+            slot = parseSlot(date, time);
+        }
+        return slot;
+    }
+
+    // Only the AppointmentBook moves an appointment, so its index stays in step
+    void setSlot(LocalDateTime slot) {
+        this.slot = slot;
+        this.date = slot.format(DATE_FORMAT);
+        this.time = slot.format(TIME_FORMAT);
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public void setRequest(String request) {
+        this.request = request;
+    }
+
+    // Throws DateTimeParseException if date is not dd/MM/yyyy or time is not HH:mm
+    public static LocalDateTime parseSlot(String date, String time) {
+        return LocalDateTime.of(LocalDate.parse(date, DateTimeFormatter.ofPattern("d/M/yyyy")),
+                LocalTime.parse(time, TIME_FORMAT));
+    }
+
+    @Override
+    public String toString() {
+        return "Doctor Name : " + docname + " Patient Name : " + patname + " Date : " + date + " Time : " + time
+                + " Request : " + request;
+    }
+}
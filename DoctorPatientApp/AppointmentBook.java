@@ -0,0 +1,101 @@
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Appointments indexed by doctor and slot, and by patient.
+// Each doctor has a TreeMap from slot to appointment, so a double booking is found with one lookup and a
+// doctor's schedule, or one day of it, is read in time order without looking at other doctors' appointments.
+public class AppointmentBook {
+    private final Map<String, TreeMap<LocalDateTime, Appointment>> byDoctor = new HashMap<>();
+    private final Map<String, Set<Appointment>> byPatient = new HashMap<>();
+    // Every appointment in booking order, the order they are saved in
+    private final Set<Appointment> appointments = new LinkedHashSet<>();
+
+    // Returns false if the doctor already has an appointment in that slot
+    public boolean add(Appointment apt) {
+        TreeMap<LocalDateTime, Appointment> schedule = byDoctor.computeIfAbsent(apt.getDocname(),
+                k -> new TreeMap<>());
+        if (schedule.putIfAbsent(apt.getSlot(), apt) != null) {
+            return false;
+        }
+        byPatient.computeIfAbsent(apt.getPatname(), k -> new LinkedHashSet<>()).add(apt);
+        appointments.add(apt);
+        return true;
+    }
+
+    public boolean isBooked(String docname, LocalDateTime slot) {
+        TreeMap<LocalDateTime, Appointment> schedule = byDoctor.get(docname);
+        return schedule != null && schedule.containsKey(slot);
+    }
+
+    public Appointment get(String docname, LocalDateTime slot) {
+        TreeMap<LocalDateTime, Appointment> schedule = byDoctor.get(docname);
+        return schedule == null ? null : schedule.get(slot);
+    }
+
+    // The doctor's appointments in time order
+    public List<Appointment> getByDoctor(String docname) {
+        TreeMap<LocalDateTime, Appointment> schedule = byDoctor.get(docname);
+        return schedule == null ? new ArrayList<>() : new ArrayList<>(schedule.values());
+    }
+
+    // The doctor's appointments on one day in time order
+    public List<Appointment> getByDoctor(String docname, LocalDate date) {
+        TreeMap<LocalDateTime, Appointment> schedule = byDoctor.get(docname);
+        if (schedule == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(schedule.subMap(date.atStartOfDay(), date.plusDays(1).atStartOfDay()).values());
+    }
+
+    // The patient's appointments in booking order
+    public List<Appointment> getByPatient(String patname) {
+        Set<Appointment> booked = byPatient.get(patname);
+        return booked == null ? new ArrayList<>() : new ArrayList<>(booked);
+    }
+
+    // Moves an appointment to another slot, returns false if the doctor is already booked then
+    public boolean reschedule(Appointment apt, LocalDateTime slot) {
+        TreeMap<LocalDateTime, Appointment> schedule = byDoctor.get(apt.getDocname());
+        if (schedule == null || schedule.get(apt.getSlot()) != apt || schedule.containsKey(slot)) {
+            return false;
+        }
+        schedule.remove(apt.getSlot());
+        apt.setSlot(slot);
+        schedule.put(slot, apt);
+        return true;
+    }
+
+    public boolean remove(Appointment apt) {
+        TreeMap<LocalDateTime, Appointment> schedule = byDoctor.get(apt.getDocname());
+        if (schedule == null || !schedule.remove(apt.getSlot(), apt)) {
+            return false;
+        }
+        if (schedule.isEmpty()) {
+            byDoctor.remove(apt.getDocname());
+        }
+        Set<Appointment> booked = byPatient.get(apt.getPatname());
+        if (booked != null) {
+            booked.remove(apt);
+            if (booked.isEmpty()) {
+                byPatient.remove(apt.getPatname());
+            }
+        }
+        appointments.remove(apt);
+        return true;
+    }
+
+    public List<Appointment> getAll() {
+        return new ArrayList<>(appointments);
+    }
+
+    public int size() {
+        return appointments.size();
+    }
+}
@@ -1,4 +1,6 @@
 import java.io.*;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -58,64 +60,31 @@ class UserAuthentication {
     }
 }
 
-class Appointment implements Serializable {
-    private String docname, patname, date, time, request;
-
-    public Appointment(String docname, String patname, String date, String time, String request) {
-        this.docname = docname;
-        this.patname = patname;
-        this.date = date;
-        this.time = time;
-        this.request = request;
-    }
-
-    public String getDocname() {
-        return docname;
-    }
-
-    public String getPatname() {
-        return patname;
-    }
-
-    public String getTime() {
-        return time;
-    }
-
-    public void setTime(String time) {
-        this.time = time;
-    }
-
-    public void setDate(String date) {
-        this.date = date;
-    }
-
-    public String getDate() {
-        return date;
-    }
-
-    public String getRequest() {
-        return request;
-    }
-
-    public void setRequest(String request) {
-        this.request = request;
-    }
-
-    @Override
-    public String toString() {
-        return "Doctor Name : " + docname + " Patient Name : " + patname + " Date : " + date + " Time : " + time
-                + " Request : " + request;
-    }
-}
-
 class AppointmentManagement {
-    public static List<Appointment> appointmentList = new ArrayList<>();
+    private static AppointmentBook appointmentBook = new AppointmentBook();
+    // Saved appointments whose date or time does not parse or whose slot is already taken, written back on every
+    // save so they are not lost, until they are fixed in the file
+    private static List<Appointment> unresolved = new ArrayList<>();
     private static final String SCHEDULE_DETAILS = "E:/JAVA PT/Basics_Of_OOPs/DoctorPatientApp/scheduleDetails.txt";
 
     @SuppressWarnings("unchecked")
     public static void loadAppointmentDetails() throws IOException, ClassNotFoundException {
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(SCHEDULE_DETAILS))) {
-            appointmentList = (List<Appointment>) ois.readObject();
+            AppointmentBook book = new AppointmentBook();
+            List<Appointment> kept = new ArrayList<>();
+            for (Appointment apt : (List<Appointment>) ois.readObject()) {
+                try {
+                    if (!book.add(apt)) {
+                        System.out.println("Kept aside double booking : " + apt);
+                        kept.add(apt);
+                    }
+                } catch (DateTimeParseException e) {
+                    System.out.println("Kept aside appointment with invalid date or time : " + apt);
+                    kept.add(apt);
+                }
+            }
+            appointmentBook = book;
+            unresolved = kept;
         } catch (EOFException e) {
             System.out.println("End of the file reached");
         } catch (Exception e) {
@@ -135,95 +104,118 @@ class AppointmentManagement {
 
     public static void saveAppointmentDetails() throws IOException {
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(SCHEDULE_DETAILS))) {
-            oos.writeObject(appointmentList);
+            List<Appointment> appointments = appointmentBook.getAll();
+            appointments.addAll(unresolved);
+            oos.writeObject(appointments);
         } catch (Exception e) {
             System.out.println(e.getMessage());
         }
     }
 
-    public static void schedule(String docname) throws IOException {
-        if (appointmentList.size() == 0)
-            return;
+    // Lists the appointments and returns the one picked, null if there is none or the choice is invalid
+    private static Appointment select(List<Appointment> appointments) {
+        if (appointments.isEmpty()) {
+            System.out.println("No appointments found");
+            return null;
+        }
         Scanner sc = new Scanner(System.in);
-        int index = 0;
-        System.out.println("Select the appointment to be scheduled");
-        for (Appointment al : appointmentList) {
-            if (al.getDocname().equals(docname)) {
-                System.out.println((index + 1) + ". " + al);
-            }
-            index++;
+        for (int i = 0; i < appointments.size(); i++) {
+            System.out.println((i + 1) + ". " + appointments.get(i));
         }
         int x = sc.nextInt();
         sc.nextLine(); // Consume the newline
-        Appointment apt = appointmentList.get(x - 1);
+        if (x < 1 || x > appointments.size()) {
+            System.out.println("Invalid choice...");
+            return null;
+        }
+        return appointments.get(x - 1);
+    }
+
+    private static List<Appointment> accepted(String docname) {
+        List<Appointment> accepted = new ArrayList<>();
+        for (Appointment al : appointmentBook.getByDoctor(docname)) {
+            if (al.getRequest().equals("Accepted")) {
+                accepted.add(al);
+            }
+        }
+        return accepted;
+    }
+
+    public static void schedule(String docname) throws IOException {
+        System.out.println("Select the appointment to be scheduled");
+        Appointment apt = select(appointmentBook.getByDoctor(docname));
+        if (apt == null)
+            return;
         apt.setRequest("Accepted");
         saveAppointmentDetails();
 
     }
 
     public static void viewschedule(String docname) {
-        if (appointmentList.size() != 0) {
-            for (Appointment al : appointmentList) {
-                if (docname.equals(al.getDocname()))
-                    System.out.println(al);
+        for (Appointment al : appointmentBook.getByDoctor(docname)) {
+            System.out.println(al);
+        }
+        for (Appointment al : unresolved) {
+            if (al.getDocname().equals(docname)) {
+                System.out.println("Not scheduled, invalid or double booked slot : " + al);
             }
         }
     }
 
+    public static void viewPatientAppointments(String patname) {
+        List<Appointment> appointments = appointmentBook.getByPatient(patname);
+        if (appointments.isEmpty()) {
+            System.out.println("No appointments found");
+        }
+        for (Appointment al : appointments) {
+            System.out.println(al);
+        }
+    }
+
     public static void reschedule(String docname) throws IOException {
         Scanner sc = new Scanner(System.in);
-        int index = 0;
-        if (appointmentList.size() != 0) {
-            for (Appointment al : appointmentList) {
-                if (docname.equals(al.getDocname()) && al.getRequest().equals("Accepted")) {
-                    System.out.println((index + 1) + ". " + al);
-                }
-                index++;
-            }
-            int x = sc.nextInt();
-            sc.nextLine(); // Consume the newline
-            Appointment apt = appointmentList.get(x - 1);
-            System.out.println("Enter the rescheduled time and date :");
-            String reqtime = sc.next();
-            String reqdate = sc.next();
-            sc.nextLine(); // Consume the newline
-            apt.setDate(reqdate);
-            apt.setTime(reqtime);
-            saveAppointmentDetails();
+        Appointment apt = select(accepted(docname));
+        if (apt == null)
+            return;
+        System.out.println("Enter the rescheduled time and date :");
+        String reqtime = sc.next();
+        String reqdate = sc.next();
+        sc.nextLine(); // Consume the newline
+        LocalDateTime slot;
+        try {
+            slot = Appointment.parseSlot(reqdate, reqtime);
+        } catch (DateTimeParseException e) {
+            System.out.println("Invalid date or time, use dd/MM/yyyy and HH:mm");
+            return;
         }
+        if (!appointmentBook.reschedule(apt, slot)) {
+            System.out.println("Already being booked by other patient");
+            return;
+        }
+        saveAppointmentDetails();
     }
 
     public static void cancelschedule(String docname) throws IOException {
-        int index = 0;
-        Scanner sc = new Scanner(System.in);
-        System.out.println(appointmentList.size());
-        if (appointmentList.size() != 0) {
-            for (Appointment al : appointmentList) {
-                if (docname.equals(al.getDocname()) && al.getRequest().equals("Accepted")) {
-                    System.out.println((index + 1) + ". " + al);
-                }
-                index++;
-            }
-
-            int x = sc.nextInt();
-            sc.nextLine(); // Consume the newline
-            appointmentList.remove(x - 1);
-            System.out.println("Cancelled the requested appointment...");
-            saveAppointmentDetails();
-        }
+        Appointment apt = select(accepted(docname));
+        if (apt == null)
+            return;
+        appointmentBook.remove(apt);
+        System.out.println("Cancelled the requested appointment...");
+        saveAppointmentDetails();
     }
 
     public static boolean requestschedule(String docname, String patname, String date, String time) throws IOException {
-        if (appointmentList.size() != 0) {
-            for (Appointment al : appointmentList) {
-                if (al.getDocname().equals(docname) && al.getDate().equals(date) && al.getTime().equals(time)) {
-                    System.out.println("Already being booked by other patient");
-                    return false;
-                }
-            }
+        LocalDateTime slot;
+        try {
+            slot = Appointment.parseSlot(date, time);
+        } catch (DateTimeParseException e) {
+            System.out.println("Invalid date or time, use dd/MM/yyyy and HH:mm");
+            return false;
+        }
+        if (!appointmentBook.add(new Appointment(docname, patname, slot, "requested"))) {
+            System.out.println("Already being booked by other patient");
+            return false;
         }
-        Appointment apt = new Appointment(docname, patname, date, time, "requested");
-        appointmentList.add(apt);
         saveAppointmentDetails();
         return true;
     }
@@ -356,7 +348,8 @@ public class Main {
         while (true) {
             System.out.println("1. Request for an appointment");
             System.out.println("2. Request for re-scheduling an appointment");
-            System.out.println("3. Exit");
+            System.out.println("3. View my appointments");
+            System.out.println("4. Exit");
             System.out.print("Enter your choice: ");
 
             int x = sc.nextInt();
@@ -365,7 +358,7 @@ public class Main {
                 case 1 -> {
                     System.out.println("Enter the doctor name : ");
                     String docname = sc.nextLine();
-                    System.out.println("Enter the date and time for appointment :");
+                    System.out.println("Enter the date (dd/MM/yyyy) and time (HH:mm) for appointment :");
                     String date = sc.next();
                     String time = sc.next();
                     sc.nextLine(); // Consume the newline
@@ -374,17 +367,18 @@ public class Main {
                 case 2 -> {
                     System.out.println("Enter the doctor name : ");
                     String docname = sc.nextLine();
-                    System.out.println("Enter the date and time for appointment :");
+                    System.out.println("Enter the date (dd/MM/yyyy) and time (HH:mm) for appointment :");
                     String date = sc.next();
                     String time = sc.next();
                     sc.nextLine(); // Consume the newline
                     AppointmentManagement.requestschedule(docname, name, date, time);
                 }
-                case 3 -> {
+                case 3 -> AppointmentManagement.viewPatientAppointments(name);
+                case 4 -> {
                     System.out.println("Exiting patient menu...");
                     return;
                 }
-                default -> System.out.println("Invalid choice. Please enter a number between 1 and 3.");
+                default -> System.out.println("Invalid choice. Please enter a number between 1 and 4.");
             }
         }
     }
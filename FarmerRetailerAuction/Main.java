@@ -1,11 +1,17 @@
 import models.*;
+import enums.AuctionType;
 import enums.UserType;
+import services.BidListener;
+import services.BidStream;
 import services.UserAuthentication;
 import controllers.BidManagement;
 
 import java.util.Scanner;
 
 public class Main {
+    // Most base bids shown for one product search
+    private static final int SEARCH_RESULT_LIMIT = 50;
+
     public static void main(String[] args) {
 
         Scanner scanner = new Scanner(System.in);
@@ -39,7 +45,7 @@ public class Main {
         System.out.println("\nUser Registration:");
         System.out.print("Enter username: ");
         String username = scanner.nextLine();
-        if (UserAuthentication.loginUser(username)) {
+        if (UserAuthentication.isRegistered(username)) {
             System.out.println("User already exists. Please choose another username.");
             return;
         }
@@ -66,7 +72,6 @@ public class Main {
                 return;
         }
         UserAuthentication.registerUser(username, userType);
-        System.out.println("User registered successfully.");
     }
 
     private static void loginMenu() {
@@ -94,9 +99,10 @@ public class Main {
         while (true) {
             System.out.println("\nFarmer Menu:");
             System.out.println("1. Create Base Bid");
-            System.out.println("2. View Base Bids");
+            System.out.println("2. View My Base Bids");
             System.out.println("3. Close Bid");
-            System.out.println("4. Exit");
+            System.out.println("4. View Closed Bids");
+            System.out.println("5. Exit");
             System.out.print("Enter your choice: ");
             int choice = scanner.nextInt();
             scanner.nextLine(); // Consume newline
@@ -110,10 +116,32 @@ public class Main {
                     int quantity = scanner.nextInt();
                     System.out.print("Enter base price: ");
                     double basePrice = scanner.nextDouble();
-                    BidManagement.createBaseBid(bidId, farmerId, name, quantity, basePrice);
+                    System.out.println("Select auction type:");
+                    System.out.println("1. English (open ascending)");
+                    System.out.println("2. Sealed bid (highest bid pays its bid)");
+                    System.out.println("3. Vickrey (highest bid pays the second highest)");
+                    System.out.print("Enter auction type number: ");
+                    int auctionTypeChoice = scanner.nextInt();
+                    scanner.nextLine(); // Consume newline
+                    AuctionType auctionType;
+                    switch (auctionTypeChoice) {
+                        case 2:
+                            auctionType = AuctionType.SEALED_BID;
+                            break;
+                        case 3:
+                            auctionType = AuctionType.VICKREY;
+                            break;
+                        default:
+                            auctionType = AuctionType.ENGLISH;
+                    }
+                    System.out.print("Enter auction duration in minutes (0 to close it yourself): ");
+                    long minutes = scanner.nextLong();
+                    scanner.nextLine(); // Consume newline
+                    long endsAt = minutes > 0 ? System.currentTimeMillis() + minutes * 60_000 : 0;
+                    BidManagement.createBaseBid(bidId, farmerId, name, quantity, basePrice, auctionType, endsAt);
                     break;
                 case 2:
-                    BidManagement.viewBaseBids();
+                    BidManagement.viewBaseBidsByFarmer(farmerId);
                     break;
                 case 3:
                     System.out.print("Enter bid ID to close: ");
@@ -123,6 +151,9 @@ public class Main {
                     BidManagement.closeBid(bidToClose, fid);
                     break;
                 case 4:
+                    BidManagement.viewClosedBids(farmerId);
+                    break;
+                case 5:
                     System.out.println("Exiting...");
                     return;
                 default:
@@ -138,7 +169,10 @@ public class Main {
             System.out.println("1. View Base Bids");
             System.out.println("2. View Retailer Bids");
             System.out.println("3. Place Bid");
-            System.out.println("4. Exit");
+            System.out.println("4. Search Base Bids by Product");
+            System.out.println("5. Watch Bid");
+            System.out.println("6. View Market Stats");
+            System.out.println("7. Exit");
             System.out.print("Enter your choice: ");
             int choice = scanner.nextInt();
             scanner.nextLine(); // Consume newline
@@ -157,6 +191,40 @@ public class Main {
                     BidManagement.placeRetailerBid(bidId, retailerId, bidPrice);
                     break;
                 case 4:
+                    System.out.print("Enter product name: ");
+                    String product = scanner.nextLine();
+                    System.out.print("Enter minimum base price: ");
+                    double minPrice = scanner.nextDouble();
+                    System.out.print("Enter maximum base price: ");
+                    double maxPrice = scanner.nextDouble();
+                    scanner.nextLine(); // Consume newline
+                    BidManagement.viewBaseBidsByProduct(product, minPrice, maxPrice, SEARCH_RESULT_LIMIT);
+                    break;
+                case 5:
+                    System.out.print("Enter bid ID: ");
+                    String watchedId = scanner.nextLine();
+                    BidStream.Subscription subscription = BidManagement.watchLot(watchedId, new BidListener() {
+                        @Override
+                        public void onHighestBid(RetailerBid bid) {
+                            System.out.println("Highest bid on " + bid.getLotId() + ": " + bid);
+                        }
+
+                        @Override
+                        public void onLotClosed(AuctionResult result) {
+                            System.out.println("Bid " + result.getLot().getBidId() + " closed. " + result);
+                        }
+                    });
+                    if (subscription != null) {
+                        System.out.println("Watching bid " + watchedId + ", press Enter to stop.");
+                        scanner.nextLine();
+                        subscription.cancel();
+                    }
+                    break;
+                case 6:
+                    System.out.print("Enter product name: ");
+                    BidManagement.viewMarketStats(scanner.nextLine());
+                    break;
+                case 7:
                     System.out.println("Exiting...");
                     return;
                 default:
@@ -0,0 +1,307 @@
+package benchmark;
+
+import controllers.AuctionEngine;
+import controllers.BidIndex;
+import controllers.BidManagement;
+import enums.AuctionType;
+import models.AuctionLot;
+import models.AuctionResult;
+import models.Bid;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+// Load generator that drives the auction with synthetic farmers and retailers and reports its limits.
+// Run it from the project directory with options as key=value, for example:
+//   javac -d out $(find . -name '*.java') && java -cp out benchmark.AuctionBenchmark lots=10000 hotShare=0.9
+// It writes its events to a temporary directory, the real auction files are never opened.
+public class AuctionBenchmark {
+    private static final PrintStream console = System.out;
+    private static final PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+
+    // Options and their defaults
+    private static int lots = 10_000;
+    private static int farmers = 100;
+    private static int retailers = 16; // one thread each
+    private static int bids = 500_000;
+    private static int rate = 0; // bids per second over all retailers, 0 for as fast as possible
+    private static int hotLots = 10;
+    private static double hotShare = 0.8; // share of the bids that go to the hot lots
+    private static AuctionType type = AuctionType.ENGLISH;
+    private static int timedLots = 10_000;
+    private static int microIterations = 1_000_000;
+    // Results of the microbenchmark loops end up here, so the JIT cannot drop the loops
+    private static volatile double sink;
+
+    public static void main(String[] args) throws Exception {
+        parse(args);
+        Path directory = Files.createTempDirectory("auction-benchmark");
+        System.setProperty("auction.events.dir", directory.resolve("events").toString());
+        console.println("Lots: " + lots + ", farmers: " + farmers + ", retailers: " + retailers + ", bids: " + bids
+                + ", rate: " + (rate == 0 ? "unlimited" : rate + "/s") + ", hot lots: " + hotLots + " get "
+                + Math.round(hotShare * 100) + "% of the bids, auction: " + type);
+
+        double inMemory = benchmarkBids("In memory", "mem-", (bidId, retailerId, price) -> {
+            AuctionLot lot = AuctionEngine.getLot(bidId);
+            try {
+                lot.confirm(lot.place(retailerId, price, System.currentTimeMillis()));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // Outbid by a bid placed at the same time, counted from the order books afterwards
+            }
+        }, bidId -> AuctionEngine.openLot(new Bid(bidId, farmerOf(bidId), productOf(bidId), 10, 1.0, type)));
+
+        double persisted = benchmarkBids("Persisted", "bm-", BidManagement::placeRetailerBid,
+                bidId -> BidManagement.createBaseBid(bidId, farmerOf(bidId), productOf(bidId), 10, 1.0, type));
+        console.printf("Persistence overhead: %.1f%% fewer bids per second%n", (1 - persisted / inMemory) * 100);
+
+        benchmarkManualClose("bm-");
+        benchmarkTimedClose();
+        microbenchmarks();
+        deleteDirectory(directory);
+    }
+
+    private static void parse(String[] args) {
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Options are key=value: " + arg);
+            }
+            switch (parts[0]) {
+                case "lots":
+                    lots = Integer.parseInt(parts[1]);
+                    break;
+                case "farmers":
+                    farmers = Integer.parseInt(parts[1]);
+                    break;
+                case "retailers":
+                    retailers = Integer.parseInt(parts[1]);
+                    break;
+                case "bids":
+                    bids = Integer.parseInt(parts[1]);
+                    break;
+                case "rate":
+                    rate = Integer.parseInt(parts[1]);
+                    break;
+                case "hotLots":
+                    hotLots = Integer.parseInt(parts[1]);
+                    break;
+                case "hotShare":
+                    hotShare = Double.parseDouble(parts[1]);
+                    break;
+                case "type":
+                    type = AuctionType.valueOf(parts[1].toUpperCase(Locale.ROOT));
+                    break;
+                case "timedLots":
+                    timedLots = Integer.parseInt(parts[1]);
+                    break;
+                case "microIterations":
+                    microIterations = Integer.parseInt(parts[1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + parts[0]);
+            }
+        }
+        hotLots = Math.max(1, Math.min(hotLots, lots));
+    }
+
+    private interface BidPlacer {
+        void place(String bidId, String retailerId, double price);
+    }
+
+    private interface LotOpener {
+        void open(String bidId);
+    }
+
+    private static String farmerOf(String bidId) {
+        return "farmer" + Math.floorMod(bidId.hashCode(), farmers);
+    }
+
+    private static String productOf(String bidId) {
+        return "product" + Math.floorMod(bidId.hashCode(), 50);
+    }
+
+    // Opens the lots, then every retailer thread places its share of the bids; returns the bids per second
+    private static double benchmarkBids(String name, String prefix, BidPlacer placer, LotOpener opener)
+            throws InterruptedException {
+        String[] lotIds = new String[lots];
+        System.setOut(silent);
+        long openStart = System.nanoTime();
+        for (int i = 0; i < lots; i++) {
+            lotIds[i] = prefix + i;
+            opener.open(lotIds[i]);
+        }
+        long openNanos = System.nanoTime() - openStart;
+        System.setOut(console);
+
+        // Prices rise over the run, so English bids mostly beat the one before them
+        AtomicLong prices = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(retailers);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] latencies = new long[bids];
+        System.setOut(silent);
+        for (int t = 0; t < retailers; t++) {
+            int thread = t;
+            pool.execute(() -> {
+                Random random = new Random(thread);
+                String retailerId = "retailer" + thread;
+                long interval = rate == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) * retailers / rate;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long next = System.nanoTime();
+                for (int i = thread; i < bids; i += retailers) {
+                    if (interval > 0) {
+                        next += interval;
+                        LockSupport.parkNanos(next - System.nanoTime());
+                    }
+                    String lotId = lotIds[pickLot(random)];
+                    long placed = System.nanoTime();
+                    placer.place(lotId, retailerId, 2.0 + prices.incrementAndGet());
+                    latencies[i] = System.nanoTime() - placed;
+                }
+            });
+        }
+        long bidStart = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.HOURS);
+        long bidNanos = System.nanoTime() - bidStart;
+        System.setOut(console);
+
+        long accepted = 0;
+        for (String lotId : lotIds) {
+            AuctionLot lot = AuctionEngine.getLot(lotId);
+            if (lot != null) {
+                accepted += lot.getBidCount();
+            }
+        }
+        double perSecond = bids / (bidNanos / 1e9);
+        console.printf("%s: opened %d lots at %.0f/s, placed %d bids at %.0f/s (%d accepted), latency %s%n", name,
+                lots, lots / (openNanos / 1e9), bids, perSecond, accepted, percentiles(latencies));
+        return perSecond;
+    }
+
+    private static int pickLot(Random random) {
+        if (hotLots < lots && random.nextDouble() >= hotShare) {
+            return hotLots + random.nextInt(lots - hotLots);
+        }
+        return random.nextInt(hotLots);
+    }
+
+    // Farmers close every lot of the persisted run by hand, one close at a time
+    private static void benchmarkManualClose(String prefix) {
+        long[] latencies = new long[lots];
+        int closed = 0;
+        System.setOut(silent);
+        long start = System.nanoTime();
+        for (int i = 0; i < lots; i++) {
+            String bidId = prefix + i;
+            if (AuctionEngine.getLot(bidId) == null || AuctionEngine.getLot(bidId).getBidCount() == 0) {
+                continue;
+            }
+            long begin = System.nanoTime();
+            BidManagement.closeBid(bidId, farmerOf(bidId));
+            latencies[closed++] = System.nanoTime() - begin;
+        }
+        long nanos = System.nanoTime() - start;
+        System.setOut(console);
+        console.printf("Manual close: %d lots at %.0f/s, latency %s%n", closed, closed / (nanos / 1e9),
+                percentiles(Arrays.copyOf(latencies, closed)));
+    }
+
+    // Timed lots all ending within one second, closed by the scheduler; latency is how late each closed
+    private static void benchmarkTimedClose() throws InterruptedException {
+        int before = BidManagement.getClosedLots().size();
+        long endsFrom = System.currentTimeMillis() + 2000;
+        System.setOut(silent);
+        for (int i = 0; i < timedLots; i++) {
+            String bidId = "timed-" + i;
+            BidManagement.createBaseBid(bidId, farmerOf(bidId), productOf(bidId), 10, 1.0, type,
+                    endsFrom + i % 1000);
+        }
+        System.setOut(console);
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (BidManagement.getClosedLots().size() < before + timedLots && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        List<AuctionResult> results = BidManagement.getClosedLots();
+        results = results.subList(Math.min(before, results.size()), results.size());
+        long[] lateness = new long[results.size()];
+        int count = 0;
+        for (AuctionResult result : results) {
+            if (result.getLot().hasEndTime()) {
+                lateness[count++] = TimeUnit.MILLISECONDS.toNanos(result.getClosedAt() - result.getLot().getEndsAt());
+            }
+        }
+        console.printf("Timed close: %d of %d lots closed, lateness %s%n", count, timedLots,
+                percentiles(Arrays.copyOf(lateness, count)));
+    }
+
+    // Single threaded timings of the bid data structures, after a warm-up run of the same loop
+    private static void microbenchmarks() {
+        for (int round = 0; round < 2; round++) {
+            boolean report = round == 1;
+            AtomicLong sequences = new AtomicLong();
+            AuctionLot lot = new AuctionLot(new Bid("micro-" + round, "farmer", "rice", 10, 1.0, type), sequences);
+            long start = System.nanoTime();
+            for (int i = 0; i < microIterations; i++) {
+                lot.confirm(lot.place("retailer" + (i & 1023), 2.0 + i, 0));
+            }
+            report(report, "AuctionLot.place and confirm", start);
+
+            start = System.nanoTime();
+            double sum = 0;
+            for (int i = 0; i < microIterations; i++) {
+                sum += lot.getHighestBid().getPrice();
+            }
+            report(report, "AuctionLot.getHighestBid", start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < microIterations; i++) {
+                sum += lot.getClearingPrice();
+            }
+            report(report, "AuctionLot.getClearingPrice", start);
+
+            start = System.nanoTime();
+            long found = 0;
+            for (int i = 0; i < microIterations; i++) {
+                found += BidIndex.findByProduct("product" + (i % 50), 0.5, 1.5, 10).size();
+            }
+            report(report, "BidIndex.findByProduct", start);
+            sink = sum + found;
+        }
+    }
+
+    private static void report(boolean report, String name, long start) {
+        if (report) {
+            console.printf("%s: %.1f ns per call%n", name, (System.nanoTime() - start) / (double) microIterations);
+        }
+    }
+
+    // p50, p99 and max of nanosecond samples, in microseconds
+    private static String percentiles(long[] samples) {
+        if (samples.length == 0) {
+            return "n/a";
+        }
+        Arrays.sort(samples);
+        return String.format("p50 %.0f us, p99 %.0f us, max %.0f us", samples[samples.length / 2] / 1e3,
+                samples[(int) Math.min(samples.length - 1, samples.length * 0.99)] / 1e3,
+                samples[samples.length - 1] / 1e3);
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package controllers;
+
+import models.AuctionResult;
+import models.Bid;
+import models.MarketStats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Class to keep running clearing statistics per product as lots close.
+// Besides the all-time totals, every product has a ring of WINDOW_BUCKETS one-minute buckets held in primitive
+// arrays, so a rolling window or a price trend is summed from at most a day of buckets instead of rereading the
+// closed lots. A bucket is reused once its minute is a full ring old.
+public class AuctionAnalytics {
+    public static final long BUCKET_MILLIS = 60_000;
+    private static final int WINDOW_BUCKETS = 1440; // one day
+    public static final long MAX_WINDOW_MILLIS = BUCKET_MILLIS * WINDOW_BUCKETS;
+
+    private static final ConcurrentHashMap<String, ProductStats> products = new ConcurrentHashMap<>();
+
+    private static class ProductStats {
+        final String product;
+        // All-time totals
+        int lotCount;
+        int soldCount;
+        long bidCount;
+        long quantity;
+        double value;
+        double minPrice = Double.MAX_VALUE;
+        double maxPrice = -Double.MAX_VALUE;
+        double ratioSum;
+        // The rolling buckets, slot i holds the minute bucketMinute[i], -1 when unused
+        final long[] bucketMinute = new long[WINDOW_BUCKETS];
+        final int[] bucketLots = new int[WINDOW_BUCKETS];
+        final int[] bucketSold = new int[WINDOW_BUCKETS];
+        final long[] bucketBids = new long[WINDOW_BUCKETS];
+        final long[] bucketQuantity = new long[WINDOW_BUCKETS];
+        final double[] bucketValue = new double[WINDOW_BUCKETS];
+        final double[] bucketMin = new double[WINDOW_BUCKETS];
+        final double[] bucketMax = new double[WINDOW_BUCKETS];
+        final double[] bucketRatio = new double[WINDOW_BUCKETS];
+
+        ProductStats(String product) {
+            this.product = product;
+            Arrays.fill(bucketMinute, -1);
+        }
+
+        synchronized void record(AuctionResult result) {
+            Bid lot = result.getLot();
+            boolean sold = result.hasWinner();
+            double price = result.getClearingPrice();
+            double ratio = lot.getBasePrice() > 0 ? price / lot.getBasePrice() : 0;
+            lotCount++;
+            bidCount += result.getBidCount();
+            if (sold) {
+                soldCount++;
+                quantity += lot.getQuantity();
+                value += price * lot.getQuantity();
+                minPrice = Math.min(minPrice, price);
+                maxPrice = Math.max(maxPrice, price);
+                ratioSum += ratio;
+            }
+
+            long minute = result.getClosedAt() / BUCKET_MILLIS;
+            int slot = (int) (minute % WINDOW_BUCKETS);
+            if (bucketMinute[slot] > minute) {
+                // Older than the ring, only counted in the totals
+                return;
+            }
+            if (bucketMinute[slot] < minute) {
+                bucketMinute[slot] = minute;
+                bucketLots[slot] = 0;
+                bucketSold[slot] = 0;
+                bucketBids[slot] = 0;
+                bucketQuantity[slot] = 0;
+                bucketValue[slot] = 0;
+                bucketMin[slot] = Double.MAX_VALUE;
+                bucketMax[slot] = -Double.MAX_VALUE;
+                bucketRatio[slot] = 0;
+            }
+            bucketLots[slot]++;
+            bucketBids[slot] += result.getBidCount();
+            if (sold) {
+                bucketSold[slot]++;
+                bucketQuantity[slot] += lot.getQuantity();
+                bucketValue[slot] += price * lot.getQuantity();
+                bucketMin[slot] = Math.min(bucketMin[slot], price);
+                bucketMax[slot] = Math.max(bucketMax[slot], price);
+                bucketRatio[slot] += ratio;
+            }
+        }
+
+        synchronized MarketStats total() {
+            return new MarketStats(product, 0, Long.MAX_VALUE, lotCount, soldCount, bidCount, quantity, value,
+                    minPrice, maxPrice, ratioSum);
+        }
+
+        // Sums the buckets of the minutes [firstMinute, lastMinute], which must lie within one ring
+        synchronized MarketStats sum(long firstMinute, long lastMinute) {
+            int lots = 0;
+            int soldLots = 0;
+            long bids = 0;
+            long soldQuantity = 0;
+            double soldValue = 0;
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            double ratios = 0;
+            for (long minute = firstMinute; minute <= lastMinute; minute++) {
+                int slot = (int) (minute % WINDOW_BUCKETS);
+                if (bucketMinute[slot] != minute) {
+                    continue;
+                }
+                lots += bucketLots[slot];
+                soldLots += bucketSold[slot];
+                bids += bucketBids[slot];
+                soldQuantity += bucketQuantity[slot];
+                soldValue += bucketValue[slot];
+                min = Math.min(min, bucketMin[slot]);
+                max = Math.max(max, bucketMax[slot]);
+                ratios += bucketRatio[slot];
+            }
+            return new MarketStats(product, firstMinute * BUCKET_MILLIS, (lastMinute + 1) * BUCKET_MILLIS, lots,
+                    soldLots, bids, soldQuantity, soldValue, min, max, ratios);
+        }
+    }
+
+    private static String productKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Adds a closed lot to the statistics of its product
+    public static void record(AuctionResult result) {
+        products.computeIfAbsent(productKey(result.getLot().getName()), ProductStats::new).record(result);
+    }
+
+    public static void recordAll(List<AuctionResult> results) {
+        for (AuctionResult result : results) {
+            record(result);
+        }
+    }
+
+    // Names of the products with closed lots, in lower case
+    public static List<String> getProducts() {
+        List<String> names = new ArrayList<>(products.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    // All-time statistics of a product, null if none of its lots has closed
+    public static MarketStats getStats(String product) {
+        ProductStats stats = products.get(productKey(product));
+        return stats == null ? null : stats.total();
+    }
+
+    // Statistics of the lots closed in the last windowMillis (at most MAX_WINDOW_MILLIS), rounded to whole minutes
+    public static MarketStats getStats(String product, long windowMillis) {
+        ProductStats stats = products.get(productKey(product));
+        if (stats == null) {
+            return null;
+        }
+        long lastMinute = System.currentTimeMillis() / BUCKET_MILLIS;
+        return stats.sum(lastMinute - bucketsIn(windowMillis) + 1, lastMinute);
+    }
+
+    // The last windowMillis split into periods of stepMillis, oldest first, for charting price trends.
+    // Both are rounded up to whole minutes and the window to at most MAX_WINDOW_MILLIS.
+    public static List<MarketStats> getTrend(String product, long windowMillis, long stepMillis) {
+        List<MarketStats> trend = new ArrayList<>();
+        ProductStats stats = products.get(productKey(product));
+        if (stats == null) {
+            return trend;
+        }
+        int window = bucketsIn(windowMillis);
+        int step = Math.min(bucketsIn(stepMillis), window);
+        long lastMinute = System.currentTimeMillis() / BUCKET_MILLIS;
+        for (long first = lastMinute - window + 1; first <= lastMinute; first += step) {
+            trend.add(stats.sum(first, Math.min(first + step - 1, lastMinute)));
+        }
+        return trend;
+    }
+
+    private static int bucketsIn(long millis) {
+        long buckets = (Math.max(millis, 1) + BUCKET_MILLIS - 1) / BUCKET_MILLIS;
+        return (int) Math.min(buckets, WINDOW_BUCKETS);
+    }
+}
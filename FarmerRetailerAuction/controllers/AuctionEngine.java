@@ -0,0 +1,80 @@
+package controllers;
+
+import models.AuctionLot;
+import models.AuctionResult;
+import models.Bid;
+import models.RetailerBid;
+import services.BidStream;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Class to run the order books of all open lots, each lot is locked on its own
+public class AuctionEngine {
+    private static final ConcurrentHashMap<String, AuctionLot> lots = new ConcurrentHashMap<>();
+    private static final AtomicLong sequences = new AtomicLong(1);
+
+    // Opens a lot for bidding, returns false if a lot with the same bid ID is already open
+    public static boolean openLot(Bid baseBid) {
+        AuctionLot lot = reserveLot(baseBid);
+        if (lot == null) {
+            return false;
+        }
+        lot.open();
+        return true;
+    }
+
+    // Takes the bid ID for a lot that accepts bids only after its open(), returns null if the bid ID is in use
+    public static AuctionLot reserveLot(Bid baseBid) {
+        AuctionLot lot = new AuctionLot(baseBid, sequences, false);
+        lot.setHighestBidListener(BidStream::publish);
+        return lots.putIfAbsent(baseBid.getBidId(), lot) == null ? lot : null;
+    }
+
+    // Gives back the bid ID of a reserved lot that could not be created
+    public static void releaseLot(AuctionLot lot) {
+        lots.remove(lot.getBaseBid().getBidId(), lot);
+    }
+
+    public static long nextSequence() {
+        return sequences.getAndIncrement();
+    }
+
+    // Makes sure new bids are numbered after a bid restored from storage
+    public static void advanceSequence(long restoredSequence) {
+        sequences.accumulateAndGet(restoredSequence + 1, Math::max);
+    }
+
+    public static AuctionLot getLot(String bidId) {
+        return lots.get(bidId);
+    }
+
+    public static Collection<AuctionLot> getLots() {
+        return lots.values();
+    }
+
+    // Closes a lot with the rule of its auction type and removes it, returns null if it is not open
+    public static AuctionResult closeLot(String bidId) {
+        AuctionLot lot = lots.remove(bidId);
+        if (lot == null) {
+            return null;
+        }
+        return close(lot);
+    }
+
+    // Closes the lot of this base bid, returns null if it is not open or its bid ID now belongs to another lot
+    public static AuctionResult closeLot(Bid baseBid) {
+        AuctionLot lot = lots.get(baseBid.getBidId());
+        if (lot == null || lot.getBaseBid() != baseBid || !lots.remove(baseBid.getBidId(), lot)) {
+            return null;
+        }
+        return close(lot);
+    }
+
+    private static AuctionResult close(AuctionLot lot) {
+        AuctionResult result = lot.close();
+        BidStream.closeLot(result);
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+package controllers;
+
+import models.Bid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Class to close lots automatically when their auction ends.
+// Deadlines sit in a hashed timing wheel of WHEEL_SIZE buckets, one per TICK_MILLIS: the tick thread only looks
+// at the buckets of the ticks that have passed, and each bucket is a small heap ordered by deadline, so a tick
+// stops at the first deadline that is not due instead of scanning every pending lot. A lot never closes before
+// its end time. Lots that expire together are handed to the closing pool in batches, so winner selection and
+// the history writes never run on the tick or request threads.
+public class AuctionScheduler {
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 1024; // a power of two, one lap is about 100 seconds
+    private static final int CLOSE_BATCH_SIZE = 256;
+
+    // The base bid tells the closer which lot the deadline belongs to, its bid ID may be reused by a later lot
+    private static class Deadline {
+        final Bid bid;
+        final long endsAt;
+
+        Deadline(Bid bid) {
+            this.bid = bid;
+            this.endsAt = bid.getEndsAt();
+        }
+    }
+
+    // Deadlines scheduled by any thread, moved into the wheel by the tick thread
+    private static final ConcurrentLinkedQueue<Deadline> incoming = new ConcurrentLinkedQueue<>();
+    @SuppressWarnings("unchecked")
+    private static final PriorityQueue<Deadline>[] wheel =
+            (PriorityQueue<Deadline>[]) new PriorityQueue<?>[WHEEL_SIZE];
+    private static final AtomicLong pendingCount = new AtomicLong();
+    private static final AtomicLong expiredCount = new AtomicLong();
+    private static Consumer<List<Bid>> closer;
+    private static ExecutorService closingPool;
+    private static Thread ticker;
+    private static volatile boolean running;
+
+    static {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new PriorityQueue<>((a, b) -> Long.compare(a.endsAt, b.endsAt));
+        }
+    }
+
+    // Starts the tick thread, closer gets the base bids of lots whose auction has ended, a batch at a time
+    public static synchronized void start(Consumer<List<Bid>> lotCloser) {
+        if (running) {
+            return;
+        }
+        closer = lotCloser;
+        closingPool = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auction-closer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        running = true;
+        ticker = new Thread(AuctionScheduler::tickLoop, "auction-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    // Closes the lot of the base bid at its end time, a deadline in the past closes it on the next tick.
+    // Lots closed by hand before their deadline, and later lots that reuse their bid ID, are skipped by the
+    // closer, so nothing has to be cancelled.
+    public static void schedule(Bid bid) {
+        pendingCount.incrementAndGet();
+        incoming.add(new Deadline(bid));
+    }
+
+    public static long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public static long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    private static void tickLoop() {
+        long nextTick = System.currentTimeMillis() / TICK_MILLIS;
+        List<Bid> expired = new ArrayList<>();
+        while (running) {
+            long now = System.currentTimeMillis();
+            long currentTick = now / TICK_MILLIS;
+            transferIncoming(currentTick);
+            // Catches up on ticks missed while the thread was not scheduled, one lap visits every bucket
+            nextTick = Math.max(nextTick, currentTick - WHEEL_SIZE + 1);
+            for (long tick = nextTick; tick <= currentTick; tick++) {
+                PriorityQueue<Deadline> bucket = wheel[(int) (tick & (WHEEL_SIZE - 1))];
+                while (!bucket.isEmpty() && bucket.peek().endsAt <= now) {
+                    expired.add(bucket.poll().bid);
+                    if (expired.size() == CLOSE_BATCH_SIZE) {
+                        submitBatch(expired);
+                        expired = new ArrayList<>();
+                    }
+                }
+            }
+            // The current bucket may still hold deadlines later in this tick, it is visited again next time
+            nextTick = currentTick;
+            if (!expired.isEmpty()) {
+                submitBatch(expired);
+                expired = new ArrayList<>();
+            }
+            try {
+                Thread.sleep(TICK_MILLIS - System.currentTimeMillis() % TICK_MILLIS);
+            } catch (InterruptedException e) {
+                // Woken up by shutdown()
+            }
+        }
+    }
+
+    private static void transferIncoming(long currentTick) {
+        Deadline deadline;
+        while ((deadline = incoming.poll()) != null) {
+            // Deadlines already due go in the bucket of the current tick
+            long tick = Math.max(deadline.endsAt / TICK_MILLIS, currentTick);
+            wheel[(int) (tick & (WHEEL_SIZE - 1))].add(deadline);
+        }
+    }
+
+    private static void submitBatch(List<Bid> bids) {
+        pendingCount.addAndGet(-bids.size());
+        expiredCount.addAndGet(bids.size());
+        closingPool.execute(() -> {
+            try {
+                closer.accept(bids);
+            } catch (RuntimeException e) {
+                System.out.println("Error closing expired bids: " + e.getMessage());
+            }
+        });
+    }
+
+    // Stops the tick thread, deadlines still pending are kept and fire once it is started again
+    public static synchronized void shutdown() {
+        running = false;
+        if (ticker != null) {
+            ticker.interrupt();
+            try {
+                ticker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ticker = null;
+        }
+        if (closingPool != null) {
+            closingPool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package controllers;
+
+import models.Bid;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Class to index the open base bids by bid ID, by farmer and by product and base price
+public class BidIndex {
+    private static final ConcurrentHashMap<String, Bid> byId = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Set<Bid>> byFarmer = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, ProductIndex> byProduct = new ConcurrentHashMap<>();
+
+    // Open bids of one product sorted by base price, many retailers can browse while a farmer adds or closes a lot
+    private static class ProductIndex {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TreeMap<Double, Map<String, Bid>> byPrice = new TreeMap<>();
+        private int size;
+
+        void add(Bid bid) {
+            lock.writeLock().lock();
+            try {
+                if (byPrice.computeIfAbsent(bid.getBasePrice(), k -> new LinkedHashMap<>()).put(bid.getBidId(),
+                        bid) == null) {
+                    size++;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Bid bid) {
+            lock.writeLock().lock();
+            try {
+                Map<String, Bid> atPrice = byPrice.get(bid.getBasePrice());
+                if (atPrice != null && atPrice.remove(bid.getBidId()) != null) {
+                    size--;
+                    if (atPrice.isEmpty()) {
+                        byPrice.remove(bid.getBasePrice());
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Bid> find(double minPrice, double maxPrice, int limit) {
+            List<Bid> found = new ArrayList<>();
+            if (minPrice > maxPrice) {
+                return found;
+            }
+            lock.readLock().lock();
+            try {
+                for (Map<String, Bid> atPrice : byPrice.subMap(minPrice, true, maxPrice, true).values()) {
+                    for (Bid bid : atPrice.values()) {
+                        if (found.size() >= limit) {
+                            return found;
+                        }
+                        found.add(bid);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            return found;
+        }
+
+        boolean isEmpty() {
+            lock.readLock().lock();
+            try {
+                return size == 0;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private static String productKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Returns false if a bid with the same bid ID is already indexed
+    public static boolean add(Bid bid) {
+        if (byId.putIfAbsent(bid.getBidId(), bid) != null) {
+            return false;
+        }
+        byFarmer.computeIfAbsent(bid.getFarmerId(), k -> ConcurrentHashMap.newKeySet()).add(bid);
+        byProduct.computeIfAbsent(productKey(bid.getName()), k -> new ProductIndex()).add(bid);
+        return true;
+    }
+
+    public static Bid remove(String bidId) {
+        Bid bid = byId.remove(bidId);
+        if (bid == null) {
+            return null;
+        }
+        Set<Bid> farmerBids = byFarmer.get(bid.getFarmerId());
+        if (farmerBids != null) {
+            farmerBids.remove(bid);
+        }
+        ProductIndex product = byProduct.get(productKey(bid.getName()));
+        if (product != null) {
+            product.remove(bid);
+        }
+        return bid;
+    }
+
+    public static Bid getBid(String bidId) {
+        return byId.get(bidId);
+    }
+
+    public static Collection<Bid> getBids() {
+        return byId.values();
+    }
+
+    public static int size() {
+        return byId.size();
+    }
+
+    public static List<Bid> getBidsByFarmer(String farmerId) {
+        Set<Bid> bids = byFarmer.get(farmerId);
+        return bids == null ? new ArrayList<>() : new ArrayList<>(bids);
+    }
+
+    // Open bids of a product with a base price between minPrice and maxPrice, cheapest first, at most limit of them
+    public static List<Bid> findByProduct(String name, double minPrice, double maxPrice, int limit) {
+        ProductIndex product = byProduct.get(productKey(name));
+        return product == null ? new ArrayList<>() : product.find(minPrice, maxPrice, limit);
+    }
+
+    // Names of the products with open bids, in lower case
+    public static List<String> getProducts() {
+        List<String> products = new ArrayList<>();
+        for (Map.Entry<String, ProductIndex> entry : byProduct.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                products.add(entry.getKey());
+            }
+        }
+        Collections.sort(products);
+        return products;
+    }
+}
@@ -1,165 +1,424 @@
 package controllers;
 
+import enums.AuctionType;
+import models.AuctionLot;
+import models.AuctionResult;
 import models.Bid;
+import models.MarketStats;
+import models.RetailerBid;
+import services.AppendLog;
+import services.AuctionEventStore;
+import services.BidListener;
+import services.BidStream;
 
 import java.io.*;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 // Class to manage bids
 public class BidManagement {
+    // Files written before the event store existed, only read once to move their contents into it
     private static final String BASE_BIDS_FILE = "E:/JAVA PT/Basics_Of_OOPs/FarmerRetailerAuction/files/base_bids.txt";
     private static final String RETAILER_BIDS_FILE = "E:/JAVA PT/Basics_Of_OOPs/FarmerRetailerAuction/files/retailer_bids.txt";
-    private static final String HISTORY_FILE = "E:/JAVA PT/Basics_Of_OOPs/FarmerRetailerAuction/files/history.txt";
+    private static final String RETAILER_BIDS_LOG_FILE = "E:/JAVA PT/Basics_Of_OOPs/FarmerRetailerAuction/files/retailer_bids.log";
+    // The auction.events.dir system property points it elsewhere, so the benchmark never touches the real auction
+    private static final String EVENTS_DIRECTORY = System.getProperty("auction.events.dir",
+            "E:/JAVA PT/Basics_Of_OOPs/FarmerRetailerAuction/files/events");
+    // Events between two snapshots of the event store
+    private static final long SNAPSHOT_INTERVAL = 100_000;
 
-    private static List<Bid> baseBids = new ArrayList<>();
-    private static Map<String, List<String>> retailerBids = new HashMap<>();
+    private static final List<AuctionResult> closedLots = Collections.synchronizedList(new ArrayList<>());
+    // Every create, bid and close is appended here, appends from many threads are committed in groups
+    private static AuctionEventStore eventStore;
 
     static {
-        loadBaseBids();
-        loadRetailerBids();
+        loadEventStore();
     }
 
-    @SuppressWarnings("unchecked")
-    private static void loadBaseBids() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(BASE_BIDS_FILE))) {
-            baseBids = (List<Bid>) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            System.out.println("Error loading base bids: " + e.getMessage());
+    // Rebuilds the open lots, their order books and the closed lots from the newest snapshot and the events after it
+    private static void loadEventStore() {
+        try {
+            eventStore = AuctionEventStore.open(Path.of(EVENTS_DIRECTORY), true, SNAPSHOT_INTERVAL);
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("Error loading auction events: " + e.getMessage());
+            return;
         }
-    }
-
-    private static void saveBaseBids() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(BASE_BIDS_FILE))) {
-            oos.writeObject(baseBids);
-        } catch (IOException e) {
-            System.out.println("Error saving base bids: " + e.getMessage());
+        AuctionEventStore.State state = eventStore.getRecoveredState();
+        for (Bid bid : state.openLots.values()) {
+            AuctionEngine.openLot(bid);
+            BidIndex.add(bid);
+        }
+        for (List<RetailerBid> bids : state.openBids.values()) {
+            for (RetailerBid bid : bids) {
+                AuctionEngine.getLot(bid.getLotId()).restore(bid);
+            }
+        }
+        AuctionEngine.advanceSequence(state.maxSequence);
+        closedLots.addAll(state.closedLots);
+        AuctionAnalytics.recordAll(state.closedLots);
+        // The legacy files belong to the default directory
+        if (eventStore.isEmpty() && System.getProperty("auction.events.dir") == null) {
+            migrateLegacyFiles();
+        }
+        AuctionScheduler.start(BidManagement::closeExpiredLots);
+        for (AuctionLot lot : AuctionEngine.getLots()) {
+            if (lot.getBaseBid().hasEndTime()) {
+                AuctionScheduler.schedule(lot.getBaseBid());
+            }
         }
     }
 
+    // Moves the serialized base bids and the retailer bids of the bid log (or the older serialized map) into events
     @SuppressWarnings("unchecked")
-    private static void loadRetailerBids() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(RETAILER_BIDS_FILE))) {
-            retailerBids = (Map<String, List<String>>) ois.readObject();
+    private static void migrateLegacyFiles() {
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(BASE_BIDS_FILE))) {
+            for (Bid bid : (List<Bid>) ois.readObject()) {
+                AuctionLot lot = AuctionEngine.reserveLot(bid);
+                if (lot == null) {
+                    continue;
+                }
+                if (persist(store -> store.appendCreated(bid))) {
+                    lot.open();
+                    BidIndex.add(bid);
+                } else {
+                    AuctionEngine.releaseLot(lot);
+                }
+            }
         } catch (IOException | ClassNotFoundException e) {
-            System.out.println("Error loading retailer bids: " + e.getMessage());
+            return;
+        }
+        List<RetailerBid> legacyBids = new ArrayList<>();
+        if (new File(RETAILER_BIDS_LOG_FILE).exists()) {
+            // Records of the bid log: 'P' lotId retailerId price sequence placedAt, or 'C' lotId
+            try {
+                // Opening replays it
+                AppendLog bidLog = AppendLog.open(Path.of(RETAILER_BIDS_LOG_FILE), false, record -> {
+                    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+                        byte type = in.readByte();
+                        String lotId = in.readUTF();
+                        if (type == 'C') {
+                            legacyBids.removeIf(bid -> bid.getLotId().equals(lotId));
+                        } else {
+                            legacyBids.add(new RetailerBid(lotId, in.readUTF(), in.readDouble(), in.readLong(),
+                                    in.readLong()));
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                bidLog.close();
+            } catch (IOException | UncheckedIOException e) {
+                System.out.println("Error migrating retailer bids: " + e.getMessage());
+            }
+        } else {
+            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(RETAILER_BIDS_FILE))) {
+                Map<String, List<String>> saved = (Map<String, List<String>>) ois.readObject();
+                for (Map.Entry<String, List<String>> entry : saved.entrySet()) {
+                    for (String bid : entry.getValue()) {
+                        int comma = bid.lastIndexOf(',');
+                        legacyBids.add(new RetailerBid(entry.getKey(), bid.substring(0, comma),
+                                Double.parseDouble(bid.substring(comma + 1)), AuctionEngine.nextSequence(), 0));
+                    }
+                }
+            } catch (IOException | ClassNotFoundException | RuntimeException e) {
+                System.out.println("Error migrating retailer bids: " + e.getMessage());
+            }
+        }
+        for (RetailerBid bid : legacyBids) {
+            AuctionLot lot = AuctionEngine.getLot(bid.getLotId());
+            if (lot != null) {
+                AuctionEngine.advanceSequence(bid.getSequence());
+                lot.restore(bid);
+                persist(store -> store.appendPlaced(bid));
+            }
         }
     }
 
-    private static void saveRetailerBids() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(RETAILER_BIDS_FILE))) {
-            oos.writeObject(retailerBids);
-        } catch (IOException e) {
-            System.out.println("Error saving retailer bids: " + e.getMessage());
+    // Appends an event and waits until it is committed together with the others appended at the same time
+    private static boolean persist(Function<AuctionEventStore, CompletableFuture<Void>> event) {
+        if (eventStore == null) {
+            System.out.println("Error saving auction event: event store is not open");
+            return false;
+        }
+        try {
+            event.apply(eventStore).join();
+            return true;
+        } catch (CompletionException e) {
+            System.out.println("Error saving auction event: " + e.getCause().getMessage());
+            return false;
         }
     }
 
     public static void createBaseBid(String bidId, String farmerId, String name, int quantity, double basePrice) {
-        Bid bid = new Bid(bidId, farmerId, name, quantity, basePrice);
+        createBaseBid(bidId, farmerId, name, quantity, basePrice, AuctionType.ENGLISH);
+    }
+
+    public static void createBaseBid(String bidId, String farmerId, String name, int quantity, double basePrice,
+            AuctionType auctionType) {
+        createBaseBid(bidId, farmerId, name, quantity, basePrice, auctionType, 0);
+    }
+
+    // endsAt is when the lot closes by itself in epoch milliseconds, 0 to leave closing to the farmer.
+    // The created event is committed before the lot takes bids, so none of its bids can come before it in the log.
+    public static void createBaseBid(String bidId, String farmerId, String name, int quantity, double basePrice,
+            AuctionType auctionType, long endsAt) {
+        if (!Double.isFinite(basePrice)) {
+            System.out.println("Base price must be a number, not " + basePrice + ".");
+            return;
+        }
+        Bid bid = new Bid(bidId, farmerId, name, quantity, basePrice, auctionType, endsAt);
+        AuctionLot lot = AuctionEngine.reserveLot(bid);
+        if (lot == null) {
+            System.out.println("Bid ID " + bidId + " is already in use.");
+            return;
+        }
         System.out.println(bid);
-        baseBids.add(bid);
-        saveBaseBids();
+        if (!persist(store -> store.appendCreated(bid))) {
+            AuctionEngine.releaseLot(lot);
+            return;
+        }
+        lot.open();
+        BidIndex.add(bid);
+        if (bid.hasEndTime()) {
+            AuctionScheduler.schedule(bid);
+        }
         System.out.println("Base bid created successfully.");
     }
 
+    // The bid is pending in the order book until its event is committed and is withdrawn if that fails,
+    // so a bid that was never saved cannot win the lot
     public static void placeRetailerBid(String bidId, String retailerId, double price) {
-        if (retailerBids.containsKey(bidId)) {
-            retailerBids.get(bidId).add(retailerId + "," + price);
+        AuctionLot lot = AuctionEngine.getLot(bidId);
+        RetailerBid bid;
+        try {
+            if (lot == null) {
+                throw new IllegalArgumentException("Bid " + bidId + " not found in base bids.");
+            }
+            bid = lot.place(retailerId, price, System.currentTimeMillis());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.out.println("Bid rejected: " + e.getMessage());
+            return;
+        }
+        if (persist(store -> store.appendPlaced(bid))) {
+            lot.confirm(bid);
+            System.out.println("Retailer bid placed successfully.");
         } else {
-            List<String> bids = new ArrayList<>();
-            bids.add(retailerId + "," + price);
-            retailerBids.put(bidId, bids);
+            lot.withdraw(bid);
         }
-        saveRetailerBids();
-        System.out.println("Retailer bid placed successfully.");
     }
 
-    public static void closeBid(String bidId, String fid) {
-        // Check if the bid ID exists in base bids
-        Bid selectedBaseBid = null;
-        for (Bid bid : baseBids) {
-            if (bid.getBidId().equals(bidId) && bid.getFarmerId().equals(fid)) {
-                selectedBaseBid = bid;
-                break;
-            }
+    // Pushes every new highest bid of an open English lot to the listener until the subscription is cancelled,
+    // returns null if the lot cannot be watched
+    public static BidStream.Subscription watchLot(String bidId, BidListener listener) {
+        AuctionLot lot = AuctionEngine.getLot(bidId);
+        if (lot == null) {
+            System.out.println("Bid not found in base bids.");
+            return null;
+        }
+        if (lot.getType() != AuctionType.ENGLISH) {
+            System.out.println("Bids on a " + lot.getType() + " lot stay hidden until it closes.");
+            return null;
         }
+        // The current highest bid goes through the stream too, so the listener never sees an older bid after it
+        BidStream.Subscription subscription = lot.whileOpen(highest -> BidStream.subscribe(bidId, listener, highest));
+        if (subscription == null) {
+            System.out.println("Bid has already been closed.");
+        }
+        return subscription;
+    }
 
-        if (selectedBaseBid == null) {
+    // Closes a lot with the rule of its auction type, the winner is the highest bid and ties go to the earliest
+    public static void closeBid(String bidId, String fid) {
+        // Check if the bid ID exists in base bids
+        Bid selectedBaseBid = BidIndex.getBid(bidId);
+        if (selectedBaseBid == null || !selectedBaseBid.getFarmerId().equals(fid)) {
             System.out.println("Bid not found in base bids.");
             return;
         }
 
         // Check if there are any retailer bids for the selected base bid
-        List<String> retailerBidsList = retailerBids.get(bidId);
-        if (retailerBidsList == null || retailerBidsList.isEmpty()) {
+        AuctionLot lot = AuctionEngine.getLot(bidId);
+        if (lot == null || lot.getBidCount() == 0) {
             System.out.println("No retailer bids found for this base bid.");
             return;
         }
 
-        // Display base bid details
-        System.out.println("Base Bid Details: " + selectedBaseBid.toString());
-
-        // Display retailer bids for the selected base bid
-        System.out.println("Retailer Bids:");
-        for (int i = 0; i < retailerBidsList.size(); i++) {
-            System.out.println((i + 1) + ". " + retailerBidsList.get(i));
-        }
-
-        // Ask the farmer to select the retailer bid to be included in history
-        Scanner scanner = new Scanner(System.in);
-        System.out.print("Enter the index of the winning retailer bid (0 to cancel): ");
-        int selectedRetailerIndex = scanner.nextInt();
-        scanner.nextLine(); // Consume newline
-
-        if (selectedRetailerIndex == 0 || selectedRetailerIndex > retailerBidsList.size()) {
-            System.out.println("Closing bid canceled.");
+        AuctionResult result = AuctionEngine.closeLot(bidId);
+        if (result == null) {
+            System.out.println("Bid has already been closed.");
             return;
         }
 
-        // Remove the bid from retailer bids
-        retailerBids.remove(bidId);
-        baseBids.remove(selectedBaseBid);
+        // Display base bid details and the winner
+        System.out.println("Base Bid Details: " + selectedBaseBid.toString());
+        System.out.println(result);
 
-        // Append bid details to history
-        try (FileWriter writer = new FileWriter(HISTORY_FILE, true)) {
-            writer.write("Base Bid Details: " + selectedBaseBid.toString() + "\n");
-            writer.write("Winning Retailer Bid Details:\n");
-            writer.write("\t" + retailerBidsList.get(selectedRetailerIndex - 1) + "\n\n");
-        } catch (IOException e) {
-            System.out.println("Error appending bid to history: " + e.getMessage());
+        BidIndex.remove(bidId);
+        closedLots.add(result);
+        AuctionAnalytics.record(result);
+        if (persist(store -> store.appendClosed(result))) {
+            System.out.println("Bid closed successfully.");
         }
+    }
 
-        // Save changes
-        saveBaseBids();
-        saveRetailerBids();
-        System.out.println("Bid closed successfully.");
+    // Closes lots whose auction has ended, called by the AuctionScheduler on its closing threads.
+    // The close events of the batch are committed together; lots already closed by hand, and new lots that
+    // reuse their bid ID, are skipped.
+    static void closeExpiredLots(List<Bid> bids) {
+        List<CompletableFuture<Void>> commits = new ArrayList<>(bids.size());
+        long now = System.currentTimeMillis();
+        for (Bid bid : bids) {
+            if (bid.getEndsAt() > now) {
+                continue;
+            }
+            AuctionResult result = AuctionEngine.closeLot(bid);
+            if (result == null) {
+                continue;
+            }
+            BidIndex.remove(bid.getBidId());
+            closedLots.add(result);
+            AuctionAnalytics.record(result);
+            if (eventStore != null) {
+                commits.add(eventStore.appendClosed(result));
+            }
+        }
+        for (CompletableFuture<Void> commit : commits) {
+            try {
+                commit.join();
+            } catch (CompletionException e) {
+                System.out.println("Error saving auction event: " + e.getCause().getMessage());
+                return;
+            }
+        }
     }
 
     public static void viewBaseBids() {
-        // loadBaseBids();
-        if (baseBids.isEmpty()) {
-
+        if (BidIndex.size() == 0) {
             System.out.println("No base bids available.");
         } else {
             System.out.println("All Base Bids:");
-            for (Bid bid : baseBids) {
+            for (Bid bid : BidIndex.getBids()) {
                 System.out.println(bid);
             }
         }
     }
 
-    public static void viewRetailerBids() {
-        if (retailerBids.isEmpty()) {
-            System.out.println("No retailer bids available.");
+    public static void viewBaseBidsByFarmer(String farmerId) {
+        List<Bid> bids = BidIndex.getBidsByFarmer(farmerId);
+        if (bids.isEmpty()) {
+            System.out.println("No base bids available.");
+        } else {
+            System.out.println("Your Base Bids:");
+            for (Bid bid : bids) {
+                System.out.println(bid);
+            }
+        }
+    }
+
+    // Open lots of a product within a base price range, cheapest first
+    public static void viewBaseBidsByProduct(String name, double minPrice, double maxPrice, int limit) {
+        List<Bid> bids = BidIndex.findByProduct(name, minPrice, maxPrice, limit);
+        if (bids.isEmpty()) {
+            System.out.println("No base bids available for " + name + " in that price range.");
+            System.out.println("Products with open bids: " + BidIndex.getProducts());
         } else {
-            System.out.println("All Retailer Bids:");
-            for (Map.Entry<String, List<String>> entry : retailerBids.entrySet()) {
-                String bidId = entry.getKey();
-                List<String> bids = entry.getValue();
-                System.out.println("Bid ID: " + bidId);
-                for (String bid : bids) {
+            System.out.println("Base Bids for " + name + ":");
+            for (Bid bid : bids) {
+                System.out.println(bid);
+            }
+        }
+    }
+
+    // Closed lots, oldest first
+    public static List<AuctionResult> getClosedLots() {
+        synchronized (closedLots) {
+            return new ArrayList<>(closedLots);
+        }
+    }
+
+    public static List<AuctionResult> getClosedLotsByFarmer(String farmerId) {
+        List<AuctionResult> found = new ArrayList<>();
+        synchronized (closedLots) {
+            for (AuctionResult result : closedLots) {
+                if (result.getLot().getFarmerId().equals(farmerId)) {
+                    found.add(result);
+                }
+            }
+        }
+        return found;
+    }
+
+    public static List<AuctionResult> getClosedLotsByProduct(String name) {
+        List<AuctionResult> found = new ArrayList<>();
+        synchronized (closedLots) {
+            for (AuctionResult result : closedLots) {
+                if (result.getLot().getName().equalsIgnoreCase(name)) {
+                    found.add(result);
+                }
+            }
+        }
+        return found;
+    }
+
+    public static void viewClosedBids(String farmerId) {
+        List<AuctionResult> results = getClosedLotsByFarmer(farmerId);
+        if (results.isEmpty()) {
+            System.out.println("No closed bids available.");
+            return;
+        }
+        System.out.println("Closed Bids:");
+        for (AuctionResult result : results) {
+            System.out.println("Base Bid Details: " + result.getLot());
+            System.out.println("\t" + result);
+        }
+    }
+
+    // Clearing statistics of a product: all time, over the last hour and day, and hourly over the last day
+    public static void viewMarketStats(String product) {
+        MarketStats total = AuctionAnalytics.getStats(product);
+        if (total == null) {
+            System.out.println("No closed bids available for " + product + ".");
+            return;
+        }
+        System.out.println("All time: " + total);
+        System.out.println("Last hour: " + AuctionAnalytics.getStats(product, 60 * 60_000L));
+        System.out.println("Last day: " + AuctionAnalytics.getStats(product, AuctionAnalytics.MAX_WINDOW_MILLIS));
+        System.out.println("Hourly VWAP over the last day:");
+        List<MarketStats> trend = AuctionAnalytics.getTrend(product, AuctionAnalytics.MAX_WINDOW_MILLIS, 60 * 60_000L);
+        for (MarketStats hour : trend) {
+            if (hour.getSoldCount() > 0) {
+                System.out.println("\t" + new Date(hour.getFrom()) + ": " + String.format("%.2f", hour.getVwap())
+                        + " (" + hour.getSoldCount() + " sold)");
+            }
+        }
+    }
+
+    // Sealed and Vickrey bids stay hidden until the lot closes, only their count is shown
+    public static void viewRetailerBids() {
+        boolean any = false;
+        for (AuctionLot lot : AuctionEngine.getLots()) {
+            int count = lot.getBidCount();
+            if (count == 0) {
+                continue;
+            }
+            if (!any) {
+                System.out.println("All Retailer Bids:");
+                any = true;
+            }
+            System.out.println("Bid ID: " + lot.getBaseBid().getBidId() + " (" + lot.getType() + ")");
+            if (lot.getType() == AuctionType.ENGLISH) {
+                for (RetailerBid bid : lot.getRankedBids()) {
                     System.out.println("\t" + bid);
                 }
+            } else {
+                System.out.println("\t" + count + " sealed bids");
             }
         }
+        if (!any) {
+            System.out.println("No retailer bids available.");
+        }
     }
 }
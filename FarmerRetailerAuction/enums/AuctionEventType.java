@@ -0,0 +1,27 @@
+package enums;
+
+// Events stored in the auction event log, the code is the first byte of each record
+public enum AuctionEventType {
+    BID_CREATED(1),
+    BID_PLACED(2),
+    BID_CLOSED(3);
+
+    private final byte code;
+
+    AuctionEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static AuctionEventType fromCode(byte code) {
+        for (AuctionEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown auction event " + code);
+    }
+}
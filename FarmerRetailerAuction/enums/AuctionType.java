@@ -0,0 +1,11 @@
+package enums;
+
+// How a lot picks its winner and the price the winner pays
+public enum AuctionType {
+    // Open ascending bids, every bid must beat the highest one, the winner pays its own bid
+    ENGLISH,
+    // One hidden bid per retailer, the winner pays its own bid
+    SEALED_BID,
+    // One hidden bid per retailer, the winner pays the second highest bid (or the base price)
+    VICKREY
+}
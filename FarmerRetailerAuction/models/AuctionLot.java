@@ -0,0 +1,202 @@
+package models;
+
+import enums.AuctionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Order book of one lot: the retailer bids ranked by price, then time
+public class AuctionLot {
+    private final Bid baseBid;
+    private final AuctionType type;
+    private final PriorityQueue<RetailerBid> book = new PriorityQueue<>(RetailerBid.PRICE_TIME_ORDER);
+    // Retailers that already bid, sealed and Vickrey lots take one bid per retailer
+    private final Set<String> bidders = new HashSet<>();
+    // Shared by all lots, so every bid gets a unique number in the order it was accepted
+    private final AtomicLong sequences;
+    private AuctionResult result;
+    // False while the lot waits for its created event to be committed
+    private boolean open;
+    // Bids placed but not yet committed or withdrawn, the lot only closes once there are none
+    private final Set<RetailerBid> pendingBids = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Highest committed bid of an English lot passed to the listener last, or null
+    private RetailerBid announced;
+    // Told about every new highest committed bid of an English lot while the lot is locked, so the calls come in
+    // bid order and the prices only rise
+    private volatile Consumer<RetailerBid> highestBidListener;
+
+    // A lot opened with open set to false takes no bids until open() is called
+    public AuctionLot(Bid baseBid, AtomicLong sequences, boolean open) {
+        this.baseBid = baseBid;
+        this.type = baseBid.getAuctionType();
+        this.sequences = sequences;
+        this.open = open;
+    }
+
+    public AuctionLot(Bid baseBid, AtomicLong sequences) {
+        this(baseBid, sequences, true);
+    }
+
+    public synchronized void open() {
+        open = true;
+    }
+
+    public Bid getBaseBid() {
+        return baseBid;
+    }
+
+    public AuctionType getType() {
+        return type;
+    }
+
+    public synchronized boolean isClosed() {
+        return result != null;
+    }
+
+    public synchronized AuctionResult getResult() {
+        return result;
+    }
+
+    public synchronized int getBidCount() {
+        return book.size();
+    }
+
+    // Adds a bid to the book, throws IllegalStateException or IllegalArgumentException if it is not allowed.
+    // The bid is pending until confirm() or withdraw() is called with it, and the lot cannot close before that.
+    public synchronized RetailerBid place(String retailerId, double price, long placedAt) {
+        if (result != null) {
+            throw new IllegalStateException("Bid " + baseBid.getBidId() + " is already closed.");
+        }
+        if (!open) {
+            throw new IllegalStateException("Bid " + baseBid.getBidId() + " is not open for bidding yet.");
+        }
+        if (baseBid.hasEndTime() && placedAt >= baseBid.getEndsAt()) {
+            throw new IllegalStateException("Bid " + baseBid.getBidId() + " has ended.");
+        }
+        if (!Double.isFinite(price)) {
+            throw new IllegalArgumentException("Bid price must be a number, not " + price);
+        }
+        if (price < baseBid.getBasePrice()) {
+            throw new IllegalArgumentException("Bid price must be at least the base price " + baseBid.getBasePrice());
+        }
+        if (type == AuctionType.ENGLISH) {
+            RetailerBid highest = book.peek();
+            if (highest != null && price <= highest.getPrice()) {
+                throw new IllegalArgumentException("Bid price must beat the highest bid " + highest.getPrice());
+            }
+        } else if (!bidders.add(retailerId)) {
+            throw new IllegalArgumentException("Retailer " + retailerId + " has already placed a sealed bid.");
+        }
+        RetailerBid bid = new RetailerBid(baseBid.getBidId(), retailerId, price, sequences.getAndIncrement(),
+                placedAt);
+        book.add(bid);
+        pendingBids.add(bid);
+        return bid;
+    }
+
+    // Called once the bid is committed
+    public synchronized void confirm(RetailerBid bid) {
+        pendingBids.remove(bid);
+        notifyAll();
+        announceLeader();
+    }
+
+    // Takes back a bid that could not be committed, O(n)
+    public synchronized void withdraw(RetailerBid bid) {
+        pendingBids.remove(bid);
+        notifyAll();
+        book.remove(bid);
+        if (type != AuctionType.ENGLISH) {
+            bidders.remove(bid.getRetailerId());
+        }
+        announceLeader();
+    }
+
+    // Tells the listener about the leading bid once it is committed and not announced yet; sealed and Vickrey
+    // bids stay hidden
+    private void announceLeader() {
+        Consumer<RetailerBid> listener = highestBidListener;
+        RetailerBid leader = book.peek();
+        if (listener == null || type != AuctionType.ENGLISH || leader == null || leader == announced
+                || pendingBids.contains(leader)) {
+            return;
+        }
+        announced = leader;
+        listener.accept(leader);
+    }
+
+    // Runs action with the last announced highest bid (or null) while the lot is locked, so no bid is announced
+    // in between; returns null without running it if the lot is closed
+    public synchronized <T> T whileOpen(Function<RetailerBid, T> action) {
+        return result == null ? action.apply(announced) : null;
+    }
+
+    public void setHighestBidListener(Consumer<RetailerBid> listener) {
+        this.highestBidListener = listener;
+    }
+
+    // Puts back a bid that was accepted before, keeping its sequence number and without checking the rules again
+    public synchronized void restore(RetailerBid bid) {
+        bidders.add(bid.getRetailerId());
+        book.add(bid);
+    }
+
+    // Highest bid so far, or null
+    public synchronized RetailerBid getHighestBid() {
+        return book.peek();
+    }
+
+    // Price the current leader would pay if the lot closed now
+    public synchronized double getClearingPrice() {
+        RetailerBid highest = book.peek();
+        if (highest == null) {
+            return baseBid.getBasePrice();
+        }
+        if (type != AuctionType.VICKREY) {
+            return highest.getPrice();
+        }
+        // Second price: take the leader out, look at the next one and put the leader back, O(log n)
+        book.poll();
+        RetailerBid second = book.peek();
+        book.add(highest);
+        return second == null ? baseBid.getBasePrice() : second.getPrice();
+    }
+
+    // Closes the lot and picks the winner once no bid is pending, closing again returns the same result
+    public synchronized AuctionResult close() {
+        boolean interrupted = false;
+        while (result == null && !pendingBids.isEmpty()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (result == null) {
+            result = new AuctionResult(baseBid, book.peek(), getClearingPrice(), book.size(),
+                    System.currentTimeMillis());
+        }
+        return result;
+    }
+
+    // Bids in ranking order, copies the book so it costs O(n log n)
+    public synchronized List<RetailerBid> getRankedBids() {
+        PriorityQueue<RetailerBid> copy = new PriorityQueue<>(book);
+        List<RetailerBid> ranked = new ArrayList<>(copy.size());
+        while (!copy.isEmpty()) {
+            ranked.add(copy.poll());
+        }
+        return ranked;
+    }
+}
@@ -0,0 +1,56 @@
+package models;
+
+import java.io.Serializable;
+
+// Class to represent the outcome of a closed lot
+public class AuctionResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private Bid lot;
+    private RetailerBid winningBid;
+    private double clearingPrice;
+    private int bidCount;
+    private long closedAt;
+
+    public AuctionResult(Bid lot, RetailerBid winningBid, double clearingPrice, int bidCount, long closedAt) {
+        this.lot = lot;
+        this.winningBid = winningBid;
+        this.clearingPrice = clearingPrice;
+        this.bidCount = bidCount;
+        this.closedAt = closedAt;
+    }
+
+    public Bid getLot() {
+        return lot;
+    }
+
+    // null when nobody bid on the lot
+    public RetailerBid getWinningBid() {
+        return winningBid;
+    }
+
+    public double getClearingPrice() {
+        return clearingPrice;
+    }
+
+    public int getBidCount() {
+        return bidCount;
+    }
+
+    // Epoch milliseconds
+    public long getClosedAt() {
+        return closedAt;
+    }
+
+    public boolean hasWinner() {
+        return winningBid != null;
+    }
+
+    @Override
+    public String toString() {
+        if (winningBid == null) {
+            return "Lot " + lot.getBidId() + " closed without bids";
+        }
+        return "Winner: " + winningBid.getRetailerId() + ", Bid: " + winningBid.getPrice() + ", Pays: "
+                + clearingPrice + ", Bids: " + bidCount;
+    }
+}
@@ -1,6 +1,10 @@
 package models;
 
+import enums.AuctionType;
 import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 // Class to represent a bid
 public class Bid implements Serializable {
@@ -10,13 +14,28 @@ public class Bid implements Serializable {
     private String name;
     private int quantity;
     private double basePrice;
+    private AuctionType auctionType;
+    // Epoch milliseconds when the auction closes by itself, 0 when only the farmer closes it
+    private long endsAt;
 
     public Bid(String bidId, String farmerId, String name, int quantity, double basePrice) {
+        this(bidId, farmerId, name, quantity, basePrice, AuctionType.ENGLISH);
+    }
+
+    public Bid(String bidId, String farmerId, String name, int quantity, double basePrice,
+            AuctionType auctionType) {
+        this(bidId, farmerId, name, quantity, basePrice, auctionType, 0);
+    }
+
+    public Bid(String bidId, String farmerId, String name, int quantity, double basePrice,
+            AuctionType auctionType, long endsAt) {
         this.bidId = bidId;
         this.farmerId = farmerId;
         this.name = name;
         this.quantity = quantity;
         this.basePrice = basePrice;
+        this.auctionType = auctionType;
+        this.endsAt = endsAt;
     }
 
     public String getBidId() {
@@ -39,9 +58,25 @@ public class Bid implements Serializable {
         return basePrice;
     }
 
+    // Bids saved before auction types existed are English auctions
+    public AuctionType getAuctionType() {
+        return auctionType == null ? AuctionType.ENGLISH : auctionType;
+    }
+
+    public long getEndsAt() {
+        return endsAt;
+    }
+
+    public boolean hasEndTime() {
+        return endsAt > 0;
+    }
+
     @Override
     public String toString() {
+        String end = hasEndTime()
+                ? ", Ends: " + LocalDateTime.ofInstant(Instant.ofEpochMilli(endsAt), ZoneId.systemDefault())
+                : "";
         return "Bid ID: " + bidId + ", Farmer ID: " + farmerId + ", Name: " + name + ", Quantity: " + quantity
-                + ", Base Price: " + basePrice;
+                + ", Base Price: " + basePrice + ", Auction: " + getAuctionType() + end;
     }
 }
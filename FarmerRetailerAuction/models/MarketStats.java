@@ -0,0 +1,93 @@
+package models;
+
+// Class to represent the clearing statistics of one product over a period
+public class MarketStats {
+    private String product;
+    // Epoch milliseconds, the period is [from, to)
+    private long from;
+    private long to;
+    private int lotCount;
+    private int soldCount;
+    private long bidCount;
+    private long quantity;
+    private double value;
+    private double minPrice;
+    private double maxPrice;
+    private double ratioSum;
+
+    public MarketStats(String product, long from, long to, int lotCount, int soldCount, long bidCount, long quantity,
+            double value, double minPrice, double maxPrice, double ratioSum) {
+        this.product = product;
+        this.from = from;
+        this.to = to;
+        this.lotCount = lotCount;
+        this.soldCount = soldCount;
+        this.bidCount = bidCount;
+        this.quantity = quantity;
+        this.value = value;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.ratioSum = ratioSum;
+    }
+
+    public String getProduct() {
+        return product;
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    public long getTo() {
+        return to;
+    }
+
+    // Lots closed in the period, with or without a winner
+    public int getLotCount() {
+        return lotCount;
+    }
+
+    public int getSoldCount() {
+        return soldCount;
+    }
+
+    public long getBidCount() {
+        return bidCount;
+    }
+
+    // Quantity sold
+    public long getQuantity() {
+        return quantity;
+    }
+
+    // Clearing prices weighted by the quantity sold, 0 when nothing was sold
+    public double getVwap() {
+        return quantity == 0 ? 0 : value / quantity;
+    }
+
+    // Lowest clearing price, 0 when nothing was sold
+    public double getMinPrice() {
+        return soldCount == 0 ? 0 : minPrice;
+    }
+
+    public double getMaxPrice() {
+        return soldCount == 0 ? 0 : maxPrice;
+    }
+
+    public double getAverageBidsPerLot() {
+        return lotCount == 0 ? 0 : (double) bidCount / lotCount;
+    }
+
+    // Average of clearing price / base price over the lots sold, 0 when nothing was sold
+    public double getBidToBaseRatio() {
+        return soldCount == 0 ? 0 : ratioSum / soldCount;
+    }
+
+    @Override
+    public String toString() {
+        return "Product: " + product + ", Lots: " + lotCount + ", Sold: " + soldCount + ", Bids: " + bidCount
+                + ", Quantity: " + quantity + ", VWAP: " + String.format("%.2f", getVwap()) + ", Min: "
+                + getMinPrice() + ", Max: " + getMaxPrice() + ", Bid/Base: "
+                + String.format("%.2f", getBidToBaseRatio());
+    }
+}
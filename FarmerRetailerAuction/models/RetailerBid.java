@@ -0,0 +1,54 @@
+package models;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+// Class to represent a retailer's offer on a lot
+public class RetailerBid implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Highest price first, then the earliest bid
+    public static final Comparator<RetailerBid> PRICE_TIME_ORDER = (a, b) -> {
+        int byPrice = Double.compare(b.price, a.price);
+        return byPrice != 0 ? byPrice : Long.compare(a.sequence, b.sequence);
+    };
+
+    private String lotId;
+    private String retailerId;
+    private double price;
+    private long sequence;
+    private long placedAt;
+
+    public RetailerBid(String lotId, String retailerId, double price, long sequence, long placedAt) {
+        this.lotId = lotId;
+        this.retailerId = retailerId;
+        this.price = price;
+        this.sequence = sequence;
+        this.placedAt = placedAt;
+    }
+
+    public String getLotId() {
+        return lotId;
+    }
+
+    public String getRetailerId() {
+        return retailerId;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getPlacedAt() {
+        return placedAt;
+    }
+
+    @Override
+    public String toString() {
+        return retailerId + "," + price;
+    }
+}
@@ -0,0 +1,220 @@
+package services;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// Append-only file of records, each written as length, CRC32 and payload.
+// A single writer thread takes every record waiting in the queue and commits them with one write and one force,
+// so many threads appending at once share the cost of a disk sync.
+public class AppendLog implements Closeable {
+    private static final int MAX_BATCH = 4096;
+    private static final int HEADER_BYTES = 8;
+
+    private final FileChannel channel;
+    private final boolean sync;
+    private final LinkedBlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong records = new AtomicLong();
+    private volatile boolean closed;
+    // Set when a failed batch could not be cut off again, nothing may be appended after its torn bytes
+    private volatile IOException failure;
+
+    private static class PendingRecord {
+        final byte[] payload;
+        final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+        PendingRecord(byte[] payload) {
+            this.payload = payload;
+        }
+    }
+
+    private AppendLog(FileChannel channel, boolean sync) {
+        this.channel = channel;
+        this.sync = sync;
+        this.writer = new Thread(this::writeLoop, "append-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Opens or creates a log, hands every intact record to replay in order and cuts off a torn or corrupt tail.
+    // With sync set every commit is forced to the disk before the appenders are released.
+    public static AppendLog open(Path path, boolean sync, Consumer<byte[]> replay) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long end = readRecords(channel, replay);
+            if (end < channel.size()) {
+                channel.truncate(end);
+            }
+            channel.position(end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return new AppendLog(channel, sync);
+    }
+
+    // Reads records from the start until the end of the file or the first damaged one, returns where it stopped
+    private static long readRecords(FileChannel channel, Consumer<byte[]> replay) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length < 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_BYTES);
+            crc.reset();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            replay.accept(payload.array());
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of log");
+            }
+        }
+    }
+
+    // Queues a record, the future completes once it is committed or fails with the write error
+    public CompletableFuture<Void> append(byte[] payload) {
+        PendingRecord record = new PendingRecord(payload);
+        if (closed) {
+            record.committed.completeExceptionally(new IOException("Log is closed"));
+            return record.committed;
+        }
+        if (failure != null) {
+            record.committed.completeExceptionally(failure);
+            return record.committed;
+        }
+        queue.add(record);
+        return record.committed;
+    }
+
+    private void writeLoop() {
+        List<PendingRecord> batch = new ArrayList<>();
+        CRC32 crc = new CRC32();
+        while (!closed || !queue.isEmpty()) {
+            PendingRecord first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, MAX_BATCH - 1);
+            int bytes = 0;
+            for (PendingRecord record : batch) {
+                bytes += HEADER_BYTES + record.payload.length;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(bytes);
+            for (PendingRecord record : batch) {
+                crc.reset();
+                crc.update(record.payload);
+                buffer.putInt(record.payload.length).putInt((int) crc.getValue()).put(record.payload);
+            }
+            buffer.flip();
+            if (failure != null) {
+                fail(batch, failure);
+                continue;
+            }
+            long start = -1;
+            try {
+                start = channel.position();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (sync) {
+                    channel.force(false);
+                }
+                commits.incrementAndGet();
+                records.addAndGet(batch.size());
+                for (PendingRecord record : batch) {
+                    record.committed.complete(null);
+                }
+            } catch (IOException e) {
+                rollBack(start, e);
+                fail(batch, e);
+            }
+            batch.clear();
+        }
+    }
+
+    // Cuts a partly written batch off again, so the next batch follows the last committed record. If that fails
+    // too the log stops taking records, otherwise records committed later would sit behind a torn one and be lost
+    // when recovery stops there.
+    private void rollBack(long start, IOException cause) {
+        try {
+            if (start < 0) {
+                throw cause;
+            }
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException e) {
+            failure = new IOException("Log failed after a write error: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static void fail(List<PendingRecord> batch, IOException e) {
+        for (PendingRecord record : batch) {
+            record.committed.completeExceptionally(e);
+        }
+        batch.clear();
+    }
+
+    // Number of batched writes so far, records / commits is the average group size
+    public long getCommitCount() {
+        return commits.get();
+    }
+
+    public long getRecordCount() {
+        return records.get();
+    }
+
+    // Commits the records already queued and closes the file
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Records queued while the writer was stopping
+        PendingRecord left;
+        while ((left = queue.poll()) != null) {
+            left.committed.completeExceptionally(new IOException("Log is closed"));
+        }
+        channel.close();
+    }
+}
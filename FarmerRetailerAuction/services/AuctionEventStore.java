@@ -0,0 +1,444 @@
+package services;
+
+import enums.AuctionEventType;
+import enums.AuctionType;
+import models.AuctionResult;
+import models.Bid;
+import models.RetailerBid;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+// Event-sourced storage of the auction: every change is appended to a binary event log
+// (BidCreated, BidPlaced, BidClosed) and the log is folded into a compacted snapshot now and then.
+//
+// Files in the directory, for generation g:
+//   auction_events_<g>.log    events appended after snapshot g was started, see AppendLog for the framing
+//   auction_snapshot_<g>.bin  open lots, their bids and the closed lots as of the start of log g, ends with a CRC32
+//
+// Recovery loads the newest snapshot and replays the logs of the same or later generations.
+// Compaction switches appends to a new log first, then folds the old snapshot and logs into a new snapshot,
+// which is written to a temporary file and moved into place, so a crash at any step leaves a readable state.
+public class AuctionEventStore implements Closeable {
+    private static final int SNAPSHOT_MAGIC = 0x46524153; // "FRAS"
+    // Version 2 added the end time of the open lots, version 3 the bids whose lot was not open yet
+    private static final int SNAPSHOT_VERSION = 3;
+    private static final String LOG_PREFIX = "auction_events_";
+    private static final String LOG_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "auction_snapshot_";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    // State rebuilt from a snapshot and the logs after it
+    public static class State {
+        public final Map<String, Bid> openLots = new LinkedHashMap<>();
+        public final Map<String, List<RetailerBid>> openBids = new HashMap<>();
+        public final List<AuctionResult> closedLots = new ArrayList<>();
+        public long maxSequence;
+
+        private void apply(byte[] event) throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(event));
+            switch (AuctionEventType.fromCode(in.readByte())) {
+                case BID_CREATED:
+                    Bid bid = readBid(in);
+                    // Events written before lots had end times stop after the bid
+                    if (in.available() >= Long.BYTES) {
+                        bid = withEndsAt(bid, in.readLong());
+                    }
+                    openLots.put(bid.getBidId(), bid);
+                    break;
+                case BID_PLACED:
+                    RetailerBid placed = readRetailerBid(in);
+                    maxSequence = Math.max(maxSequence, placed.getSequence());
+                    openBids.computeIfAbsent(placed.getLotId(), k -> new ArrayList<>()).add(placed);
+                    break;
+                case BID_CLOSED:
+                    AuctionResult result = readResult(in);
+                    openLots.remove(result.getLot().getBidId());
+                    openBids.remove(result.getLot().getBidId());
+                    closedLots.add(result);
+                    break;
+            }
+        }
+
+        // Bids of lots that are not open were placed while the lot was closing, they never count.
+        // Only done once every log is replayed, a compaction keeps them in case the lot's created event comes in a
+        // later generation.
+        private void dropOrphanBids() {
+            openBids.keySet().retainAll(openLots.keySet());
+        }
+    }
+
+    private final Path directory;
+    private final boolean sync;
+    private final long snapshotInterval;
+    private final State recovered;
+    // Appends hold the read lock while queueing, switching to a new log holds the write lock
+    private final ReentrantReadWriteLock logLock = new ReentrantReadWriteLock();
+    private final AtomicLong eventsSinceSnapshot = new AtomicLong();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "auction-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private AppendLog log;
+    private long logGeneration;
+    private long snapshotGeneration;
+
+    private AuctionEventStore(Path directory, boolean sync, long snapshotInterval) throws IOException {
+        this.directory = directory;
+        this.sync = sync;
+        this.snapshotInterval = snapshotInterval;
+        Files.createDirectories(directory);
+        // Snapshots that were still being written when the process stopped
+        try (DirectoryStream<Path> unfinished = Files.newDirectoryStream(directory,
+                SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX + ".tmp")) {
+            for (Path file : unfinished) {
+                Files.deleteIfExists(file);
+            }
+        }
+        snapshotGeneration = findSnapshotGeneration();
+        recovered = snapshotGeneration < 0 ? new State() : readSnapshot(snapshotGeneration);
+        if (snapshotGeneration < 0) {
+            snapshotGeneration = 0;
+        }
+        List<Long> logs = generations(LOG_PREFIX, LOG_SUFFIX);
+        logGeneration = snapshotGeneration;
+        for (long generation : logs) {
+            if (generation < snapshotGeneration) {
+                // Already folded into the snapshot, left behind by a compaction that did not finish cleaning up
+                Files.deleteIfExists(logPath(generation));
+            } else if (generation != logs.get(logs.size() - 1)) {
+                replay(generation, recovered);
+            }
+            logGeneration = Math.max(logGeneration, generation);
+        }
+        log = AppendLog.open(logPath(logGeneration), sync, event -> applyRecovered(event));
+        recovered.dropOrphanBids();
+    }
+
+    // Opens the store in a directory, a snapshot is taken in the background every snapshotInterval events
+    public static AuctionEventStore open(Path directory, boolean sync, long snapshotInterval) throws IOException {
+        return new AuctionEventStore(directory, sync, snapshotInterval);
+    }
+
+    // True when nothing has ever been stored in the directory
+    public boolean isEmpty() {
+        return recovered.openLots.isEmpty() && recovered.closedLots.isEmpty() && recovered.openBids.isEmpty();
+    }
+
+    public State getRecoveredState() {
+        return recovered;
+    }
+
+    private void applyRecovered(byte[] event) {
+        try {
+            recovered.apply(event);
+            eventsSinceSnapshot.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public CompletableFuture<Void> appendCreated(Bid bid) {
+        return append(encode(AuctionEventType.BID_CREATED, out -> {
+            writeBid(out, bid);
+            out.writeLong(bid.getEndsAt());
+        }));
+    }
+
+    public CompletableFuture<Void> appendPlaced(RetailerBid bid) {
+        return append(encode(AuctionEventType.BID_PLACED, out -> writeRetailerBid(out, bid)));
+    }
+
+    public CompletableFuture<Void> appendClosed(AuctionResult result) {
+        return append(encode(AuctionEventType.BID_CLOSED, out -> writeResult(out, result)));
+    }
+
+    private CompletableFuture<Void> append(byte[] event) {
+        CompletableFuture<Void> committed;
+        logLock.readLock().lock();
+        try {
+            committed = log.append(event);
+        } finally {
+            logLock.readLock().unlock();
+        }
+        if (eventsSinceSnapshot.incrementAndGet() >= snapshotInterval && compacting.compareAndSet(false, true)) {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    System.out.println("Error taking auction snapshot: " + e.getMessage());
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+        return committed;
+    }
+
+    // Folds the current log into a new snapshot and deletes the files it replaces
+    public synchronized void compact() throws IOException {
+        AppendLog oldLog;
+        long foldedUpTo;
+        logLock.writeLock().lock();
+        try {
+            oldLog = log;
+            foldedUpTo = logGeneration;
+            log = AppendLog.open(logPath(logGeneration + 1), sync, event -> {
+            });
+            logGeneration++;
+            eventsSinceSnapshot.set(0);
+        } finally {
+            logLock.writeLock().unlock();
+        }
+        // Commits the events that were queued before the switch
+        oldLog.close();
+
+        State state = readSnapshot(snapshotGeneration);
+        for (long generation = snapshotGeneration; generation <= foldedUpTo; generation++) {
+            replay(generation, state);
+        }
+        long newGeneration = foldedUpTo + 1;
+        writeSnapshot(newGeneration, state);
+
+        long oldSnapshot = snapshotGeneration;
+        snapshotGeneration = newGeneration;
+        Files.deleteIfExists(snapshotPath(oldSnapshot));
+        for (long generation = oldSnapshot; generation <= foldedUpTo; generation++) {
+            Files.deleteIfExists(logPath(generation));
+        }
+    }
+
+    private void replay(long generation, State state) throws IOException {
+        if (!Files.exists(logPath(generation))) {
+            return;
+        }
+        try {
+            // Opening replays it
+            AppendLog old = AppendLog.open(logPath(generation), false, event -> {
+                try {
+                    state.apply(event);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            old.close();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Path logPath(long generation) {
+        return directory.resolve(LOG_PREFIX + generation + LOG_SUFFIX);
+    }
+
+    private Path snapshotPath(long generation) {
+        return directory.resolve(SNAPSHOT_PREFIX + generation + SNAPSHOT_SUFFIX);
+    }
+
+    private List<Long> generations(String prefix, String suffix) throws IOException {
+        List<Long> found = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    found.add(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())));
+                } catch (NumberFormatException e) {
+                    // Not one of ours
+                }
+            }
+        }
+        Collections.sort(found);
+        return found;
+    }
+
+    private long findSnapshotGeneration() throws IOException {
+        List<Long> snapshots = generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        return snapshots.isEmpty() ? -1 : snapshots.get(snapshots.size() - 1);
+    }
+
+    private State readSnapshot(long generation) throws IOException {
+        State state = new State();
+        Path path = snapshotPath(generation);
+        if (!Files.exists(path)) {
+            return state;
+        }
+        CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(path)),
+                new CRC32());
+        try (DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Unknown snapshot format in " + path);
+            }
+            int version = in.readInt();
+            if (version < 1 || version > SNAPSHOT_VERSION) {
+                throw new IOException("Unknown snapshot version " + version + " in " + path);
+            }
+            state.maxSequence = in.readLong();
+            int lots = in.readInt();
+            for (int i = 0; i < lots; i++) {
+                Bid bid = readBid(in);
+                if (version >= 2) {
+                    bid = withEndsAt(bid, in.readLong());
+                }
+                state.openLots.put(bid.getBidId(), bid);
+                int bids = in.readInt();
+                List<RetailerBid> book = new ArrayList<>(bids);
+                for (int j = 0; j < bids; j++) {
+                    book.add(readRetailerBid(in));
+                }
+                if (bids > 0) {
+                    state.openBids.put(bid.getBidId(), book);
+                }
+            }
+            int closed = in.readInt();
+            for (int i = 0; i < closed; i++) {
+                state.closedLots.add(readResult(in));
+            }
+            if (version >= 3) {
+                int unmatched = in.readInt();
+                for (int i = 0; i < unmatched; i++) {
+                    RetailerBid placed = readRetailerBid(in);
+                    state.openBids.computeIfAbsent(placed.getLotId(), k -> new ArrayList<>()).add(placed);
+                }
+            }
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Corrupt snapshot " + path);
+            }
+        }
+        return state;
+    }
+
+    private void writeSnapshot(long generation, State state) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_PREFIX + generation + SNAPSHOT_SUFFIX + ".tmp");
+        CheckedOutputStream checked = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporary)), new CRC32());
+        try (DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(state.maxSequence);
+            out.writeInt(state.openLots.size());
+            for (Bid bid : state.openLots.values()) {
+                writeBid(out, bid);
+                out.writeLong(bid.getEndsAt());
+                List<RetailerBid> book = state.openBids.getOrDefault(bid.getBidId(), Collections.emptyList());
+                out.writeInt(book.size());
+                for (RetailerBid placed : book) {
+                    writeRetailerBid(out, placed);
+                }
+            }
+            out.writeInt(state.closedLots.size());
+            for (AuctionResult result : state.closedLots) {
+                writeResult(out, result);
+            }
+            List<RetailerBid> unmatched = new ArrayList<>();
+            for (Map.Entry<String, List<RetailerBid>> entry : state.openBids.entrySet()) {
+                if (!state.openLots.containsKey(entry.getKey())) {
+                    unmatched.addAll(entry.getValue());
+                }
+            }
+            out.writeInt(unmatched.size());
+            for (RetailerBid placed : unmatched) {
+                writeRetailerBid(out, placed);
+            }
+            out.writeLong(checked.getChecksum().getValue());
+        }
+        try (FileOutputStream flush = new FileOutputStream(temporary.toFile(), true)) {
+            flush.getFD().sync();
+        }
+        Files.move(temporary, snapshotPath(generation), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private interface EventWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(AuctionEventType type, EventWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type.getCode());
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeBid(DataOutputStream out, Bid bid) throws IOException {
+        out.writeUTF(bid.getBidId());
+        out.writeUTF(bid.getFarmerId());
+        out.writeUTF(bid.getName());
+        out.writeInt(bid.getQuantity());
+        out.writeDouble(bid.getBasePrice());
+        out.writeByte(bid.getAuctionType().ordinal());
+    }
+
+    private static Bid readBid(DataInputStream in) throws IOException {
+        return new Bid(in.readUTF(), in.readUTF(), in.readUTF(), in.readInt(), in.readDouble(),
+                AuctionType.values()[in.readByte()]);
+    }
+
+    private static Bid withEndsAt(Bid bid, long endsAt) {
+        return new Bid(bid.getBidId(), bid.getFarmerId(), bid.getName(), bid.getQuantity(), bid.getBasePrice(),
+                bid.getAuctionType(), endsAt);
+    }
+
+    private static void writeRetailerBid(DataOutputStream out, RetailerBid bid) throws IOException {
+        out.writeUTF(bid.getLotId());
+        out.writeUTF(bid.getRetailerId());
+        out.writeDouble(bid.getPrice());
+        out.writeLong(bid.getSequence());
+        out.writeLong(bid.getPlacedAt());
+    }
+
+    private static RetailerBid readRetailerBid(DataInputStream in) throws IOException {
+        return new RetailerBid(in.readUTF(), in.readUTF(), in.readDouble(), in.readLong(), in.readLong());
+    }
+
+    private static void writeResult(DataOutputStream out, AuctionResult result) throws IOException {
+        writeBid(out, result.getLot());
+        out.writeBoolean(result.hasWinner());
+        if (result.hasWinner()) {
+            writeRetailerBid(out, result.getWinningBid());
+        }
+        out.writeDouble(result.getClearingPrice());
+        out.writeInt(result.getBidCount());
+        out.writeLong(result.getClosedAt());
+    }
+
+    private static AuctionResult readResult(DataInputStream in) throws IOException {
+        Bid lot = readBid(in);
+        RetailerBid winner = in.readBoolean() ? readRetailerBid(in) : null;
+        return new AuctionResult(lot, winner, in.readDouble(), in.readInt(), in.readLong());
+    }
+
+    // Commits the queued events and closes the log, a snapshot in progress finishes first
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logLock.writeLock().lock();
+        try {
+            log.close();
+        } finally {
+            logLock.writeLock().unlock();
+        }
+    }
+}
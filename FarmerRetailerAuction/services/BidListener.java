@@ -0,0 +1,14 @@
+package services;
+
+import models.AuctionResult;
+import models.RetailerBid;
+
+// Receives the bid stream of a watched lot, called on the stream's dispatch threads and never concurrently for
+// the same subscription, so implementations should return quickly
+public interface BidListener {
+    void onHighestBid(RetailerBid bid);
+
+    // The last call for the subscription, after every highest bid before the close was delivered
+    default void onLotClosed(AuctionResult result) {
+    }
+}
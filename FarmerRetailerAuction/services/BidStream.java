@@ -0,0 +1,236 @@
+package services;
+
+import models.AuctionResult;
+import models.RetailerBid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Pushes the new highest bids of watched lots to their listeners.
+// Each watched lot has a ring buffer of RING_SIZE bids written by the thread placing the bid, which only stores the
+// bid, advances the cursor and, at most once per burst, queues a fan-out task, so placement never waits for
+// watchers. Watchers are split into groups of GROUP_SIZE, each drained by one dispatch thread at a time; every
+// subscription keeps its own cursor, and one that falls a whole ring behind skips to the newest bids.
+public class BidStream {
+    private static final int RING_SIZE = 1024; // a power of two
+    private static final int GROUP_SIZE = 256;
+
+    private static final ConcurrentHashMap<String, LotStream> streams = new ConcurrentHashMap<>();
+    private static final ExecutorService dispatcher = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "bid-stream");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private static final AtomicLong delivered = new AtomicLong();
+    private static final AtomicLong skipped = new AtomicLong();
+
+    public static class Subscription {
+        private final LotStream stream;
+        private final BidListener listener;
+        private long cursor;
+        private volatile boolean cancelled;
+
+        private Subscription(LotStream stream, BidListener listener, long cursor) {
+            this.stream = stream;
+            this.listener = listener;
+            this.cursor = cursor;
+        }
+
+        public String getLotId() {
+            return stream.lotId;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            stream.remove(this);
+        }
+
+        // Delivers the bids published up to target, called by one dispatch thread at a time
+        private void catchUp(long target) {
+            long next = cursor + 1;
+            if (target - next >= RING_SIZE) {
+                skipped.addAndGet(target - RING_SIZE + 1 - next);
+                next = target - RING_SIZE + 1;
+            }
+            for (long sequence = next; sequence <= target && !cancelled; sequence++) {
+                Slot slot = stream.ring.get((int) (sequence & (RING_SIZE - 1)));
+                if (slot.sequence != sequence) {
+                    // Overwritten while this subscription was behind
+                    skipped.incrementAndGet();
+                    continue;
+                }
+                try {
+                    listener.onHighestBid(slot.bid);
+                    delivered.incrementAndGet();
+                } catch (RuntimeException e) {
+                    System.out.println("Error in bid watcher: " + e.getMessage());
+                }
+            }
+            cursor = target;
+        }
+    }
+
+    // A bid and its position in the stream, a reader checks the position to tell a slot that was reused
+    private static class Slot {
+        final long sequence;
+        final RetailerBid bid;
+
+        Slot(long sequence, RetailerBid bid) {
+            this.sequence = sequence;
+            this.bid = bid;
+        }
+    }
+
+    private static class Group {
+        final LotStream stream;
+        final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final AtomicBoolean closeDelivered = new AtomicBoolean();
+
+        Group(LotStream stream) {
+            this.stream = stream;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        void drain() {
+            while (true) {
+                long target = stream.cursor.get();
+                for (Subscription subscription : subscriptions) {
+                    subscription.catchUp(target);
+                }
+                AuctionResult result = stream.result;
+                if (result != null && stream.cursor.get() == target && closeDelivered.compareAndSet(false, true)) {
+                    for (Subscription subscription : subscriptions) {
+                        try {
+                            subscription.listener.onLotClosed(result);
+                        } catch (RuntimeException e) {
+                            System.out.println("Error in bid watcher: " + e.getMessage());
+                        }
+                    }
+                }
+                scheduled.set(false);
+                // A bid published after the target was read, and nobody else took the group meanwhile
+                if (stream.cursor.get() == target && (stream.result == null || closeDelivered.get())
+                        || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class LotStream {
+        final String lotId;
+        final AtomicReferenceArray<Slot> ring = new AtomicReferenceArray<>(RING_SIZE);
+        // Sequence of the last bid written, the bid placement holds the lot lock so there is one writer at a time
+        final AtomicLong cursor = new AtomicLong(-1);
+        final AtomicBoolean fanOutQueued = new AtomicBoolean();
+        final List<Group> groups = new ArrayList<>();
+        volatile Group[] groupSnapshot = new Group[0];
+        volatile AuctionResult result;
+
+        LotStream(String lotId) {
+            this.lotId = lotId;
+        }
+
+        void publish(RetailerBid bid) {
+            long sequence = cursor.get() + 1;
+            ring.set((int) (sequence & (RING_SIZE - 1)), new Slot(sequence, bid));
+            cursor.set(sequence);
+            queueFanOut();
+        }
+
+        void queueFanOut() {
+            if (fanOutQueued.compareAndSet(false, true)) {
+                dispatcher.execute(() -> {
+                    fanOutQueued.set(false);
+                    for (Group group : groupSnapshot) {
+                        group.schedule();
+                    }
+                });
+            }
+        }
+
+        // The subscription starts with the last bid published, which is seed
+        synchronized Subscription add(BidListener listener, RetailerBid seed) {
+            Group group = groups.isEmpty() ? null : groups.get(groups.size() - 1);
+            if (group == null || group.subscriptions.size() >= GROUP_SIZE) {
+                group = new Group(this);
+                groups.add(group);
+                groupSnapshot = groups.toArray(new Group[0]);
+            }
+            if (seed != null && cursor.get() < 0) {
+                // Nothing was published yet, bids announced before the stream existed were not kept
+                publish(seed);
+            }
+            long start = seed == null ? cursor.get() : cursor.get() - 1;
+            Subscription subscription = new Subscription(this, listener, start);
+            group.subscriptions.add(subscription);
+            group.schedule();
+            return subscription;
+        }
+
+        synchronized void remove(Subscription subscription) {
+            for (Group group : groups) {
+                group.subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    // Starts pushing the highest bids of a lot to the listener, beginning with current, the last highest bid
+    // announced or null. Call it from AuctionLot.whileOpen, so the lot is open and no bid is published meanwhile;
+    // a lot that closed would leave a stream behind that never ends.
+    public static Subscription subscribe(String lotId, BidListener listener, RetailerBid current) {
+        return streams.computeIfAbsent(lotId, LotStream::new).add(listener, current);
+    }
+
+    // Called while the lot is locked, costs a map lookup when nobody watches the lot
+    public static void publish(RetailerBid bid) {
+        LotStream stream = streams.get(bid.getLotId());
+        if (stream != null) {
+            stream.publish(bid);
+        }
+    }
+
+    // Delivers the bids still in flight, then tells every watcher of the lot that it closed and drops the stream
+    public static void closeLot(AuctionResult result) {
+        LotStream stream = streams.remove(result.getLot().getBidId());
+        if (stream != null) {
+            stream.result = result;
+            stream.queueFanOut();
+        }
+    }
+
+    public static int getWatcherCount(String lotId) {
+        LotStream stream = streams.get(lotId);
+        if (stream == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Group group : stream.groupSnapshot) {
+            count += group.subscriptions.size();
+        }
+        return count;
+    }
+
+    public static long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    // Bids a slow watcher never saw because the ring had moved on
+    public static long getSkippedCount() {
+        return skipped.get();
+    }
+}
@@ -6,49 +6,87 @@ import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
 
-// Class to manage user registration and login
+// Class to manage user registration and login.
+// The users file is read once into a username index, logins and type lookups never touch the file again.
+// Registrations claim the username in the index first, so two users registering the same name at the same time
+// cannot both succeed, and only the winner is appended to the file.
 public class UserAuthentication {
     private static final String USERS_FILE = "E:/JAVA PT/Basics_Of_OOPs/FarmerRetailerAuction/files/users.txt";
 
-    public static void registerUser(String username, UserType type) {
-        try (FileWriter writer = new FileWriter(USERS_FILE, true)) {
-            writer.write(username + "," + type + "\n");
-            System.out.println("User registered successfully.");
-        } catch (IOException e) {
-            System.out.println("Error registering user: " + e.getMessage());
-        }
+    private static final ConcurrentHashMap<String, UserType> users = new ConcurrentHashMap<>();
+    // Keeps the lines of registrations made at the same time from interleaving in the file
+    private static final Object fileLock = new Object();
+
+    static {
+        loadUsers();
     }
 
-    public static boolean loginUser(String username) {
-        try (Scanner scanner = new Scanner(new File(USERS_FILE))) {
+    private static void loadUsers() {
+        File file = new File(USERS_FILE);
+        if (!file.exists()) {
+            return;
+        }
+        try (Scanner scanner = new Scanner(file)) {
             while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                String[] parts = line.split(",");
-                if (parts[0].equals(username)) {
-                    System.out.println("Login successful.");
-                    return true;
+                String[] parts = scanner.nextLine().split(",");
+                if (parts.length < 2) {
+                    continue;
+                }
+                try {
+                    // The first line for a username wins, as it did when the file was scanned on every login
+                    users.putIfAbsent(parts[0], UserType.valueOf(parts[1].trim()));
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Error loading user " + parts[0] + ": " + e.getMessage());
                 }
             }
         } catch (FileNotFoundException e) {
             System.out.println("Error: Users file not found.");
         }
+    }
+
+    // Returns false if the username is taken or cannot be stored
+    public static boolean registerUser(String username, UserType type) {
+        if (username.isEmpty() || username.contains(",")) {
+            System.out.println("Error registering user: username must not be empty or contain commas.");
+            return false;
+        }
+        if (users.putIfAbsent(username, type) != null) {
+            System.out.println("User already exists. Please choose another username.");
+            return false;
+        }
+        synchronized (fileLock) {
+            try (FileWriter writer = new FileWriter(USERS_FILE, true)) {
+                writer.write(username + "," + type + "\n");
+            } catch (IOException e) {
+                users.remove(username);
+                System.out.println("Error registering user: " + e.getMessage());
+                return false;
+            }
+        }
+        System.out.println("User registered successfully.");
+        return true;
+    }
+
+    public static boolean isRegistered(String username) {
+        return users.containsKey(username);
+    }
+
+    public static boolean loginUser(String username) {
+        if (users.containsKey(username)) {
+            System.out.println("Login successful.");
+            return true;
+        }
         System.out.println("Error: User not found.");
         return false;
     }
 
     public static UserType getUserType(String username) {
-        try (Scanner scanner = new Scanner(new File(USERS_FILE))) {
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                String[] parts = line.split(",");
-                if (parts[0].equals(username)) {
-                    return UserType.valueOf(parts[1]);
-                }
-            }
-        } catch (FileNotFoundException e) {
-            System.out.println("Error: Users file not found.");
-        }
-        return null;
+        return users.get(username);
+    }
+
+    public static int getUserCount() {
+        return users.size();
     }
 }
@@ -0,0 +1,37 @@
+package FinanceTrackerSystem.Alerts;
+
+import FinanceTrackerSystem.Models.BudgetAlert;
+
+/**
+ * Destination for budget alerts raised in the Finance Tracker System.
+ * Sinks are registered with
+ * {@link FinanceTrackerSystem.Controllers.BudgetAlertController} and receive
+ * every alert raised after registration.
+ *
+ * <h2>Implementations</h2>
+ * <ul>
+ * <li>{@link ConsoleAlertSink} - Prints alerts to standard output.</li>
+ * <li>{@link FileAlertSink} - Appends alerts to a text file.</li>
+ * <li>{@link QueueAlertSink} - Hands alerts to an in-process queue for
+ * consumers on other threads.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * Alerts are published while the owning user's session lock is held, and
+ * alerts of different users may be published concurrently. Implementations
+ * must be thread-safe and should return quickly.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public interface BudgetAlertSink {
+
+    /**
+     * Delivers an alert to this sink.
+     *
+     * @param alert The alert raised.
+     */
+    void publish(BudgetAlert alert);
+}
@@ -0,0 +1,30 @@
+package FinanceTrackerSystem.Alerts;
+
+import FinanceTrackerSystem.Models.BudgetAlert;
+
+/**
+ * Budget alert sink that prints every alert to standard output. This is the
+ * sink registered by default.
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>thread-safe</b>; it holds no state.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class ConsoleAlertSink implements BudgetAlertSink {
+
+    /**
+     * Prints the alert to standard output.
+     *
+     * @param alert The alert raised.
+     */
+    @Override
+    public void publish(BudgetAlert alert) {
+        System.out.println("ALERT: Budget \"" + alert.getBudgetName() + "\" has reached "
+                + alert.getThresholdPercent() + "% (" + alert.getProgressAmount() + " of "
+                + alert.getBudgetAmount() + ").");
+    }
+}
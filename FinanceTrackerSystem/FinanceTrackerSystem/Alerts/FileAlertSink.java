@@ -0,0 +1,55 @@
+package FinanceTrackerSystem.Alerts;
+
+import java.io.FileWriter;
+import java.io.IOException;
+
+import FinanceTrackerSystem.Models.BudgetAlert;
+
+/**
+ * Budget alert sink that appends every alert as one line to a text file.
+ *
+ * <h2>Line Format</h2>
+ * <p>
+ * {@code RAISED_AT,USER_ID,BUDGET_ID,THRESHOLD,PROGRESS,AMOUNT,BUDGET_NAME},
+ * with the budget name last so that it may contain commas.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>thread-safe</b>. Writes are synchronized so that lines of
+ * concurrent alerts never interleave.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class FileAlertSink implements BudgetAlertSink {
+    /** Path of the file alerts are appended to. */
+    private final String alertsFile;
+
+    /**
+     * Constructs a sink appending to the given file.
+     *
+     * @param alertsFile Path of the alert file; created on first alert.
+     */
+    public FileAlertSink(String alertsFile) {
+        this.alertsFile = alertsFile;
+    }
+
+    /**
+     * Appends the alert to the file. Write errors are reported and the alert is
+     * dropped.
+     *
+     * @param alert The alert raised.
+     */
+    @Override
+    public synchronized void publish(BudgetAlert alert) {
+        try (FileWriter fw = new FileWriter(alertsFile, true)) {
+            fw.write(alert.getRaisedAt() + "," + alert.getUserId() + "," + alert.getBudgetId() + ","
+                    + alert.getThresholdPercent() + "," + alert.getProgressAmount() + ","
+                    + alert.getBudgetAmount() + "," + alert.getBudgetName() + System.lineSeparator());
+        } catch (IOException e) {
+            System.out.println("Error saving budget alert: " + e.getMessage());
+        }
+    }
+}
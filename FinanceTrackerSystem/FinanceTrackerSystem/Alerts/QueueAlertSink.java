@@ -0,0 +1,71 @@
+package FinanceTrackerSystem.Alerts;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import FinanceTrackerSystem.Models.BudgetAlert;
+
+/**
+ * Budget alert sink that hands every alert to an in-process queue, so that
+ * alerts can be consumed on another thread (e.g., a notifier) without slowing
+ * down the thread recording transactions.
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>
+ * QueueAlertSink queueSink = new QueueAlertSink();
+ * BudgetAlertController.addSink(queueSink);
+ * BudgetAlert alert = queueSink.getQueue().take();
+ * </pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>thread-safe</b>; it delegates to a
+ * {@link BlockingQueue}.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class QueueAlertSink implements BudgetAlertSink {
+    /** Queue the alerts are handed to. */
+    private final BlockingQueue<BudgetAlert> queue;
+
+    /**
+     * Constructs a sink with an unbounded queue.
+     */
+    public QueueAlertSink() {
+        this(new LinkedBlockingQueue<>());
+    }
+
+    /**
+     * Constructs a sink handing alerts to the given queue.
+     *
+     * @param queue Queue the alerts are handed to.
+     */
+    public QueueAlertSink(BlockingQueue<BudgetAlert> queue) {
+        this.queue = queue;
+    }
+
+    /**
+     * Offers the alert to the queue. If a bounded queue is full, the alert is
+     * dropped and reported rather than blocking the publisher.
+     *
+     * @param alert The alert raised.
+     */
+    @Override
+    public void publish(BudgetAlert alert) {
+        if (!queue.offer(alert)) {
+            System.out.println("Budget alert queue is full, dropping alert for " + alert.getBudgetName() + ".");
+        }
+    }
+
+    /**
+     * Returns the queue the alerts are handed to.
+     *
+     * @return The alert queue.
+     */
+    public BlockingQueue<BudgetAlert> getQueue() {
+        return queue;
+    }
+}
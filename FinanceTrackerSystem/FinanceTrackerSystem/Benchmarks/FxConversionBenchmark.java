@@ -0,0 +1,170 @@
+package FinanceTrackerSystem.Benchmarks;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import FinanceTrackerSystem.Controllers.CurrencyController;
+
+/**
+ * Measures the cost of converting a year of transaction history into the base
+ * currency in the Finance Tracker System.
+ *
+ * <p>
+ * Two strategies are compared over the same synthetic history:
+ * <ul>
+ * <li><b>per-transaction lookup</b>: one interpolated lookup in the sorted rate
+ * store per transaction, via
+ * {@link CurrencyController#getInterpolatedRate(String, LocalDate)}.</li>
+ * <li><b>cached rate vector</b>: the per-day rate vector of each currency is
+ * resolved once per pass, then each transaction reads one array element, as
+ * done by budget aggregation.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Typical Usage:
+ *
+ * <pre>
+ * java FinanceTrackerSystem.Benchmarks.FxConversionBenchmark [transactions] [rateFile]
+ * </pre>
+ *
+ * Without a rate file, a temporary file with weekly rates for the year is
+ * generated.
+ * </p>
+ */
+public class FxConversionBenchmark {
+
+    /** Currencies used by the synthetic history. */
+    private static final String[] CURRENCIES = { "INR", "USD", "EUR", "GBP" };
+
+    /** First day of the synthetic year. */
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    /** Number of measured passes per strategy. */
+    private static final int PASSES = 10;
+
+    /**
+     * Entry point for the benchmark.
+     *
+     * @param args Optional number of transactions and optional rate file path.
+     * @throws IOException If the temporary rate file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        int transactionCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        if (args.length > 1) {
+            CurrencyController.loadRates(args[1]);
+        } else {
+            File ratesFile = writeWeeklyRates();
+            CurrencyController.loadRates(ratesFile.getPath());
+            ratesFile.delete();
+        }
+
+        Random random = new Random(42);
+        double[] amounts = new double[transactionCount];
+        String[] currencies = new String[transactionCount];
+        LocalDate[] dates = new LocalDate[transactionCount];
+        for (int i = 0; i < transactionCount; i++) {
+            amounts[i] = 1 + random.nextInt(10_000);
+            currencies[i] = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            dates[i] = START.plusDays(random.nextInt(365));
+        }
+
+        System.out.printf("Converting %,d transactions across one year into %s%n", transactionCount,
+                CurrencyController.BASE_CURRENCY);
+        for (int warmup = 0; warmup < 3; warmup++) {
+            perTransactionLookup(amounts, currencies, dates);
+            cachedRateVector(amounts, currencies, dates);
+        }
+
+        long lookupNanos = 0;
+        long vectorNanos = 0;
+        double lookupTotal = 0;
+        double vectorTotal = 0;
+        for (int pass = 0; pass < PASSES; pass++) {
+            long start = System.nanoTime();
+            lookupTotal = perTransactionLookup(amounts, currencies, dates);
+            lookupNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            vectorTotal = cachedRateVector(amounts, currencies, dates);
+            vectorNanos += System.nanoTime() - start;
+        }
+        report("per-transaction lookup", lookupNanos, transactionCount, lookupTotal);
+        report("cached rate vector", vectorNanos, transactionCount, vectorTotal);
+    }
+
+    /**
+     * Converts every transaction with its own interpolated lookup.
+     *
+     * @param amounts    Transaction amounts.
+     * @param currencies Transaction currencies.
+     * @param dates      Transaction dates.
+     * @return Total in the base currency.
+     */
+    private static double perTransactionLookup(double[] amounts, String[] currencies, LocalDate[] dates) {
+        double total = 0;
+        for (int i = 0; i < amounts.length; i++) {
+            total += amounts[i] * CurrencyController.getInterpolatedRate(currencies[i], dates[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Converts every transaction through the cached per-day rate vectors.
+     *
+     * @param amounts    Transaction amounts.
+     * @param currencies Transaction currencies.
+     * @param dates      Transaction dates.
+     * @return Total in the base currency.
+     */
+    private static double cachedRateVector(double[] amounts, String[] currencies, LocalDate[] dates) {
+        Map<String, CurrencyController.RateVector> vectors = new HashMap<>();
+        double total = 0;
+        for (int i = 0; i < amounts.length; i++) {
+            CurrencyController.RateVector vector = vectors.computeIfAbsent(currencies[i],
+                    CurrencyController::getRateVector);
+            total += amounts[i] * vector.rateOn(dates[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Prints the average cost of one strategy.
+     *
+     * @param name             Strategy name.
+     * @param nanos            Total measured time in nanoseconds.
+     * @param transactionCount Transactions per pass.
+     * @param total            Converted total of the last pass.
+     */
+    private static void report(String name, long nanos, int transactionCount, double total) {
+        double millisPerPass = nanos / 1e6 / PASSES;
+        double nanosPerTransaction = (double) nanos / PASSES / transactionCount;
+        System.out.printf("%-24s %10.2f ms/pass %8.2f ns/transaction (total %.2f)%n", name, millisPerPass,
+                nanosPerTransaction, total);
+    }
+
+    /**
+     * Writes a temporary rate file with one rate per currency per week.
+     *
+     * @return The temporary file.
+     * @throws IOException If the file cannot be written.
+     */
+    private static File writeWeeklyRates() throws IOException {
+        File file = File.createTempFile("fx-rates", ".txt");
+        Random random = new Random(7);
+        double[] base = { 1.0, 85.0, 95.0, 112.0 };
+        try (FileWriter fw = new FileWriter(file)) {
+            for (int week = 0; week <= 53; week++) {
+                for (int c = 1; c < CURRENCIES.length; c++) {
+                    base[c] *= 1 + (random.nextDouble() - 0.5) / 50;
+                    fw.write(START.plusWeeks(week) + "," + CURRENCIES[c] + "," + base[c] + System.lineSeparator());
+                }
+            }
+        }
+        return file;
+    }
+}
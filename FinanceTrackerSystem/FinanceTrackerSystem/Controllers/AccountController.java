@@ -1,17 +1,18 @@
 package FinanceTrackerSystem.Controllers;
 
-import static FinanceTrackerSystem.Controllers.UserController.currentUser;
-
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 import FinanceTrackerSystem.Models.Account;
+import FinanceTrackerSystem.Models.User;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * Provides static methods to manage user accounts in the Finance Tracker
  * System.
  * This controller interacts with the currently logged-in user
- * ({@code currentUser}) and
+ * ({@link UserSession}) and
  * performs operations such as adding, viewing, editing, deleting accounts,
  * transferring funds,
  * and retrieving account IDs.
@@ -32,11 +33,12 @@ import FinanceTrackerSystem.Models.Account;
  * <h2>Usage Example</h2>
  * 
  * <pre>
- * AccountController.addAccount("Savings", 1000.0);
- * AccountController.viewAccounts();
- * AccountController.editAccount("Savings", "Emergency Fund", 1200.0);
- * AccountController.transferFunds("Savings", "Checking", 200.0);
- * UUID id = AccountController.getAccountIdByName("Checking");
+ * AccountController.addAccount(session, "Savings", 1000.0);
+ * AccountController.addAccount(session, "Travel", 500.0, "USD");
+ * AccountController.viewAccounts(session);
+ * AccountController.editAccount(session, "Savings", "Emergency Fund", 1200.0);
+ * AccountController.transferFunds(session, "Savings", "Checking", 200.0);
+ * UUID id = AccountController.getAccountIdByName(session, "Checking");
  * </pre>
  *
  * <h2>Dependencies</h2>
@@ -44,18 +46,17 @@ import FinanceTrackerSystem.Models.Account;
  * <li>{@link FinanceTrackerSystem.Models.Account} - The account model being
  * managed.</li>
  * <li>{@link FinanceTrackerSystem.Models.User} - The user model, accessed via
- * {@code currentUser}.</li>
- * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For accessing
- * {@code currentUser}
- * and saving user details.</li>
+ * {@link UserSession}.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For persisting
+ * user details.</li>
  * </ul>
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is <b>not thread-safe</b>. All operations assume single-threaded
- * access to {@code currentUser}.
- * If used in a multi-threaded environment, external synchronization is
- * required.
+ * This class is <b>thread-safe</b>. Every operation runs on the user carried by
+ * the {@link UserSession} passed in, while holding that user's lock, so
+ * operations of different users run in parallel and operations of the same
+ * user never interleave.
  * </p>
  *
  * <h2>Validation</h2>
@@ -82,21 +83,52 @@ public class AccountController {
      * initial balance.
      * The account is added to the user's account list and persisted.
      *
+     * @param session        Session of the logged-in user.
      * @param accountName    Name of the new account.
      * @param initialBalance Initial balance for the account.
      * @return true if the account is added and user details are saved successfully;
-     *         false otherwise.
+     *         false otherwise, including when the currency has no exchange rate.
      */
-    public static boolean addAccount(String accountName, double initialBalance) {
-        if (currentUser != null) {
-            Account newAccount = new Account(accountName, initialBalance);
-            currentUser.getAccounts().add(newAccount);
-            if (UserController.saveUsersDetails()) {
-                System.out.println("Account added successfully!");
-                return true;
-            } else {
-                System.out.println("Failed to save user details after adding account.");
-                return false;
+    public static boolean addAccount(UserSession session, String accountName, double initialBalance) {
+        return addAccount(session, accountName, initialBalance, null);
+    }
+
+    /**
+     * Creates a new account for the current user with the specified name, initial
+     * balance and currency.
+     * The account is added to the user's account list and persisted.
+     *
+     * @param session        Session of the logged-in user.
+     * @param accountName    Name of the new account.
+     * @param initialBalance Initial balance for the account.
+     * @param currency       Currency code of the account, or null for the base
+     *                       currency.
+     * @return true if the account is added and user details are saved successfully;
+     *         false otherwise, including when the currency has no exchange rate.
+     */
+    public static boolean addAccount(UserSession session, String accountName, double initialBalance,
+            String currency) {
+        if (currency != null && !CurrencyController.isKnownCurrency(currency)) {
+            System.out.println("Unknown currency " + CurrencyController.normalize(currency)
+                    + ". Add an exchange rate for it first.");
+            return false;
+        }
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                Account newAccount = new Account(accountName, initialBalance,
+                        currency == null ? null : CurrencyController.normalize(currency));
+                currentUser.getAccounts().add(newAccount);
+                if (UserController.saveUsersDetails(session)) {
+                    System.out.println("Account added successfully!");
+                    return true;
+                } else {
+                    System.out.println("Failed to save user details after adding account.");
+                    return false;
+                }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -109,16 +141,24 @@ public class AccountController {
      * Prints "No accounts found." if there are no accounts.
      * Each account is displayed using its {@link Account#toString()}
      * representation.
+     *
+     * @param session Session of the logged-in user.
      */
-    public static void viewAccounts() {
-        if (currentUser != null) {
-            if (currentUser.getAccounts().isEmpty()) {
-                System.out.println("No accounts found.");
-            } else {
-                System.out.println("User Accounts:");
-                for (Account account : currentUser.getAccounts()) {
-                    System.out.println(account);
+    public static void viewAccounts(UserSession session) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                if (currentUser.getAccounts().isEmpty()) {
+                    System.out.println("No accounts found.");
+                } else {
+                    System.out.println("User Accounts:");
+                    for (Account account : currentUser.getAccounts()) {
+                        System.out.println(account);
+                    }
                 }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -130,27 +170,34 @@ public class AccountController {
      * list.
      * If the account is found and deleted, user details are persisted.
      *
+     * @param session     Session of the logged-in user.
      * @param accountName Name of the account to delete.
      * @return true if the account is deleted and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean deleteAccount(String accountName) {
-        if (currentUser != null) {
-            List<Account> accounts = currentUser.getAccounts();
-            for (Account account : accounts) {
-                if (account.getAccountName().equals(accountName)) {
-                    accounts.remove(account);
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Account deleted successfully!");
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after deleting account.");
-                        return false;
+    public static boolean deleteAccount(UserSession session, String accountName) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                List<Account> accounts = currentUser.getAccounts();
+                for (Account account : accounts) {
+                    if (account.getAccountName().equals(accountName)) {
+                        accounts.remove(account);
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Account deleted successfully!");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after deleting account.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Account not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Account not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
@@ -162,30 +209,38 @@ public class AccountController {
      * If the account is found, updates its name and balance, then persists user
      * details.
      *
+     * @param session        Session of the logged-in user.
      * @param accountName    Name of the account to edit.
      * @param newAccountName New name for the account.
      * @param newBalance     New balance for the account.
      * @return true if the account is updated and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean editAccount(String accountName, String newAccountName, double newBalance) {
-        if (currentUser != null) {
-            List<Account> accounts = currentUser.getAccounts();
-            for (Account account : accounts) {
-                if (account.getAccountName().equals(accountName)) {
-                    account.setAccountName(newAccountName);
-                    account.setBalance(newBalance);
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Account updated successfully!");
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after updating account.");
-                        return false;
+    public static boolean editAccount(UserSession session, String accountName, String newAccountName,
+            double newBalance) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                List<Account> accounts = currentUser.getAccounts();
+                for (Account account : accounts) {
+                    if (account.getAccountName().equals(accountName)) {
+                        account.setAccountName(newAccountName);
+                        account.setBalance(newBalance);
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Account updated successfully!");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after updating account.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Account not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Account not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
@@ -196,46 +251,57 @@ public class AccountController {
      * Transfers funds from one account to another within the current user's
      * accounts.
      * Ensures both accounts exist and the source account has sufficient funds.
+     * The amount is given in the source account's currency and converted into the
+     * destination account's currency at today's rate.
      * Updates balances atomically and persists user details.
      *
+     * @param session                Session of the logged-in user.
      * @param sourceAccountName      Name of the account to transfer funds from.
      * @param destinationAccountName Name of the account to transfer funds to.
      * @param amount                 Amount to transfer.
      * @return true if the transfer is successful and user details are saved; false
      *         otherwise.
      */
-    public static boolean transferFunds(String sourceAccountName, String destinationAccountName, double amount) {
-        if (currentUser != null) {
-            Account sourceAccount = null;
-            Account destinationAccount = null;
+    public static boolean transferFunds(UserSession session, String sourceAccountName,
+            String destinationAccountName, double amount) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                Account sourceAccount = null;
+                Account destinationAccount = null;
 
-            for (Account account : currentUser.getAccounts()) {
-                if (account.getAccountName().equals(sourceAccountName)) {
-                    sourceAccount = account;
-                } else if (account.getAccountName().equals(destinationAccountName)) {
-                    destinationAccount = account;
+                for (Account account : currentUser.getAccounts()) {
+                    if (account.getAccountName().equals(sourceAccountName)) {
+                        sourceAccount = account;
+                    } else if (account.getAccountName().equals(destinationAccountName)) {
+                        destinationAccount = account;
+                    }
                 }
-            }
 
-            if (sourceAccount == null || destinationAccount == null) {
-                System.out.println("Source or destination account not found.");
-                return false;
-            }
+                if (sourceAccount == null || destinationAccount == null) {
+                    System.out.println("Source or destination account not found.");
+                    return false;
+                }
 
-            if (sourceAccount.getBalance() < amount) {
-                System.out.println("Insufficient funds in the source account.");
-                return false;
-            }
+                if (sourceAccount.getBalance() < amount) {
+                    System.out.println("Insufficient funds in the source account.");
+                    return false;
+                }
 
-            sourceAccount.setBalance(sourceAccount.getBalance() - amount);
-            destinationAccount.setBalance(destinationAccount.getBalance() + amount);
+                sourceAccount.setBalance(sourceAccount.getBalance() - amount);
+                destinationAccount.setBalance(destinationAccount.getBalance() + CurrencyController.convert(amount,
+                        sourceAccount.getCurrency(), destinationAccount.getCurrency(), LocalDate.now()));
 
-            if (UserController.saveUsersDetails()) {
-                System.out.println("Funds transferred successfully!");
-                return true;
-            } else {
-                System.out.println("Failed to save user details after transferring funds.");
-                return false;
+                if (UserController.saveUsersDetails(session)) {
+                    System.out.println("Funds transferred successfully!");
+                    return true;
+                } else {
+                    System.out.println("Failed to save user details after transferring funds.");
+                    return false;
+                }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -247,18 +313,25 @@ public class AccountController {
      * Retrieves the unique ID (UUID) of an account by its name.
      * Useful for cross-referencing accounts in transactions and budgets.
      *
+     * @param session     Session of the logged-in user.
      * @param accountName Name of the account.
      * @return UUID of the account if found; null otherwise.
      */
-    public static UUID getAccountIdByName(String accountName) {
-        if (currentUser != null) {
-            for (Account account : currentUser.getAccounts()) {
-                if (account.getAccountName().equals(accountName)) {
-                    return account.getAccountId();
+    public static UUID getAccountIdByName(UserSession session, String accountName) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Account account : currentUser.getAccounts()) {
+                    if (account.getAccountName().equals(accountName)) {
+                        return account.getAccountId();
+                    }
                 }
+                System.out.println("Account not found.");
+                return null;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Account not found.");
-            return null;
         } else {
             System.out.println("User not found.");
             return null;
@@ -0,0 +1,209 @@
+package FinanceTrackerSystem.Controllers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import FinanceTrackerSystem.Alerts.BudgetAlertSink;
+import FinanceTrackerSystem.Alerts.ConsoleAlertSink;
+import FinanceTrackerSystem.Models.Budget;
+import FinanceTrackerSystem.Models.BudgetAlert;
+import FinanceTrackerSystem.Models.Transaction;
+import FinanceTrackerSystem.Models.User;
+import FinanceTrackerSystem.Models.UserSession;
+
+/**
+ * Provides static methods to keep budget progress up to date as transactions
+ * arrive and to raise alerts when a budget crosses 50%, 80% and 100% of its
+ * budget amount in the Finance Tracker System.
+ *
+ * <h2>Responsibilities</h2>
+ * <ul>
+ * <li>Apply a single added or removed transaction to the progress of the
+ * budgets of its category.</li>
+ * <li>Detect threshold crossings by comparing the new progress with the alert
+ * level stored on the budget.</li>
+ * <li>Publish each crossing to every registered {@link BudgetAlertSink}.</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>
+ * QueueAlertSink queueSink = new QueueAlertSink();
+ * BudgetAlertController.addSink(queueSink);
+ * BudgetAlertController.addSink(new FileAlertSink(BudgetAlertController.BUDGET_ALERTS_FILE));
+ * BudgetAlertController.applyTransaction(session, transaction, true);
+ * BudgetAlert alert = queueSink.getQueue().poll();
+ * </pre>
+ *
+ * <h2>Incremental Detection</h2>
+ * <p>
+ * Only the budgets of the transaction's category are visited, through
+ * {@link User#getBudgetsByCategory(java.util.UUID)}, and for each of them the
+ * transaction's amount is added to or subtracted from the progress. Each budget
+ * remembers how many thresholds it has already crossed, so detecting a crossing
+ * is a constant-time comparison and each crossing is alerted once. When
+ * progress falls back below a threshold (e.g., a transaction is deleted), the
+ * level is lowered so the threshold alerts again when it is crossed again.
+ * </p>
+ *
+ * <h2>Dependencies</h2>
+ * <ul>
+ * <li>{@link FinanceTrackerSystem.Models.Budget} - Holds progress and the alert
+ * level.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.CurrencyController} - For
+ * converting transaction amounts into the base currency.</li>
+ * <li>{@link FinanceTrackerSystem.Alerts.BudgetAlertSink} - Destinations of the
+ * alerts.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>thread-safe</b>. Budgets are only updated while holding the
+ * owning user's lock, and the sink list is a copy-on-write list, so sinks can
+ * be registered while alerts are being published.
+ * </p>
+ *
+ * <h2>Extensibility</h2>
+ * <p>
+ * New destinations (e.g., e-mail or push notifications) are added by
+ * implementing {@link BudgetAlertSink} and registering it with
+ * {@link #addSink(BudgetAlertSink)}.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class BudgetAlertController {
+    /**
+     * Path to the file where budget alerts are appended when a
+     * {@link FinanceTrackerSystem.Alerts.FileAlertSink} is registered.
+     */
+    public final static String BUDGET_ALERTS_FILE = "E:\\CODE GALLATA\\JavaCLICorner\\FinanceTrackerSystem\\Files\\BudgetAlerts.txt";
+
+    /**
+     * Alert thresholds as percentages of the budget amount, in ascending order.
+     */
+    private static final int[] THRESHOLD_PERCENTS = { 50, 80, 100 };
+
+    /**
+     * Sinks every alert is published to. The console sink is registered by
+     * default.
+     */
+    private static final List<BudgetAlertSink> sinks = new CopyOnWriteArrayList<>(
+            List.of(new ConsoleAlertSink()));
+
+    /**
+     * Registers a sink to receive every alert raised from now on.
+     *
+     * @param sink The sink to register.
+     */
+    public static void addSink(BudgetAlertSink sink) {
+        sinks.add(sink);
+    }
+
+    /**
+     * Unregisters a sink.
+     *
+     * @param sink The sink to unregister.
+     * @return true if the sink was registered; false otherwise.
+     */
+    public static boolean removeSink(BudgetAlertSink sink) {
+        return sinks.remove(sink);
+    }
+
+    /**
+     * Unregisters all sinks, including the default console sink.
+     */
+    public static void clearSinks() {
+        sinks.clear();
+    }
+
+    /**
+     * Applies an added or removed transaction to the progress of every budget of
+     * its category whose period contains the transaction date, then checks those
+     * budgets for threshold crossings.
+     * <p>
+     * The period check matches
+     * {@link BudgetController#calculateBudgetProgressByTransactions(UserSession)},
+     * so incremental progress stays equal to a full recalculation.
+     * </p>
+     *
+     * @param session     Session of the logged-in user.
+     * @param transaction The transaction added or removed.
+     * @param added       true if the transaction was added; false if it was
+     *                    removed.
+     */
+    public static void applyTransaction(UserSession session, Transaction transaction, boolean added) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                List<Budget> budgets = currentUser.getBudgetsByCategory(transaction.getCategoryId());
+                if (budgets.isEmpty()) {
+                    return;
+                }
+                double baseAmount = transaction.getAmount()
+                        * CurrencyController.getRate(transaction.getCurrency(), transaction.getTransactionDate());
+                for (Budget budget : budgets) {
+                    if (transaction.getTransactionDate().isAfter(budget.getStartDate()) &&
+                            transaction.getTransactionDate().isBefore(budget.getEndDate())) {
+                        budget.setProgressAmount(budget.getProgressAmount() + (added ? baseAmount : -baseAmount));
+                        checkThresholds(session, budget);
+                    }
+                }
+            } finally {
+                session.unlock();
+            }
+        } else {
+            System.out.println("User not found.");
+        }
+    }
+
+    /**
+     * Compares a budget's progress with its stored alert level and publishes an
+     * alert for every threshold crossed upwards since the last check. The alert
+     * level is then updated, lowering it if progress fell below a threshold.
+     * Budgets with a non-positive amount never alert.
+     *
+     * @param session Session of the user owning the budget.
+     * @param budget  The budget to check.
+     */
+    public static void checkThresholds(UserSession session, Budget budget) {
+        if (session != null) {
+            session.lock();
+            try {
+                int level = 0;
+                if (budget.getBudgetAmount() > 0) {
+                    double percent = budget.getProgressAmount() * 100 / budget.getBudgetAmount();
+                    while (level < THRESHOLD_PERCENTS.length && percent >= THRESHOLD_PERCENTS[level]) {
+                        level++;
+                    }
+                }
+                for (int i = budget.getAlertLevel(); i < level; i++) {
+                    publish(new BudgetAlert(session.getUser().getId(), budget, THRESHOLD_PERCENTS[i]));
+                }
+                budget.setAlertLevel(level);
+            } finally {
+                session.unlock();
+            }
+        } else {
+            System.out.println("User not found.");
+        }
+    }
+
+    /**
+     * Publishes an alert to every registered sink. A failing sink is reported and
+     * does not prevent delivery to the others.
+     *
+     * @param alert The alert to publish.
+     */
+    private static void publish(BudgetAlert alert) {
+        for (BudgetAlertSink sink : sinks) {
+            try {
+                sink.publish(alert);
+            } catch (RuntimeException e) {
+                System.out.println("Error publishing budget alert: " + e.getMessage());
+            }
+        }
+    }
+}
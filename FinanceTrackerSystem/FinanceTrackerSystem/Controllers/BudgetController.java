@@ -1,12 +1,14 @@
 package FinanceTrackerSystem.Controllers;
 
-import static FinanceTrackerSystem.Controllers.UserController.currentUser;
-
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import FinanceTrackerSystem.Models.Budget;
 import FinanceTrackerSystem.Models.Transaction;
+import FinanceTrackerSystem.Models.User;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * Provides static methods to manage budgets for the currently logged-in user in
@@ -14,7 +16,7 @@ import FinanceTrackerSystem.Models.Transaction;
  * This controller supports creating, viewing, editing, deleting budgets, and
  * calculating budget progress
  * based on user transactions. All operations are performed on the budgets
- * associated with {@code currentUser}.
+ * associated with {@link UserSession}.
  *
  * <h2>Responsibilities</h2>
  * <ul>
@@ -24,19 +26,19 @@ import FinanceTrackerSystem.Models.Transaction;
  * description.</li>
  * <li>Delete budgets by name.</li>
  * <li>Calculate and update budget progress by summing relevant transaction
- * amounts.</li>
+ * amounts, and check the budgets for alert threshold crossings.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
  * 
  * <pre>
- * BudgetController.createBudget("Groceries", "August Groceries", 500.0, LocalDate.of(2025, 8, 1),
+ * BudgetController.createBudget(session, "Groceries", "August Groceries", 500.0, LocalDate.of(2025, 8, 1),
  *         LocalDate.of(2025, 8, 31), "Monthly groceries");
- * BudgetController.viewBudgets();
- * BudgetController.editBudget("August Groceries", "September Groceries", 600.0, LocalDate.of(2025, 9, 1),
+ * BudgetController.viewBudgets(session);
+ * BudgetController.editBudget(session, "August Groceries", "September Groceries", 600.0, LocalDate.of(2025, 9, 1),
  *         LocalDate.of(2025, 9, 30), "Monthly groceries");
- * BudgetController.deleteBudget("September Groceries");
- * BudgetController.calculateBudgetProgressByTransactions();
+ * BudgetController.deleteBudget(session, "September Groceries");
+ * BudgetController.calculateBudgetProgressByTransactions(session);
  * </pre>
  *
  * <h2>Dependencies</h2>
@@ -45,20 +47,21 @@ import FinanceTrackerSystem.Models.Transaction;
  * managed.</li>
  * <li>{@link FinanceTrackerSystem.Models.Transaction} - Used for calculating
  * budget progress.</li>
- * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For accessing
- * {@code currentUser}
- * and saving user details.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For persisting
+ * user details.</li>
  * <li>{@link FinanceTrackerSystem.Controllers.CategoryController} - For
  * category lookup by
  * name.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.BudgetAlertController} - For
+ * raising budget alerts when progress crosses a threshold.</li>
  * </ul>
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is <b>not thread-safe</b>. All operations assume single-threaded
- * access to {@code currentUser}.
- * If used in a multi-threaded environment, external synchronization is
- * required.
+ * This class is <b>thread-safe</b>. Every operation runs on the user carried by
+ * the {@link UserSession} passed in, while holding that user's lock, so
+ * operations of different users run in parallel and operations of the same
+ * user never interleave.
  * </p>
  *
  * <h2>Validation</h2>
@@ -71,8 +74,8 @@ import FinanceTrackerSystem.Models.Transaction;
  *
  * <h2>Extensibility</h2>
  * <p>
- * Additional budget operations (such as alerts, status, or reporting) can be
- * added as needed.
+ * Additional budget operations (such as status or reporting) can be added as
+ * needed.
  * </p>
  *
  * @author Guru Charan
@@ -82,8 +85,10 @@ public class BudgetController {
 
     /**
      * Creates a new budget for the current user under the specified category.
-     * The budget is added to the user's budget list and persisted.
+     * The budget is added to the user's budget list, its progress is calculated
+     * from the existing transactions, and it is persisted.
      *
+     * @param session      Session of the logged-in user.
      * @param categoryName Name of the category for the budget.
      * @param budgetName   Name of the new budget.
      * @param budgetAmount Amount allocated for the budget.
@@ -93,20 +98,34 @@ public class BudgetController {
      * @return true if the budget is created and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean createBudget(String categoryName, String budgetName, double budgetAmount, LocalDate startDate,
-            LocalDate endDate, String description) {
-        UUID categoryId = CategoryController.getCategoryIdByName(categoryName);
-        if (categoryId == null) {
-            System.out.println("Category not found.");
-            return false;
-        }
-        Budget newBudget = new Budget(categoryId, budgetName, budgetAmount, startDate, endDate, description);
-        currentUser.getBudgets().add(newBudget);
-        if (UserController.saveUsersDetails()) {
-            System.out.println("Budget created successfully!");
-            return true;
+    public static boolean createBudget(UserSession session, String categoryName, String budgetName,
+            double budgetAmount, LocalDate startDate, LocalDate endDate, String description) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                UUID categoryId = CategoryController.getCategoryIdByName(session, categoryName);
+                if (categoryId == null) {
+                    System.out.println("Category not found.");
+                    return false;
+                }
+                Budget newBudget = new Budget(categoryId, budgetName, budgetAmount, startDate, endDate, description);
+                currentUser.getBudgets().add(newBudget);
+                currentUser.invalidateBudgetIndex();
+                recalculateBudgetProgress(currentUser, newBudget, new HashMap<>());
+                BudgetAlertController.checkThresholds(session, newBudget);
+                if (UserController.saveUsersDetails(session)) {
+                    System.out.println("Budget created successfully!");
+                    return true;
+                } else {
+                    System.out.println("Failed to save user details after creating budget.");
+                    return false;
+                }
+            } finally {
+                session.unlock();
+            }
         } else {
-            System.out.println("Failed to save user details after creating budget.");
+            System.out.println("User not found.");
             return false;
         }
     }
@@ -115,16 +134,24 @@ public class BudgetController {
      * Displays all budgets belonging to the current user.
      * Prints "No budgets found." if there are no budgets.
      * Each budget is displayed using its {@link Budget#toString()} representation.
+     *
+     * @param session Session of the logged-in user.
      */
-    public static void viewBudgets() {
-        if (currentUser != null) {
-            if (currentUser.getBudgets().isEmpty()) {
-                System.out.println("No budgets found.");
-            } else {
-                System.out.println("User Budgets:");
-                for (Budget budget : currentUser.getBudgets()) {
-                    System.out.println(budget);
+    public static void viewBudgets(UserSession session) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                if (currentUser.getBudgets().isEmpty()) {
+                    System.out.println("No budgets found.");
+                } else {
+                    System.out.println("User Budgets:");
+                    for (Budget budget : currentUser.getBudgets()) {
+                        System.out.println(budget);
+                    }
                 }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -135,26 +162,34 @@ public class BudgetController {
      * Deletes a budget with the specified name from the current user's budget list.
      * If the budget is found and deleted, user details are persisted.
      *
+     * @param session    Session of the logged-in user.
      * @param budgetName Name of the budget to delete.
      * @return true if the budget is deleted and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean deleteBudget(String budgetName) {
-        if (currentUser != null) {
-            for (Budget budget : currentUser.getBudgets()) {
-                if (budget.getBudgetName().equals(budgetName)) {
-                    currentUser.getBudgets().remove(budget);
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Budget deleted successfully!");
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after deleting budget.");
-                        return false;
+    public static boolean deleteBudget(UserSession session, String budgetName) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Budget budget : currentUser.getBudgets()) {
+                    if (budget.getBudgetName().equals(budgetName)) {
+                        currentUser.getBudgets().remove(budget);
+                        currentUser.invalidateBudgetIndex();
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Budget deleted successfully!");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after deleting budget.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Budget not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Budget not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
@@ -164,8 +199,10 @@ public class BudgetController {
     /**
      * Edits the details of an existing budget.
      * If the budget is found, updates its name, amount, date range, and
-     * description, then persists user details.
+     * description, recalculates its progress for the new date range, then
+     * persists user details.
      *
+     * @param session         Session of the logged-in user.
      * @param budgetName      Name of the budget to edit.
      * @param newBudgetName   New name for the budget.
      * @param newBudgetAmount New amount for the budget.
@@ -175,27 +212,35 @@ public class BudgetController {
      * @return true if the budget is updated and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean editBudget(String budgetName, String newBudgetName, double newBudgetAmount,
-            LocalDate newStartDate, LocalDate newEndDate, String newDescription) {
-        if (currentUser != null) {
-            for (Budget budget : currentUser.getBudgets()) {
-                if (budget.getBudgetName().equals(budgetName)) {
-                    budget.setBudgetName(newBudgetName);
-                    budget.setBudgetAmount(newBudgetAmount);
-                    budget.setStartDate(newStartDate);
-                    budget.setEndDate(newEndDate);
-                    budget.setDescription(newDescription);
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Budget edited successfully!");
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after editing budget.");
-                        return false;
+    public static boolean editBudget(UserSession session, String budgetName, String newBudgetName,
+            double newBudgetAmount, LocalDate newStartDate, LocalDate newEndDate, String newDescription) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Budget budget : currentUser.getBudgets()) {
+                    if (budget.getBudgetName().equals(budgetName)) {
+                        budget.setBudgetName(newBudgetName);
+                        budget.setBudgetAmount(newBudgetAmount);
+                        budget.setStartDate(newStartDate);
+                        budget.setEndDate(newEndDate);
+                        budget.setDescription(newDescription);
+                        recalculateBudgetProgress(currentUser, budget, new HashMap<>());
+                        BudgetAlertController.checkThresholds(session, budget);
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Budget edited successfully!");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after editing budget.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Budget not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Budget not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
@@ -215,25 +260,61 @@ public class BudgetController {
      * <li>Have a transaction date after the budget's start date and before the
      * budget's end date.</li>
      * </ul>
-     * The resulting sum is set as the budget's progress amount.
+     * Amounts are converted into the base currency using the cached per-day rate
+     * vector of each currency, resolved once per calculation.
+     * The resulting sum is set as the budget's progress amount, and the budget is
+     * checked for alert threshold crossings.
+     * </p>
+     * <p>
+     * This is a full pass over budgets and transactions. Single transaction
+     * changes are applied incrementally through
+     * {@link BudgetAlertController#applyTransaction(UserSession, Transaction, boolean)}
+     * instead.
      * </p>
+     *
+     * @param session Session of the logged-in user.
      */
-    public static void calculateBudgetProgressByTransactions() {
-        if (currentUser != null) {
-            for (Budget budget : currentUser.getBudgets()) {
-                double totalSpent = 0;
-                for (Transaction transaction : currentUser.getTransactions()) {
-                    if (transaction.getCategoryId().equals(budget.getCategoryId()) &&
-                            transaction.getTransactionDate().isAfter(budget.getStartDate()) &&
-                            transaction.getTransactionDate().isBefore(budget.getEndDate())) {
-                        totalSpent += transaction.getAmount();
-                    }
+    public static void calculateBudgetProgressByTransactions(UserSession session) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                Map<String, CurrencyController.RateVector> rateVectors = new HashMap<>();
+                for (Budget budget : currentUser.getBudgets()) {
+                    recalculateBudgetProgress(currentUser, budget, rateVectors);
+                    BudgetAlertController.checkThresholds(session, budget);
                 }
-                budget.setProgressAmount(totalSpent);
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
         }
     }
 
+    /**
+     * Sets a budget's progress to the sum of the user's transactions in its
+     * category and period, converted into the base currency.
+     *
+     * @param currentUser The user owning the budget.
+     * @param budget      The budget to recalculate.
+     * @param rateVectors Rate vectors already resolved, by currency code; filled
+     *                    in as new currencies are met.
+     */
+    private static void recalculateBudgetProgress(User currentUser, Budget budget,
+            Map<String, CurrencyController.RateVector> rateVectors) {
+        double totalSpent = 0;
+        for (Transaction transaction : currentUser.getTransactions()) {
+            if (transaction.getCategoryId().equals(budget.getCategoryId()) &&
+                    transaction.getTransactionDate().isAfter(budget.getStartDate()) &&
+                    transaction.getTransactionDate().isBefore(budget.getEndDate())) {
+                CurrencyController.RateVector rates = rateVectors.computeIfAbsent(
+                        CurrencyController.normalize(transaction.getCurrency()),
+                        CurrencyController::getRateVector);
+                totalSpent += transaction.getAmount() * rates.rateOn(transaction.getTransactionDate());
+            }
+        }
+        budget.setProgressAmount(totalSpent);
+    }
+
 }
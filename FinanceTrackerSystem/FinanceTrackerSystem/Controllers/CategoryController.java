@@ -2,11 +2,11 @@ package FinanceTrackerSystem.Controllers;
 
 import FinanceTrackerSystem.Models.enums.CategoryType;
 
-import static FinanceTrackerSystem.Controllers.UserController.currentUser;
-
 import java.util.UUID;
 
 import FinanceTrackerSystem.Models.Category;
+import FinanceTrackerSystem.Models.User;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * Provides static methods to manage categories and subcategories for the
@@ -29,13 +29,13 @@ import FinanceTrackerSystem.Models.Category;
  * <h2>Usage Example</h2>
  * 
  * <pre>
- * CategoryController.addCategory(CategoryType.EXPENSE, "Groceries");
- * CategoryController.addSubCategory(CategoryType.EXPENSE, "Vegetables", "Groceries");
- * CategoryController.viewCategories();
- * CategoryController.editCategory("Groceries", "Food", CategoryType.EXPENSE);
- * CategoryController.deleteCategory("Food");
- * UUID id = CategoryController.getCategoryIdByName("Vegetables");
- * CategoryType type = CategoryController.getCategoryTypeById(id);
+ * CategoryController.addCategory(session, CategoryType.EXPENSE, "Groceries");
+ * CategoryController.addSubCategory(session, CategoryType.EXPENSE, "Vegetables", "Groceries");
+ * CategoryController.viewCategories(session);
+ * CategoryController.editCategory(session, "Groceries", "Food", CategoryType.EXPENSE);
+ * CategoryController.deleteCategory(session, "Food");
+ * UUID id = CategoryController.getCategoryIdByName(session, "Vegetables");
+ * CategoryType type = CategoryController.getCategoryTypeById(session, id);
  * </pre>
  *
  * <h2>Dependencies</h2>
@@ -44,17 +44,16 @@ import FinanceTrackerSystem.Models.Category;
  * managed.</li>
  * <li>{@link Models.enums.CategoryType} - Enum for category type (INCOME,
  * EXPENSE).</li>
- * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For accessing
- * {@code currentUser}
- * and saving user details.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For persisting
+ * user details.</li>
  * </ul>
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is <b>not thread-safe</b>. All operations assume single-threaded
- * access to {@code currentUser}.
- * If used in a multi-threaded environment, external synchronization is
- * required.
+ * This class is <b>thread-safe</b>. Every operation runs on the user carried by
+ * the {@link UserSession} passed in, while holding that user's lock, so
+ * operations of different users run in parallel and operations of the same
+ * user never interleave.
  * </p>
  *
  * <h2>Validation</h2>
@@ -80,21 +79,28 @@ public class CategoryController {
      * Adds a new main category for the current user.
      * The category is added to the user's category list and persisted.
      *
+     * @param session      Session of the logged-in user.
      * @param categoryType The type of the category (e.g., INCOME, EXPENSE).
      * @param categoryName The name of the new category.
      * @return true if the category is added and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean addCategory(CategoryType categoryType, String categoryName) {
-        if (currentUser != null) {
-            Category newCategory = new Category(categoryType, categoryName, false, null);
-            currentUser.getCategories().add(newCategory);
-            if (UserController.saveUsersDetails()) {
-                System.out.println("Category added successfully!");
-                return true;
-            } else {
-                System.out.println("Failed to save user details after adding category.");
-                return false;
+    public static boolean addCategory(UserSession session, CategoryType categoryType, String categoryName) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                Category newCategory = new Category(categoryType, categoryName, false, null);
+                currentUser.getCategories().add(newCategory);
+                if (UserController.saveUsersDetails(session)) {
+                    System.out.println("Category added successfully!");
+                    return true;
+                } else {
+                    System.out.println("Failed to save user details after adding category.");
+                    return false;
+                }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -107,29 +113,37 @@ public class CategoryController {
      * user.
      * The subcategory is linked to its parent and persisted.
      *
+     * @param session            Session of the logged-in user.
      * @param categoryType       The type of the subcategory.
      * @param categoryName       The name of the new subcategory.
      * @param parentCategoryName The name of the parent category.
      * @return true if the subcategory is added and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean addSubCategory(CategoryType categoryType, String categoryName, String parentCategoryName) {
-        if (currentUser != null) {
-            for (Category category : currentUser.getCategories()) {
-                if (category.getCategoryName().equals(parentCategoryName)) {
-                    Category newSubCategory = new Category(categoryType, categoryName, true, category);
-                    currentUser.getCategories().add(newSubCategory);
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Subcategory added successfully under " + parentCategoryName);
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after adding subcategory.");
-                        return false;
+    public static boolean addSubCategory(UserSession session, CategoryType categoryType, String categoryName,
+            String parentCategoryName) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Category category : currentUser.getCategories()) {
+                    if (category.getCategoryName().equals(parentCategoryName)) {
+                        Category newSubCategory = new Category(categoryType, categoryName, true, category);
+                        currentUser.getCategories().add(newSubCategory);
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Subcategory added successfully under " + parentCategoryName);
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after adding subcategory.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Parent category not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Parent category not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
@@ -141,16 +155,24 @@ public class CategoryController {
      * Prints "No categories found." if there are no categories.
      * Each category is displayed using its {@link Category#toString()}
      * representation.
+     *
+     * @param session Session of the logged-in user.
      */
-    public static void viewCategories() {
-        if (currentUser != null) {
-            if (currentUser.getCategories().isEmpty()) {
-                System.out.println("No categories found.");
-            } else {
-                System.out.println("User Categories:");
-                for (Category category : currentUser.getCategories()) {
-                    System.out.println(category);
+    public static void viewCategories(UserSession session) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                if (currentUser.getCategories().isEmpty()) {
+                    System.out.println("No categories found.");
+                } else {
+                    System.out.println("User Categories:");
+                    for (Category category : currentUser.getCategories()) {
+                        System.out.println(category);
+                    }
                 }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -162,29 +184,37 @@ public class CategoryController {
      * If the category is found, updates its name and type, then persists user
      * details.
      *
+     * @param session         Session of the logged-in user.
      * @param categoryName    The name of the category to edit.
      * @param newCategoryName The new name for the category.
      * @param newCategoryType The new type for the category.
      * @return true if the category is updated and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean editCategory(String categoryName, String newCategoryName, CategoryType newCategoryType) {
-        if (currentUser != null) {
-            for (Category category : currentUser.getCategories()) {
-                if (category.getCategoryName().equals(categoryName)) {
-                    category.setCategoryName(newCategoryName);
-                    category.setCategoryType(newCategoryType);
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Category edited successfully.");
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after editing category.");
-                        return false;
+    public static boolean editCategory(UserSession session, String categoryName, String newCategoryName,
+            CategoryType newCategoryType) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Category category : currentUser.getCategories()) {
+                    if (category.getCategoryName().equals(categoryName)) {
+                        category.setCategoryName(newCategoryName);
+                        category.setCategoryType(newCategoryType);
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Category edited successfully.");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after editing category.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Category not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Category not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
@@ -199,37 +229,44 @@ public class CategoryController {
      * and will be marked as main categories. The category is then removed and user
      * details persisted.
      *
+     * @param session      Session of the logged-in user.
      * @param categoryName The name of the category to delete.
      * @return true if the category is deleted and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean deleteCategory(String categoryName) {
-        if (currentUser != null) {
-            for (Category category : currentUser.getCategories()) {
-                if (category.getCategoryName().equals(categoryName)) {
-                    // If it's a main category, update subcategories
-                    if (!category.isSubCategory()) {
-                        for (Category subCategory : currentUser.getCategories()) {
-                            if (subCategory.getparentCategory() != null
-                                    && subCategory.getparentCategory().getCategoryName().equals(categoryName)) {
-                                subCategory.setparentCategory(null);
-                                subCategory.setSubCategory(false);
+    public static boolean deleteCategory(UserSession session, String categoryName) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Category category : currentUser.getCategories()) {
+                    if (category.getCategoryName().equals(categoryName)) {
+                        // If it's a main category, update subcategories
+                        if (!category.isSubCategory()) {
+                            for (Category subCategory : currentUser.getCategories()) {
+                                if (subCategory.getparentCategory() != null
+                                        && subCategory.getparentCategory().getCategoryName().equals(categoryName)) {
+                                    subCategory.setparentCategory(null);
+                                    subCategory.setSubCategory(false);
+                                }
                             }
                         }
-                    }
-                    currentUser.getCategories().remove(category);
+                        currentUser.getCategories().remove(category);
 
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Category deleted successfully!");
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after deleting category.");
-                        return false;
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Category deleted successfully!");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after deleting category.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Category not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Category not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
@@ -240,18 +277,25 @@ public class CategoryController {
      * Retrieves the unique ID (UUID) of a category by its name.
      * Useful for cross-referencing categories in transactions and budgets.
      *
+     * @param session      Session of the logged-in user.
      * @param categoryName The name of the category.
      * @return UUID of the category if found; null otherwise.
      */
-    public static UUID getCategoryIdByName(String categoryName) {
-        if (currentUser != null) {
-            for (Category category : currentUser.getCategories()) {
-                if (category.getCategoryName().equals(categoryName)) {
-                    return category.getCategoryId();
+    public static UUID getCategoryIdByName(UserSession session, String categoryName) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Category category : currentUser.getCategories()) {
+                    if (category.getCategoryName().equals(categoryName)) {
+                        return category.getCategoryId();
+                    }
                 }
+                System.out.println("Category not found.");
+                return null;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Category not found.");
-            return null;
         } else {
             System.out.println("User not found.");
             return null;
@@ -262,18 +306,25 @@ public class CategoryController {
      * Retrieves the type of a category by its name.
      * Useful for determining transaction or budget logic based on category type.
      *
+     * @param session      Session of the logged-in user.
      * @param categoryName The name of the category.
      * @return CategoryType of the category if found; null otherwise.
      */
-    public static CategoryType getCategoryTypeByName(String categoryName) {
-        if (currentUser != null) {
-            for (Category category : currentUser.getCategories()) {
-                if (category.getCategoryName().equals(categoryName)) {
-                    return category.getCategoryType();
+    public static CategoryType getCategoryTypeByName(UserSession session, String categoryName) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Category category : currentUser.getCategories()) {
+                    if (category.getCategoryName().equals(categoryName)) {
+                        return category.getCategoryType();
+                    }
                 }
+                System.out.println("Category not found.");
+                return null;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Category not found.");
-            return null;
         } else {
             System.out.println("User not found.");
             return null;
@@ -284,18 +335,25 @@ public class CategoryController {
      * Retrieves the type of a category by its unique ID.
      * Useful for determining transaction or budget logic based on category type.
      *
+     * @param session    Session of the logged-in user.
      * @param categoryId The UUID of the category.
      * @return CategoryType of the category if found; null otherwise.
      */
-    public static CategoryType getCategoryTypeById(UUID categoryId) {
-        if (currentUser != null) {
-            for (Category category : currentUser.getCategories()) {
-                if (category.getCategoryId().equals(categoryId)) {
-                    return category.getCategoryType();
+    public static CategoryType getCategoryTypeById(UserSession session, UUID categoryId) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Category category : currentUser.getCategories()) {
+                    if (category.getCategoryId().equals(categoryId)) {
+                        return category.getCategoryType();
+                    }
                 }
+                System.out.println("Category not found.");
+                return null;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Category not found.");
-            return null;
         } else {
             System.out.println("User not found.");
             return null;
@@ -0,0 +1,368 @@
+package FinanceTrackerSystem.Controllers;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides static methods to convert amounts between currencies in the Finance
+ * Tracker System, using a local store of dated exchange rates.
+ *
+ * <h2>Responsibilities</h2>
+ * <ul>
+ * <li>Load dated exchange rates from {@link #FX_RATES_FILE}.</li>
+ * <li>Look up the rate of a currency on any date, interpolating linearly
+ * between the two nearest known rates.</li>
+ * <li>Cache a per-day rate vector for every currency, so that aggregations
+ * over many transactions resolve the vector once and then read one array
+ * element per transaction.</li>
+ * <li>Convert amounts between any two currencies through
+ * {@link #BASE_CURRENCY}.</li>
+ * </ul>
+ *
+ * <h2>Rate File Format</h2>
+ * <p>
+ * One rate per line as {@code YYYY-MM-DD,CURRENCY,RATE}, where {@code RATE} is
+ * the value of one unit of {@code CURRENCY} in {@link #BASE_CURRENCY}. Blank
+ * lines and lines starting with {@code #} are ignored.
+ * </p>
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>
+ * double inr = CurrencyController.convert(100.0, "USD", "INR", LocalDate.of(2025, 8, 1));
+ * CurrencyController.RateVector usd = CurrencyController.getRateVector("USD");
+ * double rate = usd.rateOn(LocalDate.of(2025, 8, 1));
+ * CurrencyController.addRate(LocalDate.of(2025, 8, 2), "USD", 83.4);
+ * </pre>
+ *
+ * <h2>Lookup Rules</h2>
+ * <p>
+ * Dates between two known rates are interpolated linearly. Dates before the
+ * first or after the last known rate use that first or last rate. A currency
+ * without any rate is unknown: accounts and transactions in it are rejected, and
+ * looking up its rate throws an {@link IllegalArgumentException} instead of
+ * booking it at par.
+ * </p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>thread-safe</b>. Rate vectors are immutable and cached in a
+ * concurrent map; loading and adding rates are synchronized and invalidate the
+ * affected vectors.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class CurrencyController {
+    /**
+     * Path to the file where dated exchange rates are stored.
+     * This should be an absolute path to ensure consistent access across sessions.
+     */
+    public final static String FX_RATES_FILE = "E:\\CODE GALLATA\\JavaCLICorner\\FinanceTrackerSystem\\Files\\FxRates.txt";
+
+    /**
+     * Currency in which budgets are kept and through which all conversions are
+     * made. Accounts and transactions without a currency are in this currency.
+     */
+    public final static String BASE_CURRENCY = "INR";
+
+    /**
+     * Known rates per currency, ordered by date.
+     */
+    private static final Map<String, TreeMap<LocalDate, Double>> rates = new ConcurrentHashMap<>();
+
+    /**
+     * Cached per-day rate vectors per currency.
+     */
+    private static final Map<String, RateVector> rateVectors = new ConcurrentHashMap<>();
+
+    /** Rate vector of the base currency. */
+    private static final RateVector IDENTITY = new RateVector(0, new double[] { 1.0 });
+
+    /**
+     * Static block to load exchange rates when the class is first loaded.
+     */
+    static {
+        CurrencyController.loadRates();
+    }
+
+    /**
+     * Per-day exchange rates of one currency into {@link #BASE_CURRENCY}, covering
+     * every day between the first and last known rate.
+     * Instances are immutable.
+     */
+    public static final class RateVector {
+        /** Epoch day of the first element of {@link #dailyRates}. */
+        private final long firstEpochDay;
+
+        /** Rate of each day, starting at {@link #firstEpochDay}. */
+        private final double[] dailyRates;
+
+        /**
+         * Constructs a rate vector.
+         *
+         * @param firstEpochDay Epoch day of the first element.
+         * @param dailyRates    Rate of each day.
+         */
+        private RateVector(long firstEpochDay, double[] dailyRates) {
+            this.firstEpochDay = firstEpochDay;
+            this.dailyRates = dailyRates;
+        }
+
+        /**
+         * Returns the rate on the given date, clamped to the covered range.
+         *
+         * @param date The date.
+         * @return Value of one unit of the currency in the base currency.
+         */
+        public double rateOn(LocalDate date) {
+            long index = date.toEpochDay() - firstEpochDay;
+            if (index <= 0) {
+                return dailyRates[0];
+            }
+            if (index >= dailyRates.length) {
+                return dailyRates[dailyRates.length - 1];
+            }
+            return dailyRates[(int) index];
+        }
+    }
+
+    /**
+     * Loads all exchange rates from {@link #FX_RATES_FILE}, replacing any rates
+     * loaded before. Invalid lines are reported and skipped.
+     */
+    public static void loadRates() {
+        loadRates(FX_RATES_FILE);
+    }
+
+    /**
+     * Loads all exchange rates from the given file, replacing any rates loaded
+     * before. Invalid lines are reported and skipped.
+     *
+     * @param ratesFile Path of the rate file.
+     */
+    public static synchronized void loadRates(String ratesFile) {
+        rates.clear();
+        rateVectors.clear();
+        try (BufferedReader br = new BufferedReader(new FileReader(ratesFile))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    String[] parts = line.split(",");
+                    putRate(LocalDate.parse(parts[0].trim()), parts[1].trim(), Double.parseDouble(parts[2].trim()));
+                } catch (Exception e) {
+                    System.out.println("Skipping invalid exchange rate line: " + line);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error loading exchange rates: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds an exchange rate, appends it to {@link #FX_RATES_FILE} and invalidates
+     * the cached vector of the currency.
+     *
+     * @param date     Date of the rate.
+     * @param currency Currency code (e.g., "USD").
+     * @param rate     Value of one unit of the currency in the base currency.
+     * @return true if the rate is added and persisted successfully; false
+     *         otherwise.
+     */
+    public static synchronized boolean addRate(LocalDate date, String currency, double rate) {
+        if (rate <= 0) {
+            System.out.println("Exchange rate must be positive.");
+            return false;
+        }
+        String code = normalize(currency);
+        putRate(date, code, rate);
+        rateVectors.remove(code);
+        try (FileWriter fw = new FileWriter(FX_RATES_FILE, true)) {
+            fw.write(date + "," + code + "," + rate + System.lineSeparator());
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error saving exchange rate: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the cached per-day rate vector of a currency, building it on first
+     * use.
+     *
+     * @param currency Currency code, or null for the base currency.
+     * @return The rate vector of the currency.
+     * @throws IllegalArgumentException If the currency has no exchange rate.
+     */
+    public static RateVector getRateVector(String currency) {
+        String code = requireKnown(currency);
+        if (code.equals(BASE_CURRENCY)) {
+            return IDENTITY;
+        }
+        RateVector vector = rateVectors.get(code);
+        if (vector == null) {
+            synchronized (CurrencyController.class) {
+                vector = rateVectors.computeIfAbsent(code, CurrencyController::buildRateVector);
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Returns the value of one unit of a currency in the base currency on a date.
+     *
+     * @param currency Currency code, or null for the base currency.
+     * @param date     The date.
+     * @return The exchange rate.
+     */
+    public static double getRate(String currency, LocalDate date) {
+        return getRateVector(currency).rateOn(date);
+    }
+
+    /**
+     * Returns the value of one unit of a currency in the base currency on a date,
+     * interpolated directly from the nearest known rates without using the
+     * cached rate vector. Suited to one-off lookups; aggregations should resolve a
+     * {@link RateVector} once through {@link #getRateVector(String)} instead.
+     *
+     * @param currency Currency code, or null for the base currency.
+     * @param date     The date.
+     * @return The exchange rate.
+     */
+    public static synchronized double getInterpolatedRate(String currency, LocalDate date) {
+        String code = requireKnown(currency);
+        if (code.equals(BASE_CURRENCY)) {
+            return 1.0;
+        }
+        TreeMap<LocalDate, Double> known = rates.get(code);
+        Map.Entry<LocalDate, Double> floor = known.floorEntry(date);
+        Map.Entry<LocalDate, Double> ceiling = known.ceilingEntry(date);
+        if (floor == null) {
+            return ceiling.getValue();
+        }
+        if (ceiling == null || floor.getKey().equals(ceiling.getKey())) {
+            return floor.getValue();
+        }
+        long span = ceiling.getKey().toEpochDay() - floor.getKey().toEpochDay();
+        double fraction = (double) (date.toEpochDay() - floor.getKey().toEpochDay()) / span;
+        return floor.getValue() + (ceiling.getValue() - floor.getValue()) * fraction;
+    }
+
+    /**
+     * Converts an amount from one currency to another using the rates of the
+     * given date.
+     *
+     * @param amount The amount in the source currency.
+     * @param from   Source currency code, or null for the base currency.
+     * @param to     Target currency code, or null for the base currency.
+     * @param date   Date whose rates are used.
+     * @return The amount in the target currency.
+     */
+    public static double convert(double amount, String from, String to, LocalDate date) {
+        String source = normalize(from);
+        String target = normalize(to);
+        if (source.equals(target)) {
+            return amount;
+        }
+        return amount * getRate(source, date) / getRate(target, date);
+    }
+
+    /**
+     * Checks whether a currency is the base currency or has at least one exchange
+     * rate.
+     *
+     * @param currency Currency code, or null for the base currency.
+     * @return true if amounts in the currency can be converted; false otherwise.
+     */
+    public static boolean isKnownCurrency(String currency) {
+        String code = normalize(currency);
+        if (code.equals(BASE_CURRENCY)) {
+            return true;
+        }
+        TreeMap<LocalDate, Double> known = rates.get(code);
+        return known != null && !known.isEmpty();
+    }
+
+    /**
+     * Returns the normalized code of a currency that can be converted.
+     *
+     * @param currency Currency code, or null for the base currency.
+     * @return Normalized currency code.
+     * @throws IllegalArgumentException If the currency has no exchange rate.
+     */
+    public static String requireKnown(String currency) {
+        if (!isKnownCurrency(currency)) {
+            throw new IllegalArgumentException("Unknown currency " + normalize(currency)
+                    + ", add an exchange rate for it first.");
+        }
+        return normalize(currency);
+    }
+
+    /**
+     * Returns the upper-case currency code, or the base currency for null or blank
+     * input. The code is not checked against the known rates, see
+     * {@link #requireKnown(String)}.
+     *
+     * @param currency Currency code.
+     * @return Normalized currency code.
+     */
+    public static String normalize(String currency) {
+        if (currency == null || currency.isBlank()) {
+            return BASE_CURRENCY;
+        }
+        return currency.trim().toUpperCase();
+    }
+
+    /**
+     * Records a rate in the in-memory store.
+     *
+     * @param date     Date of the rate.
+     * @param currency Currency code.
+     * @param rate     Value of one unit of the currency in the base currency.
+     */
+    private static void putRate(LocalDate date, String currency, double rate) {
+        rates.computeIfAbsent(normalize(currency), code -> new TreeMap<>()).put(date, rate);
+    }
+
+    /**
+     * Builds the per-day rate vector of a currency by interpolating linearly
+     * between consecutive known rates.
+     *
+     * @param currency Normalized currency code.
+     * @return The rate vector.
+     */
+    private static RateVector buildRateVector(String currency) {
+        TreeMap<LocalDate, Double> known = rates.get(currency);
+        if (known == null || known.isEmpty()) {
+            // The rates were reloaded since the currency was checked
+            throw new IllegalArgumentException("Unknown currency " + currency + ", add an exchange rate for it first.");
+        }
+        long firstDay = known.firstKey().toEpochDay();
+        long lastDay = known.lastKey().toEpochDay();
+        double[] dailyRates = new double[(int) (lastDay - firstDay + 1)];
+        long previousDay = firstDay;
+        double previousRate = known.firstEntry().getValue();
+        for (Map.Entry<LocalDate, Double> entry : known.entrySet()) {
+            long day = entry.getKey().toEpochDay();
+            double rate = entry.getValue();
+            for (long d = previousDay; d <= day; d++) {
+                double fraction = day == previousDay ? 1.0 : (double) (d - previousDay) / (day - previousDay);
+                dailyRates[(int) (d - firstDay)] = previousRate + (rate - previousRate) * fraction;
+            }
+            previousDay = day;
+            previousRate = rate;
+        }
+        return new RateVector(firstDay, dailyRates);
+    }
+}
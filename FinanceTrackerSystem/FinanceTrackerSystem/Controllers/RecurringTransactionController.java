@@ -0,0 +1,283 @@
+package FinanceTrackerSystem.Controllers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+import FinanceTrackerSystem.Models.Account;
+import FinanceTrackerSystem.Models.RecurringTransaction;
+import FinanceTrackerSystem.Models.Transaction;
+import FinanceTrackerSystem.Models.User;
+import FinanceTrackerSystem.Models.UserSession;
+import FinanceTrackerSystem.Models.enums.CategoryType;
+import FinanceTrackerSystem.Models.enums.RecurrenceFrequency;
+
+/**
+ * Provides static methods to register recurring incomes and expenses (salary,
+ * rent, subscriptions) and to materialise their due occurrences into regular
+ * transactions in the Finance Tracker System.
+ *
+ * <h2>Responsibilities</h2>
+ * <ul>
+ * <li>Register recurring transactions against an account and a category.</li>
+ * <li>Display and delete the recurring transactions of the current user.</li>
+ * <li>Materialise every due occurrence in one batch, on login or on a
+ * tick.</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>
+ * RecurringTransactionController.addRecurringTransaction(session, "Rent", 1200.0, "Checking", "Housing",
+ *         RecurrenceFrequency.MONTHLY, LocalDate.of(2025, 1, 1), null, "Monthly rent");
+ * RecurringTransactionController.viewRecurringTransactions(session);
+ * RecurringTransactionController.materializeDueTransactions(session, LocalDate.now());
+ * RecurringTransactionController.deleteRecurringTransaction(session, "Rent");
+ * </pre>
+ *
+ * <h2>Scheduling</h2>
+ * <p>
+ * Due occurrences are found through a priority queue ordered by next due date,
+ * so only schedules that are actually due are visited. Every due occurrence is
+ * appended as a {@link Transaction}, while account balances are accumulated per
+ * account and applied once, budget progress is updated incrementally for the
+ * budgets of each occurrence's category, and user details are saved once per
+ * batch. A user who returns after a year therefore pays one save, not one per
+ * occurrence.
+ * </p>
+ *
+ * <h2>Dependencies</h2>
+ * <ul>
+ * <li>{@link FinanceTrackerSystem.Models.RecurringTransaction} - The recurring
+ * transaction model being managed. Amounts are in the currency of the
+ * account.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.AccountController} and
+ * {@link FinanceTrackerSystem.Controllers.CategoryController} - For account and
+ * category lookup by name.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.BudgetAlertController} - For
+ * updating budget progress and raising budget alerts.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For persisting
+ * user details.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>thread-safe</b>. Every operation runs on the user carried by
+ * the {@link UserSession} passed in, while holding that user's lock, so a batch
+ * is applied atomically with respect to other operations of the same user.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class RecurringTransactionController {
+
+    /**
+     * Registers a new recurring transaction for the current user.
+     * Occurrences that are already due are materialised on the next call to
+     * {@link #materializeDueTransactions(UserSession, LocalDate)}.
+     *
+     * @param session      Session of the logged-in user.
+     * @param title        Title given to every materialised transaction.
+     * @param amount       Amount of every occurrence.
+     * @param accountName  Name of the account of every occurrence.
+     * @param categoryName Name of the category of every occurrence.
+     * @param frequency    How often the transaction repeats.
+     * @param startDate    Date of the first occurrence.
+     * @param endDate      Date after which no occurrence is due, or null.
+     * @param description  Description given to every materialised transaction.
+     * @return true if the recurring transaction is added and user details are
+     *         saved successfully; false otherwise.
+     */
+    public static boolean addRecurringTransaction(UserSession session, String title, double amount,
+            String accountName, String categoryName, RecurrenceFrequency frequency, LocalDate startDate,
+            LocalDate endDate, String description) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                UUID accountId = AccountController.getAccountIdByName(session, accountName);
+                UUID categoryId = CategoryController.getCategoryIdByName(session, categoryName);
+                if (accountId == null || categoryId == null) {
+                    return false;
+                }
+                currentUser.getRecurringTransactions().add(new RecurringTransaction(categoryId, accountId, title,
+                        description, amount, frequency, startDate, endDate));
+                if (UserController.saveUsersDetails(session)) {
+                    System.out.println("Recurring transaction added successfully!");
+                    return true;
+                } else {
+                    System.out.println("Failed to save user details after adding recurring transaction.");
+                    return false;
+                }
+            } finally {
+                session.unlock();
+            }
+        } else {
+            System.out.println("User not found.");
+            return false;
+        }
+    }
+
+    /**
+     * Displays all recurring transactions belonging to the current user.
+     * Prints "No recurring transactions found." if there are none.
+     *
+     * @param session Session of the logged-in user.
+     */
+    public static void viewRecurringTransactions(UserSession session) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                if (currentUser.getRecurringTransactions().isEmpty()) {
+                    System.out.println("No recurring transactions found.");
+                } else {
+                    System.out.println("User Recurring Transactions:");
+                    for (RecurringTransaction recurring : currentUser.getRecurringTransactions()) {
+                        System.out.println(recurring);
+                    }
+                }
+            } finally {
+                session.unlock();
+            }
+        } else {
+            System.out.println("User not found.");
+        }
+    }
+
+    /**
+     * Deletes a recurring transaction with the specified title. Transactions
+     * already materialised from it are kept.
+     *
+     * @param session Session of the logged-in user.
+     * @param title   Title of the recurring transaction to delete.
+     * @return true if the recurring transaction is deleted and user details are
+     *         saved successfully; false otherwise.
+     */
+    public static boolean deleteRecurringTransaction(UserSession session, String title) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (RecurringTransaction recurring : currentUser.getRecurringTransactions()) {
+                    if (recurring.getTitle().equals(title)) {
+                        currentUser.getRecurringTransactions().remove(recurring);
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Recurring transaction deleted successfully!");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after deleting recurring transaction.");
+                            return false;
+                        }
+                    }
+                }
+                System.out.println("Recurring transaction not found.");
+                return false;
+            } finally {
+                session.unlock();
+            }
+        } else {
+            System.out.println("User not found.");
+            return false;
+        }
+    }
+
+    /**
+     * Materialises every occurrence due on or before the given date in one batch.
+     * <p>
+     * Schedules are polled from a priority queue ordered by next due date. Each
+     * due occurrence becomes a {@link Transaction}; the schedule is advanced and
+     * offered back to the queue while it is still due. Balance changes are summed
+     * per account and applied once, the budgets of each occurrence's category are
+     * updated incrementally and user details are saved once for the whole batch.
+     * </p>
+     *
+     * @param session Session of the logged-in user.
+     * @param today   Date up to which (inclusive) occurrences are due.
+     * @return Number of transactions materialised, or -1 if the batch could not
+     *         be saved.
+     */
+    public static int materializeDueTransactions(UserSession session, LocalDate today) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                PriorityQueue<RecurringTransaction> dueQueue = new PriorityQueue<>(
+                        Comparator.comparing(RecurringTransaction::getNextDueDate));
+                for (RecurringTransaction recurring : currentUser.getRecurringTransactions()) {
+                    if (!recurring.isFinished() && !recurring.getNextDueDate().isAfter(today)) {
+                        dueQueue.add(recurring);
+                    }
+                }
+                if (dueQueue.isEmpty()) {
+                    return 0;
+                }
+
+                Map<UUID, String> accountCurrencies = new HashMap<>();
+                for (Account account : currentUser.getAccounts()) {
+                    accountCurrencies.put(account.getAccountId(), account.getCurrency());
+                }
+                Map<UUID, CategoryType> categoryTypes = new HashMap<>();
+                Map<UUID, Double> balanceChanges = new HashMap<>();
+                List<Transaction> batch = new ArrayList<>();
+                while (!dueQueue.isEmpty()) {
+                    RecurringTransaction recurring = dueQueue.poll();
+                    batch.add(new Transaction(recurring.getCategoryId(), recurring.getAccountId(),
+                            recurring.getTitle(), recurring.getNextDueDate(), recurring.getDescription(),
+                            recurring.getAmount(), accountCurrencies.get(recurring.getAccountId())));
+                    CategoryType categoryType = categoryTypes.computeIfAbsent(recurring.getCategoryId(),
+                            categoryId -> CategoryController.getCategoryTypeById(session, categoryId));
+                    if (categoryType == CategoryType.EXPENSE) {
+                        balanceChanges.merge(recurring.getAccountId(), -recurring.getAmount(), Double::sum);
+                    } else if (categoryType == CategoryType.INCOME) {
+                        balanceChanges.merge(recurring.getAccountId(), recurring.getAmount(), Double::sum);
+                    }
+                    recurring.advance();
+                    if (!recurring.isFinished() && !recurring.getNextDueDate().isAfter(today)) {
+                        dueQueue.add(recurring);
+                    }
+                }
+
+                currentUser.getTransactions().addAll(batch);
+                for (Transaction transaction : batch) {
+                    currentUser.getSearchIndex().add(transaction);
+                    BudgetAlertController.applyTransaction(session, transaction, true);
+                }
+                for (Account account : currentUser.getAccounts()) {
+                    Double change = balanceChanges.get(account.getAccountId());
+                    if (change != null) {
+                        account.setBalance(account.getBalance() + change);
+                    }
+                }
+                if (UserController.saveUsersDetails(session)) {
+                    System.out.println(batch.size() + " recurring transaction(s) materialised.");
+                    return batch.size();
+                } else {
+                    System.out.println("Failed to save user details after materialising recurring transactions.");
+                    return -1;
+                }
+            } finally {
+                session.unlock();
+            }
+        } else {
+            System.out.println("User not found.");
+            return -1;
+        }
+    }
+
+    /**
+     * Scheduler tick: materialises every occurrence due today.
+     *
+     * @param session Session of the logged-in user.
+     * @return Number of transactions materialised, or -1 on failure.
+     */
+    public static int tick(UserSession session) {
+        return materializeDueTransactions(session, LocalDate.now());
+    }
+}
@@ -1,12 +1,16 @@
 package FinanceTrackerSystem.Controllers;
 
-import static FinanceTrackerSystem.Controllers.UserController.currentUser;
-
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 import FinanceTrackerSystem.Models.Account;
 import FinanceTrackerSystem.Models.Transaction;
+import FinanceTrackerSystem.Models.TransactionSearchIndex;
+import FinanceTrackerSystem.Models.User;
+import FinanceTrackerSystem.Models.UserSession;
 import FinanceTrackerSystem.Models.enums.CategoryType;
 
 /**
@@ -26,15 +30,19 @@ import FinanceTrackerSystem.Models.enums.CategoryType;
  * <li>Edit transaction details, including title, date, and description.</li>
  * <li>Delete transactions by ID, updating account balances and budget
  * progress.</li>
+ * <li>Search transactions by title and description terms, with date and amount
+ * filters, through the user's {@link TransactionSearchIndex}.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
  * 
  * <pre>
- * TransactionController.addTransaction("Salary", 5000.0, "Savings", "Income", LocalDate.now(), "Monthly salary");
- * TransactionController.viewTransactions();
- * TransactionController.editTransaction(transactionId, "Updated Title", LocalDate.now(), "Updated description");
- * TransactionController.deleteTransaction(transactionId);
+ * TransactionController.addTransaction(session, "Salary", 5000.0, "Savings", "Income", LocalDate.now(), "Monthly salary");
+ * TransactionController.addTransaction(session, "Hotel", 120.0, "USD", "Savings", "Travel", LocalDate.now(), "Trip");
+ * TransactionController.viewTransactions(session);
+ * TransactionController.editTransaction(session, transactionId, "Updated Title", LocalDate.now(), "Updated description");
+ * TransactionController.deleteTransaction(session, transactionId);
+ * TransactionController.searchTransactions(session, "groc", LocalDate.of(2025, 1, 1), null, null, 100.0);
  * </pre>
  *
  * <h2>Dependencies</h2>
@@ -45,24 +53,23 @@ import FinanceTrackerSystem.Models.enums.CategoryType;
  * balances.</li>
  * <li>{@link Models.enums.CategoryType} - Enum for transaction type (INCOME,
  * EXPENSE).</li>
- * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For accessing
- * {@code currentUser}
- * and saving user details.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For persisting
+ * user details.</li>
  * <li>{@link FinanceTrackerSystem.Controllers.CategoryController} - For
  * category lookup and type
  * determination.</li>
  * <li>{@link Controllers.AccountController} - For account lookup by name.</li>
- * <li>{@link FinanceTrackerSystem.Controllers.BudgetController} - For updating
- * budget progress after
- * transaction changes.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.BudgetAlertController} - For
+ * updating the progress of the affected budgets after transaction changes and
+ * raising budget alerts.</li>
  * </ul>
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is <b>not thread-safe</b>. All operations assume single-threaded
- * access to {@code currentUser}.
- * If used in a multi-threaded environment, external synchronization is
- * required.
+ * This class is <b>thread-safe</b>. Every operation runs on the user carried by
+ * the {@link UserSession} passed in, while holding that user's lock, so
+ * operations of different users run in parallel and operations of the same
+ * user never interleave.
  * </p>
  *
  * <h2>Validation</h2>
@@ -87,7 +94,7 @@ public class TransactionController {
     /**
      * Adds a new transaction for the current user, updates the relevant account
      * balance,
-     * and recalculates budget progress.
+     * and updates the progress of the budgets of its category.
      * <p>
      * The transaction is created and added to the user's transaction list. The
      * account balance
@@ -96,8 +103,37 @@ public class TransactionController {
      * Budget progress is recalculated to reflect the new transaction.
      * </p>
      *
+     * @param session      Session of the logged-in user.
+     * @param title        Title of the transaction.
+     * @param amount       Amount of the transaction.
+     * @param accountName  Name of the account associated with the transaction.
+     * @param categoryName Name of the category associated with the transaction.
+     * @param date         Date of the transaction.
+     * @param description  Description of the transaction.
+     * @return true if the transaction is added and user details are saved
+     *         successfully; false otherwise, including when the currency has no
+     *         exchange rate.
+     */
+    public static boolean addTransaction(UserSession session, String title, double amount, String accountName,
+            String categoryName, LocalDate date, String description) {
+        return addTransaction(session, title, amount, null, accountName, categoryName, date, description);
+    }
+
+    /**
+     * Adds a new transaction in the given currency for the current user, updates
+     * the relevant account balance, and updates the progress of the budgets of
+     * its category, raising budget alerts on threshold crossings.
+     * <p>
+     * The amount is converted into the account's currency at the rate of the
+     * transaction date before the balance is updated. A null currency means the
+     * account's own currency.
+     * </p>
+     *
+     * @param session      Session of the logged-in user.
      * @param title        Title of the transaction.
      * @param amount       Amount of the transaction.
+     * @param currency     Currency code of the amount, or null for the account's
+     *                     currency.
      * @param accountName  Name of the account associated with the transaction.
      * @param categoryName Name of the category associated with the transaction.
      * @param date         Date of the transaction.
@@ -105,30 +141,57 @@ public class TransactionController {
      * @return true if the transaction is added and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean addTransaction(String title, double amount, String accountName, String categoryName,
-            LocalDate date, String description) {
-        if (UserController.currentUser != null) {
-            UUID categoryId = CategoryController.getCategoryIdByName(categoryName);
-            UUID accountId = AccountController.getAccountIdByName(accountName);
-            Transaction newTransaction = new Transaction(categoryId, accountId, title, date, description, amount);
-            currentUser.getTransactions().add(newTransaction);
-            CategoryType categoryType = CategoryController.getCategoryTypeByName(categoryName);
-            for (Account account : currentUser.getAccounts()) {
-                if (account.getAccountId().equals(accountId)) {
-                    if (categoryType == CategoryType.EXPENSE) {
-                        account.setBalance(account.getBalance() - amount);
-                    } else if (categoryType == CategoryType.INCOME) {
-                        account.setBalance(account.getBalance() + amount);
+    public static boolean addTransaction(UserSession session, String title, double amount, String currency,
+            String accountName, String categoryName, LocalDate date, String description) {
+        if (currency != null && !CurrencyController.isKnownCurrency(currency)) {
+            System.out.println("Unknown currency " + CurrencyController.normalize(currency)
+                    + ". Add an exchange rate for it first.");
+            return false;
+        }
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                UUID categoryId = CategoryController.getCategoryIdByName(session, categoryName);
+                UUID accountId = AccountController.getAccountIdByName(session, accountName);
+                CategoryType categoryType = CategoryController.getCategoryTypeByName(session, categoryName);
+                Transaction newTransaction = null;
+                for (Account account : currentUser.getAccounts()) {
+                    if (account.getAccountId().equals(accountId)) {
+                        if (!CurrencyController.isKnownCurrency(account.getCurrency())) {
+                            System.out.println("Unknown currency " + account.getCurrency() + " on account "
+                                    + account.getAccountName() + ". Add an exchange rate for it first.");
+                            return false;
+                        }
+                        String transactionCurrency = currency == null ? account.getCurrency()
+                                : CurrencyController.normalize(currency);
+                        newTransaction = new Transaction(categoryId, accountId, title, date, description, amount,
+                                transactionCurrency);
+                        double accountAmount = CurrencyController.convert(amount, transactionCurrency,
+                                account.getCurrency(), date);
+                        if (categoryType == CategoryType.EXPENSE) {
+                            account.setBalance(account.getBalance() - accountAmount);
+                        } else if (categoryType == CategoryType.INCOME) {
+                            account.setBalance(account.getBalance() + accountAmount);
+                        }
                     }
                 }
-            }
-            BudgetController.calculateBudgetProgressByTransactions();
-            if (UserController.saveUsersDetails()) {
-                System.out.println("Transaction added successfully!");
-                return true;
-            } else {
-                System.out.println("Failed to save user details after adding transaction.");
-                return false;
+                if (newTransaction == null) {
+                    newTransaction = new Transaction(categoryId, accountId, title, date, description, amount,
+                            currency == null ? null : CurrencyController.normalize(currency));
+                }
+                currentUser.getTransactions().add(newTransaction);
+                currentUser.getSearchIndex().add(newTransaction);
+                BudgetAlertController.applyTransaction(session, newTransaction, true);
+                if (UserController.saveUsersDetails(session)) {
+                    System.out.println("Transaction added successfully!");
+                    return true;
+                } else {
+                    System.out.println("Failed to save user details after adding transaction.");
+                    return false;
+                }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -141,16 +204,24 @@ public class TransactionController {
      * Prints "No transactions found." if there are no transactions.
      * Each transaction is displayed using its {@link Transaction#toString()}
      * representation.
+     *
+     * @param session Session of the logged-in user.
      */
-    public static void viewTransactions() {
-        if (currentUser != null) {
-            if (currentUser.getTransactions().isEmpty()) {
-                System.out.println("No transactions found.");
-            } else {
-                System.out.println("User Transactions:");
-                for (Transaction transaction : currentUser.getTransactions()) {
-                    System.out.println(transaction);
+    public static void viewTransactions(UserSession session) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                if (currentUser.getTransactions().isEmpty()) {
+                    System.out.println("No transactions found.");
+                } else {
+                    System.out.println("User Transactions:");
+                    for (Transaction transaction : currentUser.getTransactions()) {
+                        System.out.println(transaction);
+                    }
                 }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -160,7 +231,9 @@ public class TransactionController {
     /**
      * Edits the title, date, and description of an existing transaction.
      * If the transaction is found, updates its fields and persists user details.
+     * Budget progress follows the transaction to its new date.
      *
+     * @param session       Session of the logged-in user.
      * @param transactionId UUID of the transaction to edit.
      * @param title         New title for the transaction.
      * @param date          New date for the transaction.
@@ -168,24 +241,35 @@ public class TransactionController {
      * @return true if the transaction is updated and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean editTransaction(UUID transactionId, String title, LocalDate date, String description) {
-        if (currentUser != null) {
-            for (Transaction transaction : currentUser.getTransactions()) {
-                if (transaction.getTransactionId().equals(transactionId)) {
-                    transaction.setTransactionName(title);
-                    transaction.setTransactionDate(date);
-                    transaction.setDescription(description);
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Transaction updated successfully!");
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after updating transaction.");
-                        return false;
+    public static boolean editTransaction(UserSession session, UUID transactionId, String title, LocalDate date,
+            String description) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Transaction transaction : currentUser.getTransactions()) {
+                    if (transaction.getTransactionId().equals(transactionId)) {
+                        currentUser.getSearchIndex().remove(transaction);
+                        BudgetAlertController.applyTransaction(session, transaction, false);
+                        transaction.setTransactionName(title);
+                        transaction.setTransactionDate(date);
+                        transaction.setDescription(description);
+                        currentUser.getSearchIndex().add(transaction);
+                        BudgetAlertController.applyTransaction(session, transaction, true);
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Transaction updated successfully!");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after updating transaction.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Transaction not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Transaction not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
@@ -200,43 +284,115 @@ public class TransactionController {
      * If the transaction is found and deleted, the account balance is reverted
      * based on the transaction type.
      * For expenses, the amount is added back; for income, the amount is subtracted.
+     * The amount is also removed from the progress of the budgets of its category.
      * </p>
      *
+     * @param session       Session of the logged-in user.
      * @param transactionId UUID of the transaction to delete.
      * @return true if the transaction is deleted and user details are saved
      *         successfully; false otherwise.
      */
-    public static boolean deleteTransaction(UUID transactionId) {
-        if (currentUser != null) {
-            for (Transaction transaction : currentUser.getTransactions()) {
-                if (transaction.getTransactionId().equals(transactionId)) {
-                    currentUser.getTransactions().remove(transaction);
-                    for (Account account : currentUser.getAccounts()) {
-                        if (account.getAccountId().equals(transaction.getAccountId())) {
-                            CategoryType categoryType = CategoryController
-                                    .getCategoryTypeById(transaction.getCategoryId());
-                            if (categoryType == CategoryType.EXPENSE) {
-                                account.setBalance(account.getBalance() + transaction.getAmount());
-                            } else if (categoryType == CategoryType.INCOME) {
-                                account.setBalance(account.getBalance() - transaction.getAmount());
+    public static boolean deleteTransaction(UserSession session, UUID transactionId) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                for (Transaction transaction : currentUser.getTransactions()) {
+                    if (transaction.getTransactionId().equals(transactionId)) {
+                        currentUser.getTransactions().remove(transaction);
+                        currentUser.getSearchIndex().remove(transaction);
+                        BudgetAlertController.applyTransaction(session, transaction, false);
+                        for (Account account : currentUser.getAccounts()) {
+                            if (account.getAccountId().equals(transaction.getAccountId())) {
+                                CategoryType categoryType = CategoryController
+                                        .getCategoryTypeById(session, transaction.getCategoryId());
+                                double accountAmount = CurrencyController.convert(transaction.getAmount(),
+                                        transaction.getCurrency(), account.getCurrency(),
+                                        transaction.getTransactionDate());
+                                if (categoryType == CategoryType.EXPENSE) {
+                                    account.setBalance(account.getBalance() + accountAmount);
+                                } else if (categoryType == CategoryType.INCOME) {
+                                    account.setBalance(account.getBalance() - accountAmount);
+                                }
                             }
                         }
-                    }
-                    if (UserController.saveUsersDetails()) {
-                        System.out.println("Transaction deleted successfully!");
-                        return true;
-                    } else {
-                        System.out.println("Failed to save user details after deleting transaction.");
-                        return false;
+                        if (UserController.saveUsersDetails(session)) {
+                            System.out.println("Transaction deleted successfully!");
+                            return true;
+                        } else {
+                            System.out.println("Failed to save user details after deleting transaction.");
+                            return false;
+                        }
                     }
                 }
+                System.out.println("Transaction not found.");
+                return false;
+            } finally {
+                session.unlock();
             }
-            System.out.println("Transaction not found.");
-            return false;
         } else {
             System.out.println("User not found.");
             return false;
         }
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Searches the current user's transactions by title and description.
+     * <p>
+     * Every term of the query is matched as a prefix of a word in the title or
+     * description, and all terms must match. Matching is answered from the user's
+     * {@link TransactionSearchIndex}, so it does not scan the transaction list.
+     * Matches are printed, newest first.
+     * </p>
+     *
+     * @param session   Session of the logged-in user.
+     * @param query     Search terms; a blank query matches every transaction.
+     * @param fromDate  Earliest transaction date (inclusive), or null.
+     * @param toDate    Latest transaction date (inclusive), or null.
+     * @param minAmount Smallest amount (inclusive), or null.
+     * @param maxAmount Largest amount (inclusive), or null.
+     * @return List of matching transactions; empty if none match or the user is
+     *         not found.
+     */
+    public static List<Transaction> searchTransactions(UserSession session, String query, LocalDate fromDate,
+            LocalDate toDate, Double minAmount, Double maxAmount) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                List<Transaction> results;
+                if (TransactionSearchIndex.tokenize(query).isEmpty()) {
+                    // Without terms, only the filters apply, so check every transaction
+                    results = new ArrayList<>();
+                    for (Transaction transaction : currentUser.getTransactions()) {
+                        LocalDate date = transaction.getTransactionDate();
+                        double amount = transaction.getAmount();
+                        if ((fromDate == null || !date.isBefore(fromDate)) && (toDate == null || !date.isAfter(toDate))
+                                && (minAmount == null || amount >= minAmount)
+                                && (maxAmount == null || amount <= maxAmount)) {
+                            results.add(transaction);
+                        }
+                    }
+                    results.sort(Comparator.comparing(Transaction::getTransactionDate).reversed());
+                } else {
+                    results = currentUser.getSearchIndex().search(query, fromDate, toDate, minAmount, maxAmount);
+                }
+                if (results.isEmpty()) {
+                    System.out.println("No matching transactions found.");
+                } else {
+                    System.out.println("Matching Transactions (" + results.size() + "):");
+                    for (Transaction transaction : results) {
+                        System.out.println(transaction);
+                    }
+                }
+                return results;
+            } finally {
+                session.unlock();
+            }
+        } else {
+            System.out.println("User not found.");
+            return new ArrayList<>();
+        }
+    }
+}
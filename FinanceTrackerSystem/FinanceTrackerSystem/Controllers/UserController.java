@@ -1,17 +1,27 @@
 package FinanceTrackerSystem.Controllers;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
 
-import FinanceTrackerSystem.Controllers.UserController;
 import FinanceTrackerSystem.Models.User;
 import FinanceTrackerSystem.Models.UserProfile;
+import FinanceTrackerSystem.Models.UserSession;
 import FinanceTrackerSystem.Models.enums.UserType;
 
 /**
@@ -19,16 +29,18 @@ import FinanceTrackerSystem.Models.enums.UserType;
  * persistence
  * in the Finance Tracker System. This controller supports creating user
  * profiles,
- * loading and saving user data, retrieving users by profile or ID, and managing
- * the currently logged-in user.
+ * loading and saving user data, retrieving users by profile or ID, and opening
+ * per-user sessions.
  *
  * <h2>Responsibilities</h2>
  * <ul>
  * <li>Create new user profiles and add them to the system.</li>
  * <li>Authenticate users by profile details and user type.</li>
  * <li>Retrieve users by unique ID.</li>
- * <li>Manage the currently logged-in user for session-based operations.</li>
- * <li>Persist all user data to disk and load it on startup.</li>
+ * <li>Open {@link UserSession}s that carry the user and its per-user lock into
+ * every controller call.</li>
+ * <li>Persist each user's data to its own file and load all users on
+ * startup.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -38,9 +50,9 @@ import FinanceTrackerSystem.Models.enums.UserType;
  *         UserType.REGULAR);
  * UserController.getUserIdByProfile("Alice", LocalDate.of(1990, 1, 1), UserType.REGULAR);
  * User user = UserController.getUserById(userId);
- * UserController.saveUsersDetails();
+ * UserSession session = UserController.openSession(userId);
+ * UserController.saveUsersDetails(session);
  * UserController.loadUsersDetails();
- * User current = UserController.getCurrentUser();
  * </pre>
  *
  * <h2>Dependencies</h2>
@@ -55,18 +67,22 @@ import FinanceTrackerSystem.Models.enums.UserType;
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is <b>not thread-safe</b>. All operations assume single-threaded
- * access to the static user list and current user.
- * If used in a multi-threaded environment, external synchronization is
- * required.
+ * This class is <b>thread-safe</b>. The user list is a copy-on-write list and
+ * every user has its own {@link ReentrantLock}, shared by all of that user's
+ * sessions, so different users' operations run in parallel.
+ * A save serializes and writes only the session's user, under that user's
+ * lock. Saves of the same user are therefore written in order, while saves of
+ * different users write different files and never wait for each other.
  * </p>
  *
  * <h2>Persistence</h2>
  * <p>
- * User data is serialized to and deserialized from the file specified by
- * {@link #USER_PROFILE_FILE}.
+ * Every user is serialized to its own file in {@link #USERS_DIRECTORY}, named
+ * after the user ID. A file is written next to its target and then moved over
+ * it, so a failed save leaves the previous state of the user on disk.
  * The static block ensures user data is loaded when the class is first
- * accessed.
+ * accessed. If the directory does not exist yet, the users are read from the
+ * former single file {@link #USER_PROFILE_FILE} and written to the directory.
  * </p>
  *
  * <h2>Validation</h2>
@@ -88,24 +104,35 @@ import FinanceTrackerSystem.Models.enums.UserType;
  */
 public class UserController {
     /**
-     * Path to the file where user profiles are serialized and stored.
+     * Path to the directory holding one serialized file per user.
      * This should be an absolute path to ensure consistent access across sessions.
      */
+    public final static String USERS_DIRECTORY = "E:\\CODE GALLATA\\JavaCLICorner\\FinanceTrackerSystem\\Files\\Users";
+
+    /**
+     * Extension of the per-user files in {@link #USERS_DIRECTORY}.
+     */
+    private static final String USER_FILE_EXTENSION = ".ser";
+
+    /**
+     * Path to the file where all user profiles were stored before they were
+     * split into {@link #USERS_DIRECTORY}. It is only read, to migrate its users.
+     */
     public final static String USER_PROFILE_FILE = "E:\\CODE GALLATA\\JavaCLICorner\\FinanceTrackerSystem\\Files\\UsersDetails.txt";
 
     /**
      * List of all users in the system.
      * This list is populated on startup and updated whenever users are added or
-     * modified.
+     * removed. It is a copy-on-write list so that lookups never race with
+     * registrations.
      */
-    public static List<User> users = new ArrayList<>();
+    public static List<User> users = new CopyOnWriteArrayList<>();
 
     /**
-     * The currently logged-in user.
-     * This field is set during authentication and used for session-based
-     * operations.
+     * Per-user locks, keyed by user ID. Every session of the same user shares the
+     * same lock.
      */
-    public static User currentUser;
+    private static final Map<UUID, ReentrantLock> userLocks = new ConcurrentHashMap<>();
 
     /**
      * Static block to load user details when the class is first loaded.
@@ -117,52 +144,138 @@ public class UserController {
     }
 
     /**
-     * Returns the currently logged-in user.
+     * Opens a session for the user with the specified ID.
+     * All sessions of the same user share a single per-user lock.
      *
-     * @return The current {@link User} object, or null if no user is logged in.
+     * @param userId UUID of the user.
+     * @return A new {@link UserSession}, or null if the user does not exist.
      */
-    public static User getCurrentUser() {
-        return currentUser;
+    public static UserSession openSession(UUID userId) {
+        User user = getUserById(userId);
+        if (user == null) {
+            System.out.println("User not found.");
+            return null;
+        }
+        return new UserSession(user, userLocks.computeIfAbsent(userId, id -> new ReentrantLock()));
     }
 
     /**
-     * Saves all user details to the file specified by {@link #USER_PROFILE_FILE}.
+     * Saves the session's user to its file in {@link #USERS_DIRECTORY}.
      * This method should be called after any modification to user data to ensure
-     * persistence.
-     * Uses Java serialization to write the user list to disk.
+     * persistence. The user is serialized while holding the session's lock, so the
+     * persisted state of the user is always consistent; other users' files are
+     * not touched.
      *
+     * @param session Session of the user whose changes are persisted.
      * @return true if user details are saved successfully; false otherwise.
      */
-    public static boolean saveUsersDetails() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(USER_PROFILE_FILE))) {
-            oos.writeObject(users);
+    public static boolean saveUsersDetails(UserSession session) {
+        session.lock();
+        try {
+            writeUser(session.getUser());
             return true;
         } catch (Exception e) {
             System.out.println("Error saving user details: " + e.getMessage());
             return false;
+        } finally {
+            session.unlock();
         }
     }
 
     /**
-     * Loads all user details from the file specified by {@link #USER_PROFILE_FILE}.
-     * Populates the static {@link #users} list. If the file does not exist or is
-     * corrupted,
-     * the user list remains empty and an error message is printed.
-     * Uses Java deserialization to read the user list from disk.
+     * Saves every user to its file in {@link #USERS_DIRECTORY}, each while
+     * holding that user's lock.
+     *
+     * @return true if all user details are saved successfully; false otherwise.
+     */
+    public static boolean saveUsersDetails() {
+        boolean saved = true;
+        for (User user : users) {
+            ReentrantLock lock = userLocks.computeIfAbsent(user.getId(), id -> new ReentrantLock());
+            saved &= saveUsersDetails(new UserSession(user, lock));
+        }
+        return saved;
+    }
+
+    /**
+     * Loads all user details from the files in {@link #USERS_DIRECTORY}.
+     * Populates the static {@link #users} list. A file that cannot be read is
+     * skipped and an error message is printed. If the directory does not exist,
+     * the users of {@link #USER_PROFILE_FILE}, if that file exists, are migrated
+     * with {@link #migrateLegacyUsers(Path, Path)}; otherwise the directory is
+     * created empty.
+     * Uses Java deserialization to read the users from disk.
      */
-    @SuppressWarnings("unchecked")
     public static void loadUsersDetails() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(USER_PROFILE_FILE))) {
-            users = (List<User>) ois.readObject();
-        } catch (Exception e) {
+        Path directory = Paths.get(USERS_DIRECTORY);
+        if (!Files.isDirectory(directory)) {
+            try {
+                Path legacyFile = Paths.get(USER_PROFILE_FILE);
+                if (Files.exists(legacyFile)) {
+                    users = new CopyOnWriteArrayList<>(migrateLegacyUsers(legacyFile, directory));
+                } else {
+                    Files.createDirectories(directory);
+                }
+            } catch (Exception e) {
+                System.out.println("Error loading user details: " + e.getMessage());
+            }
+            return;
+        }
+        List<User> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + USER_FILE_EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    loaded.add((User) readObject(Files.readAllBytes(file)));
+                } catch (Exception e) {
+                    System.out.println("Error loading user details from " + file.getFileName() + ": "
+                            + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
             System.out.println("Error loading user details: " + e.getMessage());
         }
+        users = new CopyOnWriteArrayList<>(loaded);
+    }
+
+    /**
+     * Writes every user of the former single file to its own file in a
+     * temporary directory, and renames that directory to {@code directory} only
+     * once all of them are written. A migration that fails leaves no directory
+     * behind, so it is tried again on the next start instead of starting with
+     * part of the users.
+     *
+     * @param legacyFile The former single file with all users.
+     * @param directory  The directory to create.
+     * @return The migrated users.
+     * @throws IOException            If the file cannot be read or a user cannot
+     *                                be written.
+     * @throws ClassNotFoundException If a serialized class cannot be found.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<User> migrateLegacyUsers(Path legacyFile, Path directory)
+            throws IOException, ClassNotFoundException {
+        List<User> legacy = (List<User>) readObject(Files.readAllBytes(legacyFile));
+        Path temporary = directory.resolveSibling(directory.getFileName() + ".migrating");
+        if (Files.exists(temporary)) {
+            // Left behind by a migration that failed
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(temporary)) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+        }
+        Files.createDirectories(temporary);
+        for (User user : legacy) {
+            writeUser(user, temporary);
+        }
+        Files.move(temporary, directory, StandardCopyOption.ATOMIC_MOVE);
+        return legacy;
     }
 
     /**
      * Creates a new user profile and adds it to the system.
-     * Also sets the newly created user as the current user for the session.
-     * The new user is persisted to disk.
+     * The new user is persisted to disk. Call {@link #openSession(UUID)} with the
+     * returned ID to operate on the new user.
      *
      * @param name        Name of the user.
      * @param address     Address of the user.
@@ -174,21 +287,20 @@ public class UserController {
     public static UUID createUserProfile(String name, String address, String phoneNumber, LocalDate dob,
             UserType type) {
         User user = new User(new UserProfile(name, address, phoneNumber, dob), type);
-        users.add(user);
-        if (UserController.saveUsersDetails()) {
-            System.out.println("User profile created successfully!");
-            currentUser = user; // Set the current user
-            return user.getId();
-        } else {
+        try {
+            // Not visible to other threads until it is added to the list
+            writeUser(user);
+        } catch (Exception e) {
             System.out.println("Failed to create user profile.");
             return null;
         }
+        users.add(user);
+        System.out.println("User profile created successfully!");
+        return user.getId();
     }
 
     /**
      * Authenticates a user by matching profile details and user type.
-     * If a matching user is found, sets the user as the current user for the
-     * session.
      * Prints a success or failure message to the console.
      *
      * @param name Name of the user.
@@ -201,7 +313,6 @@ public class UserController {
             if (user.getProfile().getName().equals(name) && user.getProfile().getDob().equals(dob)
                     && user.getType() == type) {
                 System.out.println("Login successful for user: " + name);
-                currentUser = user; // Set the current user
                 return user.getId();
             }
         }
@@ -225,4 +336,79 @@ public class UserController {
         return null;
     }
 
+    /**
+     * Removes the session's user from the system and deletes its file.
+     *
+     * @param session Session of the user to remove.
+     * @return true if the user is removed and its file is deleted successfully;
+     *         false otherwise.
+     */
+    public static boolean removeUser(UserSession session) {
+        session.lock();
+        try {
+            User user = session.getUser();
+            Files.deleteIfExists(userFile(user.getId()));
+            users.remove(user);
+            return true;
+        } catch (Exception e) {
+            System.out.println("Error saving user details: " + e.getMessage());
+            return false;
+        } finally {
+            session.unlock();
+        }
+    }
+
+    /**
+     * Returns the file of a user in {@link #USERS_DIRECTORY}.
+     *
+     * @param userId UUID of the user.
+     * @return Path of the user's file.
+     */
+    private static Path userFile(UUID userId) {
+        return Paths.get(USERS_DIRECTORY, userId + USER_FILE_EXTENSION);
+    }
+
+    /**
+     * Serializes a user to its file. The caller must hold the user's lock, or
+     * the user must not be shared yet.
+     *
+     * @param user The user to save.
+     * @throws IOException If the user cannot be serialized or written.
+     */
+    private static void writeUser(User user) throws IOException {
+        writeUser(user, Paths.get(USERS_DIRECTORY));
+    }
+
+    /**
+     * Serializes a user to its file in a directory.
+     *
+     * @param user      The user to save.
+     * @param directory The directory of the user files.
+     * @throws IOException If the user cannot be serialized or written.
+     */
+    private static void writeUser(User user, Path directory) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(user);
+        }
+        Path file = directory.resolve(user.getId() + USER_FILE_EXTENSION);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, bytes.toByteArray());
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deserializes an object from the given bytes.
+     *
+     * @param data Serialized object.
+     * @return The deserialized object.
+     * @throws IOException            If the data cannot be read.
+     * @throws ClassNotFoundException If a serialized class cannot be found.
+     */
+    private static Object readObject(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return ois.readObject();
+        }
+    }
+
 }
@@ -1,10 +1,10 @@
 package FinanceTrackerSystem.Controllers;
 
-import static FinanceTrackerSystem.Controllers.UserController.currentUser;
-
 import java.time.LocalDate;
 
+import FinanceTrackerSystem.Models.User;
 import FinanceTrackerSystem.Models.UserProfile;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * Provides static methods to manage the profile of the currently logged-in user
@@ -19,32 +19,31 @@ import FinanceTrackerSystem.Models.UserProfile;
  * the current user.</li>
  * <li>Delete the profile of the current user from the system.</li>
  * <li>Persist all changes to user data using
- * {@link FinanceTrackerSystem.Controllers.UserController#saveUsersDetails()}.</li>
+ * {@link FinanceTrackerSystem.Controllers.UserController#saveUsersDetails(UserSession)}.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
  * 
  * <pre>
- * UserProfileController.viewProfile();
- * UserProfileController.editProfile("Alice Smith", "456 Elm Ave", "555-5678", LocalDate.of(1990, 1, 1));
- * UserProfileController.deleteProfile();
+ * UserProfileController.viewProfile(session);
+ * UserProfileController.editProfile(session, "Alice Smith", "456 Elm Ave", "555-5678", LocalDate.of(1990, 1, 1));
+ * UserProfileController.deleteProfile(session);
  * </pre>
  *
  * <h2>Dependencies</h2>
  * <ul>
  * <li>{@link FinanceTrackerSystem.Models.UserProfile} - The profile model being
  * managed.</li>
- * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For accessing
- * {@code currentUser}
- * and saving user details.</li>
+ * <li>{@link FinanceTrackerSystem.Controllers.UserController} - For persisting
+ * user details.</li>
  * </ul>
  *
  * <h2>Thread Safety</h2>
  * <p>
- * This class is <b>not thread-safe</b>. All operations assume single-threaded
- * access to {@code currentUser}.
- * If used in a multi-threaded environment, external synchronization is
- * required.
+ * This class is <b>thread-safe</b>. Every operation runs on the user carried by
+ * the {@link UserSession} passed in, while holding that user's lock, so
+ * operations of different users run in parallel and operations of the same
+ * user never interleave.
  * </p>
  *
  * <h2>Validation</h2>
@@ -70,11 +69,19 @@ public class UserProfileController {
      * Prints "User not found." if no user is logged in.
      * The profile is displayed using its {@link UserProfile#toString()}
      * representation.
+     *
+     * @param session Session of the logged-in user.
      */
-    public static void viewProfile() {
-        if (currentUser != null) {
-            System.out.println("User Profile:");
-            System.out.println(currentUser.getProfile().toString());
+    public static void viewProfile(UserSession session) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                System.out.println("User Profile:");
+                System.out.println(currentUser.getProfile().toString());
+            } finally {
+                session.unlock();
+            }
         } else {
             System.out.println("User not found.");
         }
@@ -85,22 +92,30 @@ public class UserProfileController {
      * Updates the name, address, phone number, and date of birth fields.
      * Persists changes to disk and prints a success or failure message.
      *
+     * @param session     Session of the logged-in user.
      * @param name        New name of the user.
      * @param address     New address of the user.
      * @param phoneNumber New phone number of the user.
      * @param dob         New date of birth of the user.
      */
-    public static void editProfile(String name, String address, String phoneNumber, LocalDate dob) {
-        if (currentUser != null) {
-            UserProfile profile = currentUser.getProfile();
-            profile.setName(name);
-            profile.setAddress(address);
-            profile.setPhoneNumber(phoneNumber);
-            profile.setDob(dob);
-            if (UserController.saveUsersDetails()) {
-                System.out.println("Profile updated successfully.");
-            } else {
-                System.out.println("Failed to update profile.");
+    public static void editProfile(UserSession session, String name, String address, String phoneNumber,
+            LocalDate dob) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                UserProfile profile = currentUser.getProfile();
+                profile.setName(name);
+                profile.setAddress(address);
+                profile.setPhoneNumber(phoneNumber);
+                profile.setDob(dob);
+                if (UserController.saveUsersDetails(session)) {
+                    System.out.println("Profile updated successfully.");
+                } else {
+                    System.out.println("Failed to update profile.");
+                }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
@@ -111,14 +126,21 @@ public class UserProfileController {
      * Deletes the profile of the currently logged-in user from the system.
      * Removes the user from the system-wide user list and persists changes to disk.
      * Prints a success or failure message.
+     *
+     * @param session Session of the logged-in user.
      */
-    public static void deleteProfile() {
-        if (currentUser != null) {
-            UserController.users.remove(currentUser);
-            if (UserController.saveUsersDetails()) {
-                System.out.println("Profile deleted successfully.");
-            } else {
-                System.out.println("Failed to delete profile.");
+    public static void deleteProfile(UserSession session) {
+        if (session != null) {
+            session.lock();
+            try {
+                User currentUser = session.getUser();
+                if (UserController.removeUser(session)) {
+                    System.out.println("Profile deleted successfully.");
+                } else {
+                    System.out.println("Failed to delete profile.");
+                }
+            } finally {
+                session.unlock();
             }
         } else {
             System.out.println("User not found.");
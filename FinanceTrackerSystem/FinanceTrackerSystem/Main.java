@@ -4,13 +4,16 @@ import java.time.LocalDate;
 import java.util.Scanner;
 import java.util.UUID;
 
+import FinanceTrackerSystem.Controllers.RecurringTransactionController;
 import FinanceTrackerSystem.Controllers.UserController;
 import FinanceTrackerSystem.Menus.BudgetMenu;
 import FinanceTrackerSystem.Menus.CategoryMenu;
 import FinanceTrackerSystem.Menus.ProfileMenu;
+import FinanceTrackerSystem.Menus.RecurringTransactionMenu;
 import FinanceTrackerSystem.Menus.TransactionMenu;
 import FinanceTrackerSystem.Models.enums.UserType;
 import FinanceTrackerSystem.Menus.AccountMenu;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * Main class for the Budget Management System CLI application.
@@ -80,14 +83,15 @@ public class Main {
         UUID userId = UserController.createUserProfile(name, address, phoneNumber, dob, userType);
         if (userId != null) {
             System.out.println("User profile created successfully with ID: " + userId);
+            UserSession session = UserController.openSession(userId);
             if (userType == UserType.ADMIN) {
                 // Show admin features if the user is an admin
                 System.out.printf("\nWelcome, Admin - %s! You can manage users and budgets.", name);
-                showAdminFeaturesMenu(userId);
+                showAdminFeaturesMenu(session);
             } else if (userType == UserType.REGULAR) {
                 // Show regular user features
                 System.out.printf("\nWelcome, User - %s! You can manage your budgets and transactions.", name);
-                showUserFeaturesMenu(userId);
+                showUserFeaturesMenu(session);
             }
         } else {
             System.out.println("Failed to create user profile.");
@@ -116,14 +120,16 @@ public class Main {
         UUID userId = UserController.getUserIdByProfile(userName, dob, userType);
         if (userId != null) {
             System.out.println("User profile found with ID: " + userId);
+            UserSession session = UserController.openSession(userId);
+            RecurringTransactionController.tick(session); // Catch up on recurring transactions due since last login
             if (userType == UserType.ADMIN) {
                 // Show admin features if the user is an admin
                 System.out.printf("\nWelcome, Admin - %s! You can manage users and budgets.", userName);
-                showAdminFeaturesMenu(userId);
+                showAdminFeaturesMenu(session);
             } else if (userType == UserType.REGULAR) {
                 // Show regular user features
                 System.out.printf("\nWelcome, User - %s! You can manage your budgets and transactions.", userName);
-                showUserFeaturesMenu(userId);
+                showUserFeaturesMenu(session);
             }
         } else {
             System.out.println("User profile not found.");
@@ -134,20 +140,20 @@ public class Main {
     /**
      * Displays the admin features menu for the given user.
      * 
-     * @param userId UUID of the logged-in admin user.
+     * @param session Session of the logged-in admin user.
      */
-    public static void showAdminFeaturesMenu(UUID userId) {
+    public static void showAdminFeaturesMenu(UserSession session) {
         // Admin features menu implementation goes here.
     }
 
     /**
      * Displays the regular user features menu for the given user.
      * Allows navigation to profile, accounts, categories, transactions, budgets,
-     * and logout.
+     * recurring transactions, and logout.
      * 
-     * @param userId UUID of the logged-in regular user.
+     * @param session Session of the logged-in regular user.
      */
-    public static void showUserFeaturesMenu(UUID userId) {
+    public static void showUserFeaturesMenu(UserSession session) {
         System.out.print("\n User Features Menu:");
         while (true) {
             System.out.print("\n1. Manage Profile");
@@ -155,18 +161,19 @@ public class Main {
             System.out.print("\n3. Manage Categories");
             System.out.print("\n4. Manage Transactions");
             System.out.print("\n5. Manage Budgets");
-            System.out.print("\n6. Logout");
+            System.out.print("\n6. Manage Recurring Transactions");
+            System.out.print("\n7. Logout");
             int userOption = scanner.nextInt();
             scanner.nextLine(); // Consume newline character
             switch (userOption) {
-                case 1 -> ProfileMenu.menu(userId);
-                case 2 -> AccountMenu.menu(userId);
-                case 3 -> CategoryMenu.menu(userId);
-                case 4 -> TransactionMenu.menu(userId);
-                case 5 -> BudgetMenu.menu(userId);
-                case 6 -> {
+                case 1 -> ProfileMenu.menu(session);
+                case 2 -> AccountMenu.menu(session);
+                case 3 -> CategoryMenu.menu(session);
+                case 4 -> TransactionMenu.menu(session);
+                case 5 -> BudgetMenu.menu(session);
+                case 6 -> RecurringTransactionMenu.menu(session);
+                case 7 -> {
                     System.out.println("The User is logged out.");
-                    UserController.currentUser = null; // Clear the current user
                     System.exit(0); // Exit the application
                 }
             }
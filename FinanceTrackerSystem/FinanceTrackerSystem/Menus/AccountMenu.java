@@ -1,9 +1,9 @@
 package FinanceTrackerSystem.Menus;
 
 import java.util.Scanner;
-import java.util.UUID;
 
 import FinanceTrackerSystem.Controllers.AccountController;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * The AccountMenu class provides a console-based menu for managing user
@@ -14,7 +14,7 @@ import FinanceTrackerSystem.Controllers.AccountController;
  *
  * <p>
  * Typical Usage:
- * Call {@link #menu(UUID)} to display the account management menu for a
+ * Call {@link #menu(UserSession)} to display the account management menu for a
  * specific user.
  * </p>
  *
@@ -23,7 +23,7 @@ import FinanceTrackerSystem.Controllers.AccountController;
  * <ul>
  * <li>Controllers.AccountController</li>
  * <li>java.util.Scanner</li>
- * <li>java.util.UUID</li>
+ * <li>Models.UserSession</li>
  * </ul>
  * </p>
  */
@@ -36,9 +36,9 @@ public class AccountMenu {
      * Provides options to add, view, edit, delete accounts, transfer funds, or
      * return to the main menu.
      *
-     * @param userId UUID of the user for whom the menu is displayed.
+     * @param session Session of the user for whom the menu is displayed.
      */
-    public static void menu(UUID userId) {
+    public static void menu(UserSession session) {
         System.out.print("\nAccount Management Menu:");
         while (true) {
             System.out.print("\n1. Add Account");
@@ -57,15 +57,18 @@ public class AccountMenu {
                     System.out.print("\nEnter initial balance: ");
                     double initialBalance = scanner.nextDouble();
                     scanner.nextLine(); // Consume newline character
-                    AccountController.addAccount(accountName, initialBalance);
+                    System.out.print("\nEnter currency (e.g. INR, USD; blank for base currency): ");
+                    String currency = scanner.nextLine();
+                    AccountController.addAccount(session, accountName, initialBalance,
+                            currency.isBlank() ? null : currency);
                 }
                 case 2 -> {
                     // View Accounts
-                    AccountController.viewAccounts();
+                    AccountController.viewAccounts(session);
                 }
                 case 3 -> {
                     // Edit Account
-                    AccountController.viewAccounts();
+                    AccountController.viewAccounts(session);
                     System.out.print("\nEnter account name to edit: ");
                     String accountName = scanner.nextLine();
                     System.out.print("\nEnter new account name: ");
@@ -73,13 +76,13 @@ public class AccountMenu {
                     System.out.print("\nEnter new balance: ");
                     double newBalance = scanner.nextDouble();
                     scanner.nextLine(); // Consume newline character
-                    AccountController.editAccount(accountName, newAccountName, newBalance);
+                    AccountController.editAccount(session, accountName, newAccountName, newBalance);
                 }
                 case 4 -> {
                     // Delete Account
-                    AccountController.viewAccounts();
+                    AccountController.viewAccounts(session);
                     String accountName = scanner.nextLine();
-                    if (AccountController.deleteAccount(accountName)) {
+                    if (AccountController.deleteAccount(session, accountName)) {
                         System.out.println("Account deleted successfully.");
                     } else {
                         System.out.println("Failed to delete account.");
@@ -87,7 +90,7 @@ public class AccountMenu {
                 }
                 case 5 -> {
                     // Transfer Funds
-                    AccountController.viewAccounts();
+                    AccountController.viewAccounts(session);
                     System.out.print("\nEnter source account name: ");
                     String sourceAccountName = scanner.nextLine();
                     System.out.print("\nEnter destination account name: ");
@@ -95,7 +98,7 @@ public class AccountMenu {
                     System.out.print("\nEnter amount to transfer: ");
                     double amount = scanner.nextDouble();
                     scanner.nextLine(); // Consume newline character
-                    if (AccountController.transferFunds(sourceAccountName, destinationAccountName, amount)) {
+                    if (AccountController.transferFunds(session, sourceAccountName, destinationAccountName, amount)) {
                         System.out.println("Funds transferred successfully.");
                     } else {
                         System.out.println("Failed to transfer funds.");
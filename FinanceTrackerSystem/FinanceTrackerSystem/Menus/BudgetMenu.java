@@ -2,9 +2,9 @@ package FinanceTrackerSystem.Menus;
 
 import java.time.LocalDate;
 import java.util.Scanner;
-import java.util.UUID;
 
 import FinanceTrackerSystem.Controllers.BudgetController;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * The BudgetMenu class provides a console-based menu for managing budgets
@@ -13,7 +13,7 @@ import FinanceTrackerSystem.Controllers.BudgetController;
  *
  * <p>
  * Typical Usage:
- * Call {@link #menu(UUID)} to display the budget management menu for a specific
+ * Call {@link #menu(UserSession)} to display the budget management menu for a specific
  * user.
  * </p>
  *
@@ -22,7 +22,7 @@ import FinanceTrackerSystem.Controllers.BudgetController;
  * <ul>
  * <li>Controllers.BudgetController</li>
  * <li>java.util.Scanner</li>
- * <li>java.util.UUID</li>
+ * <li>Models.UserSession</li>
  * <li>java.time.LocalDate</li>
  * </ul>
  * </p>
@@ -36,9 +36,9 @@ public class BudgetMenu {
      * Provides options to create, view, edit, delete budgets, or return to the main
      * menu.
      *
-     * <param name="userId">UUID of the user for whom the menu is displayed.</param>
+     * <param name="session">Session of the user for whom the menu is displayed.</param>
      */
-    public static void menu(UUID userId) {
+    public static void menu(UserSession session) {
         System.out.print("\nBudget Management Menu:");
         while (true) {
             System.out.print("\n1. Create Budget");
@@ -72,16 +72,16 @@ public class BudgetMenu {
                         System.out.println("Invalid date format. Please use YYYY-MM-DD.");
                         continue;
                     }
-                    BudgetController.createBudget(categoryName, budgetName, budgetAmount, startDate, endDate,
+                    BudgetController.createBudget(session, categoryName, budgetName, budgetAmount, startDate, endDate,
                             description);
                 }
                 case 2 -> {
                     // View Budgets
-                    BudgetController.viewBudgets();
+                    BudgetController.viewBudgets(session);
                 }
                 case 3 -> {
                     // Edit Budget
-                    BudgetController.viewBudgets();
+                    BudgetController.viewBudgets(session);
                     System.out.print("\nEnter category name: ");
                     String budgetName = scanner.nextLine();
                     System.out.print("\nEnter budget name to edit: ");
@@ -103,15 +103,15 @@ public class BudgetMenu {
                         System.out.println("Invalid date format. Please use YYYY-MM-DD.");
                         continue;
                     }
-                    BudgetController.editBudget(budgetName, newBudgetName, newBudgetAmount, newStartDate, newEndDate,
-                            description);
+                    BudgetController.editBudget(session, budgetName, newBudgetName, newBudgetAmount, newStartDate,
+                            newEndDate, description);
                 }
                 case 4 -> {
                     // Delete Budget
-                    BudgetController.viewBudgets();
+                    BudgetController.viewBudgets(session);
                     System.out.print("\nEnter budget name to delete: ");
                     String budgetName = scanner.nextLine();
-                    BudgetController.deleteBudget(budgetName);
+                    BudgetController.deleteBudget(session, budgetName);
                 }
                 case 5 -> {
                     // Back to Main Menu
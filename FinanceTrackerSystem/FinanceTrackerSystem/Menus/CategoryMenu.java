@@ -1,9 +1,9 @@
 package FinanceTrackerSystem.Menus;
 
 import java.util.Scanner;
-import java.util.UUID;
 
 import FinanceTrackerSystem.Controllers.CategoryController;
+import FinanceTrackerSystem.Models.UserSession;
 import FinanceTrackerSystem.Models.enums.CategoryType;
 
 /**
@@ -14,7 +14,7 @@ import FinanceTrackerSystem.Models.enums.CategoryType;
  *
  * <p>
  * Typical Usage:
- * Call {@link #menu(UUID)} to display the category management menu for a
+ * Call {@link #menu(UserSession)} to display the category management menu for a
  * specific user.
  * </p>
  *
@@ -24,7 +24,7 @@ import FinanceTrackerSystem.Models.enums.CategoryType;
  * <li>Controllers.CategoryController</li>
  * <li>Models.enums.CategoryType</li>
  * <li>java.util.Scanner</li>
- * <li>java.util.UUID</li>
+ * <li>Models.UserSession</li>
  * </ul>
  * </p>
  */
@@ -37,9 +37,9 @@ public class CategoryMenu {
      * Provides options to add, view, edit, delete categories or subcategories, or
      * return to the main menu.
      *
-     * @param userId UUID of the user for whom the menu is displayed.
+     * @param session Session of the user for whom the menu is displayed.
      */
-    public static void menu(UUID userId) {
+    public static void menu(UserSession session) {
         System.out.print("\nCategory Management Menu:");
         while (true) {
             System.out.print("\n1. Add Category");
@@ -68,16 +68,16 @@ public class CategoryMenu {
                     if (isSubcategory.equals("yes")) {
                         System.out.print("\nEnter parent category name: ");
                         String parentCategoryName = scanner.nextLine();
-                        CategoryController.addSubCategory(categoryType, categoryName, parentCategoryName);
+                        CategoryController.addSubCategory(session, categoryType, categoryName, parentCategoryName);
                         System.out.println("Subcategory added successfully under " + parentCategoryName);
                     } else if (isSubcategory.equals("no")) {
-                        CategoryController.addCategory(categoryType, categoryName);
+                        CategoryController.addCategory(session, categoryType, categoryName);
                         System.out.println("Category added successfully: " + categoryName);
                     }
                 }
                 case 2 -> {
                     // View Categories
-                    CategoryController.viewCategories();
+                    CategoryController.viewCategories(session);
                 }
                 case 3 -> {
                     // Edit Category
@@ -94,7 +94,7 @@ public class CategoryMenu {
                         System.out.println("Invalid category type. Please enter INCOME or EXPENSE.");
                         continue;
                     }
-                    if (CategoryController.editCategory(categoryName, newCategoryName, newCategoryType)) {
+                    if (CategoryController.editCategory(session, categoryName, newCategoryName, newCategoryType)) {
                         System.out.println("Category edited successfully.");
                     } else {
                         System.out.println("Failed to edit category.");
@@ -104,7 +104,7 @@ public class CategoryMenu {
                     // Delete Category
                     System.out.print("\nEnter category name to delete: ");
                     String categoryName = scanner.nextLine();
-                    if (CategoryController.deleteCategory(categoryName)) {
+                    if (CategoryController.deleteCategory(session, categoryName)) {
                         System.out.println("Category deleted successfully.");
                     } else {
                         System.out.println("Failed to delete category.");
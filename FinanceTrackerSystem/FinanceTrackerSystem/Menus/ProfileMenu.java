@@ -2,9 +2,9 @@ package FinanceTrackerSystem.Menus;
 
 import java.time.LocalDate;
 import java.util.Scanner;
-import java.util.UUID;
 
 import FinanceTrackerSystem.Controllers.UserProfileController;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * The ProfileMenu class provides a console-based menu for managing the profile
@@ -14,7 +14,7 @@ import FinanceTrackerSystem.Controllers.UserProfileController;
  *
  * <p>
  * Typical Usage:
- * Call {@link #menu(UUID)} to display the profile management menu for a
+ * Call {@link #menu(UserSession)} to display the profile management menu for a
  * specific user.
  * </p>
  *
@@ -23,7 +23,7 @@ import FinanceTrackerSystem.Controllers.UserProfileController;
  * <ul>
  * <li>Controllers.UserProfileController</li>
  * <li>java.util.Scanner</li>
- * <li>java.util.UUID</li>
+ * <li>Models.UserSession</li>
  * <li>java.time.LocalDate</li>
  * </ul>
  * </p>
@@ -37,9 +37,9 @@ public class ProfileMenu {
      * Provides options to view, edit, delete the profile, or return to the main
      * menu.
      *
-     * @param userId UUID of the user for whom the menu is displayed.
+     * @param session Session of the user for whom the menu is displayed.
      */
-    public static void menu(UUID userId) {
+    public static void menu(UserSession session) {
         System.out.print("\nProfile Management Menu:");
         while (true) {
             System.out.print("1. View Profile");
@@ -49,7 +49,7 @@ public class ProfileMenu {
             int userOption = scanner.nextInt();
             scanner.nextLine(); // Consume newline character
             switch (userOption) {
-                case 1 -> UserProfileController.viewProfile();
+                case 1 -> UserProfileController.viewProfile(session);
                 case 2 -> {
                     System.out.print("\nEnter your new name: ");
                     String name = scanner.nextLine();
@@ -59,9 +59,9 @@ public class ProfileMenu {
                     String phoneNumber = scanner.nextLine();
                     System.out.print("\nEnter your new date of birth (YYYY-MM-DD): ");
                     LocalDate dob = LocalDate.parse(scanner.nextLine());
-                    UserProfileController.editProfile(name, address, phoneNumber, dob);
+                    UserProfileController.editProfile(session, name, address, phoneNumber, dob);
                 }
-                case 3 -> UserProfileController.deleteProfile();
+                case 3 -> UserProfileController.deleteProfile(session);
                 case 4 -> {
                     System.out.println("Returning to Main Menu.");
                     return;
@@ -0,0 +1,107 @@
+package FinanceTrackerSystem.Menus;
+
+import java.time.LocalDate;
+import java.util.Scanner;
+
+import FinanceTrackerSystem.Controllers.RecurringTransactionController;
+import FinanceTrackerSystem.Models.UserSession;
+import FinanceTrackerSystem.Models.enums.RecurrenceFrequency;
+
+/**
+ * The RecurringTransactionMenu class provides a console-based menu for managing
+ * recurring incomes and expenses in the Finance Tracker System. It allows users
+ * to add, view, and delete recurring transactions, and to materialise the ones
+ * that are due.
+ *
+ * <p>
+ * Typical Usage:
+ * Call {@link #menu(UserSession)} to display the recurring transaction menu for
+ * a specific user.
+ * </p>
+ *
+ * <p>
+ * Dependencies:
+ * <ul>
+ * <li>Controllers.RecurringTransactionController</li>
+ * <li>java.util.Scanner</li>
+ * <li>Models.UserSession</li>
+ * <li>java.time.LocalDate</li>
+ * </ul>
+ * </p>
+ */
+public class RecurringTransactionMenu {
+    /** Scanner for reading user input from the console. */
+    public static Scanner scanner = new Scanner(System.in);
+
+    /**
+     * Displays the recurring transaction menu for the specified user.
+     * Provides options to add, view, delete recurring transactions, run the
+     * scheduler, or return to the main menu.
+     *
+     * @param session Session of the user for whom the menu is displayed.
+     */
+    public static void menu(UserSession session) {
+        System.out.print("\nRecurring Transaction Menu:");
+        while (true) {
+            System.out.print("\n1. Add Recurring Transaction");
+            System.out.print("\n2. View Recurring Transactions");
+            System.out.print("\n3. Delete Recurring Transaction");
+            System.out.print("\n4. Process Due Transactions");
+            System.out.print("\n5. Back to Main Menu");
+            int userOption = scanner.nextInt();
+            scanner.nextLine(); // Consume newline character
+            switch (userOption) {
+                case 1 -> {
+                    // Add Recurring Transaction
+                    System.out.print("\nEnter title: ");
+                    String title = scanner.nextLine();
+                    System.out.print("\nEnter amount: ");
+                    double amount = scanner.nextDouble();
+                    scanner.nextLine(); // Consume newline character
+                    System.out.print("\nEnter account name: ");
+                    String accountName = scanner.nextLine();
+                    System.out.print("\nEnter category name: ");
+                    String categoryName = scanner.nextLine();
+                    System.out.print("\nEnter frequency (DAILY/WEEKLY/MONTHLY/YEARLY): ");
+                    RecurrenceFrequency frequency;
+                    try {
+                        frequency = RecurrenceFrequency.valueOf(scanner.nextLine().toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("Invalid frequency. Please enter DAILY, WEEKLY, MONTHLY or YEARLY.");
+                        continue;
+                    }
+                    System.out.print("\nEnter start date (YYYY-MM-DD): ");
+                    String startDateInput = scanner.nextLine();
+                    System.out.print("\nEnter end date (YYYY-MM-DD, blank for none): ");
+                    String endDateInput = scanner.nextLine();
+                    LocalDate startDate, endDate;
+                    try {
+                        startDate = LocalDate.parse(startDateInput);
+                        endDate = endDateInput.isBlank() ? null : LocalDate.parse(endDateInput);
+                    } catch (Exception e) {
+                        System.out.println("Invalid date format. Please use YYYY-MM-DD.");
+                        continue;
+                    }
+                    System.out.print("\nEnter description: ");
+                    String description = scanner.nextLine();
+                    RecurringTransactionController.addRecurringTransaction(session, title, amount, accountName,
+                            categoryName, frequency, startDate, endDate, description);
+                }
+                case 2 -> RecurringTransactionController.viewRecurringTransactions(session);
+                case 3 -> {
+                    // Delete Recurring Transaction
+                    RecurringTransactionController.viewRecurringTransactions(session);
+                    System.out.print("\nEnter title to delete: ");
+                    String title = scanner.nextLine();
+                    RecurringTransactionController.deleteRecurringTransaction(session, title);
+                }
+                case 4 -> RecurringTransactionController.tick(session);
+                case 5 -> {
+                    // Back to Main Menu
+                    System.out.println("Returning to main menu...");
+                    return;
+                }
+            }
+        }
+    }
+}
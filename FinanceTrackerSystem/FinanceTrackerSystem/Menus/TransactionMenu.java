@@ -5,16 +5,17 @@ import java.util.Scanner;
 import java.util.UUID;
 
 import FinanceTrackerSystem.Controllers.TransactionController;
+import FinanceTrackerSystem.Models.UserSession;
 
 /**
  * The TransactionMenu class provides a console-based menu for managing
  * transactions
- * in the Finance Tracker System. It allows users to add, view, edit, and delete
- * transactions.
+ * in the Finance Tracker System. It allows users to add, view, edit, delete and
+ * search transactions.
  *
  * <p>
  * Typical Usage:
- * Call {@link #menu(UUID)} to display the transaction management menu for a
+ * Call {@link #menu(UserSession)} to display the transaction management menu for a
  * specific user.
  * </p>
  *
@@ -24,6 +25,7 @@ import FinanceTrackerSystem.Controllers.TransactionController;
  * <li>Controllers.TransactionController</li>
  * <li>java.util.Scanner</li>
  * <li>java.util.UUID</li>
+ * <li>Models.UserSession</li>
  * <li>java.time.LocalDate</li>
  * </ul>
  * </p>
@@ -37,16 +39,17 @@ public class TransactionMenu {
      * Provides options to add, view, edit, delete transactions, or return to the
      * main menu.
      *
-     * @param userId UUID of the user for whom the menu is displayed.
+     * @param session Session of the user for whom the menu is displayed.
      */
-    public static void menu(UUID userId) {
+    public static void menu(UserSession session) {
         System.out.print("\nTransaction Management Menu:");
         while (true) {
             System.out.print("\n1. Add Transaction");
             System.out.print("\n2. View Transactions");
             System.out.print("\n3. Edit Transaction");
             System.out.print("\n4. Delete Transaction");
-            System.out.print("\n5. Back to Main Menu");
+            System.out.print("\n5. Search Transactions");
+            System.out.print("\n6. Back to Main Menu");
             int userOption = scanner.nextInt();
             scanner.nextLine(); // Consume newline character
             switch (userOption) {
@@ -57,6 +60,8 @@ public class TransactionMenu {
                     System.out.print("\nEnter transaction amount: ");
                     double amount = scanner.nextDouble();
                     scanner.nextLine(); // Consume newline character
+                    System.out.print("\nEnter currency (blank for the account's currency): ");
+                    String currency = scanner.nextLine();
                     System.out.print("\nEnter account name: ");
                     String accountName = scanner.nextLine();
                     System.out.print("\nEnter category name: ");
@@ -72,12 +77,13 @@ public class TransactionMenu {
                     }
                     System.out.print("\nEnter transaction description: ");
                     String description = scanner.nextLine();
-                    TransactionController.addTransaction(title, amount, accountName, categoryName, date, description);
+                    TransactionController.addTransaction(session, title, amount, currency.isBlank() ? null : currency,
+                            accountName, categoryName, date, description);
                 }
-                case 2 -> TransactionController.viewTransactions();
+                case 2 -> TransactionController.viewTransactions(session);
                 case 3 -> {
                     // Edit Transaction
-                    TransactionController.viewTransactions();
+                    TransactionController.viewTransactions(session);
                     System.out.print("\nEnter transaction ID to edit: ");
                     String transactionId = scanner.nextLine();
                     System.out.print("\nEnter new title: ");
@@ -93,21 +99,46 @@ public class TransactionMenu {
                     }
                     System.out.print("\nEnter new description: ");
                     String newDescription = scanner.nextLine();
-                    TransactionController.editTransaction(UUID.fromString(transactionId), newTitle, newDate,
+                    TransactionController.editTransaction(session, UUID.fromString(transactionId), newTitle, newDate,
                             newDescription);
                 }
                 case 4 -> {
                     // Delete Transaction
-                    TransactionController.viewTransactions();
+                    TransactionController.viewTransactions(session);
                     System.out.print("\nEnter transaction ID to delete: ");
                     String transactionId = scanner.nextLine();
-                    if (TransactionController.deleteTransaction(UUID.fromString(transactionId))) {
+                    if (TransactionController.deleteTransaction(session, UUID.fromString(transactionId))) {
                         System.out.println("Transaction deleted successfully.");
                     } else {
                         System.out.println("Failed to delete transaction. Please check the ID and try again.");
                     }
                 }
                 case 5 -> {
+                    // Search Transactions
+                    System.out.print("\nEnter search terms (blank for all): ");
+                    String query = scanner.nextLine();
+                    System.out.print("\nEnter from date (YYYY-MM-DD, blank for none): ");
+                    String fromDateInput = scanner.nextLine();
+                    System.out.print("\nEnter to date (YYYY-MM-DD, blank for none): ");
+                    String toDateInput = scanner.nextLine();
+                    System.out.print("\nEnter minimum amount (blank for none): ");
+                    String minAmountInput = scanner.nextLine();
+                    System.out.print("\nEnter maximum amount (blank for none): ");
+                    String maxAmountInput = scanner.nextLine();
+                    LocalDate fromDate, toDate;
+                    Double minAmount, maxAmount;
+                    try {
+                        fromDate = fromDateInput.isBlank() ? null : LocalDate.parse(fromDateInput);
+                        toDate = toDateInput.isBlank() ? null : LocalDate.parse(toDateInput);
+                        minAmount = minAmountInput.isBlank() ? null : Double.parseDouble(minAmountInput);
+                        maxAmount = maxAmountInput.isBlank() ? null : Double.parseDouble(maxAmountInput);
+                    } catch (Exception e) {
+                        System.out.println("Invalid filter. Use YYYY-MM-DD for dates and numbers for amounts.");
+                        continue;
+                    }
+                    TransactionController.searchTransactions(session, query, fromDate, toDate, minAmount, maxAmount);
+                }
+                case 6 -> {
                     // Back to Main Menu
                     System.out.println("Returning to main menu...");
                     return;
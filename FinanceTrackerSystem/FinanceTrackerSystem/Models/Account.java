@@ -19,12 +19,15 @@ import java.util.UUID;
  * Used for display and selection.</li>
  * <li><b>balance</b>: Current balance of the account. Updated by transactions
  * and transfers.</li>
+ * <li><b>currency</b>: Currency code of the balance (e.g., "INR", "USD").
+ * Accounts created without a currency use the base currency.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
  * 
  * <pre>
  * Account savings = new Account("Savings", 1000.0);
+ * Account travel = new Account("Travel", 500.0, "USD");
  * savings.setBalance(1200.0);
  * String name = savings.getAccountName();
  * UUID id = savings.getAccountId();
@@ -81,6 +84,9 @@ public class Account implements Serializable {
     /** Unique identifier for the account, generated upon creation. */
     private UUID accountId;
 
+    /** Currency code of the balance, or null for the base currency. */
+    private String currency;
+
     /**
      * Constructs a new Account with the specified name and initial balance.
      * Generates a unique UUID for the account.
@@ -89,9 +95,24 @@ public class Account implements Serializable {
      * @param balance     Initial balance of the account.
      */
     public Account(String accountName, double balance) {
+        this(accountName, balance, null);
+    }
+
+    /**
+     * Constructs a new Account with the specified name, initial balance and
+     * currency.
+     * Generates a unique UUID for the account.
+     *
+     * @param accountName Name of the account.
+     * @param balance     Initial balance of the account.
+     * @param currency    Currency code of the balance, or null for the base
+     *                    currency.
+     */
+    public Account(String accountName, double balance, String currency) {
         this.accountId = UUID.randomUUID();
         this.accountName = accountName;
         this.balance = balance;
+        this.currency = currency;
     }
 
     /**
@@ -139,6 +160,24 @@ public class Account implements Serializable {
         this.balance = balance;
     }
 
+    /**
+     * Returns the currency code of the balance.
+     *
+     * @return Currency code, or null for the base currency.
+     */
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Sets the currency code of the balance.
+     *
+     * @param currency New currency code, or null for the base currency.
+     */
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
     /**
      * Returns a string representation of the account, including its name and
      * balance.
@@ -148,6 +187,6 @@ public class Account implements Serializable {
     @Override
     public String toString() {
         return "Account Name: " + accountName + "\n" +
-                "Balance: " + balance;
+                "Balance: " + balance + " " + (currency == null ? "(base currency)" : currency);
     }
 }
@@ -20,7 +20,8 @@ import java.util.UUID;
  * (e.g., "Groceries", "Transport").</li>
  * <li><b>budgetName</b>: Name of the budget (e.g., "Monthly Groceries",
  * "Vacation Savings").</li>
- * <li><b>budgetAmount</b>: Total amount allocated for the budget.</li>
+ * <li><b>budgetAmount</b>: Total amount allocated for the budget, in the base
+ * currency.</li>
  * <li><b>progressAmount</b>: Amount spent or saved so far, updated by
  * transactions.</li>
  * <li><b>description</b>: Description or notes about the budget.</li>
@@ -28,6 +29,8 @@ import java.util.UUID;
  * <li><b>endDate</b>: End date of the budget period.</li>
  * <li><b>transactions</b>: List of {@link Transaction} objects associated with
  * this budget.</li>
+ * <li><b>alertLevel</b>: Number of alert thresholds (50%, 80%, 100%) the
+ * progress has already crossed, so each crossing is alerted only once.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -113,6 +116,9 @@ public class Budget implements Serializable {
     /** List of transactions associated with this budget. */
     private List<Transaction> transactions;
 
+    /** Number of alert thresholds the progress has already crossed. */
+    private int alertLevel;
+
     /**
      * Constructs a new Budget with the specified details.
      * Generates a unique budget ID and initializes the transactions list.
@@ -209,6 +215,24 @@ public class Budget implements Serializable {
         this.progressAmount = progressAmount;
     }
 
+    /**
+     * Returns the number of alert thresholds the progress has already crossed.
+     *
+     * @return Alert level, from 0 (none) to the number of thresholds.
+     */
+    public int getAlertLevel() {
+        return alertLevel;
+    }
+
+    /**
+     * Sets the number of alert thresholds the progress has already crossed.
+     *
+     * @param alertLevel New alert level.
+     */
+    public void setAlertLevel(int alertLevel) {
+        this.alertLevel = alertLevel;
+    }
+
     /**
      * Returns the description or notes about the budget.
      *
@@ -0,0 +1,160 @@
+package FinanceTrackerSystem.Models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Represents an alert raised when a budget's progress crosses one of the alert
+ * thresholds (50%, 80% or 100% of the budget amount) in the Finance Tracker
+ * System.
+ *
+ * <h2>Fields</h2>
+ * <ul>
+ * <li><b>userId</b>: UUID of the user owning the budget.</li>
+ * <li><b>budgetId</b>: UUID of the budget that crossed the threshold.</li>
+ * <li><b>budgetName</b>: Name of the budget at the time of the alert.</li>
+ * <li><b>thresholdPercent</b>: The threshold crossed, as a percentage of the
+ * budget amount.</li>
+ * <li><b>progressAmount</b>: Progress of the budget when the threshold was
+ * crossed.</li>
+ * <li><b>budgetAmount</b>: Amount allocated for the budget.</li>
+ * <li><b>raisedAt</b>: Date and time the alert was raised.</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>
+ * BudgetAlert alert = new BudgetAlert(user.getId(), budget, 80);
+ * System.out.println(alert.getThresholdPercent() + "% of " + alert.getBudgetName());
+ * </pre>
+ *
+ * <h2>Relationships</h2>
+ * <ul>
+ * <li>Raised by {@link FinanceTrackerSystem.Controllers.BudgetAlertController}
+ * for a {@link Budget}.</li>
+ * <li>Delivered to every registered
+ * {@link FinanceTrackerSystem.Alerts.BudgetAlertSink}.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>immutable</b> and therefore thread-safe, so alerts can be
+ * handed to sinks that consume them on other threads.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class BudgetAlert {
+    /** UUID of the user owning the budget. */
+    private final UUID userId;
+
+    /** UUID of the budget that crossed the threshold. */
+    private final UUID budgetId;
+
+    /** Name of the budget at the time of the alert. */
+    private final String budgetName;
+
+    /** The threshold crossed, as a percentage of the budget amount. */
+    private final int thresholdPercent;
+
+    /** Progress of the budget when the threshold was crossed. */
+    private final double progressAmount;
+
+    /** Amount allocated for the budget. */
+    private final double budgetAmount;
+
+    /** Date and time the alert was raised. */
+    private final LocalDateTime raisedAt;
+
+    /**
+     * Constructs an alert for a budget from its current state.
+     *
+     * @param userId           UUID of the user owning the budget.
+     * @param budget           The budget that crossed the threshold.
+     * @param thresholdPercent The threshold crossed, as a percentage.
+     */
+    public BudgetAlert(UUID userId, Budget budget, int thresholdPercent) {
+        this.userId = userId;
+        this.budgetId = budget.getBudgetId();
+        this.budgetName = budget.getBudgetName();
+        this.thresholdPercent = thresholdPercent;
+        this.progressAmount = budget.getProgressAmount();
+        this.budgetAmount = budget.getBudgetAmount();
+        this.raisedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Returns the UUID of the user owning the budget.
+     *
+     * @return UUID of the user.
+     */
+    public UUID getUserId() {
+        return userId;
+    }
+
+    /**
+     * Returns the UUID of the budget that crossed the threshold.
+     *
+     * @return UUID of the budget.
+     */
+    public UUID getBudgetId() {
+        return budgetId;
+    }
+
+    /**
+     * Returns the name of the budget at the time of the alert.
+     *
+     * @return Budget name.
+     */
+    public String getBudgetName() {
+        return budgetName;
+    }
+
+    /**
+     * Returns the threshold crossed, as a percentage of the budget amount.
+     *
+     * @return Threshold percentage (e.g., 80).
+     */
+    public int getThresholdPercent() {
+        return thresholdPercent;
+    }
+
+    /**
+     * Returns the progress of the budget when the threshold was crossed.
+     *
+     * @return Progress amount.
+     */
+    public double getProgressAmount() {
+        return progressAmount;
+    }
+
+    /**
+     * Returns the amount allocated for the budget.
+     *
+     * @return Budget amount.
+     */
+    public double getBudgetAmount() {
+        return budgetAmount;
+    }
+
+    /**
+     * Returns the date and time the alert was raised.
+     *
+     * @return Time of the alert.
+     */
+    public LocalDateTime getRaisedAt() {
+        return raisedAt;
+    }
+
+    /**
+     * Returns a one-line string representation of the alert.
+     *
+     * @return String representation of the alert.
+     */
+    @Override
+    public String toString() {
+        return raisedAt + " Budget \"" + budgetName + "\" reached " + thresholdPercent + "% (" + progressAmount
+                + " of " + budgetAmount + ")";
+    }
+}
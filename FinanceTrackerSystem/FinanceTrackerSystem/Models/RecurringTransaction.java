@@ -0,0 +1,258 @@
+package FinanceTrackerSystem.Models;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import FinanceTrackerSystem.Models.enums.RecurrenceFrequency;
+
+/**
+ * Represents a recurring income or expense (e.g., salary, rent,
+ * subscriptions) in the Finance Tracker System.
+ * A recurring transaction is a template that is materialised into regular
+ * {@link Transaction} objects every time one of its occurrences becomes due.
+ *
+ * <h2>Fields</h2>
+ * <ul>
+ * <li><b>recurringId</b>: Unique identifier, generated upon creation.</li>
+ * <li><b>categoryId</b>: UUID of the category of every occurrence.</li>
+ * <li><b>accountId</b>: UUID of the account of every occurrence.</li>
+ * <li><b>title</b>: Title given to every materialised transaction.</li>
+ * <li><b>description</b>: Description given to every materialised
+ * transaction.</li>
+ * <li><b>amount</b>: Amount of every occurrence.</li>
+ * <li><b>frequency</b>: How often the transaction repeats.</li>
+ * <li><b>startDate</b>: Date of the first occurrence.</li>
+ * <li><b>endDate</b>: Date after which no occurrence is due, or null if the
+ * schedule never ends.</li>
+ * <li><b>occurrenceCount</b>: Number of occurrences already materialised.</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>
+ * RecurringTransaction rent = new RecurringTransaction(rentCategoryId, checkingAccountId, "Rent",
+ *         "Monthly rent", 1200.0, RecurrenceFrequency.MONTHLY, LocalDate.of(2025, 1, 1), null);
+ * LocalDate due = rent.getNextDueDate();
+ * rent.advance();
+ * </pre>
+ *
+ * <h2>Relationships</h2>
+ * <ul>
+ * <li>Associated with {@link FinanceTrackerSystem.Models.User} via the user's
+ * recurring transaction list.</li>
+ * <li>Linked to {@link FinanceTrackerSystem.Models.Account} and
+ * {@link FinanceTrackerSystem.Models.Category} by their UUIDs.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>not thread-safe</b>. If instances are shared between
+ * threads, external synchronization is required.
+ * </p>
+ *
+ * <h2>Serialization</h2>
+ * <p>
+ * Implements {@link Serializable} for persistent storage and retrieval of
+ * recurring transaction data.
+ * The {@code serialVersionUID} field ensures compatibility across versions.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class RecurringTransaction implements Serializable {
+    /** Serialization version UID for compatibility. */
+    private static final long serialVersionUID = 1L;
+
+    /** Unique identifier for the recurring transaction. */
+    private UUID recurringId;
+
+    /** UUID of the category of every occurrence. */
+    private UUID categoryId;
+
+    /** UUID of the account of every occurrence. */
+    private UUID accountId;
+
+    /** Title given to every materialised transaction. */
+    private String title;
+
+    /** Description given to every materialised transaction. */
+    private String description;
+
+    /** Amount of every occurrence. */
+    private double amount;
+
+    /** How often the transaction repeats. */
+    private RecurrenceFrequency frequency;
+
+    /** Date of the first occurrence. */
+    private LocalDate startDate;
+
+    /** Date after which no occurrence is due, or null if the schedule never ends. */
+    private LocalDate endDate;
+
+    /** Number of occurrences already materialised. */
+    private long occurrenceCount;
+
+    /**
+     * Constructs a new RecurringTransaction with the specified details.
+     * Generates a unique ID.
+     *
+     * @param categoryId  UUID of the category of every occurrence.
+     * @param accountId   UUID of the account of every occurrence.
+     * @param title       Title given to every materialised transaction.
+     * @param description Description given to every materialised transaction.
+     * @param amount      Amount of every occurrence.
+     * @param frequency   How often the transaction repeats.
+     * @param startDate   Date of the first occurrence.
+     * @param endDate     Date after which no occurrence is due, or null.
+     */
+    public RecurringTransaction(UUID categoryId, UUID accountId, String title, String description, double amount,
+            RecurrenceFrequency frequency, LocalDate startDate, LocalDate endDate) {
+        this.recurringId = UUID.randomUUID();
+        this.categoryId = categoryId;
+        this.accountId = accountId;
+        this.title = title;
+        this.description = description;
+        this.amount = amount;
+        this.frequency = frequency;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.occurrenceCount = 0;
+    }
+
+    /**
+     * Returns the unique identifier of the recurring transaction.
+     *
+     * @return UUID of the recurring transaction.
+     */
+    public UUID getRecurringId() {
+        return recurringId;
+    }
+
+    /**
+     * Returns the UUID of the category of every occurrence.
+     *
+     * @return UUID of the category.
+     */
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    /**
+     * Returns the UUID of the account of every occurrence.
+     *
+     * @return UUID of the account.
+     */
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    /**
+     * Returns the title given to every materialised transaction.
+     *
+     * @return Title of the recurring transaction.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the description given to every materialised transaction.
+     *
+     * @return Description of the recurring transaction.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the amount of every occurrence.
+     *
+     * @return Amount of the recurring transaction.
+     */
+    public double getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns how often the transaction repeats.
+     *
+     * @return Recurrence frequency.
+     */
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Returns the date of the first occurrence.
+     *
+     * @return Start date.
+     */
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Returns the date after which no occurrence is due.
+     *
+     * @return End date, or null if the schedule never ends.
+     */
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Returns the number of occurrences already materialised.
+     *
+     * @return Occurrence count.
+     */
+    public long getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    /**
+     * Returns the due date of the next occurrence that has not been materialised
+     * yet.
+     *
+     * @return Next due date.
+     */
+    public LocalDate getNextDueDate() {
+        return frequency.occurrence(startDate, occurrenceCount);
+    }
+
+    /**
+     * Returns whether the schedule has run past its end date.
+     *
+     * @return true if no further occurrence will ever be due; false otherwise.
+     */
+    public boolean isFinished() {
+        return endDate != null && getNextDueDate().isAfter(endDate);
+    }
+
+    /**
+     * Marks the next occurrence as materialised.
+     */
+    public void advance() {
+        occurrenceCount++;
+    }
+
+    /**
+     * Returns a string representation of the recurring transaction.
+     *
+     * @return String representation of the recurring transaction.
+     */
+    @Override
+    public String toString() {
+        return "Recurring ID: " + recurringId + "\n" +
+                "Category ID: " + categoryId + "\n" +
+                "Account ID: " + accountId + "\n" +
+                "Title: " + title + "\n" +
+                "Description: " + description + "\n" +
+                "Amount: " + amount + "\n" +
+                "Frequency: " + frequency + "\n" +
+                "Next Due Date: " + (isFinished() ? "Finished" : getNextDueDate()) + "\n" +
+                "End Date: " + (endDate == null ? "None" : endDate);
+    }
+}
@@ -27,6 +27,8 @@ import java.util.UUID;
  * transaction.</li>
  * <li><b>amount</b>: Amount of the transaction (positive for income, negative
  * for expense).</li>
+ * <li><b>currency</b>: Currency code of the amount. Transactions created
+ * without a currency use the base currency.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -110,6 +112,9 @@ public class Transaction implements Serializable {
     /** Amount of the transaction (positive for income, negative for expense). */
     private double amount;
 
+    /** Currency code of the amount, or null for the base currency. */
+    private String currency;
+
     /**
      * Constructs a new Transaction with the specified details.
      * Generates a unique transaction ID.
@@ -133,6 +138,25 @@ public class Transaction implements Serializable {
         this.amount = amount;
     }
 
+    /**
+     * Constructs a new Transaction with the specified details and currency.
+     * Generates a unique transaction ID.
+     *
+     * @param categoryId      UUID of the category associated with this transaction.
+     * @param accountId       UUID of the account associated with this transaction.
+     * @param transactionName Title or name of the transaction.
+     * @param transactionDate Date when the transaction occurred.
+     * @param description     Additional details or notes about the transaction.
+     * @param amount          Amount of the transaction.
+     * @param currency        Currency code of the amount, or null for the base
+     *                        currency.
+     */
+    public Transaction(UUID categoryId, UUID accountId, String transactionName, LocalDate transactionDate,
+            String description, double amount, String currency) {
+        this(categoryId, accountId, transactionName, transactionDate, description, amount);
+        this.currency = currency;
+    }
+
     /**
      * Returns the unique identifier for the transaction.
      *
@@ -233,6 +257,24 @@ public class Transaction implements Serializable {
         this.amount = amount;
     }
 
+    /**
+     * Returns the currency code of the amount.
+     *
+     * @return Currency code, or null for the base currency.
+     */
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Sets the currency code of the amount.
+     *
+     * @param currency New currency code, or null for the base currency.
+     */
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
     /**
      * Returns a detailed string representation of the transaction, including all
      * fields.
@@ -247,7 +289,7 @@ public class Transaction implements Serializable {
                 "Transaction Name: " + TransactionName + "\n" +
                 "Transaction Date: " + transactionDate + "\n" +
                 "Description: " + description + "\n" +
-                "Amount: " + amount;
+                "Amount: " + amount + " " + (currency == null ? "(base currency)" : currency);
     }
 
 }
@@ -0,0 +1,248 @@
+package FinanceTrackerSystem.Models;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Represents an inverted index over the titles and descriptions of a user's
+ * transactions in the Finance Tracker System.
+ * Every token of {@link Transaction#getTransactionName()} and
+ * {@link Transaction#getDescription()} maps to the set of transactions that
+ * contain it. Tokens are kept in a sorted map, so a prefix query is a range
+ * scan over the tokens that start with the prefix.
+ *
+ * <h2>Fields</h2>
+ * <ul>
+ * <li><b>postings</b>: Sorted map from token to the transactions containing
+ * it.</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>
+ * TransactionSearchIndex index = user.getSearchIndex();
+ * index.add(transaction);
+ * List&lt;Transaction&gt; hits = index.search("groc sup", LocalDate.of(2025, 1, 1), null, 10.0, null);
+ * index.remove(transaction);
+ * </pre>
+ *
+ * <h2>Tokenization</h2>
+ * <p>
+ * Text is lower-cased and split on every character that is not a letter or a
+ * digit. Every query term is matched as a prefix, and a transaction matches a
+ * query only if it matches all of its terms.
+ * </p>
+ *
+ * <h2>Relationships</h2>
+ * <ul>
+ * <li>Owned by {@link FinanceTrackerSystem.Models.User} and serialized with it,
+ * so it does not need to be rebuilt at startup.</li>
+ * <li>Kept up to date by the transaction controllers on add, edit and
+ * delete.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>not thread-safe</b>. It is only accessed while holding the
+ * owning user's session lock.
+ * </p>
+ *
+ * <h2>Serialization</h2>
+ * <p>
+ * Implements {@link Serializable} for persistent storage together with the
+ * owning user. Transactions are shared references into the user's transaction
+ * list, so they are stored only once.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class TransactionSearchIndex implements Serializable {
+    /** Serialization version UID for compatibility. */
+    private static final long serialVersionUID = 1L;
+
+    /** Sorted map from token to the transactions containing it. */
+    private TreeMap<String, Set<Transaction>> postings;
+
+    /**
+     * Constructs an empty index.
+     */
+    public TransactionSearchIndex() {
+        this.postings = new TreeMap<>();
+    }
+
+    /**
+     * Constructs an index over the given transactions.
+     *
+     * @param transactions Transactions to index.
+     */
+    public TransactionSearchIndex(Collection<Transaction> transactions) {
+        this();
+        for (Transaction transaction : transactions) {
+            add(transaction);
+        }
+    }
+
+    /**
+     * Adds a transaction to the index using its current title and description.
+     *
+     * @param transaction The transaction to index.
+     */
+    public void add(Transaction transaction) {
+        for (String token : tokensOf(transaction)) {
+            postings.computeIfAbsent(token, t -> new HashSet<>()).add(transaction);
+        }
+    }
+
+    /**
+     * Removes a transaction from the index. Must be called before the title or
+     * description of an indexed transaction is changed.
+     *
+     * @param transaction The transaction to remove.
+     */
+    public void remove(Transaction transaction) {
+        for (String token : tokensOf(transaction)) {
+            Set<Transaction> matches = postings.get(token);
+            if (matches != null) {
+                matches.remove(transaction);
+                if (matches.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct tokens in the index.
+     *
+     * @return Token count.
+     */
+    public int getTokenCount() {
+        return postings.size();
+    }
+
+    /**
+     * Searches the index.
+     * Every term of the query is matched as a prefix of an indexed token, and the
+     * results contain only transactions matching all terms and all given filters.
+     * The smallest candidate set is computed first and the others are only used
+     * to filter it.
+     *
+     * @param query     Search terms; a blank query matches every transaction that
+     *                  has at least one token.
+     * @param fromDate  Earliest transaction date (inclusive), or null.
+     * @param toDate    Latest transaction date (inclusive), or null.
+     * @param minAmount Smallest amount (inclusive), or null.
+     * @param maxAmount Largest amount (inclusive), or null.
+     * @return Matching transactions, newest first.
+     */
+    public List<Transaction> search(String query, LocalDate fromDate, LocalDate toDate, Double minAmount,
+            Double maxAmount) {
+        List<String> terms = tokenize(query);
+        List<Set<Transaction>> termMatches = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(terms)) {
+            Set<Transaction> matches = prefixMatches(term);
+            if (matches.isEmpty()) {
+                return new ArrayList<>();
+            }
+            termMatches.add(matches);
+        }
+        termMatches.sort(Comparator.comparingInt(Set::size));
+
+        Collection<Transaction> candidates;
+        if (termMatches.isEmpty()) {
+            Set<Transaction> all = new HashSet<>();
+            for (Set<Transaction> matches : postings.values()) {
+                all.addAll(matches);
+            }
+            candidates = all;
+        } else {
+            candidates = termMatches.get(0);
+        }
+
+        List<Transaction> results = new ArrayList<>();
+        candidateLoop: for (Transaction transaction : candidates) {
+            for (int i = 1; i < termMatches.size(); i++) {
+                if (!termMatches.get(i).contains(transaction)) {
+                    continue candidateLoop;
+                }
+            }
+            LocalDate date = transaction.getTransactionDate();
+            if ((fromDate != null && date.isBefore(fromDate)) || (toDate != null && date.isAfter(toDate))) {
+                continue;
+            }
+            double amount = transaction.getAmount();
+            if ((minAmount != null && amount < minAmount) || (maxAmount != null && amount > maxAmount)) {
+                continue;
+            }
+            results.add(transaction);
+        }
+        results.sort(Comparator.comparing(Transaction::getTransactionDate).reversed());
+        return results;
+    }
+
+    /**
+     * Splits text into lower-case tokens of letters and digits.
+     *
+     * @param text The text to tokenize; may be null.
+     * @return List of tokens.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean tokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the distinct tokens of a transaction's title and description.
+     *
+     * @param transaction The transaction.
+     * @return Set of tokens.
+     */
+    private static Set<String> tokensOf(Transaction transaction) {
+        Set<String> tokens = new HashSet<>(tokenize(transaction.getTransactionName()));
+        tokens.addAll(tokenize(transaction.getDescription()));
+        return tokens;
+    }
+
+    /**
+     * Returns every transaction containing a token that starts with the prefix.
+     *
+     * @param prefix Lower-case prefix.
+     * @return Matching transactions; the posting set itself when a single token
+     *         matches.
+     */
+    private Set<Transaction> prefixMatches(String prefix) {
+        SortedMap<String, Set<Transaction>> range = postings.subMap(prefix, prefix + Character.MAX_VALUE);
+        if (range.size() == 1) {
+            return range.values().iterator().next();
+        }
+        Set<Transaction> matches = new HashSet<>();
+        for (Map.Entry<String, Set<Transaction>> entry : range.entrySet()) {
+            matches.addAll(entry.getValue());
+        }
+        return matches;
+    }
+}
@@ -2,6 +2,7 @@ package FinanceTrackerSystem.Models;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,13 @@ import FinanceTrackerSystem.Models.enums.UserType;
  * financial transactions performed by the user.</li>
  * <li><b>budgets</b>: List of {@link Budget} objects representing the user's
  * budgets for various categories and periods.</li>
+ * <li><b>searchIndex</b>: {@link TransactionSearchIndex} over the titles and
+ * descriptions of the user's transactions.</li>
+ * <li><b>recurringTransactions</b>: List of {@link RecurringTransaction}
+ * templates (e.g., salary, rent) materialised into transactions when due.</li>
+ * <li><b>budgetsByCategory</b>: Transient lookup from category ID to the
+ * budgets of that category, rebuilt on demand after loading or after the
+ * budget list changes.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -107,6 +115,15 @@ public class User implements Serializable {
     /** List of budgets set by the user for various categories and periods. */
     private List<Budget> budgets;
 
+    /** Inverted index over the titles and descriptions of the transactions. */
+    private TransactionSearchIndex searchIndex;
+
+    /** List of recurring incomes and expenses registered by the user. */
+    private List<RecurringTransaction> recurringTransactions;
+
+    /** Budgets grouped by category ID; not persisted, rebuilt on demand. */
+    private transient Map<UUID, List<Budget>> budgetsByCategory;
+
     /**
      * Constructs a new User with the specified profile and user type.
      * Initializes all collections to empty lists or maps.
@@ -123,6 +140,8 @@ public class User implements Serializable {
         this.categoryMap = new HashMap<>(); // Initialize category map
         this.transactions = new ArrayList<>(); // Initialize transactions list
         this.budgets = new ArrayList<>(); // Initialize budgets list
+        this.recurringTransactions = new ArrayList<>(); // Initialize recurring transactions list
+        this.searchIndex = new TransactionSearchIndex(); // Initialize transaction search index
     }
 
     /**
@@ -260,6 +279,61 @@ public class User implements Serializable {
      */
     public void setBudgets(List<Budget> budgets) {
         this.budgets = budgets;
+        this.budgetsByCategory = null;
+    }
+
+    /**
+     * Returns the budgets of a category without scanning the budget list.
+     * The lookup is built on first use and must be invalidated through
+     * {@link #invalidateBudgetIndex()} whenever budgets are added or removed.
+     *
+     * @param categoryId UUID of the category.
+     * @return List of Budget objects of the category; empty if there are none.
+     */
+    public List<Budget> getBudgetsByCategory(UUID categoryId) {
+        if (budgetsByCategory == null) {
+            Map<UUID, List<Budget>> index = new HashMap<>();
+            for (Budget budget : budgets) {
+                index.computeIfAbsent(budget.getCategoryId(), id -> new ArrayList<>()).add(budget);
+            }
+            budgetsByCategory = index;
+        }
+        return budgetsByCategory.getOrDefault(categoryId, Collections.emptyList());
+    }
+
+    /**
+     * Discards the category lookup of budgets so that it is rebuilt on next use.
+     */
+    public void invalidateBudgetIndex() {
+        budgetsByCategory = null;
+    }
+
+    /**
+     * Returns the search index over the user's transactions.
+     * Users persisted before the index existed have it built once from their
+     * transactions on first access; it is then persisted with the user.
+     *
+     * @return The transaction search index.
+     */
+    public TransactionSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new TransactionSearchIndex(transactions);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the list of recurring transactions registered by the user.
+     * Users persisted before recurring transactions existed are given an empty
+     * list on first access.
+     *
+     * @return List of RecurringTransaction objects.
+     */
+    public List<RecurringTransaction> getRecurringTransactions() {
+        if (recurringTransactions == null) {
+            recurringTransactions = new ArrayList<>();
+        }
+        return recurringTransactions;
     }
 
     /**
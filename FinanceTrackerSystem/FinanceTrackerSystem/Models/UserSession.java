@@ -0,0 +1,112 @@
+package FinanceTrackerSystem.Models;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents the session context of a logged-in user in the Finance Tracker
+ * System.
+ * A session is opened on login or registration and is passed explicitly into
+ * every controller call, replacing the former global {@code currentUser}. This
+ * allows one process to serve many users at the same time.
+ *
+ * <h2>Fields</h2>
+ * <ul>
+ * <li><b>user</b>: The {@link User} this session operates on.</li>
+ * <li><b>lock</b>: The per-user lock shared by every session of the same
+ * user. All reads and writes of the user's accounts, categories, transactions
+ * and budgets are performed while holding it.</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>
+ * UserSession session = UserController.openSession(userId);
+ * AccountController.addAccount(session, "Savings", 1000.0);
+ * AccountController.transferFunds(session, "Savings", "Checking", 200.0);
+ * </pre>
+ *
+ * <h2>Relationships</h2>
+ * <ul>
+ * <li>Created by {@link FinanceTrackerSystem.Controllers.UserController}, which
+ * owns the per-user lock registry.</li>
+ * <li>Consumed by all controllers and menus.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * This class is <b>thread-safe</b>. Operations of different users run in
+ * parallel, while operations of the same user are serialized through the
+ * shared {@link ReentrantLock}. The lock is reentrant, so a controller may call
+ * another controller while already holding it.
+ * </p>
+ *
+ * <h2>Serialization</h2>
+ * <p>
+ * Sessions are transient and are not persisted.
+ * </p>
+ *
+ * @author Guru Charan
+ * @version 1.0
+ */
+public class UserSession {
+
+    /** The user this session operates on. */
+    private final User user;
+
+    /** Per-user lock shared by every session of {@link #user}. */
+    private final ReentrantLock lock;
+
+    /**
+     * Constructs a new session for the specified user.
+     *
+     * @param user The logged-in user.
+     * @param lock The per-user lock shared by all sessions of this user.
+     */
+    public UserSession(User user, ReentrantLock lock) {
+        this.user = user;
+        this.lock = lock;
+    }
+
+    /**
+     * Returns the user this session operates on.
+     *
+     * @return The session {@link User}.
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Acquires the per-user lock. Must be paired with {@link #unlock()} in a
+     * {@code finally} block.
+     */
+    public void lock() {
+        lock.lock();
+    }
+
+    /**
+     * Releases the per-user lock.
+     */
+    public void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * Returns whether the current thread holds the per-user lock.
+     *
+     * @return true if the lock is held by the current thread; false otherwise.
+     */
+    public boolean isHeldByCurrentThread() {
+        return lock.isHeldByCurrentThread();
+    }
+
+    /**
+     * Returns a string representation of the session.
+     *
+     * @return String representation of the session.
+     */
+    @Override
+    public String toString() {
+        return "Session of User ID: " + user.getId();
+    }
+}
@@ -0,0 +1,54 @@
+package FinanceTrackerSystem.Models.enums;
+
+import java.time.LocalDate;
+
+/**
+ * Enum representing how often a recurring transaction repeats in the Finance
+ * Tracker System.
+ *
+ * <p>
+ * Typical Usage:
+ *
+ * <pre>
+ * RecurrenceFrequency frequency = RecurrenceFrequency.MONTHLY;
+ * LocalDate third = frequency.occurrence(LocalDate.of(2025, 1, 31), 2); // 2025-03-31
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * Relationships:
+ * <ul>
+ * <li>Used in {@link FinanceTrackerSystem.Models.RecurringTransaction} to
+ * compute due dates.</li>
+ * </ul>
+ * </p>
+ */
+public enum RecurrenceFrequency {
+    /** Repeats every day. */
+    DAILY,
+    /** Repeats every seven days. */
+    WEEKLY,
+    /** Repeats on the same day of every month (e.g., rent, subscriptions). */
+    MONTHLY,
+    /** Repeats on the same day of every year. */
+    YEARLY;
+
+    /**
+     * Returns the date of the n-th occurrence counted from the start date.
+     * Occurrences are always computed from the start date rather than from the
+     * previous occurrence, so a schedule starting on the 31st falls back to the
+     * last day of short months without drifting.
+     *
+     * @param startDate Date of the first occurrence.
+     * @param index     Zero-based index of the occurrence.
+     * @return Date of the occurrence.
+     */
+    public LocalDate occurrence(LocalDate startDate, long index) {
+        return switch (this) {
+            case DAILY -> startDate.plusDays(index);
+            case WEEKLY -> startDate.plusWeeks(index);
+            case MONTHLY -> startDate.plusMonths(index);
+            case YEARLY -> startDate.plusYears(index);
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package NumberConverterSystem.Benchmarks;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import NumberConverterSystem.Helpers.RadixConverter;
+
+/**
+ * The {@code RadixConversionBenchmark} class measures integer base conversion
+ * across input lengths in the Number Converter System.
+ * <p>
+ * For every input length, random values are converted from base 10 to base 16
+ * and from base 36 to base 2 with two strategies:
+ * <ul>
+ * <li><b>radix converter</b>: {@link RadixConverter#convert(String, int, int)},
+ * with the {@code long} fast path and divide-and-conquer conversion.</li>
+ * <li><b>big integer</b>: {@code new BigInteger(value, source).toString(target)},
+ * whose parsing is digit by digit.</li>
+ * </ul>
+ * Each length is warmed up before it is measured, and the results of both
+ * strategies are compared so a wrong conversion fails the run.
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * java NumberConverterSystem.Benchmarks.RadixConversionBenchmark [maxDigits]
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RadixConversionBenchmark {
+
+    /**
+     * The number of random values converted per input length.
+     */
+    private static final int VALUES_PER_LENGTH = 16;
+
+    /**
+     * The target total number of input digits converted per measured pass, so
+     * that short and long inputs get comparable measuring time.
+     */
+    private static final int DIGITS_PER_PASS = 2_000_000;
+
+    /**
+     * Entry point for the benchmark.
+     *
+     * @param args Optional maximum input length in digits (default 100000).
+     */
+    public static void main(String[] args) {
+        int maxDigits = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        Random random = new Random(42);
+        System.out.printf("%-8s %8s %16s %16s%n", "bases", "digits", "radix ns/op", "biginteger ns/op");
+        for (int digits = 10; digits <= maxDigits; digits *= 10) {
+            measure(random, digits, 10, 16);
+            measure(random, digits, 36, 2);
+        }
+    }
+
+    /**
+     * Measures both strategies for one input length and base pair and prints
+     * the average time per conversion.
+     *
+     * @param random     Source of the random values.
+     * @param digits     The input length in digits.
+     * @param sourceBase The base of the inputs.
+     * @param targetBase The base of the outputs.
+     */
+    private static void measure(Random random, int digits, int sourceBase, int targetBase) {
+        String[] values = new String[VALUES_PER_LENGTH];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomDigits(random, digits, sourceBase);
+        }
+        int repetitions = Math.max(1, DIGITS_PER_PASS / (digits * values.length));
+        for (String value : values) {
+            if (!RadixConverter.convert(value, sourceBase, targetBase)
+                    .equals(new BigInteger(value, sourceBase).toString(targetBase))) {
+                throw new IllegalStateException("Conversion mismatch for " + value);
+            }
+        }
+        for (int warmup = 0; warmup < 3; warmup++) {
+            radixPass(values, sourceBase, targetBase, repetitions);
+            bigIntegerPass(values, sourceBase, targetBase, repetitions);
+        }
+        long start = System.nanoTime();
+        long radixChars = radixPass(values, sourceBase, targetBase, repetitions);
+        long radixNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        long bigIntegerChars = bigIntegerPass(values, sourceBase, targetBase, repetitions);
+        long bigIntegerNanos = System.nanoTime() - start;
+        if (radixChars != bigIntegerChars) {
+            throw new IllegalStateException("Output length mismatch");
+        }
+        long operations = (long) repetitions * values.length;
+        System.out.printf("%-8s %8d %16.0f %16.0f%n", sourceBase + "->" + targetBase, digits,
+                (double) radixNanos / operations, (double) bigIntegerNanos / operations);
+    }
+
+    /**
+     * Converts every value with the radix converter.
+     *
+     * @param values      The inputs.
+     * @param sourceBase  The base of the inputs.
+     * @param targetBase  The base of the outputs.
+     * @param repetitions The number of times every value is converted.
+     * @return The total output length, so the work cannot be optimised away.
+     */
+    private static long radixPass(String[] values, int sourceBase, int targetBase, int repetitions) {
+        long chars = 0;
+        for (int r = 0; r < repetitions; r++) {
+            for (String value : values) {
+                chars += RadixConverter.convert(value, sourceBase, targetBase).length();
+            }
+        }
+        return chars;
+    }
+
+    /**
+     * Converts every value through {@link BigInteger}'s own parsing and
+     * formatting.
+     *
+     * @param values      The inputs.
+     * @param sourceBase  The base of the inputs.
+     * @param targetBase  The base of the outputs.
+     * @param repetitions The number of times every value is converted.
+     * @return The total output length, so the work cannot be optimised away.
+     */
+    private static long bigIntegerPass(String[] values, int sourceBase, int targetBase, int repetitions) {
+        long chars = 0;
+        for (int r = 0; r < repetitions; r++) {
+            for (String value : values) {
+                chars += new BigInteger(value, sourceBase).toString(targetBase).length();
+            }
+        }
+        return chars;
+    }
+
+    /**
+     * Returns a random value with the given number of digits and no leading
+     * zero.
+     *
+     * @param random The source of randomness.
+     * @param digits The number of digits.
+     * @param base   The base of the digits.
+     * @return The digits of the value.
+     */
+    private static String randomDigits(Random random, int digits, int base) {
+        char[] chars = new char[digits];
+        chars[0] = Character.forDigit(1 + random.nextInt(base - 1), base);
+        for (int i = 1; i < digits; i++) {
+            chars[i] = Character.forDigit(random.nextInt(base), base);
+        }
+        return new String(chars);
+    }
+}
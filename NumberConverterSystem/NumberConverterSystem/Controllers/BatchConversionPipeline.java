@@ -0,0 +1,370 @@
+package NumberConverterSystem.Controllers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import NumberConverterSystem.Models.BatchReport;
+
+/**
+ * The {@code BatchConversionPipeline} class converts CSV files of any size,
+ * one {@code value,sourceBase,targetBase} request per line, in a streaming
+ * pipeline.
+ * <p>
+ * The input is read with a {@link FileChannel} in chunks that end on a line
+ * boundary. Each chunk is converted on a {@link ForkJoinPool}, split into
+ * slices of {@link #LINES_PER_SLICE} lines that run in parallel. Chunks are
+ * written to the output channel strictly in the order they were read, and only
+ * a bounded number of chunks is in flight at once, so memory use does not
+ * depend on the size of the file.
+ * </p>
+ *
+ * <p>
+ * <b>Output Format:</b> one line per non-blank input line, in input order:
+ *
+ * <pre>
+ * value,sourceBase,targetBase,result
+ * value,sourceBase,targetBase,ERROR
+ * </pre>
+ *
+ * The reason of every failing line is collected in the returned
+ * {@link BatchReport} instead of aborting the batch.
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * BatchConversionPipeline pipeline = new BatchConversionPipeline();
+ * try (FileChannel out = FileChannel.open(Path.of("output.csv"), StandardOpenOption.CREATE,
+ *         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+ *     BatchReport report = pipeline.run(Path.of("input.csv"), out);
+ *     System.out.println(report);
+ * }
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * <b>Thread Safety:</b> A pipeline holds only its configuration, so one
+ * instance may run several batches at the same time.
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BatchConversionPipeline {
+
+    /**
+     * The default number of bytes read from the input per chunk.
+     */
+    public static final int DEFAULT_CHUNK_BYTES = 4 << 20;
+
+    /**
+     * The number of lines converted by one fork-join task.
+     */
+    private static final int LINES_PER_SLICE = 2048;
+
+    /**
+     * The pool the conversions run on.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The number of bytes read from the input per chunk.
+     */
+    private final int chunkBytes;
+
+    /**
+     * The maximum number of chunks read but not yet written.
+     */
+    private final int maxChunksInFlight;
+
+    /**
+     * Constructs a pipeline running on the common fork-join pool with the
+     * default chunk size.
+     */
+    public BatchConversionPipeline() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Constructs a pipeline running on the given pool.
+     *
+     * @param pool       The pool the conversions run on.
+     * @param chunkBytes The number of bytes read from the input per chunk; a
+     *                   line longer than a chunk grows the chunk.
+     */
+    public BatchConversionPipeline(ForkJoinPool pool, int chunkBytes) {
+        this.pool = pool;
+        this.chunkBytes = chunkBytes;
+        this.maxChunksInFlight = Math.max(2, pool.getParallelism() * 2);
+    }
+
+    /**
+     * Converts every line of the input file and writes the results to the output
+     * channel in input order. The output channel is not closed.
+     *
+     * @param input  The CSV file to convert.
+     * @param output The channel the results are written to.
+     * @return The report of the batch, with per-line errors and throughput.
+     * @throws IOException if the input cannot be read or the output cannot be
+     *                     written.
+     */
+    public BatchReport run(Path input, WritableByteChannel output) throws IOException {
+        long start = System.nanoTime();
+        BatchReport report = new BatchReport();
+        ArrayDeque<ForkJoinTask<ChunkResult>> inFlight = new ArrayDeque<>();
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(chunkBytes);
+            long nextLineNumber = 1;
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                endOfFile = channel.read(buffer) == -1;
+                if (!endOfFile && buffer.hasRemaining()) {
+                    continue;
+                }
+                buffer.flip();
+                int end = endOfFile ? buffer.limit() : lastLineEnd(buffer);
+                if (end == 0 && !endOfFile) {
+                    // A single line is longer than the buffer
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer);
+                    continue;
+                }
+                byte[] chunk = new byte[end];
+                buffer.get(chunk);
+                buffer.compact();
+                if (chunk.length == 0) {
+                    continue;
+                }
+                inFlight.add(pool.submit(new ChunkTask(chunk, nextLineNumber)));
+                nextLineNumber += countLines(chunk);
+                if (inFlight.size() >= maxChunksInFlight) {
+                    write(inFlight.poll().join(), output, report);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll().join(), output, report);
+            }
+        } finally {
+            for (ForkJoinTask<ChunkResult> task : inFlight) {
+                task.cancel(true);
+            }
+        }
+        report.elapsedNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    /**
+     * Converts a single CSV line and appends its output line.
+     *
+     * @param line       The input line, without line terminator.
+     * @param lineNumber The 1-based line number, used in error messages.
+     * @param out        The output the result line is appended to.
+     * @param report     The report the line is counted in.
+     */
+    static void convertLine(String line, long lineNumber, StringBuilder out, BatchReport report) {
+        if (line.isBlank()) {
+            return;
+        }
+        report.linesProcessed++;
+        String[] fields = line.split(",");
+        String result;
+        if (fields.length != 3) {
+            result = ConverterController.ERROR_PREFIX + "Expected value,sourceBase,targetBase";
+        } else {
+            try {
+                result = ConverterController.convertValue(fields[0].trim(), Integer.parseInt(fields[1].trim()),
+                        Integer.parseInt(fields[2].trim()));
+            } catch (NumberFormatException nfe) {
+                result = ConverterController.ERROR_PREFIX + "Invalid base - " + nfe.getMessage();
+            }
+        }
+        out.append(line);
+        if (ConverterController.isError(result)) {
+            report.addError(lineNumber, result.replace('\n', ' '));
+            out.append(",ERROR\n");
+        } else {
+            report.successfulLines++;
+            out.append(',').append(result).append('\n');
+        }
+    }
+
+    /**
+     * Writes a converted chunk and adds its counts to the report.
+     *
+     * @param result The converted chunk.
+     * @param output The channel the results are written to.
+     * @param report The report of the batch.
+     * @throws IOException if the output cannot be written.
+     */
+    private static void write(ChunkResult result, WritableByteChannel output, BatchReport report)
+            throws IOException {
+        for (byte[] slice : result.slices) {
+            ByteBuffer bytes = ByteBuffer.wrap(slice);
+            while (bytes.hasRemaining()) {
+                output.write(bytes);
+            }
+        }
+        report.merge(result.report);
+    }
+
+    /**
+     * Returns the index after the last line terminator in the buffer, a line
+     * feed or a carriage return as {@link #countLines(byte[])} counts them. A
+     * carriage return in the last byte is not used, since the line feed of a
+     * CRLF pair may follow in the next read.
+     *
+     * @param buffer A buffer ready for reading.
+     * @return The index after the last line terminator, or 0 if there is none.
+     */
+    private static int lastLineEnd(ByteBuffer buffer) {
+        for (int i = buffer.limit() - 1; i >= buffer.position(); i--) {
+            byte b = buffer.get(i);
+            if (b == '\n' || (b == '\r' && i < buffer.limit() - 1)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Counts the lines of a chunk the way {@link String#lines()} splits them: a
+     * line ends with a line feed, a carriage return, or a carriage return
+     * followed by a line feed, and a last line without a terminator counts too.
+     *
+     * @param chunk The chunk.
+     * @return The number of lines.
+     */
+    private static int countLines(byte[] chunk) {
+        int lines = 0;
+        for (int i = 0; i < chunk.length; i++) {
+            if (chunk[i] == '\r') {
+                lines++;
+                if (i + 1 < chunk.length && chunk[i + 1] == '\n') {
+                    i++;
+                }
+            } else if (chunk[i] == '\n') {
+                lines++;
+            }
+        }
+        byte last = chunk[chunk.length - 1];
+        return last == '\n' || last == '\r' ? lines : lines + 1;
+    }
+
+    /**
+     * The converted output and counts of one chunk.
+     */
+    private static class ChunkResult {
+        /** The encoded output of each slice, in input order. */
+        final List<byte[]> slices = new ArrayList<>();
+
+        /** The counts and errors of the chunk. */
+        final BatchReport report = new BatchReport();
+    }
+
+    /**
+     * Converts one chunk by forking one task per slice of lines and collecting
+     * their output in input order.
+     */
+    private static class ChunkTask extends RecursiveTask<ChunkResult> {
+        /** Serialization version UID, as required by {@link ForkJoinTask}. */
+        private static final long serialVersionUID = 1L;
+
+        /** The raw bytes of the chunk, ending on a line boundary. */
+        private final byte[] chunk;
+
+        /** The line number of the first line of the chunk. */
+        private final long firstLineNumber;
+
+        /**
+         * Constructs a task for one chunk.
+         *
+         * @param chunk           The raw bytes of the chunk.
+         * @param firstLineNumber The line number of the first line of the chunk.
+         */
+        ChunkTask(byte[] chunk, long firstLineNumber) {
+            this.chunk = chunk;
+            this.firstLineNumber = firstLineNumber;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            String text = new String(chunk, StandardCharsets.UTF_8);
+            List<String> lines = text.lines().toList();
+            List<SliceTask> slices = new ArrayList<>();
+            for (int from = 0; from < lines.size(); from += LINES_PER_SLICE) {
+                slices.add(new SliceTask(lines, from, Math.min(from + LINES_PER_SLICE, lines.size()),
+                        firstLineNumber + from));
+            }
+            ForkJoinTask.invokeAll(slices);
+            ChunkResult result = new ChunkResult();
+            for (SliceTask slice : slices) {
+                result.slices.add(slice.output);
+                result.report.merge(slice.report);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Converts a contiguous slice of the lines of a chunk.
+     */
+    private static class SliceTask extends RecursiveTask<Void> {
+        /** Serialization version UID, as required by {@link ForkJoinTask}. */
+        private static final long serialVersionUID = 1L;
+
+        /** The lines of the chunk. */
+        private final List<String> lines;
+
+        /** Index of the first line of the slice. */
+        private final int from;
+
+        /** Index after the last line of the slice. */
+        private final int to;
+
+        /** The line number of the first line of the slice. */
+        private final long firstLineNumber;
+
+        /** The encoded output of the slice, set when the task completes. */
+        byte[] output;
+
+        /** The counts and errors of the slice. */
+        final BatchReport report = new BatchReport();
+
+        /**
+         * Constructs a task for one slice.
+         *
+         * @param lines           The lines of the chunk.
+         * @param from            Index of the first line of the slice.
+         * @param to              Index after the last line of the slice.
+         * @param firstLineNumber The line number of the first line of the slice.
+         */
+        SliceTask(List<String> lines, int from, int to, long firstLineNumber) {
+            this.lines = lines;
+            this.from = from;
+            this.to = to;
+            this.firstLineNumber = firstLineNumber;
+        }
+
+        @Override
+        protected Void compute() {
+            StringBuilder out = new StringBuilder((to - from) * 32);
+            for (int i = from; i < to; i++) {
+                convertLine(lines.get(i), firstLineNumber + (i - from), out, report);
+            }
+            output = out.toString().getBytes(StandardCharsets.UTF_8);
+            return null;
+        }
+    }
+}
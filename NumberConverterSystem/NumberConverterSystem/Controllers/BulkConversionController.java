@@ -0,0 +1,402 @@
+package NumberConverterSystem.Controllers;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import NumberConverterSystem.Helpers.RadixConverter;
+import NumberConverterSystem.Models.BulkConversionResult;
+
+/**
+ * The {@code BulkConversionController} class provides static utility methods
+ * for converting whole columns of values between bases, for data-pipeline use,
+ * without creating a {@code Conversion} or {@link String} per value.
+ * <p>
+ * A bulk conversion makes two parallel passes over the column, split in
+ * chunks of {@link #CHUNK_SIZE} values. The first pass computes the exact
+ * number of digits of every value; the lengths are turned into offsets, one
+ * output buffer of the exact total size is allocated, and the second pass
+ * writes the digits of every value directly into its slice of that buffer.
+ * </p>
+ *
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Bases 2, 4 and 16 are written a whole byte of the value at a time from a
+ * lookup table of the digits of every byte; bases 8 and 32 a digit at a time
+ * by shifting and masking, without division.</li>
+ * <li>Other bases are written two digits per division from a lookup table of
+ * every two-digit group.</li>
+ * <li>Text values that fit in a {@code long} are parsed in place; longer,
+ * fractional or invalid values fall back to
+ * {@link ConverterController#convertValue(String, int, int)}, so every value
+ * converts exactly as it would one at a time.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * BulkConversionResult hex = BulkConversionController.convert(new long[] { 255, 4096 }, 16);
+ * BulkConversionResult binary = BulkConversionController.convert(new String[] { "ff", "zz" }, 16, 2);
+ * System.out.println(binary.get(0) + " " + binary.isError(1)); // 11111111 true
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BulkConversionController {
+
+    /**
+     * The number of values processed by one parallel task.
+     */
+    public static final int CHUNK_SIZE = 4096;
+
+    /**
+     * The digit characters, indexed by digit value.
+     */
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    /**
+     * For bases 2, 4 and 16, the digits of every byte value:
+     * {@code 8 / log2(base)} characters per byte, zero-padded.
+     */
+    private static final char[][] BYTE_DIGITS = new char[17][];
+
+    /**
+     * For bases that are not powers of two, the two digits of every value below
+     * {@code base * base}.
+     */
+    private static final char[][] DIGIT_PAIRS = new char[RadixConverter.MAX_BASE + 1][];
+
+    /**
+     * Per base, the powers {@code base^1 .. base^m} that fit in a {@code long},
+     * used to count digits without division.
+     */
+    private static final long[][] POWERS = new long[RadixConverter.MAX_BASE + 1][];
+
+    /**
+     * Per base, the number of digits of {@code 2^(bits - 1)} for every bit length
+     * from 1 to 63; a value of that bit length has this many digits or one more.
+     */
+    private static final int[][] DIGITS_FOR_BITS = new int[RadixConverter.MAX_BASE + 1][];
+
+    static {
+        for (int base : new int[] { 2, 4, 16 }) {
+            int digitsPerByte = 8 / Integer.numberOfTrailingZeros(base);
+            char[] table = new char[256 * digitsPerByte];
+            for (int value = 0; value < 256; value++) {
+                int remaining = value;
+                for (int position = digitsPerByte - 1; position >= 0; position--) {
+                    table[value * digitsPerByte + position] = DIGITS[remaining % base];
+                    remaining /= base;
+                }
+            }
+            BYTE_DIGITS[base] = table;
+        }
+        for (int base = RadixConverter.MIN_BASE; base <= RadixConverter.MAX_BASE; base++) {
+            int count = 0;
+            long[] powers = new long[64];
+            for (long power = base; ; power *= base) {
+                powers[count++] = power;
+                if (power > Long.MAX_VALUE / base) {
+                    break;
+                }
+            }
+            POWERS[base] = Arrays.copyOf(powers, count);
+            DIGITS_FOR_BITS[base] = new int[64];
+            for (int bits = 1; bits < 64; bits++) {
+                DIGITS_FOR_BITS[base][bits] = Long.toString(1L << (bits - 1), base).length();
+            }
+            if (Integer.bitCount(base) != 1) {
+                char[] pairs = new char[base * base * 2];
+                for (int value = 0; value < base * base; value++) {
+                    pairs[value * 2] = DIGITS[value / base];
+                    pairs[value * 2 + 1] = DIGITS[value % base];
+                }
+                DIGIT_PAIRS[base] = pairs;
+            }
+        }
+    }
+
+    /**
+     * Converts a column of {@code long} values to a target base.
+     *
+     * @param values     The values to convert.
+     * @param targetBase The base to which the values should be converted.
+     * @return The converted values, in input order.
+     * @throws NumberFormatException if the target base is unsupported.
+     */
+    public static BulkConversionResult convert(long[] values, int targetBase) {
+        RadixConverter.checkBase(targetBase);
+        BulkConversionResult result = new BulkConversionResult(values.length);
+        int[] offsets = result.offsets;
+        long[] chunkLengths = new long[chunkCount(values.length)];
+        forEachChunk(values.length, chunk -> {
+            long total = 0;
+            for (int i = chunkStart(chunk); i < chunkEnd(chunk, values.length); i++) {
+                offsets[i + 1] = length(values[i], targetBase);
+                total += offsets[i + 1];
+            }
+            chunkLengths[chunk] = total;
+        });
+        allocate(result, chunkLengths);
+        char[] digits = result.digits;
+        forEachChunk(values.length, chunk -> {
+            for (int i = chunkStart(chunk); i < chunkEnd(chunk, values.length); i++) {
+                write(values[i], targetBase, digits, offsets[i], offsets[i + 1]);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Converts a column of textual values from a source base to a target base.
+     * A value that cannot be converted is reported in the result with the same
+     * error message {@link ConverterController#convertValue(String, int, int)}
+     * returns; a {@code null} value is reported as empty.
+     *
+     * @param values     The values to convert, each with an optional sign.
+     * @param sourceBase The base in which the values are represented.
+     * @param targetBase The base to which the values should be converted.
+     * @return The converted values, in input order.
+     * @throws NumberFormatException if a base is unsupported.
+     */
+    public static BulkConversionResult convert(CharSequence[] values, int sourceBase, int targetBase) {
+        RadixConverter.checkBase(sourceBase);
+        RadixConverter.checkBase(targetBase);
+        BulkConversionResult result = new BulkConversionResult(values.length);
+        int[] offsets = result.offsets;
+        long[] parsed = new long[values.length];
+        String[] fallback = new String[values.length];
+        int maxDigits = POWERS[sourceBase].length;
+        long[] chunkLengths = new long[chunkCount(values.length)];
+        forEachChunk(values.length, chunk -> {
+            long total = 0;
+            for (int i = chunkStart(chunk); i < chunkEnd(chunk, values.length); i++) {
+                CharSequence value = values[i] == null ? "" : values[i];
+                if (parse(value, sourceBase, maxDigits, parsed, i)) {
+                    offsets[i + 1] = length(parsed[i], targetBase);
+                } else {
+                    String converted = ConverterController.convertValue(value.toString(), sourceBase, targetBase);
+                    if (ConverterController.isError(converted)) {
+                        result.errorMessages[i] = converted;
+                    } else {
+                        fallback[i] = converted;
+                        offsets[i + 1] = converted.length();
+                    }
+                }
+                total += offsets[i + 1];
+            }
+            chunkLengths[chunk] = total;
+        });
+        allocate(result, chunkLengths);
+        char[] digits = result.digits;
+        forEachChunk(values.length, chunk -> {
+            for (int i = chunkStart(chunk); i < chunkEnd(chunk, values.length); i++) {
+                if (fallback[i] != null) {
+                    fallback[i].getChars(0, fallback[i].length(), digits, offsets[i]);
+                } else if (result.errorMessages[i] == null) {
+                    write(parsed[i], targetBase, digits, offsets[i], offsets[i + 1]);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Turns the value lengths stored at {@code offsets[i + 1]} into offsets and
+     * allocates the digit buffer.
+     *
+     * @param result       The result whose offsets hold the lengths.
+     * @param chunkLengths The total length of each chunk.
+     * @throws IllegalArgumentException if the digits do not fit in one array.
+     */
+    private static void allocate(BulkConversionResult result, long[] chunkLengths) {
+        long[] chunkOffsets = new long[chunkLengths.length];
+        long total = 0;
+        for (int chunk = 0; chunk < chunkLengths.length; chunk++) {
+            chunkOffsets[chunk] = total;
+            total += chunkLengths[chunk];
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                    String.format("%d output digits do not fit in one buffer, convert fewer values at once", total));
+        }
+        int[] offsets = result.offsets;
+        int size = offsets.length - 1;
+        forEachChunk(size, chunk -> {
+            int running = (int) chunkOffsets[chunk];
+            for (int i = chunkStart(chunk); i < chunkEnd(chunk, size); i++) {
+                running += offsets[i + 1];
+                offsets[i + 1] = running;
+            }
+        });
+        result.digits = new char[(int) total];
+    }
+
+    /**
+     * Parses a value that fits in a {@code long}.
+     *
+     * @param value     The value, with an optional sign.
+     * @param base      The base of the digits.
+     * @param maxDigits The number of digits of the base that always fit.
+     * @param parsed    The column the parsed value is stored in.
+     * @param index     The index of the value.
+     * @return {@code true} if the value was parsed; {@code false} if it is
+     *         empty, too long, fractional or invalid.
+     */
+    private static boolean parse(CharSequence value, int base, int maxDigits, long[] parsed, int index) {
+        int length = value.length();
+        int start = length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        if (length == start || length - start > maxDigits) {
+            return false;
+        }
+        long magnitude = 0;
+        for (int i = start; i < length; i++) {
+            int digit = Character.digit(value.charAt(i), base);
+            if (digit < 0) {
+                return false;
+            }
+            magnitude = magnitude * base + digit;
+        }
+        parsed[index] = value.charAt(0) == '-' ? -magnitude : magnitude;
+        return true;
+    }
+
+    /**
+     * Returns the number of characters of a value in a base, including a sign.
+     *
+     * @param value The value.
+     * @param base  The base.
+     * @return The number of characters.
+     */
+    private static int length(long value, int base) {
+        if (value == Long.MIN_VALUE) {
+            return Long.toString(value, base).length();
+        }
+        long magnitude = Math.abs(value);
+        int sign = value < 0 ? 1 : 0;
+        if (Integer.bitCount(base) == 1) {
+            int bits = Math.max(1, 64 - Long.numberOfLeadingZeros(magnitude));
+            int shift = Integer.numberOfTrailingZeros(base);
+            return sign + (bits + shift - 1) / shift;
+        }
+        int digits = DIGITS_FOR_BITS[base][Math.max(1, 64 - Long.numberOfLeadingZeros(magnitude))];
+        long[] powers = POWERS[base];
+        if (digits <= powers.length && magnitude >= powers[digits - 1]) {
+            digits++;
+        }
+        return sign + digits;
+    }
+
+    /**
+     * Writes the characters of a value into {@code buffer[start .. end - 1]},
+     * whose length is exactly the value's length.
+     *
+     * @param value  The value.
+     * @param base   The base.
+     * @param buffer The output buffer.
+     * @param start  Index of the first character.
+     * @param end    Index after the last character.
+     */
+    private static void write(long value, int base, char[] buffer, int start, int end) {
+        if (value == Long.MIN_VALUE) {
+            Long.toString(value, base).getChars(0, end - start, buffer, start);
+            return;
+        }
+        if (value < 0) {
+            buffer[start++] = '-';
+        }
+        long magnitude = Math.abs(value);
+        int position = end;
+        char[] byteDigits = base <= 16 ? BYTE_DIGITS[base] : null;
+        if (byteDigits != null) {
+            int digitsPerByte = 8 / Integer.numberOfTrailingZeros(base);
+            while (position - start >= digitsPerByte) {
+                position -= digitsPerByte;
+                int from = (int) (magnitude & 0xff) * digitsPerByte;
+                for (int k = 0; k < digitsPerByte; k++) {
+                    buffer[position + k] = byteDigits[from + k];
+                }
+                magnitude >>>= 8;
+            }
+            int shift = Integer.numberOfTrailingZeros(base);
+            while (position > start) {
+                buffer[--position] = DIGITS[(int) (magnitude & (base - 1))];
+                magnitude >>>= shift;
+            }
+        } else if (Integer.bitCount(base) == 1) {
+            int shift = Integer.numberOfTrailingZeros(base);
+            while (position > start) {
+                buffer[--position] = DIGITS[(int) (magnitude & (base - 1))];
+                magnitude >>>= shift;
+            }
+        } else {
+            char[] pairs = DIGIT_PAIRS[base];
+            int square = base * base;
+            while (position - start >= 2) {
+                long quotient = magnitude / square;
+                int pair = (int) (magnitude - quotient * square);
+                magnitude = quotient;
+                position -= 2;
+                buffer[position] = pairs[pair * 2];
+                buffer[position + 1] = pairs[pair * 2 + 1];
+            }
+            if (position > start) {
+                buffer[--position] = DIGITS[(int) magnitude];
+            }
+        }
+    }
+
+    /**
+     * Runs a task for every chunk of a column, in parallel.
+     *
+     * @param size The number of values in the column.
+     * @param task The task, given the chunk index.
+     */
+    private static void forEachChunk(int size, IntConsumer task) {
+        int chunks = chunkCount(size);
+        if (chunks <= 1) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                task.accept(chunk);
+            }
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(task);
+        }
+    }
+
+    /**
+     * Returns the number of chunks of a column.
+     *
+     * @param size The number of values in the column.
+     * @return The number of chunks.
+     */
+    private static int chunkCount(int size) {
+        return (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    /**
+     * Returns the index of the first value of a chunk.
+     *
+     * @param chunk The chunk index.
+     * @return The index of the first value.
+     */
+    private static int chunkStart(int chunk) {
+        return chunk * CHUNK_SIZE;
+    }
+
+    /**
+     * Returns the index after the last value of a chunk.
+     *
+     * @param chunk The chunk index.
+     * @param size  The number of values in the column.
+     * @return The index after the last value.
+     */
+    private static int chunkEnd(int chunk, int size) {
+        return Math.min(size, (chunk + 1) * CHUNK_SIZE);
+    }
+}
@@ -1,6 +1,9 @@
 package NumberConverterSystem.Controllers;
 
 import NumberConverterSystem.Models.User;
+import NumberConverterSystem.Helpers.ConversionCache;
+import NumberConverterSystem.Helpers.FractionConverter;
+import NumberConverterSystem.Helpers.RadixConverter;
 import NumberConverterSystem.Models.Conversion;
 
 /**
@@ -21,12 +24,15 @@ import NumberConverterSystem.Models.Conversion;
  * <b>Features:</b>
  * <ul>
  * <li>Detects if a number is integer-only or contains a fractional part.</li>
- * <li>Converts integer numbers from a source base to a target base.</li>
- * <li>Converts fractional numbers from a source base to a target base with
- * configurable precision.</li>
+ * <li>Converts integer numbers of any length from a source base to a target
+ * base through {@link RadixConverter}.</li>
+ * <li>Converts fractional numbers from a source base to a target base exactly,
+ * with configurable precision and repeating cycles shown as "0.1(6)".</li>
  * <li>Handles conversion errors gracefully and provides error messages.</li>
  * <li>Tracks conversion history for each user and allows undoing the last
  * conversion.</li>
+ * <li>Memoizes conversion results in a bounded {@link ConversionCache}, so
+ * repeated conversions skip the arithmetic.</li>
  * </ul>
  * </p>
  *
@@ -57,13 +63,33 @@ public class ConverterController {
         return !value.contains(".");
     }
 
+    /**
+     * The prefix of every error message returned in place of a converted value.
+     */
+    public static final String ERROR_PREFIX = "Error - ";
+
+    /**
+     * The number of fractional digits produced by
+     * {@link #convertDecimalToTargetBase(String, int, int)}, including those of a
+     * repeating cycle.
+     */
+    public static int FRACTION_PRECISION = 5;
+
+    /**
+     * The cache of conversion results used by
+     * {@link #convertNumber(int, String, int, int)}. Its memory budget can be
+     * changed at runtime with {@link ConversionCache#setMemoryBudget(long)}.
+     */
+    public static final ConversionCache CONVERSION_CACHE = new ConversionCache(
+            ConversionCache.DEFAULT_MEMORY_BUDGET_BYTES);
+
     /**
      * Converts an integer value from a specified source base to a target base.
      * <p>
-     * This method parses the input string as an integer in the source base, then
-     * converts it to the target base.
-     * If the input is invalid for the given source base, an error message is
-     * returned.
+     * This method converts the input string with {@link RadixConverter}, so values
+     * of any length are supported, not only those that fit in an {@code int}.
+     * If the input or a base is invalid, only an error message is returned and no
+     * conversion is performed.
      * </p>
      *
      * @param inputValue The string representation of the integer value to convert.
@@ -74,99 +100,89 @@ public class ConverterController {
      *         message if conversion fails.
      */
     public static String convertIntegerToTargetBase(String inputValue, int sourceBase, int targetBase) {
-        int base10Value = 0;
-        String targetBaseValue;
-        String errorMessage = new String();
-
         try {
-            base10Value = Integer.parseInt(inputValue, sourceBase);
+            return RadixConverter.convert(inputValue, sourceBase, targetBase);
         } catch (NumberFormatException nfe) {
-            errorMessage = String.format("Error - Please Give a Valid Value for the given Base\n%s", nfe.getMessage());
+            return String.format("%sPlease Give a Valid Value for the given Base\n%s", ERROR_PREFIX, nfe.getMessage());
         }
-
-        targetBaseValue = Integer.toString(base10Value, targetBase);
-        return errorMessage.isEmpty() ? targetBaseValue : errorMessage;
     }
 
     /**
-     * Converts the fractional part of a number from a specified source base to base
-     * 10.
-     * <p>
-     * For example, given the fraction part "101" in base 2, this method computes
-     * its base 10 equivalent.
-     * Each digit is divided by the source base raised to the power of its position
-     * (starting from 1).
-     * </p>
+     * Checks whether a value returned by the conversion methods is an error
+     * message rather than a converted value.
      *
-     * @param fractionPart The string representation of the fractional part (digits
-     *                     after the decimal point).
-     * @param sourceBase   The base in which the fraction part is represented.
-     * @return The base 10 equivalent of the fractional part as a double.
+     * @param result The value returned by a conversion method.
+     * @return {@code true} if the value is an error message; {@code false}
+     *         otherwise.
      */
-    private static double convertFractionToBase10(String fractionPart, int sourceBase) {
-        double base10Fraction = 0.0;
-        for (int i = 0; i < fractionPart.length(); i++) {
-            char c = fractionPart.charAt(i);
-            int digit = Character.digit(c, sourceBase);
-            base10Fraction += digit / Math.pow(sourceBase, i + 1);
-        }
-        return base10Fraction;
+    public static boolean isError(String result) {
+        return result.startsWith(ERROR_PREFIX);
     }
 
     /**
-     * Converts a base 10 fractional value to a target base with specified
-     * precision.
-     * <p>
-     * This method repeatedly multiplies the fractional part by the target base,
-     * extracts the integer part,
-     * and appends its digit representation to the result. The process continues
-     * until the fraction becomes zero
-     * or the desired precision is reached.
-     * </p>
+     * Converts a decimal number (with both integer and fractional parts) from a
+     * source base to a target base, with {@link #FRACTION_PRECISION} fractional
+     * digits.
      *
-     * @param fraction   The base 10 fractional value to convert.
-     * @param targetBase The base to which the fraction should be converted.
-     * @param precision  The maximum number of digits to generate in the target
-     *                   base.
-     * @return The string representation of the converted fractional part in the
-     *         target base.
+     * @param inputValue The string representation of the decimal number to convert
+     *                   (e.g., "101.11").
+     * @param sourceBase The base in which the input value is represented.
+     * @param targetBase The base to which the value should be converted.
+     * @return The converted value as a string in the target base, combining both
+     *         integer and fractional parts, or an error message if conversion
+     *         fails.
      */
-    private static String convertBase10FractionToTarget(double fraction, int targetBase, int precision) {
-        StringBuilder convertedFraction = new StringBuilder();
-
-        while (fraction != 0.0 && precision > 0) {
-            fraction *= targetBase;
-            int digit = (int) fraction;
-            convertedFraction.append(Character.forDigit(digit, targetBase));
-            fraction -= digit;
-            precision--;
-        }
-        return convertedFraction.toString();
+    public static String convertDecimalToTargetBase(String inputValue, int sourceBase, int targetBase) {
+        return convertDecimalToTargetBase(inputValue, sourceBase, targetBase, FRACTION_PRECISION);
     }
 
     /**
      * Converts a decimal number (with both integer and fractional parts) from a
      * source base to a target base.
      * <p>
-     * The method splits the input value into integer and fractional parts, converts
-     * each part separately,
-     * and then combines them into the final result. The fractional part is
-     * converted with a fixed precision of 5 digits.
+     * The method splits the input value into sign, integer and fractional parts,
+     * converts each part separately, and then combines them into the final result.
+     * The fractional part is converted exactly with {@link FractionConverter}; a
+     * repeating cycle that completes within the precision is written in
+     * parentheses (e.g., "0.1(6)"), otherwise the digits are truncated to the
+     * precision. An empty integer part (e.g., ".5") is read as zero. If either part
+     * is invalid, only an error message is returned.
      * </p>
      *
      * @param inputValue The string representation of the decimal number to convert
      *                   (e.g., "101.11").
      * @param sourceBase The base in which the input value is represented.
      * @param targetBase The base to which the value should be converted.
+     * @param precision  The maximum number of fractional digits in the target
+     *                   base.
      * @return The converted value as a string in the target base, combining both
-     *         integer and fractional parts.
+     *         integer and fractional parts, or an error message if conversion
+     *         fails.
      */
-    public static String convertDecimalToTargetBase(String inputValue, int sourceBase, int targetBase) {
-        String[] parts = inputValue.split("\\.");
-        String integerPart = convertIntegerToTargetBase(parts[0], sourceBase, targetBase);
-        double base10Fraction = convertFractionToBase10(parts[1], sourceBase);
-        String fractionalPart = convertBase10FractionToTarget(base10Fraction, targetBase, 5);
-
+    public static String convertDecimalToTargetBase(String inputValue, int sourceBase, int targetBase,
+            int precision) {
+        int point = inputValue.indexOf('.');
+        String sign = inputValue.startsWith("-") ? "-" : "";
+        String integerDigits = inputValue.substring(0, point);
+        if (integerDigits.equals(sign) || integerDigits.equals("+")) {
+            integerDigits = "0";
+        }
+        String integerPart = convertIntegerToTargetBase(integerDigits, sourceBase, targetBase);
+        if (isError(integerPart)) {
+            return integerPart;
+        }
+        String fractionalPart;
+        try {
+            fractionalPart = FractionConverter.convert(inputValue.substring(point + 1), sourceBase, targetBase,
+                    precision);
+        } catch (IllegalArgumentException iae) {
+            return String.format("%sPlease Give a Valid Value for the given Base\n%s", ERROR_PREFIX,
+                    iae.getMessage());
+        }
+        // The sign of "-0.5" is lost when its integer part is converted on its own
+        if (!sign.isEmpty() && !integerPart.startsWith("-")) {
+            integerPart = sign + integerPart;
+        }
         return String.format("%s.%s", integerPart, fractionalPart);
     }
 
@@ -177,7 +193,9 @@ public class ConverterController {
      * This method determines whether the input value is integer-only or contains a
      * fractional part,
      * performs the appropriate conversion, and records the conversion in the user's
-     * session history.
+     * session history and session statistics.
+     * The result is looked up in {@link #CONVERSION_CACHE} first; a cached result
+     * is recorded exactly like a freshly computed one.
      * If the user is not found, an error message is printed and an empty string is
      * returned.
      * </p>
@@ -198,22 +216,37 @@ public class ConverterController {
             return "";
         }
         user.currentSessionConversions.add(c);
+        String result = CONVERSION_CACHE.get(inputValue, sourceBase, targetBase, FRACTION_PRECISION,
+                () -> convertValue(inputValue, sourceBase, targetBase));
+        if (isError(result)) {
+            c.errorMessage = result;
+        } else {
+            c.result = result;
+        }
+        user.getSessionStats().record(sourceBase, targetBase, !isError(result));
+        return result;
+    }
+
+    /**
+     * Converts a number (integer or decimal) from a source base to a target base
+     * without recording it for any user.
+     * <p>
+     * This is the conversion step of
+     * {@link #convertNumber(int, String, int, int)}, used directly where values
+     * are converted in bulk.
+     * </p>
+     *
+     * @param inputValue The string representation of the number to convert.
+     * @param sourceBase The base in which the input value is represented.
+     * @param targetBase The base to which the value should be converted.
+     * @return The converted value as a string in the target base, or an error
+     *         message if conversion fails.
+     */
+    public static String convertValue(String inputValue, int sourceBase, int targetBase) {
         if (isIntegerOnly(inputValue)) {
-            String result = convertIntegerToTargetBase(inputValue, sourceBase, targetBase);
-            if (result.contains("error")) {
-                c.errorMessage = result;
-            } else {
-                c.result = result;
-            }
-            return result;
+            return convertIntegerToTargetBase(inputValue, sourceBase, targetBase);
         } else {
-            String result = convertDecimalToTargetBase(inputValue, sourceBase, targetBase);
-            if (result.contains("error")) {
-                c.errorMessage = result;
-            } else {
-                c.result = result;
-            }
-            return result;
+            return convertDecimalToTargetBase(inputValue, sourceBase, targetBase);
         }
     }
 
@@ -222,7 +255,7 @@ public class ConverterController {
      * session.
      * <p>
      * This method removes the most recent conversion from the user's session
-     * history and increments
+     * history and its session statistics, and increments
      * the user's undo count. If there are no conversions to undo, it returns
      * {@code false}.
      * </p>
@@ -235,8 +268,11 @@ public class ConverterController {
     public static boolean undoLastConversion(int userId) {
         User currentUser = UserController.getUserById(userId);
         if (currentUser.currentSessionConversions.size() >= 1) {
-            currentUser.currentSessionConversions.remove(currentUser.currentSessionConversions.size() - 1);
+            Conversion c = currentUser.currentSessionConversions
+                    .remove(currentUser.currentSessionConversions.size() - 1);
             currentUser.undoCountInCurrentSession += 1;
+            currentUser.getSessionStats().remove(c.sourceBase, c.targetBase, c.errorMessage.isEmpty());
+            currentUser.getSessionStats().undoCount += 1;
             return true;
         } else {
             return false;
@@ -0,0 +1,406 @@
+package NumberConverterSystem.Controllers;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import NumberConverterSystem.Models.CompactHistory;
+import NumberConverterSystem.Models.Conversion;
+import NumberConverterSystem.Models.ExportJob;
+import NumberConverterSystem.Models.User;
+import NumberConverterSystem.Models.enums.ExportFormat;
+
+/**
+ * The {@code ExportController} class provides static methods for exporting
+ * conversions to files in the background, so that large histories export
+ * without stalling the session.
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Exports run one after another on a single daemon thread and are tracked
+ * by an {@link ExportJob} with live progress.</li>
+ * <li>Output to any path in any {@link ExportFormat}: text, CSV or compact
+ * binary.</li>
+ * <li>The history is streamed from {@link CompactHistory} one day at a time;
+ * the user is only locked while a day is read, never while it is written.</li>
+ * <li>Files are written to a {@code .part} file first and moved into place
+ * when complete, so a failed export never leaves a truncated file behind.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * ExportJob job = ExportController.exportHistoryAsync(userId, Path.of("history.csv"), ExportFormat.CSV);
+ * job.completion.thenAccept(done -> System.out.println(done));
+ * for (ExportJob running : ExportController.getJobs()) {
+ *     System.out.println(running);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ExportController {
+
+    /**
+     * The directory of the default export files.
+     */
+    private static final String DEFAULT_EXPORT_DIRECTORY_PATH = "E:\\CODE GALLATA\\OVERALL NOTES\\LONG CODING & DESIGN PATTERNS\\SAMPLE CODE\\NumberConverterSystem\\Files\\TestingFiles";
+
+    /**
+     * The magic number at the start of a binary export, "NCX1".
+     */
+    public static final int BINARY_MAGIC = 0x4E435831;
+
+    /**
+     * The number of jobs kept for {@link #getJobs()}.
+     */
+    private static final int MAX_TRACKED_JOBS = 32;
+
+    /**
+     * The thread the exports run on.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "conversion-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The most recently submitted jobs, newest last.
+     */
+    private static final ConcurrentLinkedDeque<ExportJob> JOBS = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Returns the default file of an export.
+     *
+     * @param history {@code true} for the history export, {@code false} for the
+     *                current session export.
+     * @param format  The format of the file.
+     * @return The default path.
+     */
+    public static Path getDefaultPath(boolean history, ExportFormat format) {
+        return Path.of(DEFAULT_EXPORT_DIRECTORY_PATH + "\\"
+                + (history ? "TestExportHistoryConversions." : "TestExportCurrentSession.") + format.extension());
+    }
+
+    /**
+     * Starts exporting the conversions of the user's current session. The
+     * conversions are copied before this method returns, so the session can go
+     * on while the export runs.
+     *
+     * @param userId The unique identifier of the user.
+     * @param path   The file to write, or {@code null} for the default file.
+     * @param format The format of the file.
+     * @return The job tracking the export, or {@code null} if the user is not
+     *         found.
+     */
+    public static ExportJob exportSessionAsync(int userId, Path path, ExportFormat format) {
+        User user = UserController.getUserById(userId);
+        if (user == null) {
+            System.out.println("User not found !!!");
+            return null;
+        }
+        List<Conversion> conversions;
+        synchronized (user) {
+            conversions = new ArrayList<>(user.currentSessionConversions);
+        }
+        ExportJob job = new ExportJob("Session export", path != null ? path : getDefaultPath(false, format), format);
+        job.totalConversions = conversions.size();
+        submit(job, sink -> {
+            int today = (int) LocalDate.now().toEpochDay();
+            sink.beginDay(today, conversions.size());
+            for (Conversion conversion : conversions) {
+                sink.write(today, conversion);
+                job.exportedConversions.incrementAndGet();
+            }
+            sink.endDay();
+        }, false);
+        return job;
+    }
+
+    /**
+     * Starts exporting the user's whole conversion history, grouped by date. The
+     * history is loaded on the export thread if it is not loaded yet, and read
+     * one day at a time, so conversions saved while the export runs may or may
+     * not be included.
+     *
+     * @param userId The unique identifier of the user.
+     * @param path   The file to write, or {@code null} for the default file.
+     * @param format The format of the file.
+     * @return The job tracking the export, or {@code null} if the user is not
+     *         found.
+     */
+    public static ExportJob exportHistoryAsync(int userId, Path path, ExportFormat format) {
+        User user = UserController.getUserById(userId);
+        if (user == null) {
+            System.out.println("User not found !!!");
+            return null;
+        }
+        ExportJob job = new ExportJob("History export", path != null ? path : getDefaultPath(true, format), format);
+        submit(job, sink -> {
+            CompactHistory history = HistoryController.getHistory(user);
+            List<Integer> days;
+            synchronized (user) {
+                days = new ArrayList<>(history.getEpochDays());
+                job.totalConversions = history.size();
+            }
+            for (int epochDay : days) {
+                List<Conversion> conversions;
+                synchronized (user) {
+                    conversions = history.getConversions(epochDay);
+                }
+                sink.beginDay(epochDay, conversions.size());
+                for (Conversion conversion : conversions) {
+                    sink.write(epochDay, conversion);
+                    job.exportedConversions.incrementAndGet();
+                }
+                sink.endDay();
+            }
+        }, true);
+        return job;
+    }
+
+    /**
+     * Returns the most recent jobs, oldest first, including finished ones.
+     *
+     * @return A snapshot of the jobs.
+     */
+    public static List<ExportJob> getJobs() {
+        return new ArrayList<>(JOBS);
+    }
+
+    /**
+     * Queues an export on the export thread.
+     *
+     * @param job     The job tracking the export.
+     * @param body    Writes the conversions to the sink.
+     * @param grouped Whether the text format writes a date line before each day.
+     */
+    private static void submit(ExportJob job, ExportBody body, boolean grouped) {
+        JOBS.addLast(job);
+        while (JOBS.size() > MAX_TRACKED_JOBS) {
+            JOBS.pollFirst();
+        }
+        EXECUTOR.execute(() -> {
+            Path partPath = job.path.resolveSibling(job.path.getFileName() + ".part");
+            try {
+                try (ConversionSink sink = openSink(partPath, job.format, grouped)) {
+                    body.run(sink);
+                }
+                Files.move(partPath, job.path, StandardCopyOption.REPLACE_EXISTING);
+                job.completion.complete(job);
+            } catch (Exception e) {
+                job.errorMessage = e.toString();
+                try {
+                    Files.deleteIfExists(partPath);
+                } catch (IOException ignored) {
+                    // The export has failed anyway
+                }
+                job.completion.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Opens the writer of a format.
+     *
+     * @param path    The file to write.
+     * @param format  The format of the file.
+     * @param grouped Whether the text format writes a date line before each day.
+     * @return The open sink.
+     * @throws IOException if the file cannot be created.
+     */
+    private static ConversionSink openSink(Path path, ExportFormat format, boolean grouped) throws IOException {
+        switch (format) {
+            case CSV:
+                return new CsvSink(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+            case BINARY:
+                return new BinarySink(new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path))));
+            default:
+                return new TextSink(Files.newBufferedWriter(path, StandardCharsets.UTF_8), grouped);
+        }
+    }
+
+    /**
+     * The part of an export that produces the conversions.
+     */
+    @FunctionalInterface
+    private interface ExportBody {
+        void run(ConversionSink sink) throws IOException;
+    }
+
+    /**
+     * Writes conversions in one format, one day at a time.
+     */
+    private interface ConversionSink extends Closeable {
+        void beginDay(int epochDay, int count) throws IOException;
+
+        void write(int epochDay, Conversion conversion) throws IOException;
+
+        void endDay() throws IOException;
+    }
+
+    /**
+     * Writes the layout of the original text exports: a date line per day when
+     * grouped, {@link Conversion#toString()} per conversion and a blank line
+     * after each day.
+     */
+    private static class TextSink implements ConversionSink {
+        private final BufferedWriter out;
+        private final boolean grouped;
+
+        TextSink(BufferedWriter out, boolean grouped) {
+            this.out = out;
+            this.grouped = grouped;
+        }
+
+        @Override
+        public void beginDay(int epochDay, int count) throws IOException {
+            if (grouped) {
+                out.append(LocalDate.ofEpochDay(epochDay).toString()).append('\n');
+            }
+        }
+
+        @Override
+        public void write(int epochDay, Conversion conversion) throws IOException {
+            out.append(conversion.toString());
+        }
+
+        @Override
+        public void endDay() throws IOException {
+            if (grouped) {
+                out.append('\n');
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes {@code date,value,sourceBase,targetBase,result,error} rows.
+     */
+    private static class CsvSink implements ConversionSink {
+        private final BufferedWriter out;
+        private int currentDay = Integer.MIN_VALUE;
+        private String currentDate;
+
+        CsvSink(BufferedWriter out) throws IOException {
+            this.out = out;
+            out.append("date,value,sourceBase,targetBase,result,error\n");
+        }
+
+        @Override
+        public void beginDay(int epochDay, int count) {
+            if (epochDay != currentDay) {
+                currentDay = epochDay;
+                currentDate = LocalDate.ofEpochDay(epochDay).toString();
+            }
+        }
+
+        @Override
+        public void write(int epochDay, Conversion conversion) throws IOException {
+            out.append(currentDate).append(',');
+            appendField(conversion.inputValue);
+            out.append(',').append(Integer.toString(conversion.sourceBase));
+            out.append(',').append(Integer.toString(conversion.targetBase)).append(',');
+            appendField(conversion.result);
+            out.append(',');
+            appendField(conversion.errorMessage);
+            out.append('\n');
+        }
+
+        /**
+         * Appends a field, quoted if it contains a comma, quote or line break.
+         */
+        private void appendField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.append(value);
+                return;
+            }
+            out.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+
+        @Override
+        public void endDay() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes the compact binary layout described by {@link ExportFormat#BINARY}.
+     */
+    private static class BinarySink implements ConversionSink {
+        private final DataOutputStream out;
+
+        BinarySink(DataOutputStream out) throws IOException {
+            this.out = out;
+            out.writeInt(BINARY_MAGIC);
+        }
+
+        @Override
+        public void beginDay(int epochDay, int count) throws IOException {
+            out.writeInt(epochDay);
+            out.writeInt(count);
+        }
+
+        @Override
+        public void write(int epochDay, Conversion conversion) throws IOException {
+            boolean error = conversion.errorMessage != null && !conversion.errorMessage.isEmpty();
+            out.writeByte(conversion.sourceBase);
+            out.writeByte(conversion.targetBase);
+            out.writeByte(error ? 1 : 0);
+            writeString(conversion.inputValue);
+            writeString(error ? conversion.errorMessage : conversion.result);
+        }
+
+        /**
+         * Writes a string as its UTF-8 length followed by its UTF-8 bytes.
+         */
+        private void writeString(String value) throws IOException {
+            byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public void endDay() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
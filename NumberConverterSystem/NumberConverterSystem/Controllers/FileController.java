@@ -3,13 +3,16 @@ package NumberConverterSystem.Controllers;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileReader;
-import java.io.FileWriter;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Map;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
-import NumberConverterSystem.Models.User;
+import NumberConverterSystem.Models.BatchReport;
 import NumberConverterSystem.Models.Conversion;
+import NumberConverterSystem.Models.ExportJob;
+import NumberConverterSystem.Models.enums.ExportFormat;
 
 /**
  * The {@code FileController} class provides static utility methods for
@@ -29,10 +32,14 @@ import NumberConverterSystem.Models.Conversion;
  * <ul>
  * <li>Batch processing of conversions from a CSV file, allowing multiple
  * conversions in one operation.</li>
+ * <li>Streaming parallel batch processing of CSV files of any size, with
+ * per-line error collection and throughput reporting.</li>
  * <li>Exporting the current session's conversions for a user to a designated
  * output file.</li>
  * <li>Exporting the user's entire conversion history, grouped by date, to a
  * designated output file.</li>
+ * <li>Exports run through {@link ExportController}, which also exports to any
+ * path and format in the background.</li>
  * <li>Graceful error handling for file I/O operations, with informative
  * messages.</li>
  * </ul>
@@ -45,6 +52,9 @@ import NumberConverterSystem.Models.Conversion;
  * // Batch process conversions from a file for a user
  * FileController.batchProcessingThroughFile(userId, "input.csv");
  *
+ * // Stream a multi-gigabyte file through the parallel pipeline
+ * BatchReport report = FileController.streamBatchConversions(userId, "input.csv", "output.csv");
+ *
  * // Export current session conversions for a user
  * boolean success = FileController.exportCurrentSessionConversions(userId);
  *
@@ -72,39 +82,114 @@ public class FileController {
      * 
      * For each line, the method parses the value, source base, and target base,
      * then performs the conversion
-     * using {@link ConverterController#convertNumber(int, String, int, int)}. The
-     * result of each conversion
-     * is printed to the standard output.
+     * using {@link ConverterController#convertNumber(int, String, int, int)}, so
+     * every conversion is recorded in the user's current session. The results are
+     * printed to the standard output through a single buffered writer.
      * </p>
      * <p>
-     * If the file cannot be read or contains invalid data, an error message is
-     * printed.
+     * A line that cannot be parsed is reported and skipped; it does not abort the
+     * batch. For large files that should not be recorded in the session, use
+     * {@link #streamBatchConversions(int, String, String)}.
      * </p>
      *
      * @param userId   The unique identifier of the user performing the batch
      *                 conversions.
      * @param filePath The path to the input file containing conversion requests in
      *                 CSV format.
-     * @throws IllegalArgumentException if the file format is invalid or conversion
-     *                                  fails.
+     * @return The report of the batch, or {@code null} if the file could not be
+     *         read.
      */
-    public static void batchProcessingThroughFile(int userId, String filePath) {
+    public static BatchReport batchProcessingThroughFile(int userId, String filePath) {
+        BatchReport report = new BatchReport();
+        long start = System.nanoTime();
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out));
         try (BufferedReader br = new BufferedReader(new FileReader(filePath));) {
-            while (br.ready()) {
-                String[] valuesForConversion = br.readLine().split(",");
-                String value = valuesForConversion[0];
-                int sourceBase = Integer.parseInt(valuesForConversion[1]);
-                int targetBase = Integer.parseInt(valuesForConversion[2]);
-                System.out.printf("\n%s", ConverterController.convertNumber(userId, value, sourceBase, targetBase));
+            try {
+                String line;
+                long lineNumber = 0;
+                while ((line = br.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    report.linesProcessed++;
+                    String[] valuesForConversion = line.split(",");
+                    if (valuesForConversion.length != 3) {
+                        report.addError(lineNumber, "Expected value,sourceBase,targetBase");
+                        continue;
+                    }
+                    int sourceBase, targetBase;
+                    try {
+                        sourceBase = Integer.parseInt(valuesForConversion[1].trim());
+                        targetBase = Integer.parseInt(valuesForConversion[2].trim());
+                    } catch (NumberFormatException nfe) {
+                        report.addError(lineNumber, "Invalid base - " + nfe.getMessage());
+                        continue;
+                    }
+                    String result = ConverterController.convertNumber(userId, valuesForConversion[0].trim(),
+                            sourceBase, targetBase);
+                    if (ConverterController.isError(result)) {
+                        report.addError(lineNumber, result.replace('\n', ' '));
+                    } else {
+                        report.successfulLines++;
+                    }
+                    out.append('\n').append(result);
+                }
+                out.newLine();
+            } finally {
+                // Also prints the results converted before a failure; System.out itself stays open
+                out.flush();
             }
         } catch (Exception e) {
             System.out.println("There was an problem while reading the file" + e.getMessage());
+            return null;
+        }
+        report.elapsedNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    /**
+     * Converts a CSV file of any size, one {@code value,sourceBase,targetBase}
+     * request per line, with the streaming {@link BatchConversionPipeline}.
+     * <p>
+     * The file is read in chunks, converted in parallel and written in input
+     * order as {@code value,sourceBase,targetBase,result} lines. Failing lines are
+     * written as {@code value,sourceBase,targetBase,ERROR} and collected in the
+     * returned report instead of aborting the batch. Conversions are not recorded
+     * in the user's session, so files of many gigabytes do not grow it.
+     * </p>
+     *
+     * @param userId     The unique identifier of the user running the batch.
+     * @param inputPath  The path to the input file in CSV format.
+     * @param outputPath The path to the output file, or {@code null} or blank to
+     *                   write the results to the standard output.
+     * @return The report of the batch with per-line errors and throughput, or
+     *         {@code null} if the user is not found or the batch failed.
+     */
+    public static BatchReport streamBatchConversions(int userId, String inputPath, String outputPath) {
+        if (UserController.getUserById(userId) == null) {
+            System.out.println("User not found !!!");
+            return null;
+        }
+        BatchConversionPipeline pipeline = new BatchConversionPipeline();
+        try {
+            if (outputPath == null || outputPath.isBlank()) {
+                // The standard output is flushed but never closed
+                return pipeline.run(Path.of(inputPath), Channels.newChannel(System.out));
+            }
+            try (FileChannel out = FileChannel.open(Path.of(outputPath), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                return pipeline.run(Path.of(inputPath), out);
+            }
+        } catch (Exception e) {
+            System.out.println("There was an problem while processing the batch " + e.getMessage());
+            return null;
         }
     }
 
     /**
      * Exports the current session's conversions for a specific user to a designated
-     * output file.
+     * output file and waits for the export to finish.
      * <p>
      * Each conversion performed in the current session is written to the file, one
      * after another,
@@ -116,6 +201,8 @@ public class FileController {
      * </pre>
      * </p>
      * <p>
+     * To export to another path or format without waiting, use
+     * {@link ExportController#exportSessionAsync(int, Path, ExportFormat)}.
      * If the export operation fails due to file I/O errors, an error message is
      * printed and {@code false} is returned.
      * Otherwise, {@code true} is returned upon successful export.
@@ -127,22 +214,12 @@ public class FileController {
      *         occurred during export.
      */
     public static boolean exportCurrentSessionConversions(int userId) {
-        User user = UserController.getUserById(userId);
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(
-                "E:\\CODE GALLATA\\OVERALL NOTES\\LONG CODING & DESIGN PATTERNS\\SAMPLE CODE\\NumberConverterSystem\\Files\\TestingFiles\\TestExportCurrentSession.txt"));) {
-            for (Conversion c : user.currentSessionConversions) {
-                bw.append(c.toString());
-            }
-        } catch (Exception e) {
-            System.out.println("There was an problem while exporting to the file " + e.getMessage());
-            return false;
-        }
-        return true;
+        return awaitExport(ExportController.exportSessionAsync(userId, null, ExportFormat.TEXT));
     }
 
     /**
      * Exports the user's entire conversion history, grouped by date, to a
-     * designated output file.
+     * designated output file and waits for the export to finish.
      * <p>
      * The output file contains entries for each date on which conversions were
      * performed. For each date,
@@ -157,6 +234,8 @@ public class FileController {
      * </pre>
      * </p>
      * <p>
+     * To export to another path or format without waiting, use
+     * {@link ExportController#exportHistoryAsync(int, Path, ExportFormat)}.
      * If the export operation fails due to file I/O errors, an error message is
      * printed and {@code false} is returned.
      * Otherwise, {@code true} is returned upon successful export.
@@ -168,18 +247,24 @@ public class FileController {
      *         occurred during export.
      */
     public static boolean exportHistoryConversionsByDate(int userId) {
-        User user = UserController.getUserById(userId);
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(
-                "E:\\CODE GALLATA\\OVERALL NOTES\\LONG CODING & DESIGN PATTERNS\\SAMPLE CODE\\NumberConverterSystem\\Files\\TestingFiles\\TestExportHistoryConversions.txt"))) {
-            for (Map.Entry<LocalDate, ArrayList<Conversion>> entry : user.conversionHistory.entrySet()) {
-                bw.append(String.format("%s\n", (entry.getKey().toString())));
-                for (Conversion c : entry.getValue()) {
-                    bw.append(c.toString());
-                }
-                bw.append("\n");
-            }
+        return awaitExport(ExportController.exportHistoryAsync(userId, null, ExportFormat.TEXT));
+    }
+
+    /**
+     * Waits for an export to finish.
+     *
+     * @param job The job tracking the export, or {@code null} if it was not
+     *            started.
+     * @return {@code true} if the export was successful; {@code false} otherwise.
+     */
+    private static boolean awaitExport(ExportJob job) {
+        if (job == null) {
+            return false;
+        }
+        try {
+            job.completion.join();
         } catch (Exception e) {
-            System.out.println("There was an problem while exporting to the file " + e.getMessage());
+            System.out.println("There was an problem while exporting to the file " + job.errorMessage);
             return false;
         }
         return true;
@@ -0,0 +1,452 @@
+package NumberConverterSystem.Controllers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import NumberConverterSystem.Models.CompactHistory;
+import NumberConverterSystem.Models.Conversion;
+import NumberConverterSystem.Models.User;
+
+/**
+ * The {@code HistoryController} class provides static utility methods for
+ * storing the conversion history of each user in its own append-only segment
+ * file, and for reading it lazily into a {@link CompactHistory}.
+ * <p>
+ * Saving a session appends one block to the user's segment file instead of
+ * reserializing every user, and a history is only read the first time it is
+ * needed, so heavy users do not slow down startup or saves for everyone else.
+ * </p>
+ *
+ * <p>
+ * <b>Segment Format:</b> a sequence of blocks, one per saved day of a session:
+ *
+ * <pre>
+ * byte   'C'
+ * int    length of the payload
+ * payload:
+ *   int    epoch day
+ *   int    string count, then per string: int length, UTF-8 bytes
+ *   int    conversion count, then per conversion:
+ *          short base pair, byte flags (1 = error), int value id, int output id
+ * int    CRC-32 of the payload
+ * </pre>
+ *
+ * String ids are local to their block, so appending never needs to read the
+ * file. Blocks written by earlier versions start with {@code 'B'} and have no
+ * checksum; they are still read. A block is checked completely before any of
+ * it is added to the history. A damaged block is skipped and reading goes on
+ * with the next valid block; only a block cut short at the end of the file by
+ * a crash is dropped, and the file truncated, when the segment is next read.
+ * </p>
+ *
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Append-only writes, one block per save.</li>
+ * <li>Lazy, per-user reads, cached on the {@link User}.</li>
+ * <li>One-time migration of histories kept in {@link User#conversionHistory}
+ * by earlier versions.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * HistoryController.appendConversions(user, LocalDate.now(), user.currentSessionConversions);
+ * CompactHistory history = HistoryController.getHistory(user);
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HistoryController {
+
+    /**
+     * The directory holding one history segment file per user.
+     */
+    private static final String HISTORY_DIRECTORY_PATH = "E:\\CODE GALLATA\\OVERALL NOTES\\LONG CODING & DESIGN PATTERNS\\SAMPLE CODE\\NumberConverterSystem\\Files\\History";
+
+    /**
+     * The marker byte that starts every block.
+     */
+    private static final byte BLOCK_MARKER = 'C';
+
+    /**
+     * The marker byte of the blocks written by earlier versions, without a
+     * checksum.
+     */
+    private static final byte LEGACY_BLOCK_MARKER = 'B';
+
+    /**
+     * The bytes of a block before its payload: the marker and the length.
+     */
+    private static final int HEADER_BYTES = 5;
+
+    /**
+     * The bytes of a block after its payload: the checksum.
+     */
+    private static final int CHECKSUM_BYTES = 4;
+
+    /**
+     * The bytes of one conversion in a payload.
+     */
+    private static final int CONVERSION_BYTES = 11;
+
+    /**
+     * The flag set on conversions that failed.
+     */
+    private static final byte ERROR_FLAG = 1;
+
+    /**
+     * Returns the path of a user's history segment file.
+     *
+     * @param userId The unique identifier of the user.
+     * @return The path of the segment file.
+     */
+    public static Path getSegmentPath(int userId) {
+        return Path.of(HISTORY_DIRECTORY_PATH, "History_" + userId + ".seg");
+    }
+
+    /**
+     * Returns the conversion history of a user, reading the user's segment file
+     * on first use.
+     * <p>
+     * If the segment cannot be read, the error is printed and the history read
+     * so far is returned.
+     * </p>
+     *
+     * @param user The user.
+     * @return The history of the user.
+     */
+    public static CompactHistory getHistory(User user) {
+        synchronized (user) {
+            if (user.compactHistory == null) {
+                user.compactHistory = readSegment(getSegmentPath(user.id));
+            }
+            return user.compactHistory;
+        }
+    }
+
+    /**
+     * Appends conversions of one day to a user's segment file, and to the
+     * user's history if it has been read already.
+     *
+     * @param user        The user.
+     * @param date        The day of the conversions.
+     * @param conversions The conversions to append.
+     * @return {@code true} if the conversions were written; {@code false} if an
+     *         error occurred.
+     */
+    public static boolean appendConversions(User user, LocalDate date, List<Conversion> conversions) {
+        if (conversions.isEmpty()) {
+            return true;
+        }
+        byte[] block = encodeBlock((int) date.toEpochDay(), conversions);
+        synchronized (user) {
+            Path path = getSegmentPath(user.id);
+            try {
+                Files.createDirectories(path.getParent());
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(block);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("There was a problem while saving the history file: " + e.getMessage());
+                return false;
+            }
+            if (user.compactHistory != null) {
+                for (Conversion conversion : conversions) {
+                    user.compactHistory.add(date, conversion);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Moves a history kept in {@link User#conversionHistory} by earlier versions
+     * to the user's segment file, oldest day first, and clears the map.
+     *
+     * @param user The user.
+     * @return {@code true} if a history was migrated; {@code false} if there was
+     *         none or it could not be written.
+     */
+    public static boolean migrateLegacyHistory(User user) {
+        if (user.conversionHistory == null || user.conversionHistory.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<LocalDate, ArrayList<Conversion>> day : new TreeMap<>(user.conversionHistory).entrySet()) {
+            if (!appendConversions(user, day.getKey(), day.getValue())) {
+                return false;
+            }
+            user.conversionHistory.remove(day.getKey());
+        }
+        return true;
+    }
+
+    /**
+     * Encodes conversions of one day as a block.
+     *
+     * @param epochDay    The day of the conversions.
+     * @param conversions The conversions.
+     * @return The encoded block.
+     */
+    private static byte[] encodeBlock(int epochDay, List<Conversion> conversions) {
+        HashMap<String, Integer> ids = new HashMap<>();
+        ArrayList<String> strings = new ArrayList<>();
+        int[] valueIds = new int[conversions.size()];
+        int[] outputIds = new int[conversions.size()];
+        for (int i = 0; i < conversions.size(); i++) {
+            Conversion conversion = conversions.get(i);
+            String output = conversion.errorMessage.isEmpty() ? conversion.result : conversion.errorMessage;
+            valueIds[i] = ids.computeIfAbsent(conversion.inputValue, value -> addString(strings, value));
+            outputIds[i] = ids.computeIfAbsent(output, value -> addString(strings, value));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(epochDay);
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            out.writeInt(conversions.size());
+            for (int i = 0; i < conversions.size(); i++) {
+                Conversion conversion = conversions.get(i);
+                out.writeShort(CompactHistory.packBases(conversion.sourceBase, conversion.targetBase));
+                out.writeByte(conversion.errorMessage.isEmpty() ? 0 : ERROR_FLAG);
+                out.writeInt(valueIds[i]);
+                out.writeInt(outputIds[i]);
+            }
+        } catch (IOException e) {
+            // A ByteArrayOutputStream never fails
+            throw new IllegalStateException(e);
+        }
+        byte[] payload = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_BYTES + payload.length + CHECKSUM_BYTES).put(BLOCK_MARKER)
+                .putInt(payload.length).put(payload).putInt((int) crc.getValue()).array();
+    }
+
+    /**
+     * Reads a segment file. A missing file is an empty history. A damaged block
+     * is skipped up to the next valid block; a block cut short at the end of the
+     * file is dropped and the file truncated to the blocks before it.
+     *
+     * @param path The segment file.
+     * @return The history read.
+     */
+    private static CompactHistory readSegment(Path path) {
+        CompactHistory history = new CompactHistory();
+        if (!Files.exists(path)) {
+            return history;
+        }
+        ByteBuffer file;
+        try {
+            file = ByteBuffer.wrap(Files.readAllBytes(path));
+        } catch (IOException e) {
+            System.out.println("There was a problem while loading the history file: " + e.getMessage());
+            return history;
+        }
+        int position = 0;
+        while (position < file.limit()) {
+            Block block = decodeBlock(file, position);
+            if (block != null) {
+                block.addTo(history);
+                position = block.end;
+                continue;
+            }
+            int next = position + 1;
+            while (next < file.limit() && decodeBlock(file, next) == null) {
+                next++;
+            }
+            if (next == file.limit() && isTorn(file, position)) {
+                truncate(path, position);
+                break;
+            }
+            System.out.println("Skipped " + (next - position) + " damaged bytes of the history file " + path);
+            position = next;
+        }
+        return history;
+    }
+
+    /**
+     * Checks whether the block at a position runs past the end of the file, as
+     * a block whose append was cut short does.
+     *
+     * @param file     The segment file.
+     * @param position The start of the block.
+     * @return {@code true} if the header or the block is incomplete.
+     */
+    private static boolean isTorn(ByteBuffer file, int position) {
+        if (file.limit() - position < HEADER_BYTES) {
+            return true;
+        }
+        long length = HEADER_BYTES + (file.getInt(position + 1) & 0xffffffffL)
+                + (file.get(position) == LEGACY_BLOCK_MARKER ? 0 : CHECKSUM_BYTES);
+        return position + length > file.limit();
+    }
+
+    /**
+     * Cuts a segment file short, dropping a torn block at its end.
+     *
+     * @param path   The segment file.
+     * @param length The length to keep.
+     */
+    private static void truncate(Path path, long length) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        } catch (IOException e) {
+            System.out.println("There was a problem while repairing the history file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes and checks the block at a position without adding anything to a
+     * history: its checksum if it has one, its lengths and every string id.
+     *
+     * @param file     The segment file.
+     * @param position The start of the block.
+     * @return The block, or {@code null} if there is no complete, valid block at
+     *         the position.
+     */
+    private static Block decodeBlock(ByteBuffer file, int position) {
+        byte marker = file.get(position);
+        if ((marker != BLOCK_MARKER && marker != LEGACY_BLOCK_MARKER) || file.limit() - position < HEADER_BYTES) {
+            return null;
+        }
+        int length = file.getInt(position + 1);
+        int trailer = marker == BLOCK_MARKER ? CHECKSUM_BYTES : 0;
+        int start = position + HEADER_BYTES;
+        if (length < 0 || (long) start + length + trailer > file.limit()) {
+            return null;
+        }
+        ByteBuffer payload = file.duplicate();
+        payload.position(start).limit(start + length);
+        if (marker == BLOCK_MARKER) {
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != file.getInt(start + length)) {
+                return null;
+            }
+        }
+        try {
+            Block block = new Block();
+            block.epochDay = payload.getInt();
+            int stringCount = payload.getInt();
+            if (stringCount < 0 || stringCount > payload.remaining() / 4) {
+                return null;
+            }
+            block.strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                int stringLength = payload.getInt();
+                if (stringLength < 0 || stringLength > payload.remaining()) {
+                    return null;
+                }
+                byte[] encoded = new byte[stringLength];
+                payload.get(encoded);
+                block.strings[i] = new String(encoded, StandardCharsets.UTF_8);
+            }
+            int count = payload.getInt();
+            if (payload.remaining() != count * (long) CONVERSION_BYTES) {
+                return null;
+            }
+            block.basePairs = new short[count];
+            block.errors = new boolean[count];
+            block.valueIds = new int[count];
+            block.outputIds = new int[count];
+            for (int i = 0; i < count; i++) {
+                block.basePairs[i] = payload.getShort();
+                block.errors[i] = (payload.get() & ERROR_FLAG) != 0;
+                block.valueIds[i] = payload.getInt();
+                block.outputIds[i] = payload.getInt();
+                if (block.valueIds[i] < 0 || block.valueIds[i] >= stringCount || block.outputIds[i] < 0
+                        || block.outputIds[i] >= stringCount) {
+                    return null;
+                }
+            }
+            block.end = start + length + trailer;
+            return block;
+        } catch (BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One decoded and checked block of a segment file.
+     */
+    private static class Block {
+        /** The day of the conversions. */
+        int epochDay;
+
+        /** The strings of the block, indexed by their block-local id. */
+        String[] strings;
+
+        /** The packed base pair of each conversion. */
+        short[] basePairs;
+
+        /** Whether each conversion failed. */
+        boolean[] errors;
+
+        /** The block-local input value id of each conversion. */
+        int[] valueIds;
+
+        /** The block-local result or error message id of each conversion. */
+        int[] outputIds;
+
+        /** The position in the file after the block. */
+        int end;
+
+        /**
+         * Adds the conversions to a history, re-interning the strings in the
+         * history's string table.
+         *
+         * @param history The history to add the conversions to.
+         */
+        void addTo(CompactHistory history) {
+            int[] ids = new int[strings.length];
+            for (int i = 0; i < strings.length; i++) {
+                int id = history.idOf(strings[i]);
+                ids[i] = id >= 0 ? id : history.addString(strings[i]);
+            }
+            for (int i = 0; i < basePairs.length; i++) {
+                history.add(epochDay, basePairs[i], errors[i], ids[valueIds[i]], ids[outputIds[i]]);
+            }
+        }
+    }
+
+    /**
+     * Adds a string to a block's string list.
+     *
+     * @param strings The strings of the block.
+     * @param value   The string to add.
+     * @return The id of the string in the block.
+     */
+    private static int addString(ArrayList<String> strings, String value) {
+        strings.add(value);
+        return strings.size() - 1;
+    }
+}
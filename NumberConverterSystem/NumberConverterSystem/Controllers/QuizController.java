@@ -1,9 +1,10 @@
 package NumberConverterSystem.Controllers;
 
-import java.util.Random;
 import java.util.Scanner;
+import java.util.SplittableRandom;
 
 import NumberConverterSystem.Models.QuizQuestion;
+import NumberConverterSystem.Models.enums.QuizDifficulty;
 
 /**
  * The {@code QuizController} class provides static methods for managing and
@@ -26,7 +27,11 @@ import NumberConverterSystem.Models.QuizQuestion;
  * <ul>
  * <li>Configurable number of quiz questions per session.</li>
  * <li>Random generation of quiz questions, including value, source base, and
- * target base.</li>
+ * target base, in {@link QuizDifficulty} tiers.</li>
+ * <li>Questions are pre-generated in the background by
+ * {@link QuizQuestionPool}, with a {@link SplittableRandom} per thread, so many
+ * learners can draw questions at once through
+ * {@link QuizSessionController}.</li>
  * <li>Interactive user input collection via standard input.</li>
  * <li>Answer verification and feedback for each question.</li>
  * <li>Score tracking and summary at the end of the quiz.</li>
@@ -58,10 +63,19 @@ public class QuizController {
     public static int NUMBER_OF_QUESTIONS = 5;
 
     /**
-     * A shared {@link Random} instance used for generating random values and bases
-     * for quiz questions.
+     * The generator the per-thread generators are split from.
      */
-    public static Random random = new Random();
+    private static final SplittableRandom SEED_RANDOM = new SplittableRandom();
+
+    /**
+     * The random generator of each thread, so that threads generating questions
+     * never share or contend on one generator.
+     */
+    private static final ThreadLocal<SplittableRandom> RANDOM = ThreadLocal.withInitial(() -> {
+        synchronized (SEED_RANDOM) {
+            return SEED_RANDOM.split();
+        }
+    });
 
     /**
      * A shared {@link Scanner} instance used for reading user input from the
@@ -86,7 +100,8 @@ public class QuizController {
      * <ol>
      * <li>For each question:
      * <ul>
-     * <li>Generate a random {@link QuizQuestion}.</li>
+     * <li>Take a pre-generated {@link QuizQuestion} of the
+     * {@link QuizDifficulty#MEDIUM} tier from the {@link QuizQuestionPool}.</li>
      * <li>Display the value, source base, and target base to the user.</li>
      * <li>Prompt the user for their answer.</li>
      * <li>Verify the answer using {@link QuizQuestion#verifyAnswer(String)}.</li>
@@ -113,7 +128,7 @@ public class QuizController {
     public static void startQuiz() {
         int score = 0;
         for (int i = 0; i < NUMBER_OF_QUESTIONS; i++) {
-            QuizQuestion q = QuizController.generateQuestion();
+            QuizQuestion q = QuizQuestionPool.take(QuizDifficulty.MEDIUM);
             System.out.printf("\n Value : %s - Source Base : %d - Target Base : %d", q.value, q.sourceBase,
                     q.targetBase);
             String userAnswer = scanner.nextLine();
@@ -125,11 +140,12 @@ public class QuizController {
                 System.out.printf("\n Invalid Answer, The actual answer was %s", q.correctAnswer);
             }
         }
-        System.out.printf("\nYour Score out of 5 was %d", score);
+        System.out.printf("\nYour Score out of %d was %d", NUMBER_OF_QUESTIONS, score);
     }
 
     /**
-     * Generates a random {@link QuizQuestion} for the quiz.
+     * Generates a random {@link QuizQuestion} of the {@link QuizDifficulty#MEDIUM}
+     * tier for the quiz.
      * <p>
      * The method randomly selects:
      * <ul>
@@ -138,10 +154,6 @@ public class QuizController {
      * <li>An integer value between 10 and 999 (inclusive), which is then converted
      * to the source base.</li>
      * </ul>
-     * The correct answer is computed by converting the value from the source base
-     * to the target base
-     * using
-     * {@link ConverterController#convertIntegerToTargetBase(String, int, int)}.
      * The resulting {@link QuizQuestion} contains the value (in source base), the
      * correct answer,
      * the source base, and the target base.
@@ -164,12 +176,29 @@ public class QuizController {
      *         source base, and target base.
      */
     public static QuizQuestion generateQuestion() {
-        // base 2 to 36
-        int sourceBase = random.nextInt(2, 37);
-        int targetBase = random.nextInt(2, 37);
-        int valueBase10 = random.nextInt(10, 1000);
+        return generateQuestion(QuizDifficulty.MEDIUM);
+    }
+
+    /**
+     * Generates a random {@link QuizQuestion} of the given difficulty tier, using
+     * the calling thread's own random generator.
+     * <p>
+     * The value and both bases are picked from the tier's ranges. Since the value
+     * is generated as an {@code int}, the question and the correct answer are
+     * written directly in the source and target base, without parsing the
+     * question back.
+     * </p>
+     *
+     * @param difficulty The difficulty tier of the question.
+     * @return A randomly generated {@link QuizQuestion} of the tier.
+     */
+    public static QuizQuestion generateQuestion(QuizDifficulty difficulty) {
+        SplittableRandom random = RANDOM.get();
+        int sourceBase = difficulty.randomBase(random);
+        int targetBase = difficulty.randomBase(random);
+        int valueBase10 = difficulty.randomValue(random);
         String value = Integer.toString(valueBase10, sourceBase);
-        String answer = ConverterController.convertIntegerToTargetBase(value, sourceBase, targetBase);
+        String answer = Integer.toString(valueBase10, targetBase);
         return new QuizQuestion(value, answer, sourceBase, targetBase);
     }
 }
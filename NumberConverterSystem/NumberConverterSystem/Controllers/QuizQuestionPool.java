@@ -0,0 +1,133 @@
+package NumberConverterSystem.Controllers;
+
+import java.util.EnumMap;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import NumberConverterSystem.Models.QuizQuestion;
+import NumberConverterSystem.Models.enums.QuizDifficulty;
+
+/**
+ * The {@code QuizQuestionPool} class keeps a bounded pool of pre-generated
+ * {@link QuizQuestion}s per difficulty tier, so that learners draw questions
+ * without waiting for them to be generated.
+ * <p>
+ * Each tier has an {@link ArrayBlockingQueue} of {@link #POOL_CAPACITY}
+ * questions and a daemon producer thread that generates questions with
+ * {@link QuizController#generateQuestion(QuizDifficulty)} and blocks while the
+ * queue is full. Producers start on first use. Taking a question never
+ * blocks: if a tier's queue has run dry, the question is generated on the
+ * calling thread instead.
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * QuizQuestion q = QuizQuestionPool.take(QuizDifficulty.HARD);
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * <b>Thread Safety:</b> All methods are thread-safe. Every question is handed
+ * out once, so callers may record answers on it without locking.
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class QuizQuestionPool {
+
+    /**
+     * The number of pre-generated questions kept per difficulty tier.
+     */
+    public static final int POOL_CAPACITY = 1024;
+
+    /**
+     * The pre-generated questions of each tier.
+     */
+    private static final EnumMap<QuizDifficulty, ArrayBlockingQueue<QuizQuestion>> POOLS = new EnumMap<>(
+            QuizDifficulty.class);
+
+    /**
+     * The producer thread of each tier, or {@code null} while stopped. Guarded
+     * by the class lock.
+     */
+    private static final EnumMap<QuizDifficulty, Thread> PRODUCERS = new EnumMap<>(QuizDifficulty.class);
+
+    /**
+     * Whether the producers have been started, read without locking on every
+     * take.
+     */
+    private static volatile boolean running;
+
+    static {
+        for (QuizDifficulty difficulty : QuizDifficulty.values()) {
+            POOLS.put(difficulty, new ArrayBlockingQueue<>(POOL_CAPACITY));
+        }
+    }
+
+    /**
+     * Takes a question of the given tier from the pool, starting the producers
+     * if needed.
+     *
+     * @param difficulty The difficulty tier.
+     * @return A question that has not been handed out before.
+     */
+    public static QuizQuestion take(QuizDifficulty difficulty) {
+        if (!running) {
+            start();
+        }
+        QuizQuestion question = POOLS.get(difficulty).poll();
+        return question != null ? question : QuizController.generateQuestion(difficulty);
+    }
+
+    /**
+     * Returns the number of questions ready in a tier.
+     *
+     * @param difficulty The difficulty tier.
+     * @return The number of pre-generated questions.
+     */
+    public static int available(QuizDifficulty difficulty) {
+        return POOLS.get(difficulty).size();
+    }
+
+    /**
+     * Starts the producer threads that are not running.
+     */
+    public static synchronized void start() {
+        for (QuizDifficulty difficulty : QuizDifficulty.values()) {
+            if (PRODUCERS.get(difficulty) != null) {
+                continue;
+            }
+            ArrayBlockingQueue<QuizQuestion> pool = POOLS.get(difficulty);
+            Thread producer = new Thread(() -> {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        pool.put(QuizController.generateQuestion(difficulty));
+                    }
+                } catch (InterruptedException e) {
+                    // Stopped by shutdown()
+                }
+            }, "quiz-pool-" + difficulty.name().toLowerCase());
+            producer.setDaemon(true);
+            PRODUCERS.put(difficulty, producer);
+            producer.start();
+        }
+        running = true;
+    }
+
+    /**
+     * Stops the producer threads. Questions already in the pool can still be
+     * taken, and {@link #take(QuizDifficulty)} restarts the producers.
+     */
+    public static synchronized void shutdown() {
+        running = false;
+        for (QuizDifficulty difficulty : QuizDifficulty.values()) {
+            Thread producer = PRODUCERS.put(difficulty, null);
+            if (producer != null) {
+                producer.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package NumberConverterSystem.Controllers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import NumberConverterSystem.Models.QuizQuestion;
+import NumberConverterSystem.Models.QuizSession;
+import NumberConverterSystem.Models.enums.QuizDifficulty;
+
+/**
+ * The {@code QuizSessionController} class provides static methods for running
+ * many quiz sessions at the same time, for example one per learner connected to
+ * a server.
+ * <p>
+ * Sessions are kept in a {@link ConcurrentHashMap} by session ID and each is
+ * locked on its own, so learners only ever contend with themselves. Questions
+ * are drawn from the {@link QuizQuestionPool}, which generates them ahead of
+ * time in the background.
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * long sessionId = QuizSessionController.startSession(userId, QuizDifficulty.MEDIUM, 5);
+ * QuizQuestion q;
+ * while ((q = QuizSessionController.nextQuestion(sessionId)) != null) {
+ *     QuizSessionController.submitAnswer(sessionId, readAnswer(q));
+ * }
+ * QuizSession finished = QuizSessionController.endSession(sessionId);
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class QuizSessionController {
+
+    /**
+     * The sessions in progress, by session ID.
+     */
+    private static final ConcurrentHashMap<Long, QuizSession> SESSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The source of session IDs.
+     */
+    private static final AtomicLong NEXT_SESSION_ID = new AtomicLong(1);
+
+    /**
+     * Starts a quiz session.
+     *
+     * @param userId     The unique identifier of the user taking the quiz.
+     * @param difficulty The difficulty tier of the questions.
+     * @param questions  The number of questions in the quiz.
+     * @return The unique identifier of the new session.
+     * @throws IllegalArgumentException if the number of questions is not
+     *                                  positive.
+     */
+    public static long startSession(int userId, QuizDifficulty difficulty, int questions) {
+        if (questions <= 0) {
+            throw new IllegalArgumentException("A quiz needs at least one question, was " + questions);
+        }
+        long id = NEXT_SESSION_ID.getAndIncrement();
+        SESSIONS.put(id, new QuizSession(id, userId, difficulty, questions));
+        return id;
+    }
+
+    /**
+     * Returns the question the learner should answer next. The same question is
+     * returned until it is answered.
+     *
+     * @param sessionId The unique identifier of the session.
+     * @return The current question, or {@code null} if the quiz is finished or
+     *         the session does not exist.
+     */
+    public static QuizQuestion nextQuestion(long sessionId) {
+        QuizSession session = SESSIONS.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        synchronized (session) {
+            if (session.currentQuestion == null && !session.isFinished()) {
+                session.currentQuestion = QuizQuestionPool.take(session.difficulty);
+            }
+            return session.currentQuestion;
+        }
+    }
+
+    /**
+     * Answers the current question of a session and updates its score.
+     *
+     * @param sessionId The unique identifier of the session.
+     * @param answer    The learner's answer.
+     * @return {@code true} if the answer was correct; {@code false} if it was
+     *         wrong or there was no question to answer.
+     */
+    public static boolean submitAnswer(long sessionId, String answer) {
+        QuizSession session = SESSIONS.get(sessionId);
+        if (session == null) {
+            return false;
+        }
+        synchronized (session) {
+            QuizQuestion question = session.currentQuestion;
+            if (question == null) {
+                return false;
+            }
+            question.verifyAnswer(answer == null ? "" : answer.trim());
+            session.currentQuestion = null;
+            session.answeredQuestions++;
+            if (question.isCorrect) {
+                session.score++;
+            }
+            return question.isCorrect;
+        }
+    }
+
+    /**
+     * Returns a session in progress.
+     *
+     * @param sessionId The unique identifier of the session.
+     * @return The session, or {@code null} if it does not exist.
+     */
+    public static QuizSession getSession(long sessionId) {
+        return SESSIONS.get(sessionId);
+    }
+
+    /**
+     * Ends a session and removes it.
+     *
+     * @param sessionId The unique identifier of the session.
+     * @return The ended session with its final score, or {@code null} if it did
+     *         not exist.
+     */
+    public static QuizSession endSession(long sessionId) {
+        return SESSIONS.remove(sessionId);
+    }
+
+    /**
+     * Returns the number of sessions in progress.
+     *
+     * @return The number of sessions.
+     */
+    public static int activeSessions() {
+        return SESSIONS.size();
+    }
+}
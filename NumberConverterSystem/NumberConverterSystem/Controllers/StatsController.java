@@ -6,8 +6,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 import NumberConverterSystem.Models.User;
+import NumberConverterSystem.Models.CompactHistory;
 import NumberConverterSystem.Models.Conversion;
-import NumberConverterSystem.Helpers.CommonHelper;
+import NumberConverterSystem.Models.UsageStats;
 
 /**
  * The {@code StatsController} class provides static utility methods for
@@ -33,6 +34,8 @@ import NumberConverterSystem.Helpers.CommonHelper;
  * <li>Calculate the frequency of base pairs used in conversions.</li>
  * <li>Determine the most used source and target bases.</li>
  * <li>Count undo operations performed in the current session.</li>
+ * <li>Session and history statistics are read from {@link UsageStats} counters
+ * maintained as conversions are recorded, not recomputed on every call.</li>
  * <li>Graceful handling of empty or missing data.</li>
  * </ul>
  * </p>
@@ -88,22 +91,17 @@ public class StatsController {
      */
     public static void printCurrentSessionStats(int userId) {
         User user = UserController.getUserById(userId);
-        int undoCountInCurrentSession = StatsController.getUndoCount(user);
-        int countOfSuccessfulConversions = StatsController.totalSuccessfulConversions(user.currentSessionConversions);
-        int countOfFailedConversions = StatsController.totalFailedConversions(user.currentSessionConversions);
-        int totalConversions = countOfFailedConversions + countOfSuccessfulConversions;
-        HashMap<String, Integer> mostUsedBasePairs = getFrequentlyUsedBasePairs(user.currentSessionConversions,
-                PAIRS_TO_BE_DISPLAYED);
-        for (Map.Entry<String, Integer> pair : mostUsedBasePairs.entrySet()) {
+        UsageStats stats = user.getSessionStats();
+        for (Map.Entry<String, Integer> pair : stats.getTopBasePairs(PAIRS_TO_BE_DISPLAYED).entrySet()) {
             System.out.printf("\n %s (Frequency - %d)", pair.getKey(), pair.getValue());
         }
-        String mostUsedSourceBase = StatsController.getMostUsedBase(user.currentSessionConversions, true);
-        String mostUsedTargetBase = StatsController.getMostUsedBase(user.currentSessionConversions, false);
         System.out.printf(
                 "\nTotal Conversions - %d\n Total Successful Conversions - %d\n Total Failed Conversions - %d\n Total Undo Operations - %d\n Most Used Source Base - %s\n Most Used Target Base - %s\n",
-                totalConversions, countOfSuccessfulConversions, countOfFailedConversions, undoCountInCurrentSession,
-                mostUsedSourceBase,
-                mostUsedTargetBase);
+                stats.totalConversions(), stats.successfulConversions, stats.failedConversions,
+                StatsController.getUndoCount(user),
+                formatMostUsedBase(stats, true),
+                formatMostUsedBase(stats, false));
+        System.out.println(ConverterController.CONVERSION_CACHE);
     }
 
     /**
@@ -121,7 +119,7 @@ public class StatsController {
      * Calculates the total number of successful conversions in a given list of
      * conversions.
      * <p>
-     * A conversion is considered successful if its {@code result} field is not
+     * A conversion is considered successful if its {@code errorMessage} field is
      * empty.
      * </p>
      *
@@ -129,13 +127,7 @@ public class StatsController {
      * @return The count of successful conversions.
      */
     public static int totalSuccessfulConversions(ArrayList<Conversion> conversions) {
-        int countOfSuccessfulConversions = 0;
-        for (Conversion c : conversions) {
-            if (c.result.isEmpty()) {
-                countOfSuccessfulConversions += 1;
-            }
-        }
-        return countOfSuccessfulConversions;
+        return UsageStats.of(conversions).successfulConversions;
     }
 
     /**
@@ -150,21 +142,15 @@ public class StatsController {
      * @return The count of failed conversions.
      */
     public static int totalFailedConversions(ArrayList<Conversion> conversions) {
-        int countOfFailedConversions = 0;
-        for (Conversion c : conversions) {
-            if (c.errorMessage.isEmpty()) {
-                countOfFailedConversions += 1;
-            }
-        }
-        return countOfFailedConversions;
+        return UsageStats.of(conversions).failedConversions;
     }
 
     /**
      * Determines the most frequently used base pairs (source base to target base)
      * in a list of conversions.
      * <p>
-     * The method counts the frequency of each base pair and returns the top N pairs
-     * as specified.
+     * The method counts the frequency of each base pair in a {@link UsageStats}
+     * matrix and returns the top N pairs as specified.
      * </p>
      *
      * @param conversions        The list of {@link Conversion} objects to analyze.
@@ -174,12 +160,7 @@ public class StatsController {
      */
     public static HashMap<String, Integer> getFrequentlyUsedBasePairs(ArrayList<Conversion> conversions,
             int pairsToBeDisplayed) {
-        HashMap<String, Integer> basePairFrequency = new HashMap<>();
-        for (Conversion c : conversions) {
-            String key = String.format("%d -> %d", c.sourceBase, c.targetBase);
-            basePairFrequency.put(key, basePairFrequency.getOrDefault(key, 0) + 1);
-        }
-        return CommonHelper.sortByValue(basePairFrequency, pairsToBeDisplayed);
+        return UsageStats.of(conversions).getTopBasePairs(pairsToBeDisplayed);
     }
 
     /**
@@ -196,12 +177,22 @@ public class StatsController {
      * @return The most frequently used base as a string.
      */
     public static String getMostUsedBase(ArrayList<Conversion> conversions, Boolean flag) {
-        HashMap<String, Integer> sourceBaseFrequency = new HashMap<>();
-        for (Conversion c : conversions) {
-            String key = Integer.toString(flag == true ? c.sourceBase : c.targetBase);
-            sourceBaseFrequency.put(key, sourceBaseFrequency.getOrDefault(key, 0) + 1);
-        }
-        return CommonHelper.sortByValue(sourceBaseFrequency, 1).entrySet().toString();
+        return formatMostUsedBase(UsageStats.of(conversions), flag);
+    }
+
+    /**
+     * Formats the most used source or target base of a set of statistics as
+     * {@code [base=frequency]}, or {@code []} if no conversion is counted.
+     *
+     * @param stats The statistics.
+     * @param flag  If {@code true}, formats the source base; if {@code false},
+     *              the target base.
+     * @return The formatted base and frequency.
+     */
+    private static String formatMostUsedBase(UsageStats stats, boolean flag) {
+        int base = flag ? stats.getMostUsedSourceBase() : stats.getMostUsedTargetBase();
+        int count = flag ? stats.getMostUsedSourceBaseCount() : stats.getMostUsedTargetBaseCount();
+        return base < 0 ? "[]" : String.format("[%d=%d]", base, count);
     }
 
     /**
@@ -219,6 +210,8 @@ public class StatsController {
      * </ul>
      * </p>
      * <p>
+     * The history is read from the user's compact history one day at a time, so
+     * only one day's conversions are materialized at once.
      * Output is printed to the standard output stream.
      * </p>
      *
@@ -227,7 +220,12 @@ public class StatsController {
      */
     public static void printHistoryStats(int userId) {
         User user = UserController.getUserById(userId);
-        StatsController.printHistoryStatsByDate(user.conversionHistory);
+        CompactHistory history = HistoryController.getHistory(user);
+        synchronized (user) {
+            for (int epochDay : history.getEpochDays()) {
+                printDayStats(history.getConversions(epochDay), history.getStats(epochDay));
+            }
+        }
     }
 
     /**
@@ -252,20 +250,24 @@ public class StatsController {
      */
     public static void printHistoryStatsByDate(HashMap<LocalDate, ArrayList<Conversion>> history) {
         for (Map.Entry<LocalDate, ArrayList<Conversion>> conversionsListByDate : history.entrySet()) {
-            System.out.println(conversionsListByDate.getValue());
-            System.out.printf("\nTotal Successful Conversions - %d",
-                    StatsController.totalSuccessfulConversions(conversionsListByDate.getValue()));
-            System.out.printf("\nTotal Failed Conversions - %d",
-                    StatsController.totalFailedConversions(conversionsListByDate.getValue()));
-            System.out.printf("\nMost Used Source Base - %s",
-                    StatsController.getMostUsedBase(conversionsListByDate.getValue(), true));
-            System.out.printf("\nMost Used Target Base - %s",
-                    StatsController.getMostUsedBase(conversionsListByDate.getValue(), false));
-            HashMap<String, Integer> mostUsedBasePairs = getFrequentlyUsedBasePairs(conversionsListByDate.getValue(),
-                    PAIRS_TO_BE_DISPLAYED);
-            for (Map.Entry<String, Integer> pair : mostUsedBasePairs.entrySet()) {
-                System.out.printf("\n %s (Frequency - %d)", pair.getKey(), pair.getValue());
-            }
+            printDayStats(conversionsListByDate.getValue(), UsageStats.of(conversionsListByDate.getValue()));
+        }
+    }
+
+    /**
+     * Prints the conversions of one day followed by their statistics.
+     *
+     * @param conversions The conversions performed on the day.
+     * @param stats       The usage statistics of those conversions.
+     */
+    private static void printDayStats(ArrayList<Conversion> conversions, UsageStats stats) {
+        System.out.println(conversions);
+        System.out.printf("\nTotal Successful Conversions - %d", stats.successfulConversions);
+        System.out.printf("\nTotal Failed Conversions - %d", stats.failedConversions);
+        System.out.printf("\nMost Used Source Base - %s", formatMostUsedBase(stats, true));
+        System.out.printf("\nMost Used Target Base - %s", formatMostUsedBase(stats, false));
+        for (Map.Entry<String, Integer> pair : stats.getTopBasePairs(PAIRS_TO_BE_DISPLAYED).entrySet()) {
+            System.out.printf("\n %s (Frequency - %d)", pair.getKey(), pair.getValue());
         }
     }
 }
@@ -6,10 +6,9 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 import NumberConverterSystem.Models.User;
-import NumberConverterSystem.Models.Conversion;
 
 /**
  * The {@code UserController} class provides static utility methods for managing
@@ -22,7 +21,7 @@ import NumberConverterSystem.Models.Conversion;
  * <p>
  * This controller is designed to facilitate user-centric operations, including:
  * <ul>
- * <li>Creating new users with unique identifiers.</li>
+ * <li>Creating new users with unique identifiers and usernames.</li>
  * <li>Verifying user credentials for authentication.</li>
  * <li>Retrieving user objects by their unique IDs.</li>
  * <li>Saving and loading the user list to/from a persistent file.</li>
@@ -34,15 +33,18 @@ import NumberConverterSystem.Models.Conversion;
  * <p>
  * <b>Features:</b>
  * <ul>
- * <li>Persistent storage of all users and their conversion histories using Java
- * serialization.</li>
+ * <li>Persistent storage of all users using Java serialization, with
+ * conversion histories in append-only per-user segment files.</li>
  * <li>Graceful error handling for file I/O operations, with fallback to empty
  * user list if loading fails.</li>
  * <li>Session management for tracking conversions performed in the current
  * session.</li>
  * <li>Support for batch saving of session conversions to historical records,
  * grouped by date.</li>
- * <li>Efficient user lookup by username, password, or unique ID.</li>
+ * <li>Constant-time user lookup by unique ID or username through hash indexes
+ * kept alongside {@link #userList}.</li>
+ * <li>Collision-free user IDs from a monotonic counter saved with the user
+ * list.</li>
  * </ul>
  * </p>
  *
@@ -80,6 +82,22 @@ public class UserController {
      */
     public static ArrayList<User> userList;
 
+    /**
+     * The index of {@link #userList} by user ID.
+     */
+    private static ConcurrentHashMap<Integer, User> usersById = new ConcurrentHashMap<>();
+
+    /**
+     * The index of {@link #userList} by username.
+     */
+    private static ConcurrentHashMap<String, User> usersByUsername = new ConcurrentHashMap<>();
+
+    /**
+     * The next candidate user ID. IDs are allocated in increasing order, skipping
+     * any already in use, and the counter is saved after the user list.
+     */
+    private static int nextUserId = 1;
+
     /**
      * The absolute file path for storing serialized user data.
      * <p>
@@ -105,8 +123,8 @@ public class UserController {
     /**
      * Saves the current {@link #userList} to the persistent storage file.
      * <p>
-     * Uses Java object serialization to write the entire user list, including all
-     * user data and conversion histories,
+     * Uses Java object serialization to write the entire user list, followed by
+     * the user ID counter,
      * to disk. If the operation fails, an error message is printed and
      * {@code false} is returned.
      * </p>
@@ -117,6 +135,7 @@ public class UserController {
     public static boolean saveUserList() {
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(USER_DATA_FILE_PATH))) {
             oos.writeObject(userList);
+            oos.writeInt(nextUserId);
             return true;
         } catch (Exception e) {
             System.out.println("There was a problem while saving the user file: " + e.getMessage());
@@ -133,6 +152,16 @@ public class UserController {
      * empty list and an error
      * message is printed.
      * </p>
+     * <p>
+     * The ID and username indexes are rebuilt from the list. The user ID counter
+     * is read from after the list; files saved by earlier versions have none, so
+     * it then starts after the highest ID in use.
+     * </p>
+     * <p>
+     * Histories still kept in {@link User#conversionHistory} by earlier versions
+     * are moved to the users' history segment files, and the slimmer list is
+     * saved back.
+     * </p>
      *
      * @implNote This method is called automatically in the static initializer
      *           block.
@@ -141,48 +170,65 @@ public class UserController {
     public static void loadUserList() {
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(USER_DATA_FILE_PATH))) {
             userList = (ArrayList<User>) ois.readObject();
+            nextUserId = ois.available() >= Integer.BYTES ? ois.readInt() : 0;
         } catch (Exception e) {
             userList = new ArrayList<>(); // fallback to empty list
+            nextUserId = 1;
             System.out.println("There was a problem while loading the user file.");
+            return;
+        } finally {
+            rebuildIndexes();
+        }
+        boolean migrated = false;
+        for (User user : userList) {
+            migrated |= HistoryController.migrateLegacyHistory(user);
+        }
+        if (migrated) {
+            saveUserList();
         }
     }
 
     /**
      * Creates a new user with the specified username and password.
      * <p>
-     * Validates that both username and password are non-null and non-empty.
-     * Generates a unique integer ID
-     * for the user using {@link Random}. Adds the new user to the {@link #userList}
-     * and persists the updated list.
-     * If saving fails, the newly created user is removed from the list.
+     * Validates that both username and password are non-null and non-empty, and
+     * that the username is not taken. Allocates the next free user ID from the
+     * monotonic counter. Adds the new user to the {@link #userList} and its
+     * indexes and persists the updated list, together with the counter.
+     * If saving fails, the newly created user is removed again.
      * </p>
      *
-     * @param username The username for the new user. Must not be {@code null} or
-     *                 empty.
+     * @param username The username for the new user. Must not be {@code null},
+     *                 empty, or already taken.
      * @param password The password for the new user. Must not be {@code null} or
      *                 empty.
      * @return The unique integer ID assigned to the new user, or {@code -1} if
      *         creation failed due to invalid input or save error.
      */
-    public static int createUser(String username, String password) {
-        if (username != null && password != null && !username.trim().isEmpty() && !password.trim().isEmpty()) {
-            int id = new Random().nextInt();
-            userList.add(new User(id, username, password));
-            if (!saveUserList()) {
-                userList.removeIf(user -> user.username.equals(username));
-            }
-            return id;
+    public static synchronized int createUser(String username, String password) {
+        if (username == null || password == null || username.trim().isEmpty() || password.trim().isEmpty()
+                || usersByUsername.containsKey(username)) {
+            return -1;
         }
-        return -1;
+        int id = allocateUserId();
+        User user = new User(id, username, password);
+        userList.add(user);
+        usersById.put(id, user);
+        usersByUsername.put(username, user);
+        if (!saveUserList()) {
+            userList.remove(user);
+            usersById.remove(id);
+            usersByUsername.remove(username);
+            return -1;
+        }
+        return id;
     }
 
     /**
      * Verifies the credentials of a user by matching the username and password.
      * <p>
-     * Iterates through the {@link #userList} to find a user whose username and
-     * password match the provided values.
-     * Returns the user's unique ID if a match is found, or {@code -1} if no
-     * matching user exists.
+     * Looks the user up in the username index and compares the password.
+     * Returns the user's unique ID if they match, or {@code -1} otherwise.
      * </p>
      *
      * @param username The username to verify.
@@ -191,10 +237,9 @@ public class UserController {
      *         verification fails.
      */
     public static int verifyUser(String username, String password) {
-        for (User user : userList) {
-            if (user.username.equals(username) && user.password.equals(password)) {
-                return user.id;
-            }
+        User user = username == null ? null : usersByUsername.get(username);
+        if (user != null && user.password.equals(password)) {
+            return user.id;
         }
         return -1;
     }
@@ -202,8 +247,8 @@ public class UserController {
     /**
      * Retrieves a {@link User} object by its unique ID.
      * <p>
-     * Searches the {@link #userList} for a user whose {@code id} matches the
-     * provided value.
+     * Looks the ID up in the ID index, so this is constant time on the
+     * conversion hot path.
      * Returns the {@link User} object if found, or {@code null} if no such user
      * exists.
      * </p>
@@ -213,12 +258,42 @@ public class UserController {
      *         found.
      */
     public static User getUserById(int userId) {
+        return usersById.get(userId);
+    }
+
+    /**
+     * Rebuilds the ID and username indexes from {@link #userList} and moves the
+     * ID counter past the highest ID in use if needed. If several legacy users
+     * share a username, the first one in the list is indexed, as the earlier
+     * linear search found.
+     */
+    private static void rebuildIndexes() {
+        ConcurrentHashMap<Integer, User> byId = new ConcurrentHashMap<>();
+        ConcurrentHashMap<String, User> byUsername = new ConcurrentHashMap<>();
+        int highestId = 0;
         for (User user : userList) {
-            if (user.id == userId) {
-                return user;
-            }
+            byId.putIfAbsent(user.id, user);
+            byUsername.putIfAbsent(user.username, user);
+            highestId = Math.max(highestId, user.id);
         }
-        return null;
+        usersById = byId;
+        usersByUsername = byUsername;
+        if (nextUserId <= highestId && highestId < Integer.MAX_VALUE) {
+            nextUserId = highestId + 1;
+        }
+        nextUserId = Math.max(nextUserId, 1);
+    }
+
+    /**
+     * Allocates the next unused user ID from the monotonic counter.
+     *
+     * @return The allocated ID.
+     */
+    private static int allocateUserId() {
+        while (usersById.containsKey(nextUserId) || nextUserId <= 0) {
+            nextUserId = nextUserId == Integer.MAX_VALUE ? 1 : nextUserId + 1;
+        }
+        return nextUserId++;
     }
 
     /**
@@ -227,10 +302,10 @@ public class UserController {
      * <p>
      * Retrieves the user by ID, and if the user exists, appends all conversions
      * from the user's
-     * {@code currentSessionConversions} list to their {@code conversionHistory} for
-     * the current date.
-     * Clears the session conversions after saving and persists the updated user
-     * list.
+     * {@code currentSessionConversions} list to the user's history segment file
+     * for the current date through {@link HistoryController}. Only that one file
+     * is written; the user list is not reserialized. The session conversions are
+     * cleared once they have been saved.
      * If the user does not exist, prints an error message and does nothing.
      * </p>
      *
@@ -243,11 +318,10 @@ public class UserController {
             System.out.println("User dont exist !!!");
             return;
         }
-        ArrayList<Conversion> conversionsToday = u.conversionHistory.getOrDefault(LocalDate.now(), new ArrayList<>());
-        conversionsToday.addAll(u.currentSessionConversions);
-        u.conversionHistory.put(LocalDate.now(), conversionsToday);
-        u.currentSessionConversions.clear();
-        UserController.saveUserList();
+        if (HistoryController.appendConversions(u, LocalDate.now(), u.currentSessionConversions)) {
+            u.currentSessionConversions.clear();
+            u.getSessionStats().clearConversions();
+        }
     }
 
 }
@@ -0,0 +1,336 @@
+package NumberConverterSystem.Helpers;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The {@code ConversionCache} class is a bounded, concurrent least-recently-used
+ * cache of conversion results, keyed by value, source base, target base and
+ * fractional precision.
+ * <p>
+ * The cache is split into {@link #SEGMENTS} segments, each an access-ordered
+ * {@link LinkedHashMap} guarded by its own lock, so lookups of different keys
+ * rarely contend. Every segment owns an equal share of the memory budget and
+ * evicts its least recently used entries when an insertion would exceed it.
+ * The size of an entry is estimated from the lengths of its strings plus the
+ * fixed overhead of the key, the strings and the map node. Results are computed
+ * outside the lock, so a slow conversion never blocks other lookups.
+ * </p>
+ *
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Configurable memory budget in bytes; entries larger than a segment's
+ * share are returned but not cached.</li>
+ * <li>Hit, miss and eviction counters kept in {@link LongAdder}s, so counting
+ * does not contend either.</li>
+ * <li>Error messages are cached like results, since a conversion of the same
+ * input always fails the same way.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * ConversionCache cache = new ConversionCache(16L &lt;&lt; 20);
+ * String result = cache.get("255", 10, 16, 5, () -&gt; ConverterController.convertValue("255", 10, 16));
+ * System.out.println(cache);
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * <b>Thread Safety:</b> All methods are thread-safe.
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ConversionCache {
+
+    /**
+     * The default memory budget of the cache, 16 MiB.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET_BYTES = 16L << 20;
+
+    /**
+     * The number of independently locked segments.
+     */
+    private static final int SEGMENTS = 16;
+
+    /**
+     * The estimated fixed size of an entry in bytes: the key object, two string
+     * objects with their arrays, and the linked map node.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    /**
+     * The segments of the cache.
+     */
+    private final Segment[] segments;
+
+    /**
+     * The memory budget of each segment in bytes.
+     */
+    private volatile long segmentBudgetBytes;
+
+    /**
+     * The number of lookups answered from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of lookups that had to compute the result.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The number of entries evicted to stay within the budget.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a cache with the given memory budget.
+     *
+     * @param memoryBudgetBytes The approximate maximum memory used by cached
+     *                          entries, in bytes; 0 disables caching.
+     */
+    public ConversionCache(long memoryBudgetBytes) {
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+        setMemoryBudget(memoryBudgetBytes);
+    }
+
+    /**
+     * Returns the cached result for a conversion, computing and caching it on a
+     * miss.
+     *
+     * @param value      The value to convert.
+     * @param sourceBase The base in which the value is represented.
+     * @param targetBase The base to which the value is converted.
+     * @param precision  The fractional precision of the conversion.
+     * @param conversion Computes the result on a miss.
+     * @return The result of the conversion.
+     */
+    public String get(String value, int sourceBase, int targetBase, int precision, Supplier<String> conversion) {
+        Key key = new Key(value, sourceBase, targetBase, precision);
+        Segment segment = segments[(key.hashCode() & 0x7fffffff) % SEGMENTS];
+        String result;
+        synchronized (segment) {
+            result = segment.entries.get(key);
+        }
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        result = conversion.get();
+        long entryBytes = ENTRY_OVERHEAD_BYTES + value.length() + result.length();
+        long budget = segmentBudgetBytes;
+        if (entryBytes <= budget) {
+            synchronized (segment) {
+                String previous = segment.entries.put(key, result);
+                if (previous == null) {
+                    segment.bytes += entryBytes;
+                    evict(segment, budget);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Changes the memory budget, evicting least recently used entries if the
+     * cache is now over budget.
+     *
+     * @param memoryBudgetBytes The approximate maximum memory used by cached
+     *                          entries, in bytes; 0 disables caching.
+     */
+    public void setMemoryBudget(long memoryBudgetBytes) {
+        long budget = Math.max(0, memoryBudgetBytes) / SEGMENTS;
+        segmentBudgetBytes = budget;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                evict(segment, budget);
+            }
+        }
+    }
+
+    /**
+     * Removes every entry. The statistics are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.bytes = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return The hit count.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to compute the result.
+     *
+     * @return The miss count.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to stay within the budget.
+     *
+     * @return The eviction count.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups answered from the cache.
+     *
+     * @return The hit rate between 0 and 1, or 0 before the first lookup.
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return The entry count.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated memory used by the cached entries.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                bytes += segment.bytes;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a one-line summary of the cache statistics.
+     *
+     * @return The summary.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "Cache Entries - %d - Memory - %d of %d bytes - Hits - %d - Misses - %d - Evictions - %d - Hit Rate - %.1f%%",
+                size(), estimatedBytes(), segmentBudgetBytes * SEGMENTS, hitCount(), missCount(), evictionCount(),
+                hitRate() * 100);
+    }
+
+    /**
+     * Evicts least recently used entries of a segment until it fits the budget.
+     * Must be called while holding the segment's lock.
+     *
+     * @param segment The segment.
+     * @param budget  The memory budget of the segment in bytes.
+     */
+    private void evict(Segment segment, long budget) {
+        Iterator<Map.Entry<Key, String>> eldest = segment.entries.entrySet().iterator();
+        while (segment.bytes > budget && eldest.hasNext()) {
+            Map.Entry<Key, String> entry = eldest.next();
+            segment.bytes -= ENTRY_OVERHEAD_BYTES + entry.getKey().value.length() + entry.getValue().length();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * One independently locked part of the cache.
+     */
+    private static class Segment {
+        /** The entries of the segment, least recently used first. */
+        final LinkedHashMap<Key, String> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+        /** The estimated memory used by the entries in bytes. */
+        long bytes;
+    }
+
+    /**
+     * The key of a cached conversion.
+     */
+    private static final class Key {
+        /** The value converted. */
+        final String value;
+
+        /** The source base. */
+        final int sourceBase;
+
+        /** The target base. */
+        final int targetBase;
+
+        /** The fractional precision. */
+        final int precision;
+
+        /** The precomputed hash code. */
+        final int hash;
+
+        /**
+         * Constructs a key.
+         *
+         * @param value      The value converted.
+         * @param sourceBase The source base.
+         * @param targetBase The target base.
+         * @param precision  The fractional precision.
+         */
+        Key(String value, int sourceBase, int targetBase, int precision) {
+            this.value = value;
+            this.sourceBase = sourceBase;
+            this.targetBase = targetBase;
+            this.precision = precision;
+            this.hash = ((value.hashCode() * 37 + sourceBase) * 37 + targetBase) * 31 + precision;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return hash == key.hash && sourceBase == key.sourceBase && targetBase == key.targetBase
+                    && precision == key.precision && value.equals(key.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
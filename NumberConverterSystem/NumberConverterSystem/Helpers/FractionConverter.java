@@ -0,0 +1,162 @@
+package NumberConverterSystem.Helpers;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+
+/**
+ * The {@code FractionConverter} class converts the fractional part of a number
+ * between bases 2 and 36 exactly, using rational arithmetic instead of
+ * {@code double}.
+ * <p>
+ * The digits after the point are read as the fraction {@code p / q} with
+ * {@code q = sourceBase ^ digits}, reduced to lowest terms. Target digits are
+ * then produced by long division: the remainder is multiplied by the target
+ * base, the quotient is the next digit and the remainder is kept. A remainder
+ * that was already seen starts a repeating cycle, which is written in
+ * parentheses, e.g. {@code 0.1(6)} for one sixth in base 10. Remainders are
+ * kept in a {@code long} while the denominator times the base fits, and in a
+ * {@link BigInteger} only when it does not.
+ * </p>
+ *
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Exact digits for any input length, with no loss after 15 digits.</li>
+ * <li>Terminating fractions are written in full when they fit in the
+ * precision, without trailing zeros.</li>
+ * <li>Repeating fractions whose cycle completes within the precision are
+ * written as {@code prefix(cycle)}.</li>
+ * <li>Other fractions are truncated to the precision.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * String third = FractionConverter.convert("1", 3, 10, 20); // "(3)"
+ * String sixth = FractionConverter.convert("1", 6, 10, 20); // "1(6)"
+ * String tenth = FractionConverter.convert("1", 10, 2, 20); // "0(0011)"
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * <b>Thread Safety:</b> This class is stateless and thread-safe.
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class FractionConverter {
+
+    /**
+     * The largest denominator for which {@code denominator * base} always fits
+     * in a {@code long}, for every supported base.
+     */
+    private static final long MAX_LONG_DENOMINATOR = Long.MAX_VALUE / RadixConverter.MAX_BASE;
+
+    /**
+     * Converts the digits after the point from a source base to a target base.
+     *
+     * @param fractionDigits The digits after the point, without sign or point.
+     * @param sourceBase     The base in which the digits are represented.
+     * @param targetBase     The base to which the fraction should be converted.
+     * @param precision      The maximum number of target digits to produce,
+     *                       including those of a repeating cycle.
+     * @return The target digits after the point, with a repeating cycle in
+     *         parentheses; {@code "0"} for a zero fraction.
+     * @throws NumberFormatException    if a base is unsupported or a digit is
+     *                                  invalid in the source base.
+     * @throws IllegalArgumentException if the precision is not positive.
+     */
+    public static String convert(String fractionDigits, int sourceBase, int targetBase, int precision) {
+        if (precision <= 0) {
+            throw new IllegalArgumentException("Precision must be positive, was " + precision);
+        }
+        if (fractionDigits.isEmpty() || fractionDigits.charAt(0) == '-' || fractionDigits.charAt(0) == '+') {
+            throw new NumberFormatException(
+                    String.format("For input string: \"%s\" - expected the digits after the point", fractionDigits));
+        }
+        RadixConverter.checkBase(targetBase);
+        BigInteger numerator = RadixConverter.parse(fractionDigits, sourceBase);
+        if (numerator.signum() == 0) {
+            return "0";
+        }
+        BigInteger denominator = BigInteger.valueOf(sourceBase).pow(fractionDigits.length());
+        BigInteger divisor = numerator.gcd(denominator);
+        numerator = numerator.divide(divisor);
+        denominator = denominator.divide(divisor);
+        if (denominator.bitLength() < 63 && denominator.longValue() <= MAX_LONG_DENOMINATOR) {
+            return divide(numerator.longValue(), denominator.longValue(), targetBase, precision);
+        }
+        return divide(numerator, denominator, targetBase, precision);
+    }
+
+    /**
+     * Produces the target digits of {@code numerator / denominator} on
+     * {@code long} remainders.
+     *
+     * @param numerator   The reduced numerator, less than the denominator.
+     * @param denominator The reduced denominator.
+     * @param targetBase  The base of the digits.
+     * @param precision   The maximum number of digits.
+     * @return The digits, with a repeating cycle in parentheses.
+     */
+    private static String divide(long numerator, long denominator, int targetBase, int precision) {
+        StringBuilder digits = new StringBuilder();
+        HashMap<Long, Integer> seenAt = new HashMap<>();
+        long remainder = numerator;
+        while (remainder != 0 && digits.length() < precision) {
+            Integer cycleStart = seenAt.putIfAbsent(remainder, digits.length());
+            if (cycleStart != null) {
+                return withCycle(digits, cycleStart);
+            }
+            remainder *= targetBase;
+            digits.append(Character.forDigit((int) (remainder / denominator), targetBase));
+            remainder %= denominator;
+        }
+        Integer cycleStart = remainder == 0 ? null : seenAt.get(remainder);
+        return cycleStart != null ? withCycle(digits, cycleStart) : digits.toString();
+    }
+
+    /**
+     * Produces the target digits of {@code numerator / denominator} on
+     * {@link BigInteger} remainders, for denominators too large for a
+     * {@code long}.
+     *
+     * @param numerator   The reduced numerator, less than the denominator.
+     * @param denominator The reduced denominator.
+     * @param targetBase  The base of the digits.
+     * @param precision   The maximum number of digits.
+     * @return The digits, with a repeating cycle in parentheses.
+     */
+    private static String divide(BigInteger numerator, BigInteger denominator, int targetBase, int precision) {
+        StringBuilder digits = new StringBuilder();
+        HashMap<BigInteger, Integer> seenAt = new HashMap<>();
+        BigInteger base = BigInteger.valueOf(targetBase);
+        BigInteger remainder = numerator;
+        while (remainder.signum() != 0 && digits.length() < precision) {
+            Integer cycleStart = seenAt.putIfAbsent(remainder, digits.length());
+            if (cycleStart != null) {
+                return withCycle(digits, cycleStart);
+            }
+            BigInteger[] quotientAndRemainder = remainder.multiply(base).divideAndRemainder(denominator);
+            digits.append(Character.forDigit(quotientAndRemainder[0].intValue(), targetBase));
+            remainder = quotientAndRemainder[1];
+        }
+        Integer cycleStart = remainder.signum() == 0 ? null : seenAt.get(remainder);
+        return cycleStart != null ? withCycle(digits, cycleStart) : digits.toString();
+    }
+
+    /**
+     * Wraps the digits from the start of the cycle to the end in parentheses.
+     *
+     * @param digits     The digits produced so far.
+     * @param cycleStart Index of the first digit of the cycle.
+     * @return The digits with the cycle in parentheses.
+     */
+    private static String withCycle(StringBuilder digits, int cycleStart) {
+        return digits.insert(cycleStart, '(').append(')').toString();
+    }
+}
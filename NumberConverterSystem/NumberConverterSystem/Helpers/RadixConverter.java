@@ -0,0 +1,332 @@
+package NumberConverterSystem.Helpers;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * The {@code RadixConverter} class converts integers of any length between
+ * bases 2 and 36.
+ * <p>
+ * Values that fit in a {@code long} are converted on primitives, writing the
+ * digits into a per-thread reusable {@code char[]} buffer, so the common case
+ * allocates nothing but the result string. Longer values are converted with
+ * divide-and-conquer radix conversion: the digit string is split in halves
+ * which are parsed recursively and recombined with a cached power of the base,
+ * and the output is produced by recursively dividing by cached powers of the
+ * target base. Both directions therefore run in the time of
+ * {@link BigInteger} multiplication and division (Karatsuba, Toom-Cook and
+ * Burnikel-Ziegler for large operands) instead of the quadratic digit-by-digit
+ * loop.
+ * </p>
+ *
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Accepts an optional leading {@code +} or {@code -} sign and upper- or
+ * lower-case digits.</li>
+ * <li>Produces lower-case digits without leading zeros, like
+ * {@link Integer#toString(int, int)}.</li>
+ * <li>Rejects empty values, invalid digits and unsupported bases with a
+ * {@link NumberFormatException}, never a partial result.</li>
+ * <li>Caches the powers of every base used for splitting, so repeated
+ * conversions reuse them.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * String hex = RadixConverter.convert("18446744073709551616", 10, 16); // "10000000000000000"
+ * BigInteger value = RadixConverter.parse("zzzzzzzzzzzzzzzz", 36);
+ * String binary = RadixConverter.toString(value, 2);
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * <b>Thread Safety:</b> All methods are thread-safe. Buffers are per thread
+ * and the power cache is only replaced under a lock.
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RadixConverter {
+
+    /**
+     * The smallest supported base.
+     */
+    public static final int MIN_BASE = Character.MIN_RADIX;
+
+    /**
+     * The largest supported base.
+     */
+    public static final int MAX_BASE = Character.MAX_RADIX;
+
+    /**
+     * The number of digits of each base that always fit in a non-negative
+     * {@code long}, used as the leaf size of the divide-and-conquer recursion.
+     */
+    private static final int[] DIGITS_PER_LONG = new int[MAX_BASE + 1];
+
+    /**
+     * Cached powers per base: {@code POWERS[base][k]} is
+     * {@code base ^ (DIGITS_PER_LONG[base] * 2^k)}.
+     */
+    private static final BigInteger[][] POWERS = new BigInteger[MAX_BASE + 1][];
+
+    /**
+     * Per-thread buffer for the digits of a {@code long} in base 2, the longest
+     * case, plus a sign.
+     */
+    private static final ThreadLocal<char[]> LONG_BUFFER = ThreadLocal.withInitial(() -> new char[65]);
+
+    static {
+        for (int base = MIN_BASE; base <= MAX_BASE; base++) {
+            int digits = 0;
+            long limit = Long.MAX_VALUE / base;
+            for (long value = 1; value <= limit; value *= base) {
+                digits++;
+            }
+            DIGITS_PER_LONG[base] = digits;
+            POWERS[base] = new BigInteger[] { BigInteger.valueOf(base).pow(digits) };
+        }
+    }
+
+    /**
+     * Converts an integer value from a source base to a target base.
+     *
+     * @param value      The digits of the value, with an optional sign.
+     * @param sourceBase The base in which the value is represented.
+     * @param targetBase The base to which the value should be converted.
+     * @return The value in the target base.
+     * @throws NumberFormatException if a base is unsupported or the value is not
+     *                               a valid integer in the source base.
+     */
+    public static String convert(String value, int sourceBase, int targetBase) {
+        checkBase(targetBase);
+        int start = checkDigits(value, sourceBase);
+        boolean negative = value.charAt(0) == '-';
+        int length = value.length() - start;
+        if (length <= DIGITS_PER_LONG[sourceBase]) {
+            long magnitude = parseLong(value, start, value.length(), sourceBase);
+            return toString(negative ? -magnitude : magnitude, targetBase);
+        }
+        BigInteger magnitude = parseRange(value, start, value.length(), sourceBase);
+        return toString(negative ? magnitude.negate() : magnitude, targetBase);
+    }
+
+    /**
+     * Parses an integer value of any length in the given base.
+     *
+     * @param value The digits of the value, with an optional sign.
+     * @param base  The base in which the value is represented.
+     * @return The parsed value.
+     * @throws NumberFormatException if the base is unsupported or the value is
+     *                               not a valid integer in the base.
+     */
+    public static BigInteger parse(String value, int base) {
+        int start = checkDigits(value, base);
+        BigInteger magnitude = value.length() - start <= DIGITS_PER_LONG[base]
+                ? BigInteger.valueOf(parseLong(value, start, value.length(), base))
+                : parseRange(value, start, value.length(), base);
+        return value.charAt(0) == '-' ? magnitude.negate() : magnitude;
+    }
+
+    /**
+     * Returns the digits of a value in the given base.
+     *
+     * @param value The value to format.
+     * @param base  The base of the digits.
+     * @return The lower-case digits, with a leading {@code -} if negative.
+     * @throws NumberFormatException if the base is unsupported.
+     */
+    public static String toString(BigInteger value, int base) {
+        checkBase(base);
+        if (value.bitLength() < 64) {
+            return toString(value.longValue(), base);
+        }
+        BigInteger magnitude = value.abs();
+        // Every digit of the base carries at least floor(log2(base)) bits
+        int capacity = magnitude.bitLength() / (31 - Integer.numberOfLeadingZeros(base)) + 2;
+        char[] buffer = new char[capacity];
+        int start = writeRange(magnitude, base, buffer, capacity, -1);
+        if (value.signum() < 0) {
+            buffer[--start] = '-';
+        }
+        return new String(buffer, start, capacity - start);
+    }
+
+    /**
+     * Returns the digits of a {@code long} value in the given base, written into
+     * the per-thread buffer.
+     *
+     * @param value The value to format.
+     * @param base  The base of the digits.
+     * @return The lower-case digits, with a leading {@code -} if negative.
+     */
+    private static String toString(long value, int base) {
+        char[] buffer = LONG_BUFFER.get();
+        int position = buffer.length;
+        // Work on the negative magnitude so that Long.MIN_VALUE is handled too
+        long remaining = value < 0 ? value : -value;
+        do {
+            buffer[--position] = Character.forDigit((int) -(remaining % base), base);
+            remaining /= base;
+        } while (remaining != 0);
+        if (value < 0) {
+            buffer[--position] = '-';
+        }
+        return new String(buffer, position, buffer.length - position);
+    }
+
+    /**
+     * Parses a range of digits that is short enough to fit in a {@code long}.
+     *
+     * @param value The digits.
+     * @param from  Index of the first digit.
+     * @param to    Index after the last digit.
+     * @param base  The base of the digits.
+     * @return The parsed magnitude.
+     */
+    private static long parseLong(String value, int from, int to, int base) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * base + Character.digit(value.charAt(i), base);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a range of digits by splitting off the low half, a power-of-two
+     * multiple of the leaf size, and recombining the halves as
+     * {@code high * base^lowLength + low}.
+     *
+     * @param value The digits.
+     * @param from  Index of the first digit.
+     * @param to    Index after the last digit.
+     * @param base  The base of the digits.
+     * @return The parsed magnitude.
+     */
+    private static BigInteger parseRange(String value, int from, int to, int base) {
+        int length = to - from;
+        int leaf = DIGITS_PER_LONG[base];
+        if (length <= leaf) {
+            return BigInteger.valueOf(parseLong(value, from, to, base));
+        }
+        int level = 0;
+        while ((long) leaf << (level + 1) < length) {
+            level++;
+        }
+        int lowLength = leaf << level;
+        BigInteger high = parseRange(value, from, to - lowLength, base);
+        BigInteger low = parseRange(value, to - lowLength, to, base);
+        return high.multiply(power(base, level)).add(low);
+    }
+
+    /**
+     * Writes the digits of a non-negative value so that they end just before
+     * {@code end}, splitting by the largest cached power whose square exceeds the
+     * value.
+     *
+     * @param value  The non-negative value to write.
+     * @param base   The base of the digits.
+     * @param buffer The output buffer.
+     * @param end    Index after the last digit to write.
+     * @param width  The exact number of digits to write, zero-padded, or -1 to
+     *               write without leading zeros.
+     * @return Index of the first digit written.
+     */
+    private static int writeRange(BigInteger value, int base, char[] buffer, int end, int width) {
+        if (value.bitLength() < 64) {
+            long remaining = value.longValue();
+            int position = end;
+            do {
+                buffer[--position] = Character.forDigit((int) (remaining % base), base);
+                remaining /= base;
+            } while (remaining != 0);
+            if (width > 0) {
+                Arrays.fill(buffer, end - width, position, '0');
+                position = end - width;
+            }
+            return position;
+        }
+        int level = 0;
+        while (power(base, level + 1).bitLength() * 2L <= value.bitLength() + 1) {
+            level++;
+        }
+        int lowWidth = DIGITS_PER_LONG[base] << level;
+        BigInteger[] quotientAndRemainder = value.divideAndRemainder(power(base, level));
+        writeRange(quotientAndRemainder[1], base, buffer, end, lowWidth);
+        int highWidth = width > 0 ? width - lowWidth : -1;
+        return writeRange(quotientAndRemainder[0], base, buffer, end - lowWidth, highWidth);
+    }
+
+    /**
+     * Returns {@code base ^ (DIGITS_PER_LONG[base] * 2^level)}, computing and
+     * caching missing powers by repeated squaring.
+     *
+     * @param base  The base.
+     * @param level The level of the power.
+     * @return The cached power.
+     */
+    private static BigInteger power(int base, int level) {
+        BigInteger[] powers = POWERS[base];
+        if (level < powers.length) {
+            return powers[level];
+        }
+        synchronized (POWERS) {
+            powers = POWERS[base];
+            if (level >= powers.length) {
+                BigInteger[] grown = Arrays.copyOf(powers, level + 1);
+                for (int k = powers.length; k <= level; k++) {
+                    grown[k] = grown[k - 1].multiply(grown[k - 1]);
+                }
+                POWERS[base] = grown;
+                powers = grown;
+            }
+            return powers[level];
+        }
+    }
+
+    /**
+     * Validates a base.
+     *
+     * @param base The base to check.
+     * @throws NumberFormatException if the base is outside 2 to 36.
+     */
+    public static void checkBase(int base) {
+        if (base < MIN_BASE || base > MAX_BASE) {
+            throw new NumberFormatException(
+                    String.format("Base %d is not supported, use a base from %d to %d", base, MIN_BASE, MAX_BASE));
+        }
+    }
+
+    /**
+     * Validates a value and its base.
+     *
+     * @param value The digits, with an optional sign.
+     * @param base  The base of the digits.
+     * @return Index of the first digit, after the sign.
+     * @throws NumberFormatException if the base is unsupported or the value is
+     *                               empty or contains an invalid digit.
+     */
+    private static int checkDigits(String value, int base) {
+        checkBase(base);
+        if (value == null || value.isEmpty()) {
+            throw new NumberFormatException("For input string: \"\" - the value is empty");
+        }
+        int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        if (start == value.length()) {
+            throw new NumberFormatException(String.format("For input string: \"%s\" - no digits", value));
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), base) < 0) {
+                throw new NumberFormatException(String.format(
+                        "For input string: \"%s\" - '%c' is not a digit in base %d", value, value.charAt(i), base));
+            }
+        }
+        return start;
+    }
+}
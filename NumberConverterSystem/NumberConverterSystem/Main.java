@@ -1,12 +1,19 @@
 package NumberConverterSystem;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Scanner;
 
 import NumberConverterSystem.Controllers.UserController;
 import NumberConverterSystem.Controllers.ConverterController;
+import NumberConverterSystem.Controllers.ExportController;
 import NumberConverterSystem.Controllers.FileController;
 import NumberConverterSystem.Controllers.QuizController;
 import NumberConverterSystem.Controllers.StatsController;
+import NumberConverterSystem.Models.BatchReport;
+import NumberConverterSystem.Models.ExportJob;
+import NumberConverterSystem.Models.enums.ExportFormat;
 
 /**
  * The {@code Main} class serves as the entry point for the Number Converter
@@ -61,6 +68,7 @@ import NumberConverterSystem.Controllers.StatsController;
  * <li>Batch process conversions from file</li>
  * <li>Export session conversions</li>
  * <li>Export historical conversions</li>
+ * <li>View export progress</li>
  * <li>Take a conversion quiz</li>
  * <li>Exit session (save and logout)</li>
  * </ul>
@@ -212,10 +220,11 @@ public class Main {
      * <li>3: View historical conversion statistics</li>
      * <li>4: Undo the last conversion in the current session</li>
      * <li>5: Batch process conversions from a file</li>
-     * <li>6: Export current session conversions to a file</li>
-     * <li>7: Export historical conversions to a file</li>
+     * <li>6: Export current session conversions to a file in the background</li>
+     * <li>7: Export historical conversions to a file in the background</li>
      * <li>8: Take a quiz on conversions</li>
      * <li>9: Exit the current session (save and logout)</li>
+     * <li>10: View the progress of the exports</li>
      * </ul>
      * </p>
      * <p>
@@ -237,6 +246,7 @@ public class Main {
             System.out.print("\nEnter 7 for Exporting the history of conversions");
             System.out.print("\nEnter 8 for Quiz on Conversions");
             System.out.print("\nEnter 9 for Exiting the current session");
+            System.out.print("\nEnter 10 for Progress of the exports");
 
             int option = scanner.nextInt();
             scanner.nextLine();
@@ -268,25 +278,22 @@ public class Main {
                     }
                 }
                 case 5 -> {
+                    System.out.print("\nEnter the Input File Path: ");
                     String filePath = scanner.nextLine();
-                    FileController.batchProcessingThroughFile(userId, filePath);
-                }
-
-                case 6 -> {
-                    if (FileController.exportCurrentSessionConversions(userId)) {
-                        System.out.print("\nExporting to the File has been completed Successfully");
-                    } else {
-                        System.out.println("\nExporting Failed!!!");
+                    System.out.print("\nEnter the Output File Path (leave blank to record in the current session): ");
+                    String outputPath = scanner.nextLine();
+                    BatchReport report = outputPath.isBlank()
+                            ? FileController.batchProcessingThroughFile(userId, filePath)
+                            : FileController.streamBatchConversions(userId, filePath, outputPath);
+                    if (report != null) {
+                        System.out.println(report);
+                        report.errors.forEach(System.out::println);
                     }
                 }
 
-                case 7 -> {
-                    if (FileController.exportHistoryConversionsByDate(userId)) {
-                        System.out.print("\nExporting to the File has been completed Successfully");
-                    } else {
-                        System.out.println("\nExporting Failed!!!");
-                    }
-                }
+                case 6 -> startExport(userId, false);
+
+                case 7 -> startExport(userId, true);
 
                 case 8 -> {
                     QuizController.startQuiz();
@@ -299,7 +306,55 @@ public class Main {
                     System.out.println("Exiting the session");
                     return;
                 }
+                case 10 -> {
+                    List<ExportJob> jobs = ExportController.getJobs();
+                    if (jobs.isEmpty()) {
+                        System.out.println("No exports have been started");
+                    }
+                    jobs.forEach(System.out::println);
+                }
             }
         }
     }
+
+    /**
+     * Asks for the output file and format of an export and starts it in the
+     * background. The menu returns immediately; a message is printed when the
+     * export finishes, and option 10 shows its progress meanwhile.
+     *
+     * @param userId  The unique identifier of the logged-in user.
+     * @param history {@code true} to export the history, {@code false} to export
+     *                the current session.
+     */
+    private static void startExport(int userId, boolean history) {
+        System.out.print("\nEnter the Format (TEXT, CSV or BINARY, leave blank for TEXT): ");
+        String formatName = scanner.nextLine().trim();
+        ExportFormat format;
+        try {
+            format = formatName.isEmpty() ? ExportFormat.TEXT : ExportFormat.valueOf(formatName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.out.println("\nUnknown format " + formatName);
+            return;
+        }
+        System.out.print("\nEnter the Output File Path (leave blank for "
+                + ExportController.getDefaultPath(history, format) + "): ");
+        String outputPath = scanner.nextLine().trim();
+        Path path;
+        try {
+            path = outputPath.isEmpty() ? null : Path.of(outputPath);
+        } catch (InvalidPathException e) {
+            System.out.println("\nExporting Failed!!! Invalid path - " + e.getMessage());
+            return;
+        }
+        ExportJob job = history ? ExportController.exportHistoryAsync(userId, path, format)
+                : ExportController.exportSessionAsync(userId, path, format);
+        if (job == null) {
+            System.out.println("\nExporting Failed!!!");
+            return;
+        }
+        System.out.println("\nExporting in the background to " + job.path);
+        job.completion.whenComplete((done, error) -> System.out.println(error == null
+                ? "\nExporting to the File has been completed Successfully - " + job
+                : "\nExporting Failed!!! - " + job));
+    }
 }
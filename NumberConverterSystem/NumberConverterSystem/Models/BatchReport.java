@@ -0,0 +1,122 @@
+package NumberConverterSystem.Models;
+
+import java.util.ArrayList;
+
+/**
+ * The {@code BatchReport} class summarises one batch conversion run of the
+ * Number Converter System: how many lines were converted, which lines failed
+ * and how fast the batch ran.
+ * <p>
+ * Failing lines do not abort a batch. Each failure is counted, and the first
+ * {@link #MAX_RECORDED_ERRORS} are kept with their line number and message so
+ * that a file with millions of bad lines cannot exhaust memory.
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * BatchReport report = FileController.streamBatchConversions(userId, "input.csv", "output.csv");
+ * System.out.println(report);
+ * for (String error : report.errors) {
+ *     System.out.println(error);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BatchReport {
+    /**
+     * The maximum number of failing lines whose details are kept in
+     * {@link #errors}.
+     */
+    public static final int MAX_RECORDED_ERRORS = 1000;
+
+    /**
+     * The number of non-blank lines read from the input.
+     */
+    public long linesProcessed;
+
+    /**
+     * The number of lines converted successfully.
+     */
+    public long successfulLines;
+
+    /**
+     * The number of lines that could not be converted.
+     */
+    public long failedLines;
+
+    /**
+     * Details of the first failing lines, formatted as
+     * {@code "Line <number>: <message>"}.
+     */
+    public ArrayList<String> errors;
+
+    /**
+     * The wall-clock duration of the batch in nanoseconds.
+     */
+    public long elapsedNanos;
+
+    /**
+     * Constructs an empty report.
+     */
+    public BatchReport() {
+        this.errors = new ArrayList<>();
+    }
+
+    /**
+     * Records a failing line. The details are kept only while fewer than
+     * {@link #MAX_RECORDED_ERRORS} have been recorded.
+     *
+     * @param lineNumber The 1-based line number in the input.
+     * @param message    The reason the line failed.
+     */
+    public void addError(long lineNumber, String message) {
+        failedLines++;
+        if (errors.size() < MAX_RECORDED_ERRORS) {
+            errors.add(String.format("Line %d: %s", lineNumber, message));
+        }
+    }
+
+    /**
+     * Adds the counts and errors of a part of the batch to this report.
+     *
+     * @param part The report of a part of the batch.
+     */
+    public void merge(BatchReport part) {
+        linesProcessed += part.linesProcessed;
+        successfulLines += part.successfulLines;
+        failedLines += part.failedLines;
+        for (String error : part.errors) {
+            if (errors.size() >= MAX_RECORDED_ERRORS) {
+                break;
+            }
+            errors.add(error);
+        }
+    }
+
+    /**
+     * Returns the throughput of the batch.
+     *
+     * @return The number of lines processed per second.
+     */
+    public double linesPerSecond() {
+        return elapsedNanos == 0 ? 0 : linesProcessed * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns a one-line summary of the batch.
+     *
+     * @return The summary.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "Lines Processed - %d - Successful - %d - Failed - %d - Time - %.3f s - Throughput - %.0f lines/s",
+                linesProcessed, successfulLines, failedLines, elapsedNanos / 1e9, linesPerSecond());
+    }
+}
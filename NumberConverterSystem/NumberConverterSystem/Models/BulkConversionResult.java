@@ -0,0 +1,100 @@
+package NumberConverterSystem.Models;
+
+import java.nio.CharBuffer;
+
+/**
+ * The {@code BulkConversionResult} class holds the converted values of one
+ * bulk conversion in a single character buffer, without a {@link Conversion}
+ * or {@link String} per value.
+ * <p>
+ * The digits of value {@code i} are
+ * {@code digits[offsets[i]] .. digits[offsets[i + 1] - 1]}. A value that
+ * could not be converted has no digits; its error message is kept in
+ * {@link #errorMessages}.
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * BulkConversionResult result = BulkConversionController.convert(new long[] { 255, -8 }, 16);
+ * for (int i = 0; i &lt; result.size(); i++) {
+ *     System.out.println(result.digitsOf(i)); // ff, -8
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BulkConversionResult {
+    /**
+     * The digits of every converted value, back to back.
+     */
+    public char[] digits;
+
+    /**
+     * The start of each value's digits in {@link #digits}, plus the end of the
+     * last value at index {@code size()}.
+     */
+    public int[] offsets;
+
+    /**
+     * The error message of each value that could not be converted, or
+     * {@code null} for converted values.
+     */
+    public String[] errorMessages;
+
+    /**
+     * Constructs a result for the given number of values, with the digit buffer
+     * allocated later once its size is known.
+     *
+     * @param size The number of values.
+     */
+    public BulkConversionResult(int size) {
+        this.offsets = new int[size + 1];
+        this.errorMessages = new String[size];
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return errorMessages.length;
+    }
+
+    /**
+     * Checks whether a value could not be converted.
+     *
+     * @param index The index of the value.
+     * @return {@code true} if the value failed; {@code false} otherwise.
+     */
+    public boolean isError(int index) {
+        return errorMessages[index] != null;
+    }
+
+    /**
+     * Returns the digits of a value as a view of the buffer, without copying.
+     *
+     * @param index The index of the value.
+     * @return The digits; empty if the value failed.
+     */
+    public CharSequence digitsOf(int index) {
+        return CharBuffer.wrap(digits, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    /**
+     * Returns a value as a string, in the form returned by
+     * {@code ConverterController.convertValue}.
+     *
+     * @param index The index of the value.
+     * @return The converted digits, or the error message if the value failed.
+     */
+    public String get(int index) {
+        return isError(index) ? errorMessages[index]
+                : new String(digits, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+}
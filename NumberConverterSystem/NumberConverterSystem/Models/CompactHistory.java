@@ -0,0 +1,365 @@
+package NumberConverterSystem.Models;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * The {@code CompactHistory} class holds the conversion history of one user in
+ * a compact, columnar form instead of one {@link Conversion} object per
+ * conversion.
+ * <p>
+ * Conversions are grouped in buckets keyed by their epoch day. Within a bucket
+ * every conversion is a row of primitive columns: the source and target base
+ * packed into one {@code short}, the ids of the input value and of the result
+ * or error message, and one error bit. Values are interned in a string table
+ * shared by all days of the user, so a value converted a thousand times is
+ * stored once. {@link Conversion} objects are only created when a day is read.
+ * </p>
+ *
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>About 10 bytes per conversion plus each distinct value once, instead of
+ * a {@link Conversion} object and its strings per conversion.</li>
+ * <li>Days are kept in date order and can be read one at a time.</li>
+ * <li>{@link UsageStats} per day and for the whole history are updated as
+ * conversions are added.</li>
+ * <li>String ids are assigned in insertion order, so they match the order in
+ * which strings are appended to a history segment file.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * CompactHistory history = HistoryController.getHistory(user);
+ * for (int epochDay : history.getEpochDays()) {
+ *     System.out.println(LocalDate.ofEpochDay(epochDay) + " " + history.getConversions(epochDay));
+ * }
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * <b>Thread Safety:</b> This class is not thread-safe; callers synchronize on
+ * the owning {@link User}.
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CompactHistory {
+
+    /**
+     * The interned strings, indexed by id.
+     */
+    private final ArrayList<String> strings = new ArrayList<>();
+
+    /**
+     * The id of every interned string.
+     */
+    private final HashMap<String, Integer> stringIds = new HashMap<>();
+
+    /**
+     * The conversions of each day, keyed by epoch day.
+     */
+    private final TreeMap<Integer, DayBucket> days = new TreeMap<>();
+
+    /**
+     * The usage statistics of the whole history.
+     */
+    private final UsageStats totalStats = new UsageStats();
+
+    /**
+     * The total number of conversions.
+     */
+    private int size;
+
+    /**
+     * The largest base that fits in a packed base pair.
+     */
+    private static final int MAX_PACKED_BASE = 36;
+
+    /**
+     * The 6-bit value stored for a base outside 0 to {@value #MAX_PACKED_BASE},
+     * read back as {@link #INVALID_BASE}.
+     */
+    private static final int INVALID_BASE_BITS = 0x3f;
+
+    /**
+     * The base returned for a base that was outside 0 to
+     * {@value #MAX_PACKED_BASE} when it was packed.
+     */
+    public static final int INVALID_BASE = -1;
+
+    /**
+     * Packs a source and target base into one value; each base takes 6 bits. A
+     * base outside 0 to {@value #MAX_PACKED_BASE}, which only a failed conversion
+     * can have, is stored as a sentinel instead of being wrapped into a valid
+     * base.
+     *
+     * @param sourceBase The source base.
+     * @param targetBase The target base.
+     * @return The packed base pair.
+     */
+    public static short packBases(int sourceBase, int targetBase) {
+        return (short) (packBase(sourceBase) << 6 | packBase(targetBase));
+    }
+
+    /**
+     * Returns the source base of a packed base pair.
+     *
+     * @param basePair The packed base pair.
+     * @return The source base, or {@link #INVALID_BASE} if it was out of range.
+     */
+    public static int sourceBase(short basePair) {
+        return unpackBase(basePair >> 6 & 0x3f);
+    }
+
+    /**
+     * Returns the target base of a packed base pair.
+     *
+     * @param basePair The packed base pair.
+     * @return The target base, or {@link #INVALID_BASE} if it was out of range.
+     */
+    public static int targetBase(short basePair) {
+        return unpackBase(basePair & 0x3f);
+    }
+
+    /**
+     * Returns the 6 bits stored for one base.
+     *
+     * @param base The base.
+     * @return The base, or the sentinel if it is out of range.
+     */
+    private static int packBase(int base) {
+        return base >= 0 && base <= MAX_PACKED_BASE ? base : INVALID_BASE_BITS;
+    }
+
+    /**
+     * Returns the base stored in 6 bits.
+     *
+     * @param bits The stored bits.
+     * @return The base, or {@link #INVALID_BASE} for the sentinel and any other
+     *         value that no valid base packs to.
+     */
+    private static int unpackBase(int bits) {
+        return bits <= MAX_PACKED_BASE ? bits : INVALID_BASE;
+    }
+
+    /**
+     * Returns the id of an interned string.
+     *
+     * @param value The string.
+     * @return The id, or -1 if the string is not interned.
+     */
+    public int idOf(String value) {
+        Integer id = stringIds.get(value);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Interns a string under the next id. The string must not be interned yet.
+     *
+     * @param value The string.
+     * @return The id assigned to the string.
+     */
+    public int addString(String value) {
+        int id = strings.size();
+        strings.add(value);
+        stringIds.put(value, id);
+        return id;
+    }
+
+    /**
+     * Returns the number of interned strings, which is also the next id.
+     *
+     * @return The number of interned strings.
+     */
+    public int stringCount() {
+        return strings.size();
+    }
+
+    /**
+     * Adds a conversion whose strings are already interned.
+     *
+     * @param epochDay The day of the conversion.
+     * @param basePair The packed source and target base.
+     * @param error    {@code true} if the conversion failed.
+     * @param valueId  The id of the input value.
+     * @param outputId The id of the result, or of the error message if it
+     *                 failed.
+     */
+    public void add(int epochDay, short basePair, boolean error, int valueId, int outputId) {
+        days.computeIfAbsent(epochDay, day -> new DayBucket()).add(basePair, error, valueId, outputId);
+        totalStats.record(sourceBase(basePair), targetBase(basePair), !error);
+        size++;
+    }
+
+    /**
+     * Adds a conversion, interning its strings as needed.
+     *
+     * @param date       The day of the conversion.
+     * @param conversion The conversion.
+     */
+    public void add(LocalDate date, Conversion conversion) {
+        boolean error = !conversion.errorMessage.isEmpty();
+        add((int) date.toEpochDay(), packBases(conversion.sourceBase, conversion.targetBase), error,
+                intern(conversion.inputValue), intern(error ? conversion.errorMessage : conversion.result));
+    }
+
+    /**
+     * Returns the days with at least one conversion, in date order.
+     *
+     * @return The epoch days.
+     */
+    public NavigableSet<Integer> getEpochDays() {
+        return days.navigableKeySet();
+    }
+
+    /**
+     * Returns the number of conversions on a day.
+     *
+     * @param epochDay The day.
+     * @return The number of conversions.
+     */
+    public int count(int epochDay) {
+        DayBucket bucket = days.get(epochDay);
+        return bucket == null ? 0 : bucket.size;
+    }
+
+    /**
+     * Returns the usage statistics of one day, maintained as conversions are
+     * added.
+     *
+     * @param epochDay The day.
+     * @return The statistics of the day; empty if there are no conversions.
+     */
+    public UsageStats getStats(int epochDay) {
+        DayBucket bucket = days.get(epochDay);
+        return bucket == null ? new UsageStats() : bucket.stats;
+    }
+
+    /**
+     * Returns the usage statistics of the whole history, maintained as
+     * conversions are added.
+     *
+     * @return The statistics of the history.
+     */
+    public UsageStats getTotalStats() {
+        return totalStats;
+    }
+
+    /**
+     * Returns the total number of conversions.
+     *
+     * @return The number of conversions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Materializes the conversions of one day.
+     *
+     * @param epochDay The day.
+     * @return The conversions in the order they were added; empty if there are
+     *         none.
+     */
+    public ArrayList<Conversion> getConversions(int epochDay) {
+        DayBucket bucket = days.get(epochDay);
+        if (bucket == null) {
+            return new ArrayList<>();
+        }
+        ArrayList<Conversion> conversions = new ArrayList<>(bucket.size);
+        for (int i = 0; i < bucket.size; i++) {
+            short basePair = bucket.basePairs[i];
+            Conversion conversion = new Conversion(strings.get(bucket.valueIds[i]), sourceBase(basePair),
+                    targetBase(basePair));
+            if (bucket.errors.get(i)) {
+                conversion.errorMessage = strings.get(bucket.outputIds[i]);
+            } else {
+                conversion.result = strings.get(bucket.outputIds[i]);
+            }
+            conversions.add(conversion);
+        }
+        return conversions;
+    }
+
+    /**
+     * Materializes the whole history in the map form of
+     * {@link User#conversionHistory}. Prefer reading one day at a time for large
+     * histories.
+     *
+     * @return The conversions grouped by date.
+     */
+    public HashMap<LocalDate, ArrayList<Conversion>> toConversionMap() {
+        HashMap<LocalDate, ArrayList<Conversion>> map = new HashMap<>();
+        for (int epochDay : days.keySet()) {
+            map.put(LocalDate.ofEpochDay(epochDay), getConversions(epochDay));
+        }
+        return map;
+    }
+
+    /**
+     * Returns the id of a string, interning it if needed.
+     *
+     * @param value The string.
+     * @return The id.
+     */
+    private int intern(String value) {
+        int id = idOf(value);
+        return id >= 0 ? id : addString(value);
+    }
+
+    /**
+     * The conversions of one day, stored as parallel primitive columns.
+     */
+    private static class DayBucket {
+        /** The packed base pair of each conversion. */
+        short[] basePairs = new short[8];
+
+        /** The input value id of each conversion. */
+        int[] valueIds = new int[8];
+
+        /** The result or error message id of each conversion. */
+        int[] outputIds = new int[8];
+
+        /** The conversions that failed. */
+        final BitSet errors = new BitSet();
+
+        /** The usage statistics of the day. */
+        final UsageStats stats = new UsageStats();
+
+        /** The number of conversions. */
+        int size;
+
+        /**
+         * Appends a conversion, growing the columns as needed.
+         *
+         * @param basePair The packed base pair.
+         * @param error    {@code true} if the conversion failed.
+         * @param valueId  The input value id.
+         * @param outputId The result or error message id.
+         */
+        void add(short basePair, boolean error, int valueId, int outputId) {
+            if (size == basePairs.length) {
+                basePairs = Arrays.copyOf(basePairs, size * 2);
+                valueIds = Arrays.copyOf(valueIds, size * 2);
+                outputIds = Arrays.copyOf(outputIds, size * 2);
+            }
+            basePairs[size] = basePair;
+            valueIds[size] = valueId;
+            outputIds[size] = outputId;
+            errors.set(size, error);
+            stats.record(sourceBase(basePair), targetBase(basePair), !error);
+            size++;
+        }
+    }
+}
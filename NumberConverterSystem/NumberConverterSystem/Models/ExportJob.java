@@ -0,0 +1,107 @@
+package NumberConverterSystem.Models;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import NumberConverterSystem.Models.enums.ExportFormat;
+
+/**
+ * The {@code ExportJob} class tracks one export running in the background:
+ * what is exported where, how far it has got and how it ended.
+ * <p>
+ * The counters are updated by the export thread and may be read from any
+ * thread at any time. {@link #completion} completes with the job itself when
+ * the export succeeds, and exceptionally when it fails.
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * ExportJob job = ExportController.exportHistoryAsync(userId, Path.of("history.csv"), ExportFormat.CSV);
+ * System.out.println(job); // History export to history.csv (CSV) - 1200 of 5000 conversions - 24.0%
+ * job.completion.join();
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ExportJob {
+    /**
+     * What is exported, e.g. "History export".
+     */
+    public final String description;
+
+    /**
+     * The file the conversions are written to.
+     */
+    public final Path path;
+
+    /**
+     * The format of the file.
+     */
+    public final ExportFormat format;
+
+    /**
+     * The number of conversions to export, or -1 until it is known.
+     */
+    public volatile long totalConversions = -1;
+
+    /**
+     * The number of conversions written so far.
+     */
+    public final AtomicLong exportedConversions = new AtomicLong();
+
+    /**
+     * The error message if the export failed, or {@code null}.
+     */
+    public volatile String errorMessage;
+
+    /**
+     * Completes with this job when the export ends.
+     */
+    public final CompletableFuture<ExportJob> completion = new CompletableFuture<>();
+
+    /**
+     * Constructs a job that has not started.
+     *
+     * @param description What is exported.
+     * @param path        The file the conversions are written to.
+     * @param format      The format of the file.
+     */
+    public ExportJob(String description, Path path, ExportFormat format) {
+        this.description = description;
+        this.path = path;
+        this.format = format;
+    }
+
+    /**
+     * Returns the fraction of the conversions written so far.
+     *
+     * @return The progress between 0 and 1; 0 while the total is unknown, 1 once
+     *         the export succeeded.
+     */
+    public double progress() {
+        if (completion.isDone() && errorMessage == null) {
+            return 1;
+        }
+        long total = totalConversions;
+        return total <= 0 ? 0 : Math.min(1, (double) exportedConversions.get() / total);
+    }
+
+    /**
+     * Returns a one-line summary of the job and its progress.
+     *
+     * @return The summary.
+     */
+    @Override
+    public String toString() {
+        String state = errorMessage != null ? "Failed - " + errorMessage
+                : completion.isDone() ? "Completed" : String.format("%.1f%%", progress() * 100);
+        return String.format("%s to %s (%s) - %d of %s conversions - %s", description, path, format,
+                exportedConversions.get(), totalConversions < 0 ? "?" : Long.toString(totalConversions), state);
+    }
+}
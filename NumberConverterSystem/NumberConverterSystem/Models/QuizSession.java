@@ -0,0 +1,88 @@
+package NumberConverterSystem.Models;
+
+import NumberConverterSystem.Models.enums.QuizDifficulty;
+
+/**
+ * The {@code QuizSession} class represents one learner's run through a quiz in
+ * the Number Converter System: its difficulty, the question being answered and
+ * the score so far.
+ * <p>
+ * Sessions are created and driven by {@code QuizSessionController}, which
+ * synchronizes on the session while it changes it; other code should treat
+ * the fields as read-only.
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * long sessionId = QuizSessionController.startSession(userId, QuizDifficulty.EASY, 10);
+ * QuizSession session = QuizSessionController.getSession(sessionId);
+ * System.out.println(session.score + " of " + session.answeredQuestions);
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class QuizSession {
+    /**
+     * The unique identifier of the session.
+     */
+    public long id;
+
+    /**
+     * The unique identifier of the user taking the quiz.
+     */
+    public int userId;
+
+    /**
+     * The difficulty tier of the questions.
+     */
+    public QuizDifficulty difficulty;
+
+    /**
+     * The number of questions in the quiz.
+     */
+    public int totalQuestions;
+
+    /**
+     * The number of questions answered so far.
+     */
+    public int answeredQuestions;
+
+    /**
+     * The number of questions answered correctly so far.
+     */
+    public int score;
+
+    /**
+     * The question handed out and not yet answered, or {@code null}.
+     */
+    public QuizQuestion currentQuestion;
+
+    /**
+     * Constructs a new session with no questions answered.
+     *
+     * @param id             The unique identifier of the session.
+     * @param userId         The unique identifier of the user.
+     * @param difficulty     The difficulty tier of the questions.
+     * @param totalQuestions The number of questions in the quiz.
+     */
+    public QuizSession(long id, int userId, QuizDifficulty difficulty, int totalQuestions) {
+        this.id = id;
+        this.userId = userId;
+        this.difficulty = difficulty;
+        this.totalQuestions = totalQuestions;
+    }
+
+    /**
+     * Checks whether every question of the quiz has been answered.
+     *
+     * @return {@code true} if the quiz is finished; {@code false} otherwise.
+     */
+    public boolean isFinished() {
+        return answeredQuestions >= totalQuestions;
+    }
+}
@@ -0,0 +1,300 @@
+package NumberConverterSystem.Models;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * The {@code UsageStats} class holds usage counters for a set of conversions,
+ * such as the current session of a user or one day of a user's history, and
+ * keeps them up to date as conversions are recorded or undone.
+ * <p>
+ * The use of each base pair is counted in a primitive 37 by 37 matrix indexed
+ * by source and target base, and the use of each base in two arrays of 37.
+ * Answering a query therefore never looks at the conversions themselves: the
+ * top base pairs are found by one pass over the fixed-size matrix, and the most
+ * used source and target bases are tracked as counts change.
+ * </p>
+ *
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Successful, failed and undone conversion counters.</li>
+ * <li>Top-K base pairs and most used bases in time independent of the number of
+ * conversions.</li>
+ * <li>Conversions with a base outside 0 to 36 are counted as successful or
+ * failed, but not in the base counters.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * UsageStats stats = user.getSessionStats();
+ * stats.record(2, 10, true);
+ * HashMap&lt;String, Integer&gt; topPairs = stats.getTopBasePairs(5); // {"2 -&gt; 10"=1}
+ * int base = stats.getMostUsedSourceBase(); // 2
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * <b>Thread Safety:</b> This class is not thread-safe.
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class UsageStats {
+
+    /**
+     * The number of base slots, so that any base from 0 to 36 is its own index.
+     */
+    public static final int BASE_SLOTS = 37;
+
+    /**
+     * The use count of each base pair, at {@code sourceBase * 37 + targetBase}.
+     */
+    private final int[] basePairCounts = new int[BASE_SLOTS * BASE_SLOTS];
+
+    /**
+     * The use count of each source base.
+     */
+    private final int[] sourceBaseCounts = new int[BASE_SLOTS];
+
+    /**
+     * The use count of each target base.
+     */
+    private final int[] targetBaseCounts = new int[BASE_SLOTS];
+
+    /**
+     * The most used source base, or -1 if none is counted.
+     */
+    private int mostUsedSourceBase = -1;
+
+    /**
+     * The most used target base, or -1 if none is counted.
+     */
+    private int mostUsedTargetBase = -1;
+
+    /**
+     * The number of successful conversions.
+     */
+    public int successfulConversions;
+
+    /**
+     * The number of failed conversions.
+     */
+    public int failedConversions;
+
+    /**
+     * The number of undo operations.
+     */
+    public int undoCount;
+
+    /**
+     * Builds the statistics of a list of conversions.
+     *
+     * @param conversions The conversions.
+     * @return The statistics of the conversions.
+     */
+    public static UsageStats of(List<Conversion> conversions) {
+        UsageStats stats = new UsageStats();
+        for (Conversion c : conversions) {
+            stats.record(c.sourceBase, c.targetBase, c.errorMessage.isEmpty());
+        }
+        return stats;
+    }
+
+    /**
+     * Counts a conversion.
+     *
+     * @param sourceBase The source base of the conversion.
+     * @param targetBase The target base of the conversion.
+     * @param successful {@code true} if the conversion succeeded.
+     */
+    public void record(int sourceBase, int targetBase, boolean successful) {
+        if (successful) {
+            successfulConversions++;
+        } else {
+            failedConversions++;
+        }
+        if (!isCounted(sourceBase, targetBase)) {
+            return;
+        }
+        basePairCounts[sourceBase * BASE_SLOTS + targetBase]++;
+        if (++sourceBaseCounts[sourceBase] > count(sourceBaseCounts, mostUsedSourceBase)) {
+            mostUsedSourceBase = sourceBase;
+        }
+        if (++targetBaseCounts[targetBase] > count(targetBaseCounts, mostUsedTargetBase)) {
+            mostUsedTargetBase = targetBase;
+        }
+    }
+
+    /**
+     * Removes a conversion counted earlier, such as an undone conversion.
+     *
+     * @param sourceBase The source base of the conversion.
+     * @param targetBase The target base of the conversion.
+     * @param successful {@code true} if the conversion succeeded.
+     */
+    public void remove(int sourceBase, int targetBase, boolean successful) {
+        if (successful) {
+            successfulConversions--;
+        } else {
+            failedConversions--;
+        }
+        if (!isCounted(sourceBase, targetBase)) {
+            return;
+        }
+        basePairCounts[sourceBase * BASE_SLOTS + targetBase]--;
+        sourceBaseCounts[sourceBase]--;
+        targetBaseCounts[targetBase]--;
+        if (sourceBase == mostUsedSourceBase) {
+            mostUsedSourceBase = argMax(sourceBaseCounts);
+        }
+        if (targetBase == mostUsedTargetBase) {
+            mostUsedTargetBase = argMax(targetBaseCounts);
+        }
+    }
+
+    /**
+     * Clears the conversion counters, keeping the undo count.
+     */
+    public void clearConversions() {
+        Arrays.fill(basePairCounts, 0);
+        Arrays.fill(sourceBaseCounts, 0);
+        Arrays.fill(targetBaseCounts, 0);
+        mostUsedSourceBase = -1;
+        mostUsedTargetBase = -1;
+        successfulConversions = 0;
+        failedConversions = 0;
+    }
+
+    /**
+     * Returns the total number of conversions counted.
+     *
+     * @return The number of conversions.
+     */
+    public int totalConversions() {
+        return successfulConversions + failedConversions;
+    }
+
+    /**
+     * Returns the use count of a base pair.
+     *
+     * @param sourceBase The source base.
+     * @param targetBase The target base.
+     * @return The number of conversions from the source to the target base.
+     */
+    public int getBasePairCount(int sourceBase, int targetBase) {
+        return isCounted(sourceBase, targetBase) ? basePairCounts[sourceBase * BASE_SLOTS + targetBase] : 0;
+    }
+
+    /**
+     * Returns the most used base pairs, most used first; pairs used equally often
+     * are ordered by source and then target base.
+     *
+     * @param k The maximum number of pairs to return.
+     * @return A map from base pair (e.g., "2 -> 10") to use count.
+     */
+    public LinkedHashMap<String, Integer> getTopBasePairs(int k) {
+        LinkedHashMap<String, Integer> pairs = new LinkedHashMap<>();
+        if (k <= 0) {
+            return pairs;
+        }
+        int[] top = new int[Math.min(k, basePairCounts.length)];
+        int found = 0;
+        for (int pair = 0; pair < basePairCounts.length; pair++) {
+            int count = basePairCounts[pair];
+            if (count == 0 || (found == top.length && count <= basePairCounts[top[found - 1]])) {
+                continue;
+            }
+            int position = found < top.length ? found++ : found - 1;
+            while (position > 0 && basePairCounts[top[position - 1]] < count) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = pair;
+        }
+        for (int i = 0; i < found; i++) {
+            pairs.put(String.format("%d -> %d", top[i] / BASE_SLOTS, top[i] % BASE_SLOTS), basePairCounts[top[i]]);
+        }
+        return pairs;
+    }
+
+    /**
+     * Returns the most used source base.
+     *
+     * @return The base, or -1 if no conversion is counted.
+     */
+    public int getMostUsedSourceBase() {
+        return mostUsedSourceBase;
+    }
+
+    /**
+     * Returns the use count of the most used source base.
+     *
+     * @return The use count, or 0 if no conversion is counted.
+     */
+    public int getMostUsedSourceBaseCount() {
+        return count(sourceBaseCounts, mostUsedSourceBase);
+    }
+
+    /**
+     * Returns the most used target base.
+     *
+     * @return The base, or -1 if no conversion is counted.
+     */
+    public int getMostUsedTargetBase() {
+        return mostUsedTargetBase;
+    }
+
+    /**
+     * Returns the use count of the most used target base.
+     *
+     * @return The use count, or 0 if no conversion is counted.
+     */
+    public int getMostUsedTargetBaseCount() {
+        return count(targetBaseCounts, mostUsedTargetBase);
+    }
+
+    /**
+     * Checks whether both bases have a slot in the counters.
+     *
+     * @param sourceBase The source base.
+     * @param targetBase The target base.
+     * @return {@code true} if both bases are from 0 to 36.
+     */
+    private static boolean isCounted(int sourceBase, int targetBase) {
+        return sourceBase >= 0 && sourceBase < BASE_SLOTS && targetBase >= 0 && targetBase < BASE_SLOTS;
+    }
+
+    /**
+     * Returns the count at a base, or 0 for no base.
+     *
+     * @param counts The counts per base.
+     * @param base   The base, or -1.
+     * @return The count.
+     */
+    private static int count(int[] counts, int base) {
+        return base < 0 ? 0 : counts[base];
+    }
+
+    /**
+     * Returns the base with the highest count.
+     *
+     * @param counts The counts per base.
+     * @return The base with the highest count, or -1 if all counts are zero.
+     */
+    private static int argMax(int[] counts) {
+        int best = -1;
+        for (int base = 0; base < counts.length; base++) {
+            if (counts[base] > count(counts, best)) {
+                best = base;
+            }
+        }
+        return best;
+    }
+}
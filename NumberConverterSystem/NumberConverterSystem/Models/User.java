@@ -1,5 +1,7 @@
 package NumberConverterSystem.Models;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -31,7 +33,7 @@ import java.util.HashMap;
  * <li>Records the number of undo operations performed in the current
  * session.</li>
  * <li>Maintains a history of all conversions, grouped by date, for long-term
- * tracking.</li>
+ * tracking, read lazily in a compact form.</li>
  * <li>Implements {@link Serializable} for persistent storage and
  * retrieval.</li>
  * </ul>
@@ -51,7 +53,7 @@ import java.util.HashMap;
  * user.undoCountInCurrentSession++;
  *
  * // Save session conversions to history for today
- * user.conversionHistory.put(LocalDate.now(), new ArrayList<>(user.currentSessionConversions));
+ * HistoryController.appendConversions(user, LocalDate.now(), user.currentSessionConversions);
  * </pre>
  * </p>
  *
@@ -103,10 +105,13 @@ public class User implements Serializable {
      * in the current session.
      * <p>
      * This list is cleared when session data is saved to history or when a new
-     * session begins.
+     * session begins. It is not serialized: the conversions of a session are
+     * only persisted by appending them to the history, so writing the user list
+     * during a session cannot make them reappear, and be appended again, after a
+     * restart.
      * </p>
      */
-    public ArrayList<Conversion> currentSessionConversions;
+    public transient ArrayList<Conversion> currentSessionConversions;
 
     /**
      * The number of undo operations performed by the user in the current session.
@@ -120,7 +125,12 @@ public class User implements Serializable {
 
     /**
      * The historical record of all conversions performed by the user, grouped by
-     * date.
+     * date, as kept by earlier versions.
+     * <p>
+     * Histories are now stored in per-user segment files and read into
+     * {@link #compactHistory}; a history found here is migrated to the user's
+     * segment file when the user list is loaded, leaving this map empty.
+     * </p>
      * <p>
      * This map associates each {@link LocalDate} with a list of {@link Conversion}
      * objects
@@ -132,6 +142,27 @@ public class User implements Serializable {
      */
     public HashMap<LocalDate, ArrayList<Conversion>> conversionHistory;
 
+    /**
+     * The compact conversion history of the user, read lazily from the user's
+     * history segment file.
+     * <p>
+     * This field is {@code null} until the history is first needed; use
+     * {@code HistoryController.getHistory(User)} to read it. It is not
+     * serialized with the user list.
+     * </p>
+     */
+    public transient CompactHistory compactHistory;
+
+    /**
+     * The usage statistics of the current session, updated as conversions are
+     * performed and undone.
+     * <p>
+     * This field is not serialized; use {@link #getSessionStats()}, which builds
+     * it from {@link #currentSessionConversions} on first use.
+     * </p>
+     */
+    public transient UsageStats sessionStats;
+
     /**
      * Constructs a new {@code User} object with the specified ID, username, and
      * password.
@@ -153,4 +184,31 @@ public class User implements Serializable {
         this.conversionHistory = new HashMap<>();
         this.undoCountInCurrentSession = 0;
     }
+
+    /**
+     * Returns the usage statistics of the current session, building them on first
+     * use from {@link #currentSessionConversions} and
+     * {@link #undoCountInCurrentSession}.
+     *
+     * @return The usage statistics of the current session.
+     */
+    public UsageStats getSessionStats() {
+        if (sessionStats == null) {
+            sessionStats = UsageStats.of(currentSessionConversions);
+            sessionStats.undoCount = undoCountInCurrentSession;
+        }
+        return sessionStats;
+    }
+
+    /**
+     * Restores a user from a stream, starting with an empty session.
+     *
+     * @param in The stream to read from.
+     * @throws IOException            If the user cannot be read.
+     * @throws ClassNotFoundException If a serialized class cannot be found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        currentSessionConversions = new ArrayList<>();
+    }
 }
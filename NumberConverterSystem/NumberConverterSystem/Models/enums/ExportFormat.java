@@ -0,0 +1,57 @@
+package NumberConverterSystem.Models.enums;
+
+/**
+ * The {@code ExportFormat} enum lists the file formats conversions can be
+ * exported in by the Number Converter System.
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * ExportJob job = ExportController.exportHistoryAsync(userId, Path.of("history.csv"), ExportFormat.CSV);
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ExportFormat {
+    /** Human-readable text: a date line followed by one line per conversion. */
+    TEXT("txt"),
+    /**
+     * Comma-separated values with a header row:
+     * {@code date,value,sourceBase,targetBase,result,error}.
+     */
+    CSV("csv"),
+    /**
+     * Compact binary: the magic number {@code NCX1}, then per day the epoch day
+     * and conversion count as {@code int}s, and per conversion the source base,
+     * target base and error flag as bytes followed by the value and the result
+     * or error message as length-prefixed UTF-8.
+     */
+    BINARY("bin");
+
+    /**
+     * The file extension of the format, without the dot.
+     */
+    private final String extension;
+
+    /**
+     * Constructs a format.
+     *
+     * @param extension The file extension, without the dot.
+     */
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file extension of the format.
+     *
+     * @return The extension, without the dot.
+     */
+    public String extension() {
+        return extension;
+    }
+}
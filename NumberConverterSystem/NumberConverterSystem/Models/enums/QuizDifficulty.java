@@ -0,0 +1,78 @@
+package NumberConverterSystem.Models.enums;
+
+import java.util.SplittableRandom;
+
+/**
+ * The {@code QuizDifficulty} enum lists the difficulty tiers of quiz questions
+ * in the Number Converter System. A tier fixes which bases a question uses and
+ * how large its value is.
+ *
+ * <p>
+ * <b>Usage Example:</b>
+ *
+ * <pre>
+ * QuizQuestion q = QuizController.generateQuestion(QuizDifficulty.EASY);
+ * </pre>
+ * </p>
+ *
+ * @author Guru Charan K S
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum QuizDifficulty {
+    /** The common bases 2, 8, 10 and 16, with values from 10 to 255. */
+    EASY(new int[] { 2, 8, 10, 16 }, 10, 256),
+    /** Any base from 2 to 36, with values from 10 to 999. */
+    MEDIUM(null, 10, 1000),
+    /** Any base from 2 to 36, with values from 1000 to 999999. */
+    HARD(null, 1000, 1_000_000);
+
+    /**
+     * The bases questions of this tier use, or {@code null} for every base from
+     * 2 to 36.
+     */
+    private final int[] bases;
+
+    /**
+     * The smallest value of a question, inclusive.
+     */
+    private final int minValue;
+
+    /**
+     * The largest value of a question, exclusive.
+     */
+    private final int maxValue;
+
+    /**
+     * Constructs a tier.
+     *
+     * @param bases    The bases of the tier, or {@code null} for all bases.
+     * @param minValue The smallest value, inclusive.
+     * @param maxValue The largest value, exclusive.
+     */
+    QuizDifficulty(int[] bases, int minValue, int maxValue) {
+        this.bases = bases;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * Picks a random base of this tier.
+     *
+     * @param random The random generator.
+     * @return The base.
+     */
+    public int randomBase(SplittableRandom random) {
+        return bases == null ? random.nextInt(2, 37) : bases[random.nextInt(bases.length)];
+    }
+
+    /**
+     * Picks a random value of this tier.
+     *
+     * @param random The random generator.
+     * @return The value.
+     */
+    public int randomValue(SplittableRandom random) {
+        return random.nextInt(minValue, maxValue);
+    }
+}